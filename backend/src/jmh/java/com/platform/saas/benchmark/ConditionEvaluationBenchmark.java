@@ -0,0 +1,82 @@
+package com.platform.saas.benchmark;
+
+import com.platform.saas.automation.CompiledCondition;
+import com.platform.saas.automation.ConditionCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of matching one event against a tenant's automation rules.
+ *
+ * evaluateCompiled measures the dispatch path (conditions compiled once and cached per rule);
+ * compileAndEvaluate measures recompiling every rule per event, which is what the cache avoids.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConditionEvaluationBenchmark {
+
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "CRITICAL"};
+
+    @Param({"1", "10", "100", "1000"})
+    private int ruleCount;
+
+    private final ConditionCompiler compiler = new ConditionCompiler();
+    private List<Map<String, Object>> ruleConditions;
+    private CompiledCondition[] compiled;
+    private Map<String, Object> payload;
+
+    @Setup
+    public void setUp() {
+        ruleConditions = new ArrayList<>(ruleCount);
+        for (int i = 0; i < ruleCount; i++) {
+            ruleConditions.add(switch (i % 3) {
+                case 0 -> Map.of("status", "COMPLETED", "priority", PRIORITIES[i % PRIORITIES.length]);
+                case 1 -> Map.of("expression", "task.estimate >= " + (i % 13)
+                        + " and task.name startsWith 'API' and assignee.email matches '.*@example\\.com'");
+                default -> Map.of("or", List.of(
+                        Map.of("field", "priority", "operator", "in", "value", List.of("HIGH", "CRITICAL")),
+                        Map.of("not", Map.of("field", "task.blocked", "operator", "equals", "value", true))));
+            });
+        }
+        compiled = ruleConditions.stream().map(compiler::compile).toArray(CompiledCondition[]::new);
+
+        payload = Map.of(
+                "status", "COMPLETED",
+                "priority", "HIGH",
+                "task", Map.of("estimate", 8, "name", "API rate limits", "blocked", false),
+                "assignee", Map.of("email", "dev@example.com"));
+    }
+
+    @Benchmark
+    public void evaluateCompiled(Blackhole blackhole) {
+        for (CompiledCondition condition : compiled) {
+            blackhole.consume(condition.matches(payload));
+        }
+    }
+
+    @Benchmark
+    public void compileAndEvaluate(Blackhole blackhole) {
+        for (Map<String, Object> conditions : ruleConditions) {
+            blackhole.consume(compiler.compile(conditions).matches(payload));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.platform.saas.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping Cognito groups and custom:authorities claims to granted authorities, which runs
+ * on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthoritiesBenchmark {
+
+    private Converter<Jwt, Collection<GrantedAuthority>> converter;
+    private Jwt groupsOnly;
+    private Jwt groupsAndCustomAuthorities;
+
+    @Setup
+    public void setUp() {
+        converter = new SecurityConfig(null).jwtGrantedAuthoritiesConverter();
+        groupsOnly = jwt(List.of("acme-admins", "acme-editors"), null);
+        groupsAndCustomAuthorities = jwt(List.of("acme-admins", "acme-editors"), List.of("ADMINISTRATOR", "EDITOR"));
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> groupsOnly() {
+        return converter.convert(groupsOnly);
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> groupsAndCustomAuthorities() {
+        return converter.convert(groupsAndCustomAuthorities);
+    }
+
+    private static Jwt jwt(List<String> groups, List<String> customAuthorities) {
+        Jwt.Builder builder = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("user-123")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .claim("cognito:groups", groups);
+        if (customAuthorities != null) {
+            builder.claim("custom:authorities", customAuthorities);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.platform.saas.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of extracting the tenant subdomain on every request, for the header, production host and
+ * development host cases.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TenantContextFilterBenchmark {
+
+    private final TenantContextFilter filter = new TenantContextFilter();
+    private MockHttpServletRequest headerRequest;
+    private MockHttpServletRequest hostRequest;
+    private MockHttpServletRequest localhostRequest;
+
+    @Setup
+    public void setUp() {
+        headerRequest = new MockHttpServletRequest("GET", "/api/tasks");
+        headerRequest.addHeader("X-Tenant-Subdomain", " Acme ");
+
+        hostRequest = new MockHttpServletRequest("GET", "/api/tasks");
+        hostRequest.addHeader("Host", "acme.platform.com:443");
+
+        localhostRequest = new MockHttpServletRequest("GET", "/api/tasks");
+        localhostRequest.addHeader("Host", "localhost:8080");
+    }
+
+    @Benchmark
+    public String fromHeader() {
+        return filter.extractSubdomain(headerRequest);
+    }
+
+    @Benchmark
+    public String fromHost() {
+        return filter.extractSubdomain(hostRequest);
+    }
+
+    @Benchmark
+    public String developmentHost() {
+        return filter.extractSubdomain(localhostRequest);
+    }
+}
@@ -0,0 +1,61 @@
+package com.platform.saas.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building the EventBridge detail JSON for payloads of increasing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventPublisherBenchmark {
+
+    @Param({"3", "20", "100"})
+    private int payloadFields;
+
+    private EventPublisher eventPublisher;
+    private UUID tenantId;
+    private UUID resourceId;
+    private Map<String, Object> payload;
+
+    @Setup
+    public void setUp() {
+        // EventBridge disabled: no client is created and only the JSON builder is exercised
+        eventPublisher = new EventPublisher(null, null, null, null, null, null, false, "default", "us-east-1");
+        tenantId = UUID.randomUUID();
+        resourceId = UUID.randomUUID();
+
+        payload = new LinkedHashMap<>();
+        for (int i = 0; i < payloadFields; i++) {
+            payload.put("field" + i, switch (i % 4) {
+                case 0 -> "value " + i;
+                case 1 -> i;
+                case 2 -> i % 2 == 0;
+                default -> UUID.randomUUID();
+            });
+        }
+    }
+
+    @Benchmark
+    public String buildEventDetailJson() {
+        return eventPublisher.buildEventDetailJson(tenantId, resourceId, "task", payload);
+    }
+}
@@ -0,0 +1,101 @@
+package com.platform.saas.service;
+
+import com.platform.saas.model.Priority;
+import com.platform.saas.model.Task;
+import com.platform.saas.model.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of change tracking in task updates: a no-op update, a single-field update and an update
+ * touching every field.
+ *
+ * The target task is built once per trial. The status and all-fields benchmarks alternate between
+ * two updates that differ in every field they set, so each call changes those fields again
+ * without rebuilding or resetting the target inside the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskFieldUpdatesBenchmark {
+
+    private Task existing;
+    private Task noChanges;
+    private Task[] statusOnly;
+    private Task[] allFields;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        // The target, as updateTask loads it
+        existing = new Task();
+        existing.setId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+        existing.setName("Write API docs");
+        existing.setDescription("Cover the task endpoints");
+        existing.setStatus(TaskStatus.IN_PROGRESS);
+        existing.setDueDate(LocalDate.of(2030, 1, 15));
+        existing.setProgressPercentage(10);
+        existing.setPriority(Priority.MEDIUM);
+
+        noChanges = new Task();
+        noChanges.setName("Write API docs");
+        noChanges.setStatus(TaskStatus.IN_PROGRESS);
+
+        statusOnly = new Task[]{new Task(), new Task()};
+        statusOnly[0].setStatus(TaskStatus.COMPLETED);
+        statusOnly[1].setStatus(TaskStatus.IN_PROGRESS);
+
+        allFields = new Task[]{new Task(), new Task()};
+        allFields[0].setName("Write API reference");
+        allFields[0].setDescription("Cover every public endpoint");
+        allFields[0].setStatus(TaskStatus.BLOCKED);
+        allFields[0].setDueDate(LocalDate.of(2030, 1, 31));
+        allFields[0].setProgressPercentage(40);
+        allFields[0].setPriority(Priority.HIGH);
+        allFields[1].setName(existing.getName());
+        allFields[1].setDescription(existing.getDescription());
+        allFields[1].setStatus(existing.getStatus());
+        allFields[1].setDueDate(existing.getDueDate());
+        allFields[1].setProgressPercentage(existing.getProgressPercentage());
+        allFields[1].setPriority(existing.getPriority());
+    }
+
+    @Benchmark
+    public void noChanges(Blackhole blackhole) {
+        apply(noChanges, blackhole);
+    }
+
+    @Benchmark
+    public void statusOnly(Blackhole blackhole) {
+        apply(statusOnly[next++ & 1], blackhole);
+    }
+
+    @Benchmark
+    public void allFields(Blackhole blackhole) {
+        apply(allFields[next++ & 1], blackhole);
+    }
+
+    private void apply(Task update, Blackhole blackhole) {
+        Map<String, Object> changes = new HashMap<>();
+        blackhole.consume(TaskService.applyTaskFieldUpdates(existing, update, changes));
+        blackhole.consume(changes);
+    }
+}
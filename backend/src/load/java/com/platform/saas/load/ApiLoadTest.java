@@ -0,0 +1,247 @@
+package com.platform.saas.load;
+
+import com.platform.saas.load.LoadDataSeeder.SeededTenant;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test: boots the application against a PostgreSQL container (schema from the
+ * Flyway migrations), seeds tenants, projects and tasks, then drives mixed read/write traffic
+ * from virtual-thread clients and reports throughput and p50/p99/p999 latency per endpoint.
+ *
+ * Run with: mvn -Pload-test test [-Dload.clients=500 -Dload.duration-seconds=120 ...]
+ * See {@link LoadProfile} for all knobs. The report is printed and written to
+ * target/load-report.json.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.main.allow-bean-definition-overriding=true",
+                "logging.level.com.platform.saas=WARN",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "server.tomcat.threads.max=400"
+        })
+@Import(LoadTestSecurityConfig.class)
+@Testcontainers
+@Slf4j
+@DisplayName("API Load Test")
+class ApiLoadTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            System.getProperty("load.postgres-image", "postgres:15-alpine"))
+            .withCommand("postgres", "-c", "max_connections=300");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Mixed read/write traffic across tenants")
+    void mixedTraffic() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        log.warn("Seeding {} tenants x {} projects x {} tasks",
+                profile.tenants(), profile.projectsPerTenant(), profile.tasksPerProject());
+        List<SeededTenant> tenants = new LoadDataSeeder(jdbcTemplate).seed(profile);
+
+        Map<Operation, EndpointStats> stats = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats(operation.label));
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        String baseUrl = "http://localhost:" + port + contextPath;
+
+        long warmupEnd = System.nanoTime() + profile.warmup().toNanos();
+        long end = warmupEnd + profile.duration().toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < profile.clients(); i++) {
+                SeededTenant tenant = tenants.get(i % tenants.size());
+                clients.execute(() -> runClient(httpClient, baseUrl, tenant, profile, stats, end));
+            }
+
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, warmupEnd - System.nanoTime()));
+            stats.values().forEach(EndpointStats::reset);
+            long measureStart = System.nanoTime();
+
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, end - System.nanoTime()));
+            stats.values().forEach(EndpointStats::finish);
+            double measuredSeconds = (System.nanoTime() - measureStart) / 1e9;
+
+            LoadReport report = new LoadReport(profile, measuredSeconds, stats.values().stream()
+                    .map(endpoint -> endpoint.result(measuredSeconds))
+                    .toList());
+            log.warn("Load test results:{}", report.toTable());
+            report.writeJson(Path.of(System.getProperty("load.report-file", "target/load-report.json")));
+
+            assertThat(report.totalRequests()).isPositive();
+            assertThat(report.errorRate()).isLessThanOrEqualTo(profile.maxErrorRate());
+        }
+    }
+
+    /**
+     * One virtual user: picks a weighted operation, sends it, records the latency, repeats.
+     */
+    private void runClient(
+            HttpClient httpClient,
+            String baseUrl,
+            SeededTenant tenant,
+            LoadProfile profile,
+            Map<Operation, EndpointStats> stats,
+            long end) {
+
+        String token = LoadTestSecurityConfig.TOKEN_PREFIX + "load-user-" + tenant.subdomain();
+        List<UUID> createdTasks = new ArrayList<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < end) {
+            Operation operation = Operation.pick(random, profile.writePercent());
+            HttpRequest request = operation.request(baseUrl, tenant, createdTasks, random)
+                    .header("Authorization", "Bearer " + token)
+                    .header("X-Tenant-Subdomain", tenant.subdomain())
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                success = response.statusCode() < 400;
+                if (success && operation == Operation.CREATE_TASK && createdTasks.size() < 100) {
+                    createdTasks.add(UUID.fromString(extractId(response.body())));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                success = false;
+            }
+            stats.get(operation).record(System.nanoTime() - start, success);
+        }
+    }
+
+    private static String extractId(String json) {
+        int idStart = json.indexOf("\"id\":\"") + 6;
+        return json.substring(idStart, json.indexOf('"', idStart));
+    }
+
+    /**
+     * The traffic mix. Read weights apply to the read share, write weights to the write share.
+     */
+    private enum Operation {
+        LIST_PROJECTS("GET /api/projects", false, 15),
+        GET_PROJECT("GET /api/projects/{id}", false, 20),
+        LIST_PROJECT_TASKS("GET /api/tasks?projectId", false, 35),
+        GET_TASK("GET /api/tasks/{id}", false, 30),
+        CREATE_TASK("POST /api/tasks", true, 40),
+        UPDATE_TASK("PUT /api/tasks/{id}", true, 60);
+
+        private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "BLOCKED", "COMPLETED"};
+
+        private final String label;
+        private final boolean write;
+        private final int weight;
+
+        Operation(String label, boolean write, int weight) {
+            this.label = label;
+            this.write = write;
+            this.weight = weight;
+        }
+
+        static Operation pick(ThreadLocalRandom random, int writePercent) {
+            boolean write = random.nextInt(100) < writePercent;
+            int roll = random.nextInt(100);
+            for (Operation operation : values()) {
+                if (operation.write != write) {
+                    continue;
+                }
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            return write ? UPDATE_TASK : GET_TASK;
+        }
+
+        HttpRequest.Builder request(String baseUrl, SeededTenant tenant, List<UUID> createdTasks, ThreadLocalRandom random) {
+            UUID projectId = tenant.projectIds().get(random.nextInt(tenant.projectIds().size()));
+            return switch (this) {
+                case LIST_PROJECTS -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/projects")).GET();
+                case GET_PROJECT -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/projects/" + projectId)).GET();
+                case LIST_PROJECT_TASKS -> HttpRequest.newBuilder(
+                        URI.create(baseUrl + "/api/tasks?projectId=" + projectId)).GET();
+                case GET_TASK -> HttpRequest.newBuilder(
+                        URI.create(baseUrl + "/api/tasks/" + randomTask(tenant, createdTasks, random))).GET();
+                case CREATE_TASK -> json(HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks")), "POST",
+                        "{\"tenantId\":\"" + tenant.tenantId() + "\",\"projectId\":\"" + projectId
+                                + "\",\"name\":\"Load task " + random.nextInt(1_000_000)
+                                + "\",\"status\":\"TODO\",\"priority\":\"MEDIUM\"}");
+                case UPDATE_TASK -> json(HttpRequest.newBuilder(
+                                URI.create(baseUrl + "/api/tasks/" + randomTask(tenant, createdTasks, random))), "PUT",
+                        "{\"tenantId\":\"" + tenant.tenantId() + "\",\"projectId\":\"" + projectId
+                                + "\",\"name\":\"Updated task\",\"status\":\"" + STATUSES[random.nextInt(STATUSES.length)]
+                                + "\",\"priority\":\"HIGH\",\"progressPercentage\":" + random.nextInt(101) + "}");
+            };
+        }
+
+        private static UUID randomTask(SeededTenant tenant, List<UUID> createdTasks, ThreadLocalRandom random) {
+            if (!createdTasks.isEmpty() && random.nextInt(4) == 0) {
+                return createdTasks.get(random.nextInt(createdTasks.size()));
+            }
+            return tenant.taskIds().get(random.nextInt(tenant.taskIds().size()));
+        }
+
+        private static HttpRequest.Builder json(HttpRequest.Builder builder, String method, String body) {
+            return builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(body));
+        }
+    }
+}
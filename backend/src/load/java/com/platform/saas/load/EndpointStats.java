@@ -0,0 +1,67 @@
+package com.platform.saas.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and error count of one endpoint. Recording is wait-free so that the
+ * measurement does not serialize the clients.
+ */
+final class EndpointStats {
+
+    private final String name;
+    private final Recorder recorder = new Recorder(TimeUnit.MINUTES.toMicros(1), 3);
+    private final LongAdder errors = new LongAdder();
+    private Histogram measured;
+    private long measuredErrors;
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void record(long durationNanos, boolean success) {
+        recorder.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(durationNanos)));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Discard everything recorded so far (end of warmup).
+     */
+    void reset() {
+        recorder.getIntervalHistogram();
+        errors.reset();
+    }
+
+    /**
+     * Freeze the values recorded since the last reset (end of measurement).
+     */
+    void finish() {
+        measured = recorder.getIntervalHistogram();
+        measuredErrors = errors.sumThenReset();
+    }
+
+    /**
+     * Summary of the measured interval.
+     */
+    LoadReport.EndpointResult result(double measuredSeconds) {
+        long requests = measured.getTotalCount();
+        return new LoadReport.EndpointResult(
+                name,
+                requests,
+                measuredErrors,
+                requests / measuredSeconds,
+                measured.getValueAtPercentile(50) / 1000.0,
+                measured.getValueAtPercentile(99) / 1000.0,
+                measured.getValueAtPercentile(99.9) / 1000.0,
+                measured.getMaxValue() / 1000.0);
+    }
+}
@@ -0,0 +1,116 @@
+package com.platform.saas.load;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Seeds tenants, owners, projects and tasks with JDBC batch inserts, bypassing the services so
+ * that large data sets load in seconds. Tenants are ENTERPRISE so that writes never hit a quota.
+ */
+class LoadDataSeeder {
+
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "BLOCKED", "COMPLETED"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "CRITICAL"};
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    LoadDataSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Seed the data set described by the profile.
+     * @return The seeded IDs per tenant, used by the clients to address existing resources
+     */
+    List<SeededTenant> seed(LoadProfile profile) {
+        List<SeededTenant> tenants = new ArrayList<>(profile.tenants());
+        List<Object[]> tenantRows = new ArrayList<>();
+        List<Object[]> userRows = new ArrayList<>();
+        List<Object[]> membershipRows = new ArrayList<>();
+        List<Object[]> projectRows = new ArrayList<>();
+        List<Object[]> taskRows = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int t = 0; t < profile.tenants(); t++) {
+            UUID tenantId = UUID.randomUUID();
+            UUID ownerId = UUID.randomUUID();
+            String subdomain = String.format("load-%04d", t);
+            tenantRows.add(new Object[]{tenantId, subdomain, "Load tenant " + t, now, now});
+            userRows.add(new Object[]{ownerId, "load-user-" + subdomain, subdomain + "@load.test", now});
+            membershipRows.add(new Object[]{ownerId, tenantId, "ADMINISTRATOR", now});
+
+            List<UUID> projectIds = new ArrayList<>(profile.projectsPerTenant());
+            List<UUID> taskIds = new ArrayList<>(profile.projectsPerTenant() * profile.tasksPerProject());
+            for (int p = 0; p < profile.projectsPerTenant(); p++) {
+                UUID projectId = UUID.randomUUID();
+                projectIds.add(projectId);
+                projectRows.add(new Object[]{projectId, tenantId, "Project " + p, "ACTIVE", ownerId,
+                        PRIORITIES[p % PRIORITIES.length], now, now});
+
+                for (int k = 0; k < profile.tasksPerProject(); k++) {
+                    UUID taskId = UUID.randomUUID();
+                    taskIds.add(taskId);
+                    taskRows.add(new Object[]{taskId, tenantId, projectId, "Task " + p + "-" + k,
+                            STATUSES[k % STATUSES.length], Date.valueOf(LocalDate.now().plusDays(k % 60 - 10)),
+                            (k * 7) % 101, PRIORITIES[k % PRIORITIES.length], now, now});
+                }
+            }
+            tenants.add(new SeededTenant(tenantId, subdomain, ownerId, List.copyOf(projectIds), List.copyOf(taskIds)));
+        }
+
+        insert("INSERT INTO tenants (id, subdomain, name, subscription_tier, quota_limit, is_active, created_at, updated_at) "
+                + "VALUES (?, ?, ?, 'ENTERPRISE', NULL, true, ?, ?)", tenantRows);
+        insert("INSERT INTO users (id, cognito_user_id, email, created_at) VALUES (?, ?, ?, ?)", userRows);
+        insert("INSERT INTO user_tenants (user_id, tenant_id, role, joined_at) VALUES (?, ?, ?, ?)", membershipRows);
+        insert("INSERT INTO projects (id, tenant_id, name, status, owner_id, priority, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", projectRows);
+        insert("INSERT INTO tasks (id, tenant_id, project_id, name, status, due_date, progress_percentage, priority, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", taskRows);
+        return tenants;
+    }
+
+    /**
+     * Seed one tenant with an owner and a single empty project.
+     * @param subdomain The tenant subdomain; the owner is load-user-{subdomain}
+     * @param tier The subscription tier
+     * @param quotaLimit The quota limit, null for unlimited
+     * @return The seeded IDs (no tasks)
+     */
+    SeededTenant seedTenant(String subdomain, String tier, Integer quotaLimit) {
+        UUID tenantId = UUID.randomUUID();
+        UUID ownerId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.update("INSERT INTO tenants (id, subdomain, name, subscription_tier, quota_limit, is_active, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, true, ?, ?)",
+                tenantId, subdomain, "Load tenant " + subdomain, tier, quotaLimit, now, now);
+        jdbcTemplate.update("INSERT INTO users (id, cognito_user_id, email, created_at) VALUES (?, ?, ?, ?)",
+                ownerId, "load-user-" + subdomain, subdomain + "@load.test", now);
+        jdbcTemplate.update("INSERT INTO user_tenants (user_id, tenant_id, role, joined_at) VALUES (?, ?, ?, ?)",
+                ownerId, tenantId, "ADMINISTRATOR", now);
+        jdbcTemplate.update("INSERT INTO projects (id, tenant_id, name, status, owner_id, priority, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", projectId, tenantId, "Project 0", "ACTIVE", ownerId, "MEDIUM", now, now);
+        return new SeededTenant(tenantId, subdomain, ownerId, List.of(projectId), List.of());
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    /**
+     * IDs of one seeded tenant.
+     */
+    record SeededTenant(UUID tenantId, String subdomain, UUID ownerId, List<UUID> projectIds, List<UUID> taskIds) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.platform.saas.load;
+
+import java.time.Duration;
+
+/**
+ * Size and shape of a load test run, read from system properties (-Dload.tenants=50 ...).
+ *
+ * @param tenants Number of seeded tenants
+ * @param projectsPerTenant Projects seeded per tenant
+ * @param tasksPerProject Tasks seeded per project
+ * @param clients Concurrent virtual-thread clients
+ * @param warmup Traffic before measurement starts (not reported)
+ * @param duration Measured traffic
+ * @param writePercent Share of requests that create or update tasks
+ * @param maxErrorRate The run fails when the overall error rate exceeds this ratio
+ */
+record LoadProfile(
+        int tenants,
+        int projectsPerTenant,
+        int tasksPerProject,
+        int clients,
+        Duration warmup,
+        Duration duration,
+        int writePercent,
+        double maxErrorRate) {
+
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Math.max(1, Integer.getInteger("load.tenants", 20)),
+                Math.max(1, Integer.getInteger("load.projects-per-tenant", 10)),
+                Math.max(1, Integer.getInteger("load.tasks-per-project", 50)),
+                Math.max(1, Integer.getInteger("load.clients", 200)),
+                Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10L)),
+                Duration.ofSeconds(Long.getLong("load.duration-seconds", 60L)),
+                Integer.getInteger("load.write-percent", 20),
+                Double.parseDouble(System.getProperty("load.max-error-rate", "0.01")));
+    }
+}
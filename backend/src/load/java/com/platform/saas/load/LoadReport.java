@@ -0,0 +1,63 @@
+package com.platform.saas.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Result of a load test run: per-endpoint throughput and latency percentiles (milliseconds).
+ * Printed as a table and written as JSON for comparison across runs.
+ */
+record LoadReport(LoadProfile profile, double measuredSeconds, List<EndpointResult> endpoints) {
+
+    record EndpointResult(
+            String endpoint,
+            long requests,
+            long errors,
+            double throughputPerSecond,
+            double p50Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs) {
+    }
+
+    long totalRequests() {
+        return endpoints.stream().mapToLong(EndpointResult::requests).sum();
+    }
+
+    long totalErrors() {
+        return endpoints.stream().mapToLong(EndpointResult::errors).sum();
+    }
+
+    double errorRate() {
+        long requests = totalRequests();
+        return requests == 0 ? 0 : (double) totalErrors() / requests;
+    }
+
+    String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%n%-32s %10s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+        for (EndpointResult e : endpoints) {
+            table.append(String.format("%-32s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    e.endpoint(), e.requests(), e.errors(), e.throughputPerSecond(),
+                    e.p50Ms(), e.p99Ms(), e.p999Ms(), e.maxMs()));
+        }
+        table.append(String.format("%-32s %10d %8d %10.1f%n",
+                "total", totalRequests(), totalErrors(), totalRequests() / measuredSeconds));
+        return table.toString();
+    }
+
+    void writeJson(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        new ObjectMapper()
+                .findAndRegisterModules()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .writeValue(file.toFile(), this);
+    }
+}
@@ -0,0 +1,38 @@
+package com.platform.saas.load;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Replaces the Cognito JWT decoder with one that accepts "load:{subject}" bearer tokens, so that
+ * the clients authenticate without a token endpoint and without signature checks skewing the
+ * latency. Every load user is an administrator of its tenant.
+ */
+@TestConfiguration
+class LoadTestSecurityConfig {
+
+    static final String TOKEN_PREFIX = "load:";
+
+    @Bean
+    JwtDecoder jwtDecoder() {
+        return token -> {
+            if (!token.startsWith(TOKEN_PREFIX)) {
+                throw new BadJwtException("Not a load test token");
+            }
+            Instant now = Instant.now();
+            return Jwt.withTokenValue(token)
+                    .header("alg", "none")
+                    .subject(token.substring(TOKEN_PREFIX.length()))
+                    .issuedAt(now)
+                    .expiresAt(now.plusSeconds(3600))
+                    .claim("custom:authorities", List.of("ADMINISTRATOR"))
+                    .build();
+        };
+    }
+}
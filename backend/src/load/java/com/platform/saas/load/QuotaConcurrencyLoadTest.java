@@ -0,0 +1,182 @@
+package com.platform.saas.load;
+
+import com.platform.saas.load.LoadDataSeeder.SeededTenant;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Quota enforcement under contention: fires parallel task creates at one tenant whose quota
+ * allows only half of them, and checks that exactly the allowed number succeed and land in the
+ * database. The same burst against an unlimited tenant, which is neither locked nor counted, shows
+ * the cost of the serialized check.
+ *
+ * Run with: mvn -Pload-test test -Dtest=QuotaConcurrencyLoadTest [-Dload.quota-creates=200]
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.main.allow-bean-definition-overriding=true",
+                "logging.level.com.platform.saas=WARN",
+                "server.tomcat.threads.max=400",
+                "spring.datasource.hikari.maximum-pool-size=50"
+        })
+@Import(LoadTestSecurityConfig.class)
+@Testcontainers
+@Slf4j
+@DisplayName("Quota Concurrency Load Test")
+class QuotaConcurrencyLoadTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            System.getProperty("load.postgres-image", "postgres:15-alpine"))
+            .withCommand("postgres", "-c", "max_connections=300");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Parallel creates never exceed the quota")
+    void parallelCreates_NeverOvershootQuota() throws Exception {
+        int creates = Integer.getInteger("load.quota-creates", 200);
+        int allowedTasks = creates / 2;
+        LoadDataSeeder seeder = new LoadDataSeeder(jdbcTemplate);
+
+        // The seeded project counts against the combined projects+tasks quota
+        SeededTenant limited = seeder.seedTenant("quota-limited", "FREE", allowedTasks + 1);
+        SeededTenant unlimited = seeder.seedTenant("quota-unlimited", "ENTERPRISE", null);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        String baseUrl = "http://localhost:" + port + contextPath;
+
+        // Warm up connections and code paths on a throwaway tenant
+        burst(httpClient, baseUrl, seeder.seedTenant("quota-warmup", "ENTERPRISE", null), creates);
+
+        Burst limitedRun = burst(httpClient, baseUrl, limited, creates);
+        Burst unlimitedRun = burst(httpClient, baseUrl, unlimited, creates);
+
+        log.warn("Quota burst results:{}", table(List.of(limitedRun.result("limited (locked)"),
+                unlimitedRun.result("unlimited (no lock)"))));
+
+        Long storedTasks = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM tasks WHERE tenant_id = ?", Long.class, limited.tenantId());
+        assertThat(limitedRun.statusCounts()).containsEntry(201, allowedTasks);
+        assertThat(limitedRun.statusCounts()).containsEntry(402, creates - allowedTasks);
+        assertThat(storedTasks).isEqualTo(allowedTasks);
+        assertThat(unlimitedRun.statusCounts()).containsEntry(201, creates);
+    }
+
+    /**
+     * Send all creates at once (released together by a latch) and wait for every response.
+     */
+    private Burst burst(HttpClient httpClient, String baseUrl, SeededTenant tenant, int creates) throws Exception {
+        EndpointStats stats = new EndpointStats("POST /api/tasks");
+        Map<Integer, AtomicInteger> statusCounts = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        String token = LoadTestSecurityConfig.TOKEN_PREFIX + "load-user-" + tenant.subdomain();
+        String body = "{\"tenantId\":\"" + tenant.tenantId() + "\",\"projectId\":\"" + tenant.projectIds().get(0)
+                + "\",\"name\":\"Quota task\",\"status\":\"TODO\",\"priority\":\"MEDIUM\"}";
+
+        long began;
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < creates; i++) {
+                clients.execute(() -> {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks"))
+                            .header("Authorization", "Bearer " + token)
+                            .header("X-Tenant-Subdomain", tenant.subdomain())
+                            .header("Content-Type", "application/json")
+                            .timeout(Duration.ofSeconds(60))
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build();
+                    try {
+                        start.await();
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        // A quota rejection is the expected outcome, not an error
+                        stats.record(System.nanoTime() - sent, response.statusCode() == 201 || response.statusCode() == 402);
+                        statusCounts.computeIfAbsent(response.statusCode(), status -> new AtomicInteger()).incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (Exception e) {
+                        statusCounts.computeIfAbsent(-1, status -> new AtomicInteger()).incrementAndGet();
+                    }
+                });
+            }
+            began = System.nanoTime();
+            start.countDown();
+        }
+        double seconds = (System.nanoTime() - began) / 1e9;
+        stats.finish();
+
+        Map<Integer, Integer> counts = new ConcurrentHashMap<>();
+        statusCounts.forEach((status, count) -> counts.put(status, count.get()));
+        return new Burst(stats, seconds, counts);
+    }
+
+    private static String table(List<LoadReport.EndpointResult> results) {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%n%-24s %10s %8s %10s %10s %10s %10s%n",
+                "tenant", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms"));
+        for (LoadReport.EndpointResult r : results) {
+            table.append(String.format("%-24s %10d %8d %10.1f %10.2f %10.2f %10.2f%n",
+                    r.endpoint(), r.requests(), r.errors(), r.throughputPerSecond(), r.p50Ms(), r.p99Ms(), r.maxMs()));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Latencies and response status counts of one burst.
+     */
+    private record Burst(EndpointStats stats, double seconds, Map<Integer, Integer> statusCounts) {
+
+        LoadReport.EndpointResult result(String label) {
+            LoadReport.EndpointResult measured = stats.result(seconds);
+            return new LoadReport.EndpointResult(label, measured.requests(), measured.errors(),
+                    measured.throughputPerSecond(), measured.p50Ms(), measured.p99Ms(), measured.p999Ms(),
+                    measured.maxMs());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.platform.saas.automation;
+
+import java.util.Map;
+
+/**
+ * Automation rule conditions compiled into an evaluator over event payloads.
+ * Implementations are immutable and safe to share between threads.
+ */
+@FunctionalInterface
+public interface CompiledCondition {
+
+    /**
+     * Condition of a rule without conditions: every event matches.
+     */
+    CompiledCondition ALWAYS = payload -> true;
+
+    /**
+     * Evaluate the condition against an event payload.
+     *
+     * @param payload The event payload (may be null)
+     * @return true if the event satisfies the condition
+     */
+    boolean matches(Map<String, Object> payload);
+}
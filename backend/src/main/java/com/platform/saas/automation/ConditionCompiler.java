@@ -0,0 +1,267 @@
+package com.platform.saas.automation;
+
+import com.platform.saas.cache.CacheInvalidationListener;
+import com.platform.saas.cache.CacheRegion;
+import com.platform.saas.exception.InvalidConditionException;
+import com.platform.saas.model.AutomationRule;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiles AutomationRule.conditions into {@link CompiledCondition} evaluators.
+ *
+ * Supported forms (they can be nested):
+ * <ul>
+ *   <li>{"field": "status", "operator": "equals", "value": "COMPLETED"} - a single predicate;
+ *       operator defaults to equals</li>
+ *   <li>{"and": [...]}, {"or": [...]}, {"not": {...}} - boolean combinations</li>
+ *   <li>{"expression": "status == 'COMPLETED' and priority in ['HIGH', 'CRITICAL']"} - the text
+ *       syntax described in {@link ConditionParser}</li>
+ *   <li>{"status": "COMPLETED", "priority": ["HIGH", "CRITICAL"]} - shorthand: every entry must
+ *       equal the value, or be one of the values when a list is given</li>
+ * </ul>
+ * Operators: equals, not_equals, gt, gte, lt, lte, in, not_in, starts_with, matches, exists.
+ * Field paths are dot-separated into nested payload maps. Empty conditions match every event.
+ *
+ * Conditions are validated and bounded at compile time (node count, nesting depth, expression,
+ * regex and list sizes) so that a stored rule cannot make evaluation expensive. java.util.regex
+ * backtracks, so a short pattern can still take exponential time on a crafted value; each match is
+ * given MAX_MATCH_MILLIS and fails with an InvalidConditionException past it. Compiled evaluators of stored
+ * rules are cached by rule ID and evicted through the cache invalidation bus.
+ */
+@Component
+public class ConditionCompiler implements CacheInvalidationListener {
+
+    static final int MAX_NODES = 100;
+    static final int MAX_DEPTH = 16;
+    static final int MAX_PATTERN_LENGTH = 256;
+    static final int MAX_LIST_SIZE = 1000;
+    static final int MAX_EXPRESSION_LENGTH = 4096;
+    static final long MAX_MATCH_MILLIS = 50;
+
+    private final Map<UUID, CachedCondition> compiledRules = new ConcurrentHashMap<>();
+
+    /**
+     * Compile rule conditions.
+     *
+     * @param conditions The conditions as stored on the rule (may be null or empty)
+     * @return The compiled evaluator
+     * @throws InvalidConditionException if the conditions are malformed or exceed the limits
+     */
+    public CompiledCondition compile(Map<String, Object> conditions) {
+        if (conditions == null || conditions.isEmpty()) {
+            return CompiledCondition.ALWAYS;
+        }
+        return compileNode(conditions, new Budget(), 1);
+    }
+
+    /**
+     * Compiled conditions of a stored rule, reusing the previous compilation while the rule's
+     * conditions are unchanged.
+     *
+     * @param rule The automation rule
+     * @return The compiled evaluator
+     * @throws InvalidConditionException if the rule's conditions are malformed
+     */
+    public CompiledCondition forRule(AutomationRule rule) {
+        Map<String, Object> conditions = rule.getConditions();
+        if (rule.getId() == null) {
+            return compile(conditions);
+        }
+
+        CachedCondition cached = compiledRules.get(rule.getId());
+        if (cached != null && Objects.equals(cached.source(), conditions)) {
+            return cached.condition();
+        }
+
+        CompiledCondition condition = compile(conditions);
+        compiledRules.put(rule.getId(), new CachedCondition(rule.getTenantId(), conditions, condition));
+        return condition;
+    }
+
+    @Override
+    public void invalidate(CacheRegion region, UUID tenantId, String key) {
+        if (region != CacheRegion.AUTOMATION_RULE) {
+            return;
+        }
+        if (key == null) {
+            compiledRules.values().removeIf(cached -> Objects.equals(cached.tenantId(), tenantId));
+            return;
+        }
+        try {
+            compiledRules.remove(UUID.fromString(key));
+        } catch (IllegalArgumentException e) {
+            compiledRules.values().removeIf(cached -> Objects.equals(cached.tenantId(), tenantId));
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        compiledRules.clear();
+    }
+
+    private CompiledCondition compileNode(Object node, Budget budget, int depth) {
+        if (!(node instanceof Map<?, ?> rawMap) || rawMap.isEmpty()) {
+            throw new InvalidConditionException("Condition must be a non-empty object");
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> map = (Map<String, Object>) rawMap;
+
+        if (map.size() == 1) {
+            Map.Entry<String, Object> entry = map.entrySet().iterator().next();
+            switch (entry.getKey()) {
+                case "and" -> {
+                    budget.enter(depth);
+                    return new Conditions.And(compileAll(entry.getValue(), "and", budget, depth + 1));
+                }
+                case "or" -> {
+                    budget.enter(depth);
+                    return new Conditions.Or(compileAll(entry.getValue(), "or", budget, depth + 1));
+                }
+                case "not" -> {
+                    budget.enter(depth);
+                    return new Conditions.Not(compileNode(entry.getValue(), budget, depth + 1));
+                }
+                case "expression" -> {
+                    if (!(entry.getValue() instanceof String expression) || expression.isBlank()) {
+                        throw new InvalidConditionException("Condition 'expression' must be a non-empty string");
+                    }
+                    return new ConditionParser(expression, budget, depth).parse();
+                }
+                default -> {
+                    // Shorthand or leaf, handled below
+                }
+            }
+        }
+
+        if (map.containsKey("field")) {
+            budget.enter(depth);
+            Object operator = map.getOrDefault("operator", "equals");
+            if (!(operator instanceof String operatorName) || operatorName.isBlank()) {
+                throw new InvalidConditionException("Condition 'operator' must be a non-empty string");
+            }
+            return predicate(FieldPath.parse(requireString(map, "field")), operatorName, map.get("value"));
+        }
+
+        return shorthand(map, budget, depth);
+    }
+
+    private CompiledCondition[] compileAll(Object operands, String operator, Budget budget, int depth) {
+        if (!(operands instanceof List<?> list) || list.isEmpty()) {
+            throw new InvalidConditionException("Condition '" + operator + "' must be a non-empty list");
+        }
+        CompiledCondition[] compiled = new CompiledCondition[list.size()];
+        for (int i = 0; i < compiled.length; i++) {
+            compiled[i] = compileNode(list.get(i), budget, depth);
+        }
+        return compiled;
+    }
+
+    private CompiledCondition shorthand(Map<String, Object> map, Budget budget, int depth) {
+        CompiledCondition[] predicates = new CompiledCondition[map.size()];
+        int i = 0;
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            budget.enter(depth);
+            String operator = entry.getValue() instanceof List<?> ? "in" : "equals";
+            predicates[i++] = predicate(FieldPath.parse(entry.getKey()), operator, entry.getValue());
+        }
+        return predicates.length == 1 ? predicates[0] : new Conditions.And(predicates);
+    }
+
+    /**
+     * Build a single predicate. Shared by the map forms and the text parser.
+     */
+    static CompiledCondition predicate(FieldPath path, String operator, Object value) {
+        return switch (operator) {
+            case "equals", "eq", "==" -> new Conditions.Equals(path, Conditions.Operand.of(value));
+            case "not_equals", "ne", "!=" -> new Conditions.Not(new Conditions.Equals(path, Conditions.Operand.of(value)));
+            case "gt", ">" -> compare(path, Conditions.Comparison.GT, operator, value);
+            case "gte", ">=" -> compare(path, Conditions.Comparison.GTE, operator, value);
+            case "lt", "<" -> compare(path, Conditions.Comparison.LT, operator, value);
+            case "lte", "<=" -> compare(path, Conditions.Comparison.LTE, operator, value);
+            case "in" -> new Conditions.In(path, requireList(operator, value));
+            case "not_in" -> new Conditions.Not(new Conditions.In(path, requireList(operator, value)));
+            case "starts_with", "startsWith" -> {
+                if (!(value instanceof String prefix)) {
+                    throw new InvalidConditionException("Operator '" + operator + "' requires a string value");
+                }
+                yield new Conditions.StartsWith(path, prefix);
+            }
+            case "matches" -> new Conditions.Matches(path, compilePattern(value));
+            case "exists" -> Boolean.FALSE.equals(value)
+                    ? new Conditions.Not(new Conditions.Exists(path))
+                    : new Conditions.Exists(path);
+            default -> throw new InvalidConditionException("Unsupported condition operator: " + operator);
+        };
+    }
+
+    private static CompiledCondition compare(FieldPath path, Conditions.Comparison comparison, String operator, Object value) {
+        if (!(value instanceof Number) && !(value instanceof String)) {
+            throw new InvalidConditionException("Operator '" + operator + "' requires a number or string value");
+        }
+        return new Conditions.Compare(path, comparison, Conditions.Operand.of(value));
+    }
+
+    private static List<?> requireList(String operator, Object value) {
+        if (!(value instanceof List<?> list)) {
+            throw new InvalidConditionException("Operator '" + operator + "' requires a list value");
+        }
+        if (list.size() > MAX_LIST_SIZE) {
+            throw new InvalidConditionException("Condition list exceeds " + MAX_LIST_SIZE + " values");
+        }
+        for (Object element : list) {
+            if (element instanceof Map<?, ?> || element instanceof List<?>) {
+                throw new InvalidConditionException("Operator '" + operator + "' only accepts scalar values");
+            }
+        }
+        return list;
+    }
+
+    private static Pattern compilePattern(Object value) {
+        if (!(value instanceof String regex)) {
+            throw new InvalidConditionException("Operator 'matches' requires a string pattern");
+        }
+        if (regex.length() > MAX_PATTERN_LENGTH) {
+            throw new InvalidConditionException("Pattern exceeds " + MAX_PATTERN_LENGTH + " characters");
+        }
+        try {
+            return Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            throw new InvalidConditionException("Invalid pattern: " + e.getDescription());
+        }
+    }
+
+    private static String requireString(Map<String, Object> conditions, String key) {
+        if (!(conditions.get(key) instanceof String value) || value.isBlank()) {
+            throw new InvalidConditionException("Condition '" + key + "' must be a non-empty string");
+        }
+        return value;
+    }
+
+    /**
+     * Node and depth limits of one compilation.
+     */
+    static final class Budget {
+
+        private int nodes;
+
+        void enter(int depth) {
+            if (depth > MAX_DEPTH) {
+                throw new InvalidConditionException("Condition nesting exceeds " + MAX_DEPTH + " levels");
+            }
+            if (++nodes > MAX_NODES) {
+                throw new InvalidConditionException("Condition exceeds " + MAX_NODES + " nodes");
+            }
+        }
+    }
+
+    private record CachedCondition(UUID tenantId, Map<String, Object> source, CompiledCondition condition) {
+    }
+}
@@ -0,0 +1,269 @@
+package com.platform.saas.automation;
+
+import com.platform.saas.exception.InvalidConditionException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recursive descent parser for the text form of rule conditions.
+ *
+ * <pre>
+ * expression := or
+ * or         := and (("or" | "||") and)*
+ * and        := unary (("and" | "&amp;&amp;") unary)*
+ * unary      := ("not" | "!") unary | "(" expression ")" | predicate
+ * predicate  := path ("==" | "!=" | "&gt;" | "&gt;=" | "&lt;" | "&lt;=") literal
+ *             | path ["not"] "in" "[" literal ("," literal)* "]"
+ *             | path ("startsWith" | "matches") string
+ *             | path "exists"
+ * literal    := 'string' | "string" | number | true | false | null
+ * </pre>
+ * Inside strings a backslash only escapes the quote character and itself, so regex escapes such
+ * as \. can be written as-is. Keywords are case-insensitive. Paths are dot-separated payload
+ * fields, e.g. task.priority.
+ */
+final class ConditionParser {
+
+    private enum TokenType { IDENTIFIER, STRING, NUMBER, SYMBOL, END }
+
+    private record Token(TokenType type, String text, int position) {
+
+        boolean is(String symbolOrKeyword) {
+            return (type == TokenType.SYMBOL || type == TokenType.IDENTIFIER)
+                    && text.equalsIgnoreCase(symbolOrKeyword);
+        }
+    }
+
+    private final String source;
+    private final ConditionCompiler.Budget budget;
+    private final int baseDepth;
+    private final List<Token> tokens;
+    private int index;
+
+    ConditionParser(String source, ConditionCompiler.Budget budget, int baseDepth) {
+        if (source.length() > ConditionCompiler.MAX_EXPRESSION_LENGTH) {
+            throw new InvalidConditionException(
+                    "Expression exceeds " + ConditionCompiler.MAX_EXPRESSION_LENGTH + " characters");
+        }
+        this.source = source;
+        this.budget = budget;
+        this.baseDepth = baseDepth;
+        this.tokens = tokenize(source);
+    }
+
+    CompiledCondition parse() {
+        CompiledCondition condition = parseOr(baseDepth);
+        if (peek().type() != TokenType.END) {
+            throw error("Unexpected '" + peek().text() + "'", peek());
+        }
+        return condition;
+    }
+
+    private CompiledCondition parseOr(int depth) {
+        CompiledCondition first = parseAnd(depth + 1);
+        if (!peek().is("or") && !peek().is("||")) {
+            return first;
+        }
+        budget.enter(depth);
+        List<CompiledCondition> operands = new ArrayList<>(List.of(first));
+        while (peek().is("or") || peek().is("||")) {
+            index++;
+            operands.add(parseAnd(depth + 1));
+        }
+        return new Conditions.Or(operands.toArray(CompiledCondition[]::new));
+    }
+
+    private CompiledCondition parseAnd(int depth) {
+        CompiledCondition first = parseUnary(depth);
+        if (!peek().is("and") && !peek().is("&&")) {
+            return first;
+        }
+        budget.enter(depth);
+        List<CompiledCondition> operands = new ArrayList<>(List.of(first));
+        while (peek().is("and") || peek().is("&&")) {
+            index++;
+            operands.add(parseUnary(depth + 1));
+        }
+        return new Conditions.And(operands.toArray(CompiledCondition[]::new));
+    }
+
+    private CompiledCondition parseUnary(int depth) {
+        Token token = peek();
+        if (token.is("not") || token.is("!")) {
+            index++;
+            budget.enter(depth);
+            return new Conditions.Not(parseUnary(depth + 1));
+        }
+        if (token.is("(")) {
+            index++;
+            // Before recursing, so nesting is bounded by the depth limit rather than the stack
+            budget.enter(depth);
+            CompiledCondition inner = parseOr(depth + 1);
+            expect(")");
+            return inner;
+        }
+        return parsePredicate(depth);
+    }
+
+    private CompiledCondition parsePredicate(int depth) {
+        Token pathToken = next();
+        if (pathToken.type() != TokenType.IDENTIFIER) {
+            throw error("Expected a field name", pathToken);
+        }
+        budget.enter(depth);
+        FieldPath path = FieldPath.parse(pathToken.text());
+
+        Token operator = next();
+        if (operator.is("exists")) {
+            return ConditionCompiler.predicate(path, "exists", true);
+        }
+        if (operator.is("in")) {
+            return ConditionCompiler.predicate(path, "in", parseList());
+        }
+        if (operator.is("not")) {
+            expect("in");
+            return ConditionCompiler.predicate(path, "not_in", parseList());
+        }
+        if (operator.is("startsWith")) {
+            return ConditionCompiler.predicate(path, "startsWith", parseLiteral());
+        }
+        if (operator.is("matches")) {
+            return ConditionCompiler.predicate(path, "matches", parseLiteral());
+        }
+        if (operator.type() == TokenType.SYMBOL) {
+            String symbol = operator.text().equals("=") ? "==" : operator.text();
+            switch (symbol) {
+                case "==", "!=", ">", ">=", "<", "<=" -> {
+                    return ConditionCompiler.predicate(path, symbol, parseLiteral());
+                }
+                default -> {
+                    // Fall through to the error below
+                }
+            }
+        }
+        throw error("Expected an operator after '" + pathToken.text() + "'", operator);
+    }
+
+    private List<Object> parseList() {
+        expect("[");
+        List<Object> values = new ArrayList<>();
+        if (!peek().is("]")) {
+            values.add(parseLiteral());
+            while (peek().is(",")) {
+                index++;
+                values.add(parseLiteral());
+            }
+        }
+        expect("]");
+        return values;
+    }
+
+    private Object parseLiteral() {
+        Token token = next();
+        switch (token.type()) {
+            case STRING -> {
+                return token.text();
+            }
+            case NUMBER -> {
+                String text = token.text();
+                try {
+                    if (text.contains(".") || text.contains("e") || text.contains("E")) {
+                        return Double.parseDouble(text);
+                    }
+                    return Long.parseLong(text);
+                } catch (NumberFormatException e) {
+                    throw error("Invalid number '" + text + "'", token);
+                }
+            }
+            case IDENTIFIER -> {
+                if (token.is("true")) {
+                    return Boolean.TRUE;
+                }
+                if (token.is("false")) {
+                    return Boolean.FALSE;
+                }
+                if (token.is("null")) {
+                    return null;
+                }
+                throw error("Expected a value but found '" + token.text() + "'", token);
+            }
+            default -> throw error("Expected a value", token);
+        }
+    }
+
+    private Token peek() {
+        return tokens.get(index);
+    }
+
+    private Token next() {
+        Token token = tokens.get(index);
+        if (token.type() != TokenType.END) {
+            index++;
+        }
+        return token;
+    }
+
+    private void expect(String symbolOrKeyword) {
+        Token token = next();
+        if (!token.is(symbolOrKeyword)) {
+            throw error("Expected '" + symbolOrKeyword + "'", token);
+        }
+    }
+
+    private InvalidConditionException error(String message, Token token) {
+        return new InvalidConditionException(message + " at position " + token.position() + " in: " + source);
+    }
+
+    private List<Token> tokenize(String text) {
+        List<Token> result = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '\'' || c == '"') {
+                int start = i++;
+                StringBuilder value = new StringBuilder();
+                while (i < text.length() && text.charAt(i) != c) {
+                    // Only the quote and the backslash are escapes; "\." stays as-is for regexes
+                    if (text.charAt(i) == '\\' && i + 1 < text.length()
+                            && (text.charAt(i + 1) == c || text.charAt(i + 1) == '\\')) {
+                        i++;
+                    }
+                    value.append(text.charAt(i++));
+                }
+                if (i >= text.length()) {
+                    throw new InvalidConditionException("Unterminated string at position " + start + " in: " + text);
+                }
+                i++;
+                result.add(new Token(TokenType.STRING, value.toString(), start));
+            } else if (Character.isDigit(c) || (c == '-' && i + 1 < text.length() && Character.isDigit(text.charAt(i + 1)))) {
+                int start = i++;
+                while (i < text.length() && (Character.isDigit(text.charAt(i)) || ".eE+-".indexOf(text.charAt(i)) >= 0)) {
+                    i++;
+                }
+                result.add(new Token(TokenType.NUMBER, text.substring(start, i), start));
+            } else if (Character.isLetter(c) || c == '_') {
+                int start = i++;
+                while (i < text.length() && (Character.isLetterOrDigit(text.charAt(i)) || "_.-".indexOf(text.charAt(i)) >= 0)) {
+                    i++;
+                }
+                result.add(new Token(TokenType.IDENTIFIER, text.substring(start, i), start));
+            } else {
+                String two = i + 1 < text.length() ? text.substring(i, i + 2) : "";
+                if (List.of("==", "!=", ">=", "<=", "&&", "||").contains(two)) {
+                    result.add(new Token(TokenType.SYMBOL, two, i));
+                    i += 2;
+                } else if ("=!<>()[],".indexOf(c) >= 0) {
+                    result.add(new Token(TokenType.SYMBOL, String.valueOf(c), i));
+                    i++;
+                } else {
+                    throw new InvalidConditionException("Unexpected character '" + c + "' at position " + i + " in: " + text);
+                }
+            }
+        }
+        result.add(new Token(TokenType.END, "end of expression", text.length()));
+        return result;
+    }
+}
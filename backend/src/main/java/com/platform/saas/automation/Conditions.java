@@ -0,0 +1,321 @@
+package com.platform.saas.automation;
+
+import com.platform.saas.exception.InvalidConditionException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluator nodes produced by {@link ConditionCompiler}.
+ *
+ * Operands are converted once at compile time (string form, numeric form, boolean form) so that
+ * evaluation only inspects the payload value and compares primitives or cached strings.
+ */
+final class Conditions {
+
+    private Conditions() {
+    }
+
+    /**
+     * Comparison operators for ordered values.
+     */
+    enum Comparison {
+        GT, GTE, LT, LTE;
+
+        boolean test(int compareResult) {
+            return switch (this) {
+                case GT -> compareResult > 0;
+                case GTE -> compareResult >= 0;
+                case LT -> compareResult < 0;
+                case LTE -> compareResult <= 0;
+            };
+        }
+    }
+
+    /**
+     * A literal from the condition with its pre-computed representations.
+     */
+    static final class Operand {
+
+        final Object raw;
+        final String text;
+        final boolean string;
+        final boolean numeric;
+        final boolean integral;
+        final long longValue;
+        final double doubleValue;
+
+        private Operand(Object raw) {
+            this.raw = raw;
+            this.text = raw == null ? null : raw.toString();
+            this.string = raw instanceof String;
+
+            Double parsedDouble = null;
+            Long parsedLong = null;
+            if (raw instanceof Number number) {
+                parsedDouble = number.doubleValue();
+                if (isIntegral(number)) {
+                    parsedLong = number.longValue();
+                }
+            } else if (raw instanceof String s) {
+                try {
+                    parsedLong = Long.parseLong(s);
+                    parsedDouble = parsedLong.doubleValue();
+                } catch (NumberFormatException notLong) {
+                    try {
+                        parsedDouble = Double.parseDouble(s);
+                    } catch (NumberFormatException notNumber) {
+                        parsedDouble = null;
+                    }
+                }
+            }
+            this.numeric = parsedDouble != null && !parsedDouble.isNaN();
+            this.integral = parsedLong != null;
+            this.longValue = parsedLong != null ? parsedLong : 0L;
+            this.doubleValue = parsedDouble != null ? parsedDouble : 0d;
+        }
+
+        static Operand of(Object raw) {
+            return new Operand(raw);
+        }
+    }
+
+    static boolean isIntegral(Number number) {
+        return number instanceof Integer || number instanceof Long
+                || number instanceof Short || number instanceof Byte;
+    }
+
+    /**
+     * Equality between a payload value and an operand: numerically for numbers, by name for
+     * enums, otherwise by string form.
+     */
+    static boolean valueEquals(Object actual, Operand operand) {
+        if (actual == null || operand.raw == null) {
+            return actual == null && operand.raw == null;
+        }
+        if (actual instanceof String s) {
+            return s.equals(operand.text);
+        }
+        if (actual instanceof Number n) {
+            if (!operand.numeric) {
+                return false;
+            }
+            if (operand.integral && isIntegral(n)) {
+                return n.longValue() == operand.longValue;
+            }
+            return n.doubleValue() == operand.doubleValue;
+        }
+        if (actual instanceof Boolean b) {
+            return (b ? "true" : "false").equals(operand.text);
+        }
+        if (actual instanceof Enum<?> e) {
+            return e.name().equals(operand.text);
+        }
+        return actual.toString().equals(operand.text);
+    }
+
+    /**
+     * path == value
+     */
+    record Equals(FieldPath path, Operand operand) implements CompiledCondition {
+        @Override
+        public boolean matches(Map<String, Object> payload) {
+            return valueEquals(path.resolve(payload), operand);
+        }
+    }
+
+    /**
+     * path &gt;, &gt;=, &lt;, &lt;= value. Numbers compare numerically; strings compare
+     * lexicographically (so ISO-8601 timestamps order correctly).
+     */
+    record Compare(FieldPath path, Comparison comparison, Operand operand) implements CompiledCondition {
+        @Override
+        public boolean matches(Map<String, Object> payload) {
+            Object actual = path.resolve(payload);
+            if (actual instanceof Number n && operand.numeric) {
+                int result = operand.integral && isIntegral(n)
+                        ? Long.compare(n.longValue(), operand.longValue)
+                        : Double.compare(n.doubleValue(), operand.doubleValue);
+                return comparison.test(result);
+            }
+            if (actual instanceof String s && operand.string) {
+                return comparison.test(s.compareTo(operand.text));
+            }
+            return false;
+        }
+    }
+
+    /**
+     * path in [values]
+     */
+    static final class In implements CompiledCondition {
+
+        private final FieldPath path;
+        private final Set<String> strings = new HashSet<>();
+        private final Operand[] numbers;
+        private final boolean containsNull;
+
+        In(FieldPath path, List<?> values) {
+            this.path = path;
+            this.containsNull = values.stream().anyMatch(value -> value == null);
+            this.numbers = values.stream()
+                    .filter(Objects::nonNull)
+                    .map(Operand::of)
+                    .filter(operand -> operand.numeric)
+                    .toArray(Operand[]::new);
+            values.stream()
+                    .filter(Objects::nonNull)
+                    .forEach(value -> strings.add(value.toString()));
+        }
+
+        @Override
+        public boolean matches(Map<String, Object> payload) {
+            Object actual = path.resolve(payload);
+            if (actual == null) {
+                return containsNull;
+            }
+            if (actual instanceof String s) {
+                return strings.contains(s);
+            }
+            if (actual instanceof Number) {
+                for (Operand number : numbers) {
+                    if (valueEquals(actual, number)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            if (actual instanceof Boolean b) {
+                return strings.contains(b ? "true" : "false");
+            }
+            if (actual instanceof Enum<?> e) {
+                return strings.contains(e.name());
+            }
+            return strings.contains(actual.toString());
+        }
+    }
+
+    /**
+     * path startsWith prefix
+     */
+    record StartsWith(FieldPath path, String prefix) implements CompiledCondition {
+        @Override
+        public boolean matches(Map<String, Object> payload) {
+            Object actual = path.resolve(payload);
+            if (actual instanceof String s) {
+                return s.startsWith(prefix);
+            }
+            if (actual instanceof Enum<?> e) {
+                return e.name().startsWith(prefix);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * path matches regex (the whole value must match). The pattern is compiled once; each match
+     * runs under a deadline.
+     */
+    record Matches(FieldPath path, Pattern pattern) implements CompiledCondition {
+        @Override
+        public boolean matches(Map<String, Object> payload) {
+            Object actual = path.resolve(payload);
+            CharSequence value = actual instanceof CharSequence s ? s
+                    : actual instanceof Enum<?> e ? e.name()
+                    : null;
+            if (value == null) {
+                return false;
+            }
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ConditionCompiler.MAX_MATCH_MILLIS);
+            return pattern.matcher(new DeadlineCharSequence(value, deadline, pattern)).matches();
+        }
+    }
+
+    /**
+     * Input of a regex match that aborts it once the deadline has passed. The matcher reads the
+     * input through charAt at every backtracking step, so the clock is checked every 256 reads.
+     */
+    private static final class DeadlineCharSequence implements CharSequence {
+
+        private final CharSequence text;
+        private final long deadlineNanos;
+        private final Pattern pattern;
+        private int reads;
+
+        private DeadlineCharSequence(CharSequence text, long deadlineNanos, Pattern pattern) {
+            this.text = text;
+            this.deadlineNanos = deadlineNanos;
+            this.pattern = pattern;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if ((++reads & 0xff) == 0 && System.nanoTime() - deadlineNanos > 0) {
+                throw new InvalidConditionException("Pattern '" + pattern.pattern() + "' exceeded "
+                        + ConditionCompiler.MAX_MATCH_MILLIS + "ms");
+            }
+            return text.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new DeadlineCharSequence(text.subSequence(start, end), deadlineNanos, pattern);
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+
+    /**
+     * path exists (is present and not null)
+     */
+    record Exists(FieldPath path) implements CompiledCondition {
+        @Override
+        public boolean matches(Map<String, Object> payload) {
+            return path.resolve(payload) != null;
+        }
+    }
+
+    record Not(CompiledCondition operand) implements CompiledCondition {
+        @Override
+        public boolean matches(Map<String, Object> payload) {
+            return !operand.matches(payload);
+        }
+    }
+
+    record And(CompiledCondition[] operands) implements CompiledCondition {
+        @Override
+        public boolean matches(Map<String, Object> payload) {
+            for (CompiledCondition operand : operands) {
+                if (!operand.matches(payload)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    record Or(CompiledCondition[] operands) implements CompiledCondition {
+        @Override
+        public boolean matches(Map<String, Object> payload) {
+            for (CompiledCondition operand : operands) {
+                if (operand.matches(payload)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
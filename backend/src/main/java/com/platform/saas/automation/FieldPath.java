@@ -0,0 +1,52 @@
+package com.platform.saas.automation;
+
+import com.platform.saas.exception.InvalidConditionException;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A dot-separated path into nested event payload maps.
+ *
+ * Segments are split and interned once at compile time, so resolving a path is a sequence of
+ * map lookups with cached string hashes and no allocation.
+ */
+final class FieldPath {
+
+    private static final Pattern SEGMENT = Pattern.compile("[A-Za-z_][A-Za-z0-9_-]*");
+
+    private final String path;
+    private final String[] segments;
+
+    private FieldPath(String path, String[] segments) {
+        this.path = path;
+        this.segments = segments;
+    }
+
+    static FieldPath parse(String path) {
+        String[] segments = path.split("\\.", -1);
+        for (int i = 0; i < segments.length; i++) {
+            if (!SEGMENT.matcher(segments[i]).matches()) {
+                throw new InvalidConditionException("Invalid field path: " + path);
+            }
+            segments[i] = segments[i].intern();
+        }
+        return new FieldPath(path, segments);
+    }
+
+    Object resolve(Map<String, Object> payload) {
+        Object current = payload;
+        for (String segment : segments) {
+            if (!(current instanceof Map<?, ?> map)) {
+                return null;
+            }
+            current = map.get(segment);
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
@@ -0,0 +1,304 @@
+package com.platform.saas.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Cluster-wide cache invalidation bus built on Postgres LISTEN/NOTIFY.
+ *
+ * Writers call {@link #publish} inside their transaction. Once the transaction commits, local caches
+ * are evicted and a compact message ({@code nodeId:seq:REGION:tenantId:key}) is sent on the
+ * notification channel by a single sender thread. Every node holds one dedicated LISTEN connection
+ * outside the pool and evicts its caches when messages from other nodes arrive.
+ *
+ * Sequence numbers are contiguous per node, so a receiver that sees a jump knows it missed messages
+ * (sender failure, queue overflow) and flushes every cache. Losing the LISTEN connection triggers a
+ * reconnect with exponential backoff followed by a full flush, since NOTIFY is not replayed.
+ *
+ * Enabled by default. Disabled, or without PostgreSQL, evictions stay on the writing node, which is
+ * only correct for a single node: see {@link #isEnabled()}.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationBus {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final String WHOLE_PARTITION = "*";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<CacheInvalidationListener> listeners;
+    private final boolean enabled;
+    private final String channel;
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+    private final long pollTimeoutMs;
+    private final long maxBackoffMs;
+
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sequence = new AtomicLong();
+    private final BlockingQueue<String> outbound;
+    private final Map<String, Long> lastSequenceByNode = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private Thread listenerThread;
+    private Thread senderThread;
+
+    public CacheInvalidationBus(
+            JdbcTemplate jdbcTemplate,
+            ObjectProvider<CacheInvalidationListener> listeners,
+            @Value("${app.cache.invalidation.enabled:true}") boolean enabled,
+            @Value("${app.cache.invalidation.channel:cache_invalidation}") String channel,
+            @Value("${app.cache.invalidation.outbound-capacity:10000}") int outboundCapacity,
+            @Value("${app.cache.invalidation.poll-timeout-ms:5000}") long pollTimeoutMs,
+            @Value("${app.cache.invalidation.max-backoff-ms:30000}") long maxBackoffMs,
+            @Value("${spring.datasource.url:}") String jdbcUrl,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel name: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.listeners = listeners;
+        this.enabled = enabled && jdbcUrl.startsWith("jdbc:postgresql:");
+        this.channel = channel;
+        this.outbound = new LinkedBlockingQueue<>(outboundCapacity);
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+
+        if (enabled && !this.enabled) {
+            log.warn("Cache invalidation bus requires PostgreSQL, running in local-only mode: url={}", jdbcUrl);
+        } else if (!enabled) {
+            log.warn("Cache invalidation bus disabled: caches and ETags are only consistent on a single node");
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        listenerThread = Thread.ofVirtual().name("cache-invalidation-listener").start(this::listenLoop);
+        senderThread = Thread.ofVirtual().name("cache-invalidation-sender").start(this::sendLoop);
+        log.info("Cache invalidation bus started: node={}, channel={}", nodeId, channel);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+        if (senderThread != null) {
+            senderThread.interrupt();
+        }
+    }
+
+    /**
+     * Invalidate a single cached entry on every node once the current transaction commits.
+     *
+     * @param region The cache region
+     * @param tenantId The owning tenant
+     * @param key The resource key
+     */
+    public void publish(CacheRegion region, UUID tenantId, Object key) {
+        String keyValue = key == null ? null : key.toString();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(region, tenantId, keyValue);
+                }
+            });
+        } else {
+            dispatch(region, tenantId, keyValue);
+        }
+    }
+
+    /**
+     * Invalidate every cached entry of a tenant in a region once the current transaction commits.
+     */
+    public void publishTenant(CacheRegion region, UUID tenantId) {
+        publish(region, tenantId, null);
+    }
+
+    /**
+     * Whether invalidations reach the other nodes. Node-local state derived from writes (ETag
+     * versions, shard move cutovers) must not be relied on across nodes otherwise.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Identifier of this node in invalidation messages.
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void dispatch(CacheRegion region, UUID tenantId, String key) {
+        invalidateLocal(region, tenantId, key);
+
+        if (!enabled) {
+            return;
+        }
+
+        // Sequence allocation and enqueue must be atomic so the sender emits sequences in order
+        synchronized (outbound) {
+            String message = String.join(":", nodeId, Long.toString(sequence.incrementAndGet()),
+                    region.name(), tenantId.toString(), key == null ? WHOLE_PARTITION : key);
+            if (!outbound.offer(message)) {
+                // Dropped sequence number makes every receiver flush on the next message
+                log.warn("Cache invalidation queue full, dropping message: {}", message);
+            }
+        }
+    }
+
+    /**
+     * Apply a message received on the notification channel.
+     */
+    void handleNotification(String payload) {
+        String[] parts = payload.split(":", 5);
+        if (parts.length != 5) {
+            log.warn("Ignoring malformed cache invalidation message: {}", payload);
+            return;
+        }
+
+        String sender = parts[0];
+        if (nodeId.equals(sender)) {
+            return; // Already evicted locally at commit
+        }
+
+        long seq;
+        CacheRegion region;
+        UUID tenantId;
+        try {
+            seq = Long.parseLong(parts[1]);
+            region = CacheRegion.valueOf(parts[2]);
+            tenantId = UUID.fromString(parts[3]);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed cache invalidation message: {}", payload);
+            return;
+        }
+
+        Long previous = lastSequenceByNode.put(sender, seq);
+        if (previous != null && seq != previous + 1) {
+            log.warn("Cache invalidation gap from node {}: expected {}, got {}", sender, previous + 1, seq);
+            invalidateAllLocal();
+            return;
+        }
+
+        String key = WHOLE_PARTITION.equals(parts[4]) ? null : parts[4];
+        invalidateLocal(region, tenantId, key);
+    }
+
+    private void invalidateLocal(CacheRegion region, UUID tenantId, String key) {
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.invalidate(region, tenantId, key);
+            } catch (RuntimeException e) {
+                log.error("Cache listener failed to invalidate {}:{}:{}", region, tenantId, key, e);
+            }
+        });
+    }
+
+    void invalidateAllLocal() {
+        lastSequenceByNode.clear();
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.invalidateAll();
+            } catch (RuntimeException e) {
+                log.error("Cache listener failed to flush", e);
+            }
+        });
+    }
+
+    private void sendLoop() {
+        while (running) {
+            String message;
+            try {
+                message = outbound.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, message);
+            } catch (RuntimeException e) {
+                // Receivers detect the missing sequence number and flush
+                log.error("Failed to send cache invalidation: {}", message, e);
+            }
+        }
+    }
+
+    private void listenLoop() {
+        long backoffMs = 500;
+        boolean missedMessages = false;
+
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("Listening for cache invalidations on channel {}", channel);
+
+                if (missedMessages) {
+                    log.warn("Cache invalidation listener reconnected, flushing all caches");
+                    invalidateAllLocal();
+                }
+                backoffMs = 500;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    // Throws once the connection is broken, which drives the reconnect
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeoutMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handleNotification(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                missedMessages = true;
+                log.warn("Cache invalidation listener disconnected, retrying in {}ms: {}", backoffMs, e.getMessage());
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, maxBackoffMs);
+            }
+        }
+    }
+}
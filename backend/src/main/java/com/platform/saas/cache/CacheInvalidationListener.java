@@ -0,0 +1,24 @@
+package com.platform.saas.cache;
+
+import java.util.UUID;
+
+/**
+ * Implemented by in-memory caches that must be evicted when the underlying data changes
+ * on this node or on any other node of the cluster.
+ */
+public interface CacheInvalidationListener {
+
+    /**
+     * Evict a single entry, or the whole tenant partition of a region when key is null.
+     *
+     * @param region The cache region
+     * @param tenantId The tenant the entry belongs to
+     * @param key The resource key, or null for every entry of the tenant
+     */
+    void invalidate(CacheRegion region, UUID tenantId, String key);
+
+    /**
+     * Evict everything. Called when invalidation messages may have been missed.
+     */
+    void invalidateAll();
+}
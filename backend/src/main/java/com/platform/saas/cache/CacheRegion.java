@@ -0,0 +1,26 @@
+package com.platform.saas.cache;
+
+/**
+ * Logical cache regions that can be invalidated across nodes.
+ * Each region is partitioned by tenant; invalidation keys are resource IDs within the tenant.
+ */
+public enum CacheRegion {
+
+    /** Tenant records, keyed by tenant ID. */
+    TENANT,
+
+    /** User-tenant memberships, keyed by user ID. */
+    MEMBERSHIP,
+
+    /** Automation rules, keyed by rule ID. */
+    AUTOMATION_RULE,
+
+    /** Projects and their task lists, keyed by project ID. */
+    PROJECT,
+
+    /** Existence of projects, keyed by project ID. Published only when a project is deleted. */
+    PROJECT_ID,
+
+    /** Shard assignments of the tenant directory, partitioned by tenant only. */
+    TENANT_SHARD
+}
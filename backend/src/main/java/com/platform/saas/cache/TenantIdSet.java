@@ -0,0 +1,223 @@
+package com.platform.saas.cache;
+
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Per-tenant set of resource IDs known to exist, used to skip existence queries.
+ *
+ * IDs are stored as raw most/least significant bit pairs in an open-addressing long[] table, about
+ * 32 bytes per ID instead of a UUID object plus a map node. Only positive answers are remembered:
+ * an unknown ID is checked with the loader and added when it exists. A tenant holding
+ * maxIdsPerTenant IDs starts over with an empty set; tenant sets themselves are bounded by
+ * {@link TenantPartitionedCache}.
+ *
+ * An invalidation removes the ID, or the tenant's whole set when the key is missing or not a UUID.
+ * As in {@link TenantScopedCache}, a check that overlaps a removal does not add its result.
+ */
+public class TenantIdSet extends TenantPartitionedCache<TenantIdSet.IdTable> {
+
+    private final int maxIdsPerTenant;
+
+    /**
+     * @param name The set name, used as the "cache" metric tag
+     * @param region The invalidation region the set listens to
+     * @param maxIdsPerTenant Maximum IDs of one tenant
+     * @param maxTenants Maximum number of tenant sets
+     */
+    public TenantIdSet(String name, CacheRegion region, int maxIdsPerTenant, int maxTenants) {
+        super(name, region, maxTenants);
+        this.maxIdsPerTenant = Math.max(1, maxIdsPerTenant);
+    }
+
+    /**
+     * Whether the ID exists, asking the loader when the set does not know it yet.
+     *
+     * @param tenantId The owning tenant
+     * @param id The resource ID
+     * @param exists Checks existence in the database
+     * @return true if the ID is known or the loader confirmed it
+     */
+    public boolean contains(UUID tenantId, UUID id, BooleanSupplier exists) {
+        IdTable table = partition(tenantId);
+        long generation;
+        synchronized (table) {
+            if (table.contains(id.getMostSignificantBits(), id.getLeastSignificantBits())) {
+                hits.increment();
+                return true;
+            }
+            generation = table.generation;
+        }
+        misses.increment();
+
+        if (!exists.getAsBoolean()) {
+            return false;
+        }
+        synchronized (table) {
+            if (table.generation == generation) {
+                if (table.size() >= maxIdsPerTenant) {
+                    evictions.add(table.size());
+                    table.clear();
+                }
+                table.add(id.getMostSignificantBits(), id.getLeastSignificantBits());
+                puts.increment();
+            }
+        }
+        return true;
+    }
+
+    public void remove(UUID tenantId, UUID id) {
+        IdTable table = existingPartition(tenantId);
+        if (table != null) {
+            synchronized (table) {
+                table.generation++;
+                table.remove(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            }
+        }
+    }
+
+    @Override
+    void invalidateKey(UUID tenantId, String key) {
+        UUID id;
+        try {
+            id = UUID.fromString(key);
+        } catch (IllegalArgumentException e) {
+            evictTenant(tenantId);
+            return;
+        }
+        remove(tenantId, id);
+    }
+
+    @Override
+    IdTable newPartition() {
+        return new IdTable();
+    }
+
+    /**
+     * Open-addressing hash set of UUIDs with linear probing, kept at most half full. Slot i holds
+     * the bits at keys[2i] and keys[2i + 1]; a separate flag marks the nil UUID, whose all-zero
+     * bits double as the empty slot. Guarded by its own monitor.
+     */
+    static final class IdTable extends Partition {
+
+        private static final int INITIAL_SLOTS = 16;
+
+        private long[] keys = new long[INITIAL_SLOTS * 2];
+        private int size;
+        private boolean containsNil;
+
+        boolean contains(long msb, long lsb) {
+            if (msb == 0 && lsb == 0) {
+                return containsNil;
+            }
+            return indexOf(msb, lsb) >= 0;
+        }
+
+        void add(long msb, long lsb) {
+            if (msb == 0 && lsb == 0) {
+                if (!containsNil) {
+                    containsNil = true;
+                    size++;
+                }
+                return;
+            }
+            if ((size + 1) * 2 > slots()) {
+                resize(slots() * 2);
+            }
+            int mask = slots() - 1;
+            int slot = hash(msb, lsb) & mask;
+            while (!isEmpty(slot)) {
+                if (keys[slot * 2] == msb && keys[slot * 2 + 1] == lsb) {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot * 2] = msb;
+            keys[slot * 2 + 1] = lsb;
+            size++;
+        }
+
+        void remove(long msb, long lsb) {
+            if (msb == 0 && lsb == 0) {
+                if (containsNil) {
+                    containsNil = false;
+                    size--;
+                }
+                return;
+            }
+            int slot = indexOf(msb, lsb);
+            if (slot < 0) {
+                return;
+            }
+            size--;
+            // Backward-shift deletion keeps every probe chain unbroken without tombstones
+            int mask = slots() - 1;
+            int hole = slot;
+            int next = (hole + 1) & mask;
+            while (!isEmpty(next)) {
+                int home = hash(keys[next * 2], keys[next * 2 + 1]) & mask;
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    keys[hole * 2] = keys[next * 2];
+                    keys[hole * 2 + 1] = keys[next * 2 + 1];
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[hole * 2] = 0;
+            keys[hole * 2 + 1] = 0;
+        }
+
+        void clear() {
+            keys = new long[INITIAL_SLOTS * 2];
+            size = 0;
+            containsNil = false;
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        private int indexOf(long msb, long lsb) {
+            int mask = slots() - 1;
+            int slot = hash(msb, lsb) & mask;
+            while (!isEmpty(slot)) {
+                if (keys[slot * 2] == msb && keys[slot * 2 + 1] == lsb) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void resize(int newSlots) {
+            long[] old = keys;
+            keys = new long[newSlots * 2];
+            int mask = newSlots - 1;
+            for (int i = 0; i < old.length; i += 2) {
+                if (old[i] == 0 && old[i + 1] == 0) {
+                    continue;
+                }
+                int slot = hash(old[i], old[i + 1]) & mask;
+                while (!isEmpty(slot)) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot * 2] = old[i];
+                keys[slot * 2 + 1] = old[i + 1];
+            }
+        }
+
+        private boolean isEmpty(int slot) {
+            return keys[slot * 2] == 0 && keys[slot * 2 + 1] == 0;
+        }
+
+        private int slots() {
+            return keys.length / 2;
+        }
+
+        private static int hash(long msb, long lsb) {
+            long h = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.platform.saas.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Base of the caches whose data is partitioned by tenant: one partition per tenant, at most
+ * maxTenants of them, dropping the least recently used partition when a new tenant is added to a
+ * full cache.
+ *
+ * Every partition carries a generation that is bumped whenever data is removed from it, and when
+ * the partition itself is dropped. Subclasses read the generation before loading from the
+ * database and store the result only if it is unchanged, so a load that overlaps an invalidation
+ * can never re-populate what was just invalidated.
+ *
+ * The cache listens to one {@link CacheRegion} of the {@link CacheInvalidationBus}; messages without
+ * a key drop the tenant's partition, others are handed to {@link #invalidateKey}. Hit, miss, put and
+ * eviction counts are published by {@link Metrics}.
+ *
+ * @param <P> The partition type
+ */
+public abstract class TenantPartitionedCache<P extends TenantPartitionedCache.Partition> implements CacheInvalidationListener {
+
+    private final String name;
+    private final CacheRegion region;
+    private final int maxTenants;
+    private final Map<UUID, P> partitions = new ConcurrentHashMap<>();
+
+    final LongAdder hits = new LongAdder();
+    final LongAdder misses = new LongAdder();
+    final LongAdder puts = new LongAdder();
+    final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param name The cache name, used as the "cache" metric tag
+     * @param region The invalidation region the cache listens to
+     * @param maxTenants Maximum number of tenant partitions
+     */
+    TenantPartitionedCache(String name, CacheRegion region, int maxTenants) {
+        this.name = name;
+        this.region = region;
+        this.maxTenants = Math.max(1, maxTenants);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Drop the partition of a tenant.
+     */
+    public void evictTenant(UUID tenantId) {
+        P partition = partitions.remove(tenantId);
+        if (partition != null) {
+            synchronized (partition) {
+                // Loads still holding the removed partition must not store into it
+                partition.generation++;
+            }
+        }
+    }
+
+    @Override
+    public void invalidate(CacheRegion region, UUID tenantId, String key) {
+        if (region != this.region || tenantId == null) {
+            return;
+        }
+        if (key == null) {
+            evictTenant(tenantId);
+            return;
+        }
+        invalidateKey(tenantId, key);
+    }
+
+    @Override
+    public void invalidateAll() {
+        partitions.keySet().forEach(this::evictTenant);
+    }
+
+    /**
+     * Number of cached entries across all tenants.
+     */
+    public long size() {
+        long size = 0;
+        for (P partition : partitions.values()) {
+            synchronized (partition) {
+                size += partition.size();
+            }
+        }
+        return size;
+    }
+
+    public int tenantCount() {
+        return partitions.size();
+    }
+
+    /**
+     * Remove what an invalidation message with a key names, or the tenant's whole partition when
+     * the key cannot be mapped.
+     */
+    abstract void invalidateKey(UUID tenantId, String key);
+
+    /**
+     * A new, empty partition.
+     */
+    abstract P newPartition();
+
+    /**
+     * The tenant's partition, created when missing; marks it as used.
+     */
+    final P partition(UUID tenantId) {
+        P partition = partitions.get(tenantId);
+        if (partition == null) {
+            partition = partitions.computeIfAbsent(tenantId, id -> newPartition());
+            if (partitions.size() > maxTenants) {
+                evictLeastRecentlyUsedTenant(tenantId);
+            }
+        }
+        partition.lastAccessNanos = System.nanoTime();
+        return partition;
+    }
+
+    /**
+     * The tenant's partition, or null without creating one.
+     */
+    final P existingPartition(UUID tenantId) {
+        return partitions.get(tenantId);
+    }
+
+    /**
+     * Drop the partition used least recently. Only runs when a new tenant is added to a full cache.
+     */
+    private void evictLeastRecentlyUsedTenant(UUID keep) {
+        partitions.entrySet().stream()
+                .filter(entry -> !entry.getKey().equals(keep))
+                .min(Comparator.comparingLong(entry -> entry.getValue().lastAccessNanos))
+                .ifPresent(entry -> {
+                    P evicted = partitions.remove(entry.getKey());
+                    if (evicted != null) {
+                        synchronized (evicted) {
+                            evicted.generation++;
+                            evictions.add(evicted.size());
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Data of one tenant. Guarded by its own monitor.
+     */
+    abstract static class Partition {
+
+        long generation;
+        volatile long lastAccessNanos = System.nanoTime();
+
+        abstract int size();
+    }
+
+    /**
+     * Publishes the standard cache.gets, cache.puts, cache.evictions and cache.size meters, plus
+     * cache.tenants for the number of tenant partitions.
+     */
+    public static class Metrics extends CacheMeterBinder<TenantPartitionedCache<?>> {
+
+        public Metrics(TenantPartitionedCache<?> cache) {
+            super(cache, cache.getName(), List.of());
+        }
+
+        @Override
+        protected Long size() {
+            TenantPartitionedCache<?> cache = getCache();
+            return cache == null ? null : cache.size();
+        }
+
+        @Override
+        protected long hitCount() {
+            TenantPartitionedCache<?> cache = getCache();
+            return cache == null ? 0L : cache.hits.sum();
+        }
+
+        @Override
+        protected Long missCount() {
+            TenantPartitionedCache<?> cache = getCache();
+            return cache == null ? null : cache.misses.sum();
+        }
+
+        @Override
+        protected Long evictionCount() {
+            TenantPartitionedCache<?> cache = getCache();
+            return cache == null ? null : cache.evictions.sum();
+        }
+
+        @Override
+        protected long putCount() {
+            TenantPartitionedCache<?> cache = getCache();
+            return cache == null ? 0L : cache.puts.sum();
+        }
+
+        @Override
+        protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+            Gauge.builder("cache.tenants", getCache(), TenantPartitionedCache::tenantCount)
+                    .tags(getTagsWithCacheName())
+                    .description("Number of tenant partitions")
+                    .register(registry);
+        }
+    }
+}
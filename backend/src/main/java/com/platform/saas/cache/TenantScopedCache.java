@@ -0,0 +1,205 @@
+package com.platform.saas.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache whose entries are partitioned by tenant.
+ *
+ * Each tenant gets its own LRU partition of at most maxEntriesPerTenant entries, so one busy tenant
+ * cannot push out the working set of the others; tenant partitions themselves are bounded by
+ * {@link TenantPartitionedCache}. Entries also expire after the TTL as a safety net for writes that
+ * bypass the application.
+ *
+ * Invalidation messages evict after the writing transaction commits, on every node. A load that
+ * overlaps an eviction of its tenant is returned but not stored, so a reader can never re-populate
+ * a value that was just invalidated. Absent values are not cached. Cached instances are shared
+ * between threads and must not be modified; writes load their entity from the repository.
+ *
+ * @param <K> The key type within a tenant partition
+ * @param <V> The cached value type
+ */
+public class TenantScopedCache<K, V> extends TenantPartitionedCache<TenantScopedCache.Entries<K, V>> {
+
+    private final Function<String, K> invalidationKey;
+    private final int maxEntriesPerTenant;
+    private final long ttlNanos;
+
+    /**
+     * @param name The cache name, used as the "cache" metric tag
+     * @param region The invalidation region the cache listens to
+     * @param invalidationKey Maps the key of an invalidation message to a cache key; null when
+     *                        messages cannot be mapped, in which case the tenant's whole partition
+     *                        is evicted
+     * @param maxEntriesPerTenant Maximum entries of one tenant
+     * @param maxTenants Maximum number of tenant partitions
+     * @param ttl Maximum age of an entry
+     */
+    public TenantScopedCache(String name, CacheRegion region, Function<String, K> invalidationKey,
+                             int maxEntriesPerTenant, int maxTenants, Duration ttl) {
+        super(name, region, maxTenants);
+        this.invalidationKey = invalidationKey;
+        this.maxEntriesPerTenant = Math.max(1, maxEntriesPerTenant);
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Cached value, loading and caching it on a miss.
+     *
+     * @param tenantId The owning tenant
+     * @param key The key within the tenant
+     * @param loader Loads the value; an empty result is returned without being cached
+     * @return The value, or empty when the loader found nothing
+     */
+    public Optional<V> get(UUID tenantId, K key, Supplier<Optional<V>> loader) {
+        Entries<K, V> partition = partition(tenantId);
+        long generation;
+        synchronized (partition) {
+            V cached = partition.get(key, ttlNanos);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+            generation = partition.generation;
+        }
+        misses.increment();
+
+        Optional<V> loaded = loader.get();
+        loaded.ifPresent(value -> {
+            synchronized (partition) {
+                if (partition.generation == generation) {
+                    store(partition, key, value);
+                }
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * Load a value and replace the cached one, e.g. when the cached value went stale. Like
+     * {@link #get}, the result is stored only if no eviction of the tenant overlapped the load;
+     * unlike an evict followed by a load, it does not discard concurrent loads of the tenant.
+     *
+     * @param tenantId The owning tenant
+     * @param key The key within the tenant
+     * @param loader Loads the value; an empty result removes the cached one
+     * @return The loaded value
+     */
+    public Optional<V> reload(UUID tenantId, K key, Supplier<Optional<V>> loader) {
+        Entries<K, V> partition = partition(tenantId);
+        long generation;
+        synchronized (partition) {
+            generation = partition.generation;
+        }
+
+        Optional<V> loaded = loader.get();
+        synchronized (partition) {
+            if (partition.generation == generation) {
+                if (loaded.isPresent()) {
+                    store(partition, key, loaded.get());
+                } else {
+                    partition.entries.remove(key);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Cached value without loading, counted as a hit or miss.
+     */
+    public Optional<V> getIfPresent(UUID tenantId, K key) {
+        Entries<K, V> partition = existingPartition(tenantId);
+        V cached = null;
+        if (partition != null) {
+            synchronized (partition) {
+                cached = partition.get(key, ttlNanos);
+            }
+        }
+        (cached != null ? hits : misses).increment();
+        return Optional.ofNullable(cached);
+    }
+
+    public void evict(UUID tenantId, K key) {
+        Entries<K, V> partition = existingPartition(tenantId);
+        if (partition != null) {
+            synchronized (partition) {
+                partition.generation++;
+                partition.entries.remove(key);
+            }
+        }
+    }
+
+    @Override
+    void invalidateKey(UUID tenantId, String key) {
+        if (invalidationKey == null) {
+            evictTenant(tenantId);
+            return;
+        }
+        K cacheKey;
+        try {
+            cacheKey = invalidationKey.apply(key);
+        } catch (IllegalArgumentException e) {
+            evictTenant(tenantId);
+            return;
+        }
+        evict(tenantId, cacheKey);
+    }
+
+    @Override
+    Entries<K, V> newPartition() {
+        return new Entries<>(maxEntriesPerTenant, evictions);
+    }
+
+    private void store(Entries<K, V> partition, K key, V value) {
+        partition.entries.put(key, new Entry<>(value, System.nanoTime()));
+        puts.increment();
+    }
+
+    private record Entry<V>(V value, long loadedAtNanos) {
+    }
+
+    /**
+     * Access-ordered entries of one tenant. Guarded by its own monitor.
+     */
+    static final class Entries<K, V> extends Partition {
+
+        private final LinkedHashMap<K, Entry<V>> entries;
+
+        private Entries(int maxEntries, LongAdder evictions) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    if (size() > maxEntries) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        @Override
+        int size() {
+            return entries.size();
+        }
+
+        private V get(K key, long ttlNanos) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.loadedAtNanos() > ttlNanos) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+}
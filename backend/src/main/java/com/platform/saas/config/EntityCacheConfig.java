@@ -0,0 +1,111 @@
+package com.platform.saas.config;
+
+import com.platform.saas.cache.CacheRegion;
+import com.platform.saas.cache.TenantIdSet;
+import com.platform.saas.cache.TenantPartitionedCache;
+import com.platform.saas.cache.TenantScopedCache;
+import com.platform.saas.dto.ProjectSchedule;
+import com.platform.saas.model.AutomationRule;
+import com.platform.saas.model.Project;
+import com.platform.saas.model.Tenant;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tenant-partitioned read caches for the entities read on almost every request, and for results
+ * derived from them that are expensive to recompute.
+ *
+ * Each cache evicts through the region the corresponding writes already publish on the
+ * {@link com.platform.saas.cache.CacheInvalidationBus}, and reports hits, misses, puts, evictions
+ * and size as the cache.* meters tagged with its name.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    private final int maxTenants;
+    private final Duration ttl;
+
+    public EntityCacheConfig(
+            @Value("${app.cache.entities.max-tenants:1000}") int maxTenants,
+            @Value("${app.cache.entities.ttl-seconds:600}") long ttlSeconds) {
+        this.maxTenants = maxTenants;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * Projects by ID. Evicted by every project or task write of the project.
+     */
+    @Bean
+    public TenantScopedCache<UUID, Project> projectCache(
+            @Value("${app.cache.entities.projects-per-tenant:1000}") int maxEntries) {
+        return new TenantScopedCache<>("projects", CacheRegion.PROJECT, UUID::fromString, maxEntries, maxTenants, ttl);
+    }
+
+    /**
+     * IDs of existing projects, used to validate the project of task requests without loading it.
+     * Only project deletions remove IDs.
+     */
+    @Bean
+    public TenantIdSet projectIds(
+            @Value("${app.cache.entities.project-ids-per-tenant:100000}") int maxIds) {
+        return new TenantIdSet("project-ids", CacheRegion.PROJECT_ID, maxIds, maxTenants);
+    }
+
+    /**
+     * Tenants by ID (one entry per partition), used to resolve subdomains.
+     */
+    @Bean
+    public TenantScopedCache<UUID, Tenant> tenantCache() {
+        return new TenantScopedCache<>("tenants", CacheRegion.TENANT, UUID::fromString, 1, maxTenants, ttl);
+    }
+
+    /**
+     * Active automation rules by event type. Any rule change drops the tenant's lists.
+     */
+    @Bean
+    public TenantScopedCache<String, List<AutomationRule>> activeAutomationRuleCache(
+            @Value("${app.cache.entities.rule-event-types-per-tenant:100}") int maxEntries) {
+        return new TenantScopedCache<>("automation-rules", CacheRegion.AUTOMATION_RULE, null, maxEntries, maxTenants, ttl);
+    }
+
+    /**
+     * Dependency analyses by project. Evicted by every task or dependency write of the project.
+     */
+    @Bean
+    public TenantScopedCache<UUID, ProjectSchedule> projectScheduleCache(
+            @Value("${app.cache.entities.schedules-per-tenant:20}") int maxEntries) {
+        return new TenantScopedCache<>("project-schedules", CacheRegion.PROJECT, UUID::fromString, maxEntries, maxTenants, ttl);
+    }
+
+    @Bean
+    public MeterBinder projectCacheMetrics(TenantScopedCache<UUID, Project> projectCache) {
+        return new TenantPartitionedCache.Metrics(projectCache);
+    }
+
+    @Bean
+    public MeterBinder projectIdsMetrics(TenantIdSet projectIds) {
+        return new TenantPartitionedCache.Metrics(projectIds);
+    }
+
+    @Bean
+    public MeterBinder projectScheduleCacheMetrics(TenantScopedCache<UUID, ProjectSchedule> projectScheduleCache) {
+        return new TenantPartitionedCache.Metrics(projectScheduleCache);
+    }
+
+    @Bean
+    public MeterBinder tenantCacheMetrics(TenantScopedCache<UUID, Tenant> tenantCache) {
+        return new TenantPartitionedCache.Metrics(tenantCache);
+    }
+
+    @Bean
+    public MeterBinder activeAutomationRuleCacheMetrics(
+            TenantScopedCache<String, List<AutomationRule>> activeAutomationRuleCache) {
+        return new TenantPartitionedCache.Metrics(activeAutomationRuleCache);
+    }
+}
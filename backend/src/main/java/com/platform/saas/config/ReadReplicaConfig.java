@@ -0,0 +1,114 @@
+package com.platform.saas.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes read-only transactions to PostgreSQL read replicas.
+ *
+ * The application DataSource becomes a LazyConnectionDataSourceProxy over the primary pool: the
+ * physical connection is only fetched once the transaction has marked it read-only, and read-only
+ * connections come from the {@link ReplicaRoutingDataSource}, which only hands out replica
+ * connections to GET requests of the endpoints listed in app.datasource.replicas.paths. Everything
+ * else, including Flyway and writes, stays on the primary. Enabled with
+ * app.datasource.replicas.enabled=true.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+@Slf4j
+public class ReadReplicaConfig {
+
+    /**
+     * The primary pool, configured from spring.datasource.* as without replicas.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.replicas.urls}") List<String> urls,
+            @Value("${app.datasource.replicas.username:${spring.datasource.username:}}") String username,
+            @Value("${app.datasource.replicas.password:${spring.datasource.password:}}") String password,
+            @Value("${app.datasource.replicas.pool-size:10}") int poolSize,
+            @Value("${app.datasource.replicas.connection-timeout-ms:2000}") long connectionTimeoutMs,
+            @Value("${app.datasource.replicas.max-lag-ms:30000}") long maxLagMs,
+            @Value("${app.datasource.replicas.paths:}") List<String> replicaPaths,
+            @Value("${app.datasource.replicas.retry-after-failure-ms:10000}") long retryAfterFailureMs) {
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            String name = "replica-" + (replicas.size() + 1);
+            HikariConfig config = new HikariConfig();
+            config.setPoolName(name);
+            config.setJdbcUrl(url.trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(poolSize);
+            config.setConnectionTimeout(connectionTimeoutMs);
+            config.setReadOnly(true);
+            // Start even when a replica is down; the router falls back to the primary
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(name, new HikariDataSource(config));
+        }
+        log.info("Read replica routing enabled: replicas={}, maxLag={}ms, paths={}",
+                replicas.size(), maxLagMs, replicaPaths);
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLagMs,
+                replicaPaths.stream().filter(path -> !path.isBlank()).map(String::trim).toList(),
+                retryAfterFailureMs, meterRegistry);
+    }
+
+    /**
+     * The DataSource used by JPA, JdbcTemplate and Flyway.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            ReplicaRoutingDataSource replicaRoutingDataSource,
+            @Value("${app.tenancy.row-level-security.enabled:false}") boolean rowLevelSecurity) {
+        // The lazy proxy must not touch the connection before the read-only flag is known,
+        // so the tenant session variable is set by the pools behind it
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                rowLevelSecurity ? new TenantSessionDataSource(primaryDataSource) : primaryDataSource);
+        dataSource.setReadOnlyDataSource(
+                rowLevelSecurity ? new TenantSessionDataSource(replicaRoutingDataSource) : replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    public HealthIndicator readReplicasHealthIndicator(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return replicaRoutingDataSource::health;
+    }
+}
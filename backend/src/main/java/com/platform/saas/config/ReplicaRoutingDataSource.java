@@ -0,0 +1,268 @@
+package com.platform.saas.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-only DataSource that spreads connections over the read replicas.
+ *
+ * Used as the read-only target of the LazyConnectionDataSourceProxy set up by
+ * {@link ReadReplicaConfig}, so it only serves @Transactional(readOnly = true) work. Replica reads
+ * are opt-in per endpoint: only GET and HEAD requests whose path matches one of the replica paths
+ * may see a lagging replica. Everything else reads the primary, so ETag-bearing responses, reads
+ * inside mutating requests and background jobs never serve data older than their last write.
+ * Replicas are picked round-robin among those that are available and within the allowed
+ * replication lag. When no replica qualifies, or a replica fails to hand out a connection, the
+ * primary is used and the failed replica is skipped until it passes a health check again.
+ *
+ * Lag is polled per replica (pg_last_xact_replay_timestamp, 0 when fully replayed) and published
+ * as saas.datasource.replica.lag; routing decisions are counted in saas.datasource.routing.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    static final String LAG_QUERY = "SELECT CASE"
+            + " WHEN NOT pg_is_in_recovery() THEN 0"
+            + " WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)::bigint END";
+
+    private static final String PRIMARY = "primary";
+    private static final List<String> PRIMARY_REASONS =
+            List.of("not_eligible", "no_replicas", "lagging", "unavailable", "failover");
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagMs;
+    private final List<String> replicaPaths;
+    private final long retryAfterFailureMs;
+    private final Map<String, Counter> primaryCounters = new HashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    /**
+     * @param primary The primary, used when no replica can serve
+     * @param replicas Replica DataSources by name (e.g. replica-1)
+     * @param maxLagMs Maximum replication lag of a replica serving reads
+     * @param replicaPaths Request path patterns (e.g. /api/automations/logs/**) whose GET requests may read replicas
+     * @param retryAfterFailureMs How long a failed replica is skipped if no health check revives it
+     * @param meterRegistry Registry for routing and lag metrics
+     */
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            long maxLagMs,
+            List<String> replicaPaths,
+            long retryAfterFailureMs,
+            MeterRegistry meterRegistry) {
+
+        this.primary = primary;
+        this.maxLagMs = maxLagMs;
+        this.replicaPaths = List.copyOf(replicaPaths);
+        this.retryAfterFailureMs = retryAfterFailureMs;
+        for (String reason : PRIMARY_REASONS) {
+            primaryCounters.put(reason, routingCounter(meterRegistry, PRIMARY, reason));
+        }
+
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource, routingCounter(meterRegistry, name, "replica"));
+            this.replicas.add(replica);
+            Gauge.builder("saas.datasource.replica.lag", replica, r -> r.lagMs)
+                    .description("Replication lag of a read replica, -1 when unknown")
+                    .baseUnit("milliseconds")
+                    .tag("pool", name)
+                    .register(meterRegistry);
+            Gauge.builder("saas.datasource.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+                    .description("Whether a read replica is accepting connections")
+                    .tag("pool", name)
+                    .register(meterRegistry);
+        });
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!replicaEligible()) {
+            primaryCounters.get("not_eligible").increment();
+            return primary.getConnection();
+        }
+        int size = replicas.size();
+        int start = size > 0 ? Math.floorMod(next.getAndIncrement(), size) : 0;
+        String reason = size > 0 ? "lagging" : "no_replicas";
+
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.isAvailable()) {
+                reason = "unavailable";
+                continue;
+            }
+            if (replica.lagMs > maxLagMs) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.routed.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.markDown(e, retryAfterFailureMs);
+                log.warn("Read replica {} failed, falling back: {}", replica.name, e.getMessage());
+                reason = "failover";
+            }
+        }
+
+        primaryCounters.get(reason).increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Pools are configured with their own credentials
+        return getConnection();
+    }
+
+    /**
+     * Poll replication lag and revive replicas that accept connections again.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.lag-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                replica.lagMs = resultSet.getLong(1);
+                if (replica.downUntil != 0) {
+                    log.info("Read replica {} is available again (lag {} ms)", replica.name, replica.lagMs);
+                }
+                replica.markUp();
+            } catch (SQLException e) {
+                replica.lagMs = -1;
+                replica.markDown(e, retryAfterFailureMs);
+                log.warn("Read replica {} health check failed: {}", replica.name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Per-replica availability and lag. Always UP: reads fall back to the primary.
+     */
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        int available = 0;
+        for (Replica replica : replicas) {
+            Map<String, Object> replicaDetails = new LinkedHashMap<>();
+            replicaDetails.put("available", replica.isAvailable());
+            replicaDetails.put("lagMs", replica.lagMs);
+            if (replica.lastError != null && !replica.isAvailable()) {
+                replicaDetails.put("error", replica.lastError);
+            }
+            details.put(replica.name, replicaDetails);
+            if (replica.isAvailable() && replica.lagMs <= maxLagMs) {
+                available++;
+            }
+        }
+        return Health.up()
+                .withDetail("replicas", details)
+                .withDetail("servingReplicas", available)
+                .withDetail("maxLagMs", maxLagMs)
+                .build();
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close read replica pool {}: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether the current request opted into replica reads: a GET or HEAD on a replica path.
+     */
+    private boolean replicaEligible() {
+        if (replicaPaths.isEmpty()
+                || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return false;
+        }
+        String path = urlPathHelper.getPathWithinApplication(request);
+        for (String pattern : replicaPaths) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("saas.datasource.routing")
+                .description("Read-only connections by serving pool and routing reason")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A replica pool with its last known lag and availability.
+     */
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final Counter routed;
+        private volatile long lagMs;
+        private volatile long downUntil;
+        private volatile String lastError;
+
+        private Replica(String name, DataSource dataSource, Counter routed) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.routed = routed;
+        }
+
+        boolean isAvailable() {
+            long until = downUntil;
+            return until == 0 || System.currentTimeMillis() >= until;
+        }
+
+        void markDown(SQLException e, long retryAfterMs) {
+            lastError = e.getMessage();
+            downUntil = System.currentTimeMillis() + retryAfterMs;
+        }
+
+        void markUp() {
+            lastError = null;
+            downUntil = 0;
+        }
+    }
+}
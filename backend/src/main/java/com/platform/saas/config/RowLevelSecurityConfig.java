@@ -0,0 +1,50 @@
+package com.platform.saas.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Enforces tenant isolation in PostgreSQL with row-level security.
+ *
+ * The application DataSource is wrapped in a {@link TenantSessionDataSource}, which sets the
+ * app.tenant_id session variable from TenantContext at every connection checkout and marks the
+ * session as enforced; the policies of V13 then hide other tenants' rows of projects, tasks,
+ * automation_rules, event_logs, task_assignees and task_dependencies. Work without a tenant context
+ * sees none of these rows, unless it runs in
+ * {@link com.platform.saas.security.TenantContext#callAcrossTenants}. Enabled with
+ * app.tenancy.row-level-security.enabled=true; the explicit tenant predicates of the repositories
+ * stay, so isolation does not depend on this mode. Sessions that do not come from the wrapped
+ * DataSource (Flyway, the application with the mode disabled) are not restricted.
+ *
+ * With read replicas or sharding the pools behind the router are wrapped instead, see
+ * {@link ReadReplicaConfig} and ShardingConfig.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.tenancy.row-level-security.enabled", havingValue = "true")
+@Slf4j
+public class RowLevelSecurityConfig {
+
+    @Bean
+    public static BeanPostProcessor tenantSessionDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof TenantSessionDataSource
+                        || bean instanceof LazyConnectionDataSourceProxy
+                        || bean instanceof AbstractRoutingDataSource) {
+                    return bean;
+                }
+                log.info("Row-level security enabled: tenant session variable set at connection checkout");
+                return new TenantSessionDataSource(dataSource);
+            }
+        };
+    }
+}
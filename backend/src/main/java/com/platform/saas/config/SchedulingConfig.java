@@ -0,0 +1,12 @@
+package com.platform.saas.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (e.g., flushing buffered rule execution counts).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
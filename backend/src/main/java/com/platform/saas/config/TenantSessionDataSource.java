@@ -0,0 +1,59 @@
+package com.platform.saas.config;
+
+import com.platform.saas.security.TenantContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * DataSource that publishes the current tenant to PostgreSQL at connection checkout.
+ *
+ * Every connection handed out has the app.tenant_id session variable set to the tenant in
+ * {@link TenantContext}, or cleared when there is none, so pooled connections never carry a
+ * previous tenant. app.rls_enforced is set to 'on', which subjects the session to the row-level
+ * security policies (V13): they restrict tenant tables to that tenant and admit no rows without
+ * one. Sessions of other DataSources never set it and are not restricted. app.rls_bypass is set to
+ * 'on' only for explicitly cross-tenant work ({@link TenantContext#callAcrossTenants}) and reset
+ * to 'off' otherwise.
+ */
+public class TenantSessionDataSource extends DelegatingDataSource {
+
+    static final String SET_TENANT_SQL =
+            "SELECT set_config('app.rls_enforced', 'on', false), set_config('app.tenant_id', ?, false), " +
+            "set_config('app.rls_bypass', ?, false)";
+
+    public TenantSessionDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return applyTenant(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return applyTenant(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection applyTenant(Connection connection) throws SQLException {
+        UUID tenantId = TenantContext.getTenantId();
+        try (PreparedStatement statement = connection.prepareStatement(SET_TENANT_SQL)) {
+            statement.setString(1, tenantId != null ? tenantId.toString() : "");
+            statement.setString(2, tenantId == null && TenantContext.isAcrossTenants() ? "on" : "off");
+            statement.execute();
+            if (!connection.getAutoCommit()) {
+                // A rollback would otherwise revert the setting along with the caller's work
+                connection.commit();
+            }
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+    }
+}
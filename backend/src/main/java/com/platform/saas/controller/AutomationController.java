@@ -1,8 +1,11 @@
 package com.platform.saas.controller;
 
+import com.platform.saas.dto.RuleReplayRequest;
+import com.platform.saas.dto.RuleReplayResult;
 import com.platform.saas.model.AutomationRule;
 import com.platform.saas.model.EventLog;
 import com.platform.saas.service.AutomationService;
+import com.platform.saas.service.RuleReplayService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +32,7 @@ import java.util.UUID;
 public class AutomationController {
 
     private final AutomationService automationService;
+    private final RuleReplayService ruleReplayService;
 
     /**
      * Create a new automation rule.
@@ -212,6 +216,19 @@ public class AutomationController {
         return ResponseEntity.ok(logs);
     }
 
+    /**
+     * Dry-run rule conditions against historical events without executing actions.
+     * @param request The rule or conditions to test and the date range
+     * @return Match counts and sample matches
+     */
+    @PostMapping("/replay")
+    @PreAuthorize("hasAuthority('ADMINISTRATOR')")
+    public ResponseEntity<RuleReplayResult> replayRule(@Valid @RequestBody RuleReplayRequest request) {
+        log.info("Replaying automation conditions from {} to {}", request.getStartDate(), request.getEndDate());
+        RuleReplayResult result = ruleReplayService.replay(request);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Get automation statistics.
      * @return Statistics about automation execution
@@ -222,6 +239,8 @@ public class AutomationController {
 
         Map<String, Object> stats = new HashMap<>();
         stats.put("totalRules", automationService.countRules());
+        stats.put("totalExecutions", automationService.getTotalExecutionCount());
+        stats.put("queuedExecutions", automationService.getQueuedExecutionCount());
         stats.put("successfulExecutions", automationService.countLogsByStatus(EventLog.ExecutionStatus.SUCCESS));
         stats.put("failedExecutions", automationService.countLogsByStatus(EventLog.ExecutionStatus.FAILED));
         stats.put("skippedExecutions", automationService.countLogsByStatus(EventLog.ExecutionStatus.SKIPPED));
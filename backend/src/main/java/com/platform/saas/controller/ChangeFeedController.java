@@ -0,0 +1,39 @@
+package com.platform.saas.controller;
+
+import com.platform.saas.security.TenantContext;
+import com.platform.saas.service.ChangeFeedHub;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+/**
+ * REST controller exposing the real-time change feed over Server-Sent Events.
+ * Replaces client polling of the task and project list endpoints.
+ */
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+@Slf4j
+public class ChangeFeedController {
+
+    private final ChangeFeedHub changeFeedHub;
+
+    /**
+     * Stream task and project changes for the current tenant.
+     * GET /api/events/stream
+     * Optionally restricted to a single project via the projectId parameter.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(required = false) UUID projectId) {
+        UUID tenantId = TenantContext.getTenantId();
+        log.info("Opening change feed: tenant={}, project={}", tenantId, projectId);
+        return changeFeedHub.subscribe(tenantId, projectId);
+    }
+}
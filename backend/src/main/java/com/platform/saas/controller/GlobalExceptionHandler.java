@@ -4,9 +4,11 @@ import com.platform.saas.dto.ErrorResponse;
 import com.platform.saas.exception.*;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -93,6 +95,54 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.PAYMENT_REQUIRED).body(error);
     }
 
+    @ExceptionHandler(ChangeFeedLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleChangeFeedLimitExceeded(
+            ChangeFeedLimitExceededException ex,
+            HttpServletRequest request) {
+        log.warn("Change feed limit exceeded: {}", ex.getMessage());
+        ErrorResponse error = ErrorResponse.of(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(error);
+    }
+
+    @ExceptionHandler(TenantMovingException.class)
+    public ResponseEntity<ErrorResponse> handleTenantMoving(
+            TenantMovingException ex,
+            HttpServletRequest request) {
+        log.warn("Tenant moving: {}", ex.getMessage());
+        return tenantMoving(ex.getMessage(), request);
+    }
+
+    /**
+     * JPA opens the connection when the transaction begins, so a locked tenant surfaces wrapped.
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ErrorResponse> handleCannotCreateTransaction(
+            CannotCreateTransactionException ex,
+            HttpServletRequest request) {
+        if (!(ex.getMostSpecificCause() instanceof TenantMovingException moving)) {
+            return handleGenericException(ex, request);
+        }
+        log.warn("Tenant moving: {}", moving.getMessage());
+        return tenantMoving(moving.getMessage(), request);
+    }
+
+    private ResponseEntity<ErrorResponse> tenantMoving(String message, HttpServletRequest request) {
+        ErrorResponse error = ErrorResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                message,
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationErrors(
             MethodArgumentNotValidException ex,
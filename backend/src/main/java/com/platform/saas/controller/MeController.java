@@ -0,0 +1,47 @@
+package com.platform.saas.controller;
+
+import com.platform.saas.dto.TaskPage;
+import com.platform.saas.model.TaskStatus;
+import com.platform.saas.service.TaskAssigneeService;
+import com.platform.saas.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * REST controller for resources of the authenticated user within the current tenant.
+ */
+@RestController
+@RequestMapping("/api/me")
+@RequiredArgsConstructor
+@Slf4j
+public class MeController {
+
+    private final UserService userService;
+    private final TaskAssigneeService taskAssigneeService;
+
+    /**
+     * Get the tasks assigned to the current user, one keyset page at a time.
+     * GET /api/me/tasks?status=IN_PROGRESS&limit=50&cursor=...
+     * Without status, every task that is not COMPLETED is listed. Pages are ordered by the tasks'
+     * current status, so a task whose status changes while paging can be skipped or listed twice.
+     */
+    @GetMapping("/tasks")
+    public ResponseEntity<TaskPage> getMyTasks(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        UUID userId = userService.getUserByCognitoId(jwt.getSubject()).getId();
+        TaskPage page = taskAssigneeService.getAssignedTasks(userId, status, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+}
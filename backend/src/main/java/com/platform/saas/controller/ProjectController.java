@@ -1,9 +1,15 @@
 package com.platform.saas.controller;
 
+import com.platform.saas.dto.ProjectBoard;
+import com.platform.saas.dto.ProjectSchedule;
 import com.platform.saas.model.Priority;
 import com.platform.saas.model.Project;
 import com.platform.saas.model.ProjectStatus;
+import com.platform.saas.security.TenantContext;
+import com.platform.saas.service.ProjectScheduleService;
 import com.platform.saas.service.ProjectService;
+import com.platform.saas.service.ResourceVersionService;
+import com.platform.saas.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +17,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -26,6 +33,9 @@ import java.util.UUID;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ResourceVersionService resourceVersionService;
+    private final TaskService taskService;
+    private final ProjectScheduleService projectScheduleService;
 
     /**
      * Create a new project.
@@ -43,6 +53,8 @@ public class ProjectController {
     /**
      * Get all projects for the current tenant.
      * GET /api/projects
+     * Supports If-None-Match: returns 304 without querying when nothing changed. No ETag is issued
+     * while the cache invalidation bus is disabled.
      * PMAT: Cyc≤12, Cog≤20
      */
     @GetMapping
@@ -51,10 +63,16 @@ public class ProjectController {
             @RequestParam(required = false) Priority priority,
             @RequestParam(required = false) UUID ownerId,
             @RequestParam(required = false, defaultValue = "false") boolean overdueOnly,
-            @RequestParam(required = false, defaultValue = "false") boolean activeOnly) {
+            @RequestParam(required = false, defaultValue = "false") boolean activeOnly,
+            WebRequest webRequest) {
+
+        String etag = resourceVersionService.getTenantETag(TenantContext.getTenantId());
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
 
         List<Project> projects = fetchProjectsByFilters(status, priority, ownerId, overdueOnly, activeOnly);
-        return ResponseEntity.ok(projects);
+        return ResponseEntity.ok().eTag(etag).body(projects);
     }
 
     /**
@@ -90,12 +108,54 @@ public class ProjectController {
     /**
      * Get a specific project by ID.
      * GET /api/projects/{id}
+     * Supports If-None-Match: returns 304 without loading the project when nothing changed. The
+     * ETag is only issued once the project is known to belong to the tenant, and not at all while
+     * the cache invalidation bus is disabled.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Project> getProject(@PathVariable UUID id) {
+    public ResponseEntity<Project> getProject(@PathVariable UUID id, WebRequest webRequest) {
+        String etag = resourceVersionService.getProjectETag(TenantContext.getTenantId(), id);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         log.info("Fetching project: id={}", id);
         Project project = projectService.getProject(id);
-        return ResponseEntity.ok(project);
+        return ResponseEntity.ok().eTag(etag).body(project);
+    }
+
+    /**
+     * Get the board of a project: tasks grouped by status, in board order.
+     * GET /api/projects/{id}/board?limit=50
+     * Shares the project ETag, which every task write of the project changes and which is only
+     * issued for projects of the tenant.
+     */
+    @GetMapping("/{id}/board")
+    public ResponseEntity<ProjectBoard> getProjectBoard(
+            @PathVariable UUID id,
+            @RequestParam(required = false, defaultValue = "50") int limit,
+            WebRequest webRequest) {
+
+        String etag = resourceVersionService.getProjectETag(TenantContext.getTenantId(), id);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        log.info("Fetching board: project={}, limit={}", id, limit);
+        ProjectBoard board = taskService.getProjectBoard(id, limit);
+        return ResponseEntity.ok().eTag(etag).body(board);
+    }
+
+    /**
+     * Get the dependency analysis of a project: topological order, critical path, earliest and
+     * latest dates, and the tasks held up by BLOCKED tasks.
+     * GET /api/projects/{id}/schedule
+     */
+    @GetMapping("/{id}/schedule")
+    public ResponseEntity<ProjectSchedule> getProjectSchedule(@PathVariable UUID id) {
+        log.info("Fetching schedule: project={}", id);
+        ProjectSchedule schedule = projectScheduleService.getSchedule(id);
+        return ResponseEntity.ok(schedule);
     }
 
     /**
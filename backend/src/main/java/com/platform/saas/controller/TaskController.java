@@ -1,8 +1,18 @@
 package com.platform.saas.controller;
 
+import com.platform.saas.dto.BoardMoveRequest;
+import com.platform.saas.dto.TaskAssigneeRequest;
+import com.platform.saas.dto.TaskAssignmentRequest;
+import com.platform.saas.dto.TaskDependencyRequest;
 import com.platform.saas.model.Priority;
 import com.platform.saas.model.Task;
+import com.platform.saas.model.TaskAssignee;
+import com.platform.saas.model.TaskAssigneeId;
+import com.platform.saas.model.TaskDependency;
 import com.platform.saas.model.TaskStatus;
+import com.platform.saas.security.TenantContext;
+import com.platform.saas.service.ResourceVersionService;
+import com.platform.saas.service.TaskAssigneeService;
 import com.platform.saas.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +21,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -26,6 +37,8 @@ import java.util.UUID;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskAssigneeService taskAssigneeService;
+    private final ResourceVersionService resourceVersionService;
 
     /**
      * Create a new task.
@@ -43,6 +56,9 @@ public class TaskController {
     /**
      * Get all tasks for the current tenant.
      * GET /api/tasks
+     * Supports If-None-Match: returns 304 without querying when nothing changed. With projectId,
+     * the project's tenant is checked before the ETag is compared. No ETag is issued while the
+     * cache invalidation bus is disabled.
      * PMAT: Cyc≤10, Cog≤15 - Filter logic extracted to helper method
      */
     @GetMapping
@@ -50,10 +66,18 @@ public class TaskController {
             @RequestParam(required = false) UUID projectId,
             @RequestParam(required = false) TaskStatus status,
             @RequestParam(required = false) Priority priority,
-            @RequestParam(required = false, defaultValue = "false") boolean overdueOnly) {
+            @RequestParam(required = false, defaultValue = "false") boolean overdueOnly,
+            WebRequest webRequest) {
+
+        String etag = projectId != null
+                ? resourceVersionService.getProjectETag(TenantContext.getTenantId(), projectId)
+                : resourceVersionService.getTenantETag(TenantContext.getTenantId());
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
 
         List<Task> tasks = fetchTasksByFilters(projectId, status, priority, overdueOnly);
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok().eTag(etag).body(tasks);
     }
 
     /**
@@ -108,6 +132,21 @@ public class TaskController {
         return ResponseEntity.ok(updated);
     }
 
+    /**
+     * Move a task to a new board position, optionally into another status column.
+     * PUT /api/tasks/{id}/board-position
+     * Requires ADMINISTRATOR or EDITOR role.
+     */
+    @PutMapping("/{id}/board-position")
+    @PreAuthorize("hasAnyAuthority('ADMINISTRATOR', 'EDITOR')")
+    public ResponseEntity<Task> moveTask(
+            @PathVariable UUID id,
+            @RequestBody BoardMoveRequest move) {
+        log.info("Moving task on board: id={}, status={}", id, move.getStatus());
+        Task moved = taskService.moveTask(id, move);
+        return ResponseEntity.ok(moved);
+    }
+
     /**
      * Delete a task.
      * DELETE /api/tasks/{id}
@@ -143,13 +182,111 @@ public class TaskController {
         return ResponseEntity.ok(avgProgress);
     }
 
-    // TODO: Add assignee management endpoints
-    // POST /api/tasks/{id}/assignees - Assign user to task
-    // DELETE /api/tasks/{id}/assignees/{userId} - Remove assignee
-    // GET /api/tasks/{id}/assignees - List task assignees
+    /**
+     * List the assignees of a task.
+     * GET /api/tasks/{id}/assignees
+     */
+    @GetMapping("/{id}/assignees")
+    public ResponseEntity<List<TaskAssignee>> getAssignees(@PathVariable UUID id) {
+        List<TaskAssignee> assignees = taskAssigneeService.getAssignees(id);
+        return ResponseEntity.ok(assignees);
+    }
 
-    // TODO: Add dependency management endpoints
-    // POST /api/tasks/{id}/dependencies - Add task dependency
-    // DELETE /api/tasks/{id}/dependencies/{blockingTaskId} - Remove dependency
-    // GET /api/tasks/{id}/dependencies - List task dependencies
+    /**
+     * Assign a user to a task.
+     * POST /api/tasks/{id}/assignees
+     * Requires ADMINISTRATOR or EDITOR role.
+     */
+    @PostMapping("/{id}/assignees")
+    @PreAuthorize("hasAnyAuthority('ADMINISTRATOR', 'EDITOR')")
+    public ResponseEntity<TaskAssignee> assignUser(
+            @PathVariable UUID id,
+            @Valid @RequestBody TaskAssigneeRequest request) {
+        log.info("Assigning user to task: task={}, user={}", id, request.getUserId());
+        TaskAssignee assignee = taskAssigneeService.assignUser(id, request.getUserId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(assignee);
+    }
+
+    /**
+     * Remove an assignee from a task.
+     * DELETE /api/tasks/{id}/assignees/{userId}
+     * Requires ADMINISTRATOR or EDITOR role.
+     */
+    @DeleteMapping("/{id}/assignees/{userId}")
+    @PreAuthorize("hasAnyAuthority('ADMINISTRATOR', 'EDITOR')")
+    public ResponseEntity<Void> unassignUser(
+            @PathVariable UUID id,
+            @PathVariable UUID userId) {
+        log.info("Removing assignee from task: task={}, user={}", id, userId);
+        taskAssigneeService.unassignUser(id, userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Assign every given user to every given task.
+     * POST /api/tasks/assignees/bulk
+     * Requires ADMINISTRATOR or EDITOR role.
+     * @return The assignments that did not exist before
+     */
+    @PostMapping("/assignees/bulk")
+    @PreAuthorize("hasAnyAuthority('ADMINISTRATOR', 'EDITOR')")
+    public ResponseEntity<List<TaskAssigneeId>> assignUsers(@Valid @RequestBody TaskAssignmentRequest request) {
+        log.info("Bulk assigning users: tasks={}, users={}", request.getTaskIds().size(), request.getUserIds().size());
+        List<TaskAssigneeId> assigned = taskAssigneeService.assignUsers(request.getTaskIds(), request.getUserIds());
+        return ResponseEntity.ok(assigned);
+    }
+
+    /**
+     * Remove every given user from every given task.
+     * POST /api/tasks/assignees/bulk-remove
+     * Requires ADMINISTRATOR or EDITOR role.
+     * @return The assignments that were removed
+     */
+    @PostMapping("/assignees/bulk-remove")
+    @PreAuthorize("hasAnyAuthority('ADMINISTRATOR', 'EDITOR')")
+    public ResponseEntity<List<TaskAssigneeId>> unassignUsers(@Valid @RequestBody TaskAssignmentRequest request) {
+        log.info("Bulk removing assignees: tasks={}, users={}", request.getTaskIds().size(), request.getUserIds().size());
+        List<TaskAssigneeId> removed = taskAssigneeService.unassignUsers(request.getTaskIds(), request.getUserIds());
+        return ResponseEntity.ok(removed);
+    }
+
+    /**
+     * List the dependencies blocking a task.
+     * GET /api/tasks/{id}/dependencies
+     */
+    @GetMapping("/{id}/dependencies")
+    public ResponseEntity<List<TaskDependency>> getDependencies(@PathVariable UUID id) {
+        List<TaskDependency> dependencies = taskService.getDependencies(id);
+        return ResponseEntity.ok(dependencies);
+    }
+
+    /**
+     * Make a task wait for another task of the same project.
+     * POST /api/tasks/{id}/dependencies
+     * Requires ADMINISTRATOR or EDITOR role.
+     */
+    @PostMapping("/{id}/dependencies")
+    @PreAuthorize("hasAnyAuthority('ADMINISTRATOR', 'EDITOR')")
+    public ResponseEntity<TaskDependency> addDependency(
+            @PathVariable UUID id,
+            @Valid @RequestBody TaskDependencyRequest request) {
+        log.info("Adding task dependency: blocked={}, blocking={}", id, request.getBlockingTaskId());
+        TaskDependency dependency = taskService.addDependency(id, request.getBlockingTaskId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(dependency);
+    }
+
+    /**
+     * Remove a dependency.
+     * DELETE /api/tasks/{id}/dependencies/{blockingTaskId}
+     * Requires ADMINISTRATOR or EDITOR role.
+     */
+    @DeleteMapping("/{id}/dependencies/{blockingTaskId}")
+    @PreAuthorize("hasAnyAuthority('ADMINISTRATOR', 'EDITOR')")
+    public ResponseEntity<Void> removeDependency(
+            @PathVariable UUID id,
+            @PathVariable UUID blockingTaskId) {
+        log.info("Removing task dependency: blocked={}, blocking={}", id, blockingTaskId);
+        taskService.removeDependency(id, blockingTaskId);
+        return ResponseEntity.noContent().build();
+    }
 }
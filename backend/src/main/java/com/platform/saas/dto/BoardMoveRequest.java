@@ -0,0 +1,25 @@
+package com.platform.saas.dto;
+
+import com.platform.saas.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Request DTO for dropping a task at a new board position.
+ * The neighbours are the tasks directly above and below the drop position in the target column; a
+ * missing neighbour means that end of the column. Without both, the task goes to the bottom.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardMoveRequest {
+
+    private TaskStatus status; // Target column, or null to stay in the current one
+    private UUID afterTaskId; // Task directly above the drop position
+    private UUID beforeTaskId; // Task directly below the drop position
+}
@@ -0,0 +1,30 @@
+package com.platform.saas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO pushed to change feed subscribers over Server-Sent Events.
+ * Mirrors the domain events handed to EventPublisher by TaskService and ProjectService.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEvent {
+
+    private long sequence;
+    private UUID tenantId;
+    private String eventType;
+    private String resourceType;
+    private UUID resourceId;
+    private UUID projectId;
+    private Map<String, Object> payload;
+    private Instant occurredAt;
+}
@@ -0,0 +1,38 @@
+package com.platform.saas.dto;
+
+import com.platform.saas.model.Task;
+import com.platform.saas.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO with the board of a project: one column per task status, in status order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectBoard {
+
+    private UUID projectId;
+    private int limit; // Maximum tasks returned per column
+    private List<Column> columns;
+
+    /**
+     * The first tasks of one status, in board order.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Column {
+        private TaskStatus status;
+        private List<Task> tasks;
+        private boolean hasMore; // True when the column holds more tasks than the limit
+    }
+}
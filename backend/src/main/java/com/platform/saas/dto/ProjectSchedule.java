@@ -0,0 +1,51 @@
+package com.platform.saas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO with the dependency analysis of a project.
+ *
+ * Dates follow from due dates and blocking dependencies: an open task can start on asOf or the day
+ * after its last open blocker finishes, and finishes on its due date or, if that is earlier or
+ * missing, on its start date. Completed tasks and their dependencies no longer constrain anything.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectSchedule {
+
+    private UUID projectId;
+    private LocalDate asOf; // Day the schedule was computed for
+    private int taskCount;
+    private int dependencyCount;
+    private LocalDate projectedFinish; // Latest earliest-finish date of any open task
+    private List<UUID> topologicalOrder; // Every task after all of its blockers
+    private List<UUID> criticalPath; // Chain of blockers that determines the projected finish, first to last
+    private List<UUID> transitivelyBlocked; // Open tasks downstream of a BLOCKED task
+    private List<UUID> cyclicTasks; // Tasks on or behind a dependency cycle, left out of the schedule
+    private List<TaskSchedule> tasks; // Open tasks in topological order
+
+    /**
+     * Schedule of one open task.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TaskSchedule {
+        private UUID taskId;
+        private LocalDate earliestStart;
+        private LocalDate earliestFinish;
+        private LocalDate latestFinish; // Latest finish that keeps every dependent on its due date
+        private long slackDays; // latestFinish - earliestFinish; negative when a due date cannot be met
+        private boolean critical; // On the critical path
+    }
+}
@@ -0,0 +1,41 @@
+package com.platform.saas.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Request DTO for dry-running automation rule conditions against historical events.
+ * Either references an existing rule or supplies the event type and conditions to test;
+ * fields given explicitly override those of the referenced rule.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RuleReplayRequest {
+
+    private UUID ruleId; // Optional existing rule to replay
+
+    private String eventType; // Optional; all event types when neither this nor ruleId is set
+
+    private Map<String, Object> conditions;
+
+    @NotNull(message = "Start date cannot be null")
+    private LocalDateTime startDate;
+
+    @NotNull(message = "End date cannot be null")
+    private LocalDateTime endDate;
+
+    @Min(value = 0, message = "Sample size cannot be negative")
+    @Max(value = 100, message = "Sample size cannot exceed 100")
+    private Integer sampleSize;
+}
@@ -0,0 +1,44 @@
+package com.platform.saas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Response DTO summarizing a rule dry-run over historical events.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RuleReplayResult {
+
+    private long scannedEvents;
+    private long matchedEvents;
+    private long failedEvents; // Events whose payload could not be read or evaluated
+    private boolean truncated; // True when the scan stopped at the configured event limit
+    private long durationMs;
+    private List<SampleMatch> sampleMatches;
+
+    /**
+     * One historical event matched by the conditions.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SampleMatch {
+        private UUID eventLogId;
+        private String eventType;
+        private UUID resourceId;
+        private String resourceType;
+        private LocalDateTime createdAt;
+        private Map<String, Object> payload;
+    }
+}
@@ -0,0 +1,20 @@
+package com.platform.saas.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Request DTO for assigning a user to a task.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskAssigneeRequest {
+
+    @NotNull(message = "User ID cannot be null")
+    private UUID userId;
+}
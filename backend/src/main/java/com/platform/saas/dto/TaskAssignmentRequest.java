@@ -0,0 +1,24 @@
+package com.platform.saas.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for assigning users to tasks or removing them, applied to every (task, user) pair.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskAssignmentRequest {
+
+    @NotEmpty(message = "Task IDs are required")
+    private List<UUID> taskIds;
+
+    @NotEmpty(message = "User IDs are required")
+    private List<UUID> userIds;
+}
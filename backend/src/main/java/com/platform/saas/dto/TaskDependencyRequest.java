@@ -0,0 +1,20 @@
+package com.platform.saas.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Request DTO for making a task wait for another task.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDependencyRequest {
+
+    @NotNull(message = "Blocking task ID cannot be null")
+    private UUID blockingTaskId;
+}
@@ -0,0 +1,22 @@
+package com.platform.saas.dto;
+
+import com.platform.saas.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO with one keyset page of tasks.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskPage {
+
+    private List<Task> tasks;
+    private String nextCursor; // Pass as cursor for the next page; null on the last page
+}
@@ -0,0 +1,28 @@
+package com.platform.saas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Response DTO summarizing a tenant move between shards.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TenantMoveResult {
+
+    private UUID tenantId;
+    private String sourceShard;
+    private String targetShard;
+    private int copyPasses; // Full copy plus catch-up passes, excluding the final one under lock
+    private Map<String, Long> rowsCopied; // Rows upserted on the target, by table
+    private Map<String, Long> rowsDeleted; // Target rows removed because they were deleted on the source
+    private long lockedMs; // Time the tenant's requests were held
+    private long durationMs;
+}
@@ -0,0 +1,14 @@
+package com.platform.saas.exception;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when a tenant opens more change feed connections than allowed.
+ */
+public class ChangeFeedLimitExceededException extends RuntimeException {
+
+    public ChangeFeedLimitExceededException(UUID tenantId, int limit) {
+        super(String.format("Tenant %s has reached the limit of %d concurrent change feed connections",
+                tenantId, limit));
+    }
+}
@@ -0,0 +1,11 @@
+package com.platform.saas.exception;
+
+/**
+ * Exception thrown when automation rule conditions cannot be parsed or validated.
+ */
+public class InvalidConditionException extends IllegalArgumentException {
+
+    public InvalidConditionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.platform.saas.exception;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when a tenant's data stays locked by a shard move longer than requests may wait.
+ */
+public class TenantMovingException extends TransientDataAccessResourceException {
+
+    public TenantMovingException(UUID tenantId, long waitedMs) {
+        super(String.format("Tenant %s is being moved to another shard (waited %d ms)", tenantId, waitedMs));
+    }
+}
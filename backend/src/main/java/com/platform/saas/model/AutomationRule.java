@@ -30,7 +30,7 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class AutomationRule {
+public class AutomationRule implements TenantOwned {
 
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -104,18 +104,21 @@ public class AutomationRule {
 
     /**
      * Number of times this rule has been triggered.
+     * Not updatable through JPA: RuleExecutionCounter applies buffered increments directly,
+     * and entity saves must not overwrite them.
      */
-    @Column(name = "execution_count")
+    @Column(name = "execution_count", updatable = false)
     private Long executionCount = 0L;
 
     /**
      * Last time this rule was triggered.
      */
-    @Column(name = "last_executed_at")
+    @Column(name = "last_executed_at", updatable = false)
     private LocalDateTime lastExecutedAt;
 
     /**
-     * Increment execution count and update last executed timestamp.
+     * Increment execution count and update last executed timestamp on this instance.
+     * Persistent statistics are recorded through RuleExecutionCounter.
      */
     public void recordExecution() {
         this.executionCount = (this.executionCount == null ? 0 : this.executionCount) + 1;
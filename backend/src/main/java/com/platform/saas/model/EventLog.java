@@ -33,7 +33,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class EventLog {
+public class EventLog implements TenantOwned {
 
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -28,7 +28,7 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class Project {
+public class Project implements TenantOwned {
 
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -11,6 +11,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -21,14 +22,14 @@ import java.util.UUID;
 @Entity
 @Table(name = "tasks", indexes = {
     @Index(name = "idx_task_tenant_id", columnList = "tenant_id"),
-    @Index(name = "idx_task_tenant_project", columnList = "tenant_id, project_id"),
-    @Index(name = "idx_task_tenant_status", columnList = "tenant_id, status")
+    @Index(name = "idx_task_tenant_status", columnList = "tenant_id, status"),
+    @Index(name = "idx_task_board", columnList = "tenant_id, project_id, status, board_rank, created_at, id")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class Task {
+public class Task implements TenantOwned {
 
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -69,6 +70,20 @@ public class Task {
     @Column(name = "priority", nullable = false)
     private Priority priority = Priority.MEDIUM;
 
+    /**
+     * Position within the project's board column for the task's status; see the board endpoint.
+     * Assigned by the service, never taken from requests.
+     */
+    @Column(name = "board_rank")
+    private String boardRank;
+
+    /**
+     * IDs of the users assigned to the task, filled in by the service for read and write responses
+     * in one query per list; null where not loaded.
+     */
+    @Transient
+    private List<UUID> assigneeIds;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -16,17 +16,19 @@ import java.util.UUID;
 /**
  * TaskAssignee join entity maps tasks to assigned users.
  * Represents the many-to-many relationship between tasks and users.
+ * Tenant and task status are copied from the task for the per-user index; the database keeps the
+ * status copy current when the task's status changes.
  */
 @Entity
 @Table(name = "task_assignees", indexes = {
-    @Index(name = "idx_task_assignee_user_id", columnList = "user_id")
+    @Index(name = "idx_task_assignee_user", columnList = "user_id, tenant_id, task_status, task_id")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @IdClass(TaskAssigneeId.class)
-public class TaskAssignee implements Serializable {
+public class TaskAssignee implements Serializable, TenantOwned {
 
     @Id
     @NotNull(message = "Task ID cannot be null")
@@ -38,6 +40,15 @@ public class TaskAssignee implements Serializable {
     @Column(name = "user_id", nullable = false)
     private UUID userId;
 
+    @NotNull(message = "Tenant ID cannot be null")
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
+    @NotNull(message = "Task status cannot be null")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "task_status", nullable = false)
+    private TaskStatus taskStatus;
+
     @CreatedDate
     @Column(name = "assigned_at", nullable = false, updatable = false)
     private LocalDateTime assignedAt;
@@ -69,6 +80,7 @@ public class TaskAssignee implements Serializable {
         return "TaskAssignee{" +
                 "taskId=" + taskId +
                 ", userId=" + userId +
+                ", taskStatus=" + taskStatus +
                 ", assignedAt=" + assignedAt +
                 '}';
     }
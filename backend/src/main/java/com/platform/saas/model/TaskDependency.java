@@ -26,7 +26,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @IdClass(TaskDependencyId.class)
-public class TaskDependency implements Serializable {
+public class TaskDependency implements Serializable, TenantOwned {
 
     @Id
     @NotNull(message = "Blocking task ID cannot be null")
@@ -38,6 +38,10 @@ public class TaskDependency implements Serializable {
     @Column(name = "blocked_task_id", nullable = false)
     private UUID blockedTaskId;
 
+    @NotNull(message = "Tenant ID cannot be null")
+    @Column(name = "tenant_id", nullable = false)
+    private UUID tenantId;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -50,6 +54,14 @@ public class TaskDependency implements Serializable {
         this.blockedTaskId = blockedTaskId;
     }
 
+    /**
+     * Convenience constructor for creating task dependencies of a tenant.
+     */
+    public TaskDependency(UUID blockingTaskId, UUID blockedTaskId, UUID tenantId) {
+        this(blockingTaskId, blockedTaskId);
+        this.tenantId = tenantId;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -69,6 +81,7 @@ public class TaskDependency implements Serializable {
         return "TaskDependency{" +
                 "blockingTaskId=" + blockingTaskId +
                 ", blockedTaskId=" + blockedTaskId +
+                ", tenantId=" + tenantId +
                 ", createdAt=" + createdAt +
                 '}';
     }
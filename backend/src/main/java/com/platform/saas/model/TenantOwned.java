@@ -0,0 +1,14 @@
+package com.platform.saas.model;
+
+import java.util.UUID;
+
+/**
+ * An entity whose rows belong to one tenant and live on that tenant's shard.
+ */
+public interface TenantOwned {
+
+    /**
+     * @return The owning tenant's ID
+     */
+    UUID getTenantId();
+}
@@ -24,7 +24,7 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class UserTenant {
+public class UserTenant implements TenantOwned {
 
     @Id
     @Column(name = "user_id", nullable = false)
@@ -0,0 +1,52 @@
+package com.platform.saas.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters for published domain events.
+ *
+ * saas.events.publish times publishing (EventBridge call or local logging), tagged event type,
+ * destination, outcome and tier; event types are the fixed constants used by the services.
+ * saas.tenant.events counts events per tenant.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final TenantMetricTags tenantMetricTags;
+
+    /**
+     * Record a published event.
+     *
+     * @param tenantId The tenant ID
+     * @param eventType The event type (e.g., "task.created")
+     * @param destination "eventbridge" or "local"
+     * @param success Whether publishing succeeded
+     * @param durationNanos Publishing duration in nanoseconds
+     */
+    public void recordPublish(UUID tenantId, String eventType, String destination, boolean success, long durationNanos) {
+        Timer.builder("saas.events.publish")
+                .description("Event publishing latency")
+                .tag("event.type", eventType)
+                .tag("destination", destination)
+                .tag("outcome", success ? "success" : "failure")
+                .tag(TenantMetricTags.TIER_TAG, tenantMetricTags.tier(tenantId))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+
+        Counter.builder("saas.tenant.events")
+                .description("Published events per tenant")
+                .tags(tenantMetricTags.forTenant(tenantId))
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,93 @@
+package com.platform.saas.observability;
+
+import com.platform.saas.model.Tenant;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Meters for tenant quota checks.
+ *
+ * saas.quota.check times each check, tagged resource, outcome (allowed, exceeded or unlimited)
+ * and tier. saas.quota.usage records usage as a fraction of the limit per resource and tier, so
+ * tenants approaching their quota show up in the upper percentiles. saas.quota.exceeded counts
+ * rejections per tenant.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuotaMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final TenantMetricTags tenantMetricTags;
+
+    /**
+     * Record a finished quota check.
+     *
+     * @param tenant The tenant whose quota was checked
+     * @param resource The quota resource (e.g., "projects", "projects+tasks")
+     * @param usage Current usage, ignored when the tenant has no limit
+     * @param startNanos System.nanoTime() when the check started
+     */
+    public void recordCheck(Tenant tenant, String resource, long usage, long startNanos) {
+        record(tenant.getQuotaLimit(), resource, usage, startNanos,
+                tenantMetricTags.tier(tenant), () -> tenantMetricTags.forTenant(tenant));
+    }
+
+    /**
+     * Record a finished quota check of a tenant that was not loaded; tags are resolved by ID.
+     *
+     * @param tenantId The tenant whose quota was checked
+     * @param limit The tenant's quota limit, null when unlimited
+     * @param resource The quota resource (e.g., "projects", "projects+tasks")
+     * @param usage Current usage, ignored when the tenant has no limit
+     * @param startNanos System.nanoTime() when the check started
+     */
+    public void recordCheck(UUID tenantId, Integer limit, String resource, long usage, long startNanos) {
+        record(limit, resource, usage, startNanos,
+                tenantMetricTags.tier(tenantId), () -> tenantMetricTags.forTenant(tenantId));
+    }
+
+    private void record(Integer limit, String resource, long usage, long startNanos,
+                        String tier, Supplier<Tags> tenantTags) {
+        long duration = System.nanoTime() - startNanos;
+        String outcome = limit == null ? "unlimited" : usage >= limit ? "exceeded" : "allowed";
+
+        Timer.builder("saas.quota.check")
+                .description("Quota check latency")
+                .tag("resource", resource)
+                .tag("outcome", outcome)
+                .tag(TenantMetricTags.TIER_TAG, tier)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(duration, TimeUnit.NANOSECONDS);
+
+        if (limit == null || limit <= 0) {
+            return;
+        }
+
+        DistributionSummary.builder("saas.quota.usage")
+                .description("Quota usage as a fraction of the limit at check time")
+                .tag("resource", resource)
+                .tag(TenantMetricTags.TIER_TAG, tier)
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(meterRegistry)
+                .record((double) usage / limit);
+
+        if (usage >= limit) {
+            Counter.builder("saas.quota.exceeded")
+                    .description("Requests rejected because the tenant quota was reached")
+                    .tag("resource", resource)
+                    .tags(tenantTags.get())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
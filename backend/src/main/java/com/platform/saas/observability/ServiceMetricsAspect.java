@@ -0,0 +1,85 @@
+package com.platform.saas.observability;
+
+import com.platform.saas.security.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public method of the task, project, event and email services.
+ *
+ * Two timers are recorded per call:
+ * <ul>
+ *   <li>saas.service.calls - tagged service, method, outcome (success or the exception's simple
+ *       class name) and tier, with a percentile histogram for latency SLOs</li>
+ *   <li>saas.tenant.service.calls - tagged service, tenant and tier, without a histogram, to
+ *       find which tenant is slow or busy</li>
+ * </ul>
+ * Keeping the tenant tag off the histogram timer bounds the series count to
+ * methods x outcomes x tiers x buckets plus services x tracked tenants. Failing to record a call
+ * is logged and never replaces the call's own result or exception.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ServiceMetricsAspect {
+
+    static final String CALLS = "saas.service.calls";
+    static final String TENANT_CALLS = "saas.tenant.service.calls";
+
+    private final MeterRegistry meterRegistry;
+    private final TenantMetricTags tenantMetricTags;
+
+    @Around("execution(public * com.platform.saas.service.TaskService.*(..))"
+            + " || execution(public * com.platform.saas.service.ProjectService.*(..))"
+            + " || execution(public * com.platform.saas.service.EventPublisher.*(..))"
+            + " || execution(public * com.platform.saas.service.EmailService.*(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            outcome = t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            long duration = System.nanoTime() - start;
+            String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+            String method = joinPoint.getSignature().getName();
+            try {
+                record(service, method, outcome, duration);
+            } catch (RuntimeException e) {
+                log.warn("Failed to record metrics of {}.{}", service, method, e);
+            }
+        }
+    }
+
+    void record(String service, String method, String outcome, long durationNanos) {
+        UUID tenantId = TenantContext.getTenantId();
+        Timer.builder(CALLS)
+                .description("Service method latency")
+                .tag("service", service)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .tag(TenantMetricTags.TIER_TAG, tenantMetricTags.tier(tenantId))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+
+        Timer.builder(TENANT_CALLS)
+                .description("Service method latency per tenant")
+                .tag("service", service)
+                .tags(tenantMetricTags.forTenant(tenantId))
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,173 @@
+package com.platform.saas.observability;
+
+import com.platform.saas.cache.CacheInvalidationListener;
+import com.platform.saas.cache.CacheRegion;
+import com.platform.saas.model.Tenant;
+import com.platform.saas.repository.TenantRepository;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves "tenant" and "tier" metric tags with bounded cardinality.
+ *
+ * The tier tag is the tenant's subscription tier, so it has at most three values. The tenant tag is
+ * the tenant's subdomain for tenants listed in app.metrics.tenant-tags.include and for the first
+ * max-tenants other tenants seen by this instance; every further tenant is reported as "other".
+ * Requests without a tenant are tagged "none". Resolved tags are cached per tenant and evicted
+ * when the tenant changes (e.g. a tier upgrade); a tenant keeps its tag slot once assigned.
+ *
+ * Tags are recorded on every service call, including failed ones, so resolving them never throws:
+ * a tenant that cannot be loaded is reported as "other" without caching the result. The tenant is
+ * loaded outside of any map update, so a slow query never blocks lookups of other tenants.
+ */
+@Component
+@Slf4j
+public class TenantMetricTags implements CacheInvalidationListener {
+
+    public static final String TENANT_TAG = "tenant";
+    public static final String TIER_TAG = "tier";
+    public static final String OTHER = "other";
+    public static final String NONE = "none";
+
+    private static final TenantTags NO_TENANT = new TenantTags(NONE, NONE);
+    private static final TenantTags UNKNOWN_TENANT = new TenantTags(OTHER, NONE);
+
+    private final TenantRepository tenantRepository;
+    private final int maxTenants;
+    private final Set<String> included;
+    private final Map<UUID, TenantTags> tagsByTenant = new ConcurrentHashMap<>();
+    private final Set<UUID> trackedTenants = ConcurrentHashMap.newKeySet();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TenantMetricTags(
+            TenantRepository tenantRepository,
+            @Value("${app.metrics.tenant-tags.max-tenants:100}") int maxTenants,
+            @Value("${app.metrics.tenant-tags.include:}") List<String> included) {
+
+        this.tenantRepository = tenantRepository;
+        this.maxTenants = Math.max(0, maxTenants);
+        this.included = included.stream()
+                .map(String::trim)
+                .filter(subdomain -> !subdomain.isEmpty())
+                .map(String::toLowerCase)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Tags of a tenant, loading the tenant once if it has not been seen yet.
+     *
+     * @param tenantId The tenant ID (may be null)
+     * @return The tenant and tier tags
+     */
+    public Tags forTenant(UUID tenantId) {
+        return lookup(tenantId).tags();
+    }
+
+    /**
+     * Tags of an already loaded tenant; also primes the cache so later lookups by ID are free.
+     */
+    public Tags forTenant(Tenant tenant) {
+        return lookup(tenant).tags();
+    }
+
+    /**
+     * Tier tag only, for meters where a tenant tag would multiply histogram series.
+     */
+    public String tier(UUID tenantId) {
+        return lookup(tenantId).tier();
+    }
+
+    /**
+     * Tier tag of an already loaded tenant.
+     */
+    public String tier(Tenant tenant) {
+        return lookup(tenant).tier();
+    }
+
+    @Override
+    public void invalidate(CacheRegion region, UUID tenantId, String key) {
+        if (region == CacheRegion.TENANT) {
+            invalidations.incrementAndGet();
+            tagsByTenant.remove(tenantId);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        tagsByTenant.clear();
+    }
+
+    private TenantTags lookup(UUID tenantId) {
+        if (tenantId == null) {
+            return NO_TENANT;
+        }
+        TenantTags tags = tagsByTenant.get(tenantId);
+        if (tags != null) {
+            return tags;
+        }
+
+        long generation = invalidations.get();
+        try {
+            tags = tenantRepository.findById(tenantId).map(this::resolve).orElse(UNKNOWN_TENANT);
+        } catch (RuntimeException e) {
+            log.debug("Failed to load tenant {} for metric tags, reporting it as '{}'", tenantId, OTHER, e);
+            return UNKNOWN_TENANT;
+        }
+        if (invalidations.get() != generation) {
+            // The tenant changed while it was loaded; the next lookup loads it again
+            return tags;
+        }
+        TenantTags existing = tagsByTenant.putIfAbsent(tenantId, tags);
+        return existing != null ? existing : tags;
+    }
+
+    private TenantTags lookup(Tenant tenant) {
+        if (tenant == null || tenant.getId() == null) {
+            return NO_TENANT;
+        }
+        return tagsByTenant.computeIfAbsent(tenant.getId(), id -> resolve(tenant));
+    }
+
+    private TenantTags resolve(Tenant tenant) {
+        String tier = tenant.getSubscriptionTier() != null
+                ? tenant.getSubscriptionTier().name().toLowerCase()
+                : NONE;
+        return new TenantTags(tenantTag(tenant), tier);
+    }
+
+    private String tenantTag(Tenant tenant) {
+        String subdomain = tenant.getSubdomain();
+        if (subdomain == null) {
+            return OTHER;
+        }
+        if (included.contains(subdomain.toLowerCase()) || trackedTenants.contains(tenant.getId())) {
+            return subdomain;
+        }
+        synchronized (trackedTenants) {
+            if (trackedTenants.size() < maxTenants) {
+                trackedTenants.add(tenant.getId());
+                return subdomain;
+            }
+        }
+        log.debug("Tenant tag limit {} reached, reporting tenant {} as '{}'", maxTenants, subdomain, OTHER);
+        return OTHER;
+    }
+
+    private record TenantTags(String tenant, String tier, Tags tags) {
+
+        private TenantTags(String tenant, String tier) {
+            this(tenant, tier, Tags.of(TENANT_TAG, tenant, TIER_TAG, tier));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.platform.saas.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * SendEmail call to AWS SES. Recipients are not recorded.
+ */
+@Name("com.platform.saas.EmailSend")
+@Label("Email Send")
+@Description("SendEmail request to AWS SES")
+@Category({"SaaS Platform", "AWS"})
+@StackTrace(false)
+public class EmailSendEvent extends jdk.jfr.Event {
+
+    @Label("Tenant ID")
+    public String tenantId;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,30 @@
+package com.platform.saas.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * PutEvents call to AWS EventBridge.
+ */
+@Name("com.platform.saas.EventBridgePublish")
+@Label("EventBridge Publish")
+@Description("PutEvents request to AWS EventBridge")
+@Category({"SaaS Platform", "AWS"})
+@StackTrace(false)
+public class EventBridgePublishEvent extends jdk.jfr.Event {
+
+    @Label("Tenant ID")
+    public String tenantId;
+
+    @Label("Event Type")
+    public String eventType;
+
+    @Label("Failed Entries")
+    public int failedEntries;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,246 @@
+package com.platform.saas.observability.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Actuator endpoint to control Java Flight Recorder recordings.
+ *
+ * <ul>
+ *   <li>GET /actuator/flightrecorder - list recordings</li>
+ *   <li>POST /actuator/flightrecorder {"settings": "profile", "durationSeconds": 300} - start a
+ *       recording with the platform events enabled; settings is "default" or "profile"</li>
+ *   <li>POST /actuator/flightrecorder/{id} - stop a recording, keeping its data for download</li>
+ *   <li>GET /actuator/flightrecorder/{id} - download the recording as a .jfr file (a running
+ *       recording is snapshotted)</li>
+ *   <li>DELETE /actuator/flightrecorder/{id} - close a recording and discard its data</li>
+ * </ul>
+ *
+ * Recordings start from the chosen JDK settings with {@link #REDACTED_EVENTS} turned off, so they
+ * never contain environment variables, system properties, JVM arguments or the host's processes.
+ * Access is limited to platform operators in SecurityConfig; the endpoint is not exposed by default.
+ */
+@Component
+@WebEndpoint(id = "flightrecorder")
+@Slf4j
+public class FlightRecorderEndpoint {
+
+    private static final List<Class<? extends jdk.jfr.Event>> PLATFORM_EVENTS = List.of(
+            TenantResolutionEvent.class,
+            QuotaCheckEvent.class,
+            RepositoryCallEvent.class,
+            EventBridgePublishEvent.class,
+            EmailSendEvent.class);
+
+    /**
+     * JDK events that would copy secrets or host details into a recording.
+     */
+    static final List<String> REDACTED_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty",
+            "jdk.InitialSecurityProperty",
+            "jdk.JVMInformation",
+            "jdk.SystemProcess");
+
+    private final String defaultSettings;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+    private final int maxRunning;
+
+    public FlightRecorderEndpoint(
+            @Value("${app.jfr.settings:default}") String defaultSettings,
+            @Value("${app.jfr.max-age-seconds:900}") long maxAgeSeconds,
+            @Value("${app.jfr.max-size-mb:256}") long maxSizeMb,
+            @Value("${app.jfr.max-running:2}") int maxRunning) {
+
+        this.defaultSettings = defaultSettings;
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.maxRunning = maxRunning;
+    }
+
+    @ReadOperation
+    public List<RecordingDescriptor> recordings() {
+        if (!FlightRecorder.isAvailable()) {
+            return List.of();
+        }
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .map(RecordingDescriptor::of)
+                .toList();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<RecordingDescriptor> start(@Nullable String settings, @Nullable Long durationSeconds) {
+        if (!FlightRecorder.isAvailable()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        long running = FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getState() == RecordingState.RUNNING)
+                .count();
+        if (running >= maxRunning) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+
+        String settingsName = settings != null ? settings : defaultSettings;
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settingsName);
+        } catch (IOException | ParseException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+
+        Recording recording = new Recording(redacted(configuration));
+        recording.setName("saas-" + Instant.now());
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSizeBytes);
+        PLATFORM_EVENTS.forEach(event -> recording.enable(event));
+        if (durationSeconds != null && durationSeconds > 0) {
+            recording.setDuration(Duration.ofSeconds(durationSeconds));
+        }
+        recording.start();
+
+        log.info("Flight recording started: id={}, settings={}, durationSeconds={}",
+                recording.getId(), settingsName, durationSeconds);
+        return new WebEndpointResponse<>(RecordingDescriptor.of(recording));
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<RecordingDescriptor> stop(@Selector long id) {
+        Optional<Recording> recording = find(id);
+        if (recording.isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (recording.get().getState() == RecordingState.RUNNING) {
+            recording.get().stop();
+            log.info("Flight recording stopped: id={}", id);
+        }
+        return new WebEndpointResponse<>(RecordingDescriptor.of(recording.get()));
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Selector long id) throws IOException {
+        Optional<Recording> recording = find(id);
+        if (recording.isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (recording.get().getState() == RecordingState.NEW || recording.get().getState() == RecordingState.CLOSED) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+
+        Path file = Files.createTempFile("recording-" + id + "-", ".jfr");
+        try {
+            recording.get().dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return new WebEndpointResponse<>(new TemporaryFileResource(file));
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Void> close(@Selector long id) {
+        Optional<Recording> recording = find(id);
+        if (recording.isEmpty()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        recording.get().close();
+        log.info("Flight recording closed: id={}", id);
+        return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NO_CONTENT);
+    }
+
+    /**
+     * The settings of a JDK configuration with the redacted events disabled.
+     */
+    static Map<String, String> redacted(Configuration configuration) {
+        Map<String, String> settings = new HashMap<>(configuration.getSettings());
+        REDACTED_EVENTS.forEach(event -> settings.put(event + "#enabled", "false"));
+        return settings;
+    }
+
+    private Optional<Recording> find(long id) {
+        if (!FlightRecorder.isAvailable()) {
+            return Optional.empty();
+        }
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getId() == id)
+                .findFirst();
+    }
+
+    /**
+     * Summary of a recording.
+     */
+    public record RecordingDescriptor(
+            long id,
+            String name,
+            String state,
+            Instant startTime,
+            Instant stopTime,
+            Long durationSeconds,
+            long sizeBytes) {
+
+        static RecordingDescriptor of(Recording recording) {
+            Duration duration = recording.getDuration();
+            return new RecordingDescriptor(
+                    recording.getId(),
+                    recording.getName(),
+                    recording.getState().name(),
+                    recording.getStartTime(),
+                    recording.getStopTime(),
+                    duration != null ? duration.toSeconds() : null,
+                    recording.getSize());
+        }
+    }
+
+    /**
+     * Dump file that is deleted once the response has been streamed.
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        private TemporaryFileResource(Path path) {
+            super(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            Path path = getFile().toPath();
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(path);
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.platform.saas.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.UUID;
+
+/**
+ * Tenant quota check before creating a project or task.
+ */
+@Name("com.platform.saas.QuotaCheck")
+@Label("Quota Check")
+@Description("Tenant lookup and usage count of a quota check")
+@Category({"SaaS Platform", "Quota"})
+@StackTrace(false)
+public class QuotaCheckEvent extends jdk.jfr.Event {
+
+    @Label("Tenant ID")
+    public String tenantId;
+
+    @Label("Resource")
+    public String resource;
+
+    @Label("Usage")
+    public long usage;
+
+    @Label("Limit")
+    @Description("-1 when the tenant has no limit")
+    public long limit;
+
+    @Label("Exceeded")
+    public boolean exceeded;
+
+    /**
+     * Begin timing a quota check.
+     */
+    public static QuotaCheckEvent start(UUID tenantId, String resource) {
+        QuotaCheckEvent event = new QuotaCheckEvent();
+        if (event.isEnabled()) {
+            event.tenantId = String.valueOf(tenantId);
+            event.resource = resource;
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Finish and commit the event.
+     *
+     * @param usage Current usage
+     * @param limit The tenant's limit, or null when unlimited
+     */
+    public void complete(long usage, Integer limit) {
+        if (!isEnabled()) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            this.usage = usage;
+            this.limit = limit != null ? limit : -1;
+            this.exceeded = limit != null && usage >= limit;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.platform.saas.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A call through a Spring Data repository, including the SQL it runs.
+ * Calls shorter than the threshold are not recorded unless the recording settings lower it.
+ */
+@Name("com.platform.saas.RepositoryCall")
+@Label("Repository Call")
+@Description("Spring Data repository method invocation")
+@Category({"SaaS Platform", "Persistence"})
+@Threshold("1 ms")
+@StackTrace(false)
+public class RepositoryCallEvent extends jdk.jfr.Event {
+
+    @Label("Tenant ID")
+    public String tenantId;
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Failed")
+    public boolean failed;
+}
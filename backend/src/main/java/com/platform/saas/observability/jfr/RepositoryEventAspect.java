@@ -0,0 +1,58 @@
+package com.platform.saas.observability.jfr;
+
+import com.platform.saas.security.TenantContext;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Emits a {@link RepositoryCallEvent} for every Spring Data repository call.
+ *
+ * When the event type is disabled (no recording, or disabled in its settings) the advice only
+ * performs the isEnabled() check before proceeding.
+ */
+@Aspect
+@Component
+public class RepositoryEventAspect {
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object recordRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            event.failed = true;
+            throw t;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.tenantId = String.valueOf(TenantContext.getTenantId());
+                event.repository = repositoryName(joinPoint.getThis());
+                event.method = joinPoint.getSignature().getName();
+                event.commit();
+            }
+        }
+    }
+
+    private String repositoryName(Object proxy) {
+        if (proxy == null) {
+            return "unknown";
+        }
+        return repositoryNames.computeIfAbsent(proxy.getClass(), proxyClass -> {
+            Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(proxy);
+            return interfaces.length > 0 ? interfaces[0].getSimpleName() : proxyClass.getSimpleName();
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package com.platform.saas.observability.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Tenant lookup by subdomain in TenantContextFilter.
+ */
+@Name("com.platform.saas.TenantResolution")
+@Label("Tenant Resolution")
+@Description("Lookup of the request's tenant by subdomain")
+@Category({"SaaS Platform", "Request"})
+@StackTrace(false)
+public class TenantResolutionEvent extends jdk.jfr.Event {
+
+    @Label("Subdomain")
+    public String subdomain;
+
+    @Label("Tenant ID")
+    public String tenantId;
+
+    @Label("Outcome")
+    @Description("found, inactive or not_found")
+    public String outcome;
+}
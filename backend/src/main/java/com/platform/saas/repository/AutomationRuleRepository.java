@@ -6,7 +6,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -16,6 +18,30 @@ import java.util.UUID;
 @Repository
 public interface AutomationRuleRepository extends JpaRepository<AutomationRule, UUID> {
 
+    /**
+     * Find an automation rule by ID within a specific tenant.
+     * @param id The rule ID
+     * @param tenantId The tenant's ID
+     * @return Optional containing the rule if found within the tenant
+     */
+    Optional<AutomationRule> findByIdAndTenantId(UUID id, UUID tenantId);
+
+    /**
+     * Check whether an automation rule exists within a specific tenant.
+     * @param id The rule ID
+     * @param tenantId The tenant's ID
+     * @return true if the rule belongs to the tenant
+     */
+    boolean existsByIdAndTenantId(UUID id, UUID tenantId);
+
+    /**
+     * Find the automation rules of a tenant among the given IDs.
+     * @param ids The rule IDs
+     * @param tenantId The tenant's ID
+     * @return The rules that exist within the tenant
+     */
+    List<AutomationRule> findByIdInAndTenantId(Collection<UUID> ids, UUID tenantId);
+
     /**
      * Find all automation rules for a tenant.
      * @param tenantId The tenant's ID
@@ -93,4 +119,12 @@ public interface AutomationRuleRepository extends JpaRepository<AutomationRule,
     @Query("SELECT ar FROM AutomationRule ar WHERE ar.tenantId = :tenantId " +
            "ORDER BY ar.executionCount DESC LIMIT :limit")
     List<AutomationRule> findTopExecutedRules(@Param("tenantId") UUID tenantId, @Param("limit") int limit);
+
+    /**
+     * Sum persisted execution counts of all rules for a tenant.
+     * @param tenantId The tenant's ID
+     * @return Total number of recorded executions
+     */
+    @Query("SELECT COALESCE(SUM(ar.executionCount), 0) FROM AutomationRule ar WHERE ar.tenantId = :tenantId")
+    long sumExecutionCountByTenantId(@Param("tenantId") UUID tenantId);
 }
@@ -29,6 +29,15 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
      */
     Optional<Project> findByIdAndTenantId(UUID id, UUID tenantId);
 
+    /**
+     * Check that a project exists within a specific tenant without loading it.
+     * Selects on the primary key only, so no row is hydrated.
+     * @param id The project ID
+     * @param tenantId The tenant ID
+     * @return true if the project exists within the tenant
+     */
+    boolean existsByIdAndTenantId(UUID id, UUID tenantId);
+
     /**
      * Find all projects belonging to a tenant.
      * @param tenantId The tenant ID
@@ -0,0 +1,62 @@
+package com.platform.saas.repository;
+
+import com.platform.saas.model.Task;
+import com.platform.saas.model.TaskAssignee;
+import com.platform.saas.model.TaskAssigneeId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for TaskAssignee entity operations.
+ * Rows carry the task's tenant, so every query is tenant-scoped on the assignee table itself.
+ */
+@Repository
+public interface TaskAssigneeRepository extends JpaRepository<TaskAssignee, TaskAssigneeId> {
+
+    /**
+     * Find the assignees of a task.
+     * @param tenantId The tenant ID
+     * @param taskId The task ID
+     * @return Assignees in assignment order
+     */
+    List<TaskAssignee> findByTenantIdAndTaskIdOrderByAssignedAtAsc(UUID tenantId, UUID taskId);
+
+    /**
+     * Find the assignees of many tasks in one query.
+     * @param tenantId The tenant ID
+     * @param taskIds The task IDs
+     * @return Assignees of any of the tasks
+     */
+    List<TaskAssignee> findByTenantIdAndTaskIdIn(UUID tenantId, Collection<UUID> taskIds);
+
+    /**
+     * Find one keyset page of the tasks assigned to a user, ordered by (status, task ID).
+     * Reads idx_task_assignee_user from the position after the given key; the first page starts
+     * after ('', the nil UUID).
+     * @param userId The user ID
+     * @param tenantId The tenant ID
+     * @param statuses The task statuses to include
+     * @param afterStatus Status of the last task of the previous page
+     * @param afterTaskId ID of the last task of the previous page
+     * @param limit Maximum number of tasks
+     * @return The tasks of the page
+     */
+    @Query(value = "SELECT t.* FROM task_assignees a JOIN tasks t ON t.id = a.task_id " +
+                   "WHERE a.user_id = :userId AND a.tenant_id = :tenantId AND a.task_status IN (:statuses) " +
+                   "AND (a.task_status, a.task_id) > (:afterStatus, :afterTaskId) " +
+                   "ORDER BY a.task_status, a.task_id " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<Task> findAssignedTasks(@Param("userId") UUID userId,
+                                 @Param("tenantId") UUID tenantId,
+                                 @Param("statuses") Collection<String> statuses,
+                                 @Param("afterStatus") String afterStatus,
+                                 @Param("afterTaskId") UUID afterTaskId,
+                                 @Param("limit") int limit);
+}
@@ -0,0 +1,104 @@
+package com.platform.saas.repository;
+
+import com.platform.saas.model.TaskDependency;
+import com.platform.saas.model.TaskDependencyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for TaskDependency entity operations.
+ * Dependencies carry the tenant of their tasks (V11), which row-level security filters on; callers
+ * resolve the tasks within the tenant first, and project-wide queries join the blocked task for
+ * tenant scoping.
+ */
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, TaskDependencyId> {
+
+    /**
+     * Find the dependencies blocking a task.
+     * @param blockedTaskId The blocked task ID
+     * @return Dependencies whose blocked task is the given task
+     */
+    List<TaskDependency> findByBlockedTaskId(UUID blockedTaskId);
+
+    /**
+     * Find all dependencies between tasks of a project.
+     * @param tenantId The tenant ID
+     * @param projectId The project ID
+     * @return Dependencies whose blocked task belongs to the project
+     */
+    @Query("SELECT d FROM TaskDependency d, Task t " +
+           "WHERE t.id = d.blockedTaskId AND t.tenantId = :tenantId AND t.projectId = :projectId")
+    List<TaskDependency> findByProject(@Param("tenantId") UUID tenantId, @Param("projectId") UUID projectId);
+
+    /**
+     * Check whether a task is reachable from another by following dependencies to their blocked
+     * tasks. Adding the edge blocking -> blocked closes a cycle exactly when blocking is reachable
+     * from blocked. Walks the primary key index in one recursive statement.
+     * @param fromTaskId The task to start from
+     * @param toTaskId The task to look for
+     * @return true if toTaskId depends on fromTaskId, directly or transitively
+     */
+    @Query(value = "WITH RECURSIVE reachable(task_id) AS (" +
+                   "SELECT d.blocked_task_id FROM task_dependencies d WHERE d.blocking_task_id = :fromTaskId " +
+                   "UNION " +
+                   "SELECT d.blocked_task_id FROM task_dependencies d " +
+                   "JOIN reachable r ON d.blocking_task_id = r.task_id) " +
+                   "SELECT EXISTS (SELECT 1 FROM reachable WHERE task_id = :toTaskId)",
+           nativeQuery = true)
+    boolean isReachable(@Param("fromTaskId") UUID fromTaskId, @Param("toTaskId") UUID toTaskId);
+
+    /**
+     * Serialize dependency changes in one project: takes a transaction-scoped advisory lock on the
+     * project, held until the calling transaction ends, so two concurrent additions cannot each pass
+     * the cycle check against a graph that lacks the other's edge.
+     * Lock key: (1684369523 = 'deps', hashtext(project_id)).
+     * @param projectId The project ID
+     * @return Always 1
+     */
+    @Query(value = "SELECT count(*) FROM pg_advisory_xact_lock(1684369523, hashtext(CAST(:projectId AS text)))",
+           nativeQuery = true)
+    long lockProjectDependencies(@Param("projectId") UUID projectId);
+
+    /**
+     * Blocked dependents of a task, as read for unblocking.
+     */
+    interface BlockedDependent {
+        UUID getId();
+        String getName();
+        String getPriority();
+        String getBoardRank();
+    }
+
+    /**
+     * Find and lock the BLOCKED tasks that directly depend on a task. Walks the primary key from the
+     * blocking side; rows are locked in ID order so concurrent callers cannot deadlock.
+     * @param tenantId The tenant ID
+     * @param blockingTaskId The blocking task ID
+     * @return The blocked dependents, ordered by ID
+     */
+    @Query(value = "SELECT t.id AS id, t.name AS name, t.priority AS priority, t.board_rank AS \"boardRank\" " +
+                   "FROM task_dependencies d JOIN tasks t ON t.id = d.blocked_task_id " +
+                   "WHERE d.blocking_task_id = :blockingTaskId AND t.tenant_id = :tenantId AND t.status = 'BLOCKED' " +
+                   "ORDER BY t.id FOR UPDATE OF t",
+           nativeQuery = true)
+    List<BlockedDependent> findBlockedDependentsForUpdate(@Param("tenantId") UUID tenantId,
+                                                          @Param("blockingTaskId") UUID blockingTaskId);
+
+    /**
+     * Find the direct dependents of a task that still have a blocker other than COMPLETED.
+     * @param blockingTaskId The blocking task ID
+     * @return IDs of dependents with at least one open blocker
+     */
+    @Query(value = "SELECT DISTINCT o.blocked_task_id FROM task_dependencies d " +
+                   "JOIN task_dependencies o ON o.blocked_task_id = d.blocked_task_id " +
+                   "JOIN tasks b ON b.id = o.blocking_task_id " +
+                   "WHERE d.blocking_task_id = :blockingTaskId AND b.status <> 'COMPLETED'",
+           nativeQuery = true)
+    List<UUID> findDependentsWithOpenBlockers(@Param("blockingTaskId") UUID blockingTaskId);
+}
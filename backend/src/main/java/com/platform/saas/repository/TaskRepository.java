@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,6 +30,14 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
      */
     Optional<Task> findByIdAndTenantId(UUID id, UUID tenantId);
 
+    /**
+     * Find tasks by ID within a specific tenant; IDs of other tenants are skipped.
+     * @param tenantId The tenant ID
+     * @param ids The task IDs
+     * @return The tasks found within the tenant
+     */
+    List<Task> findByTenantIdAndIdIn(UUID tenantId, Collection<UUID> ids);
+
     /**
      * Find all tasks belonging to a tenant.
      * @param tenantId The tenant ID
@@ -61,6 +70,91 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
      */
     List<Task> findByTenantIdAndProjectIdAndStatus(UUID tenantId, UUID projectId, TaskStatus status);
 
+    /**
+     * Fetch the first tasks of every board column of a project in one statement.
+     * Each status is read as its own ordered, limited range of idx_task_board, so the cost depends
+     * on the limit rather than on the size of the project. Rows come back column by column in board
+     * order (board rank, then creation time and ID for unranked or tied rows).
+     * @param tenantId The tenant ID
+     * @param projectId The project ID
+     * @param perColumn Maximum tasks per status
+     * @return Up to perColumn tasks of each status
+     */
+    @Query(value = "SELECT c.* FROM (VALUES ('TODO', 1), ('IN_PROGRESS', 2), ('BLOCKED', 3), ('COMPLETED', 4)) " +
+                   "AS s(status, position) " +
+                   "CROSS JOIN LATERAL (SELECT t.* FROM tasks t " +
+                   "WHERE t.tenant_id = :tenantId AND t.project_id = :projectId AND t.status = s.status " +
+                   "ORDER BY t.board_rank, t.created_at, t.id LIMIT :perColumn) c " +
+                   "ORDER BY s.position, c.board_rank, c.created_at, c.id",
+           nativeQuery = true)
+    List<Task> findBoardColumns(@Param("tenantId") UUID tenantId,
+                                @Param("projectId") UUID projectId,
+                                @Param("perColumn") int perColumn);
+
+    /**
+     * Find the highest board rank in one column of a project.
+     * Answered from the end of the idx_task_board range.
+     * @param tenantId The tenant ID
+     * @param projectId The project ID
+     * @param status The column status
+     * @return The last rank, or null when the column has no ranked task
+     */
+    @Query("SELECT MAX(t.boardRank) FROM Task t " +
+           "WHERE t.tenantId = :tenantId AND t.projectId = :projectId AND t.status = :status")
+    String findLastBoardRank(@Param("tenantId") UUID tenantId,
+                             @Param("projectId") UUID projectId,
+                             @Param("status") TaskStatus status);
+
+    /**
+     * Find the lowest board rank above a rank in one column of a project.
+     * @param tenantId The tenant ID
+     * @param projectId The project ID
+     * @param status The column status
+     * @param rank The rank to look above
+     * @return The next higher rank, or null when none is higher
+     */
+    @Query("SELECT MIN(t.boardRank) FROM Task t " +
+           "WHERE t.tenantId = :tenantId AND t.projectId = :projectId AND t.status = :status " +
+           "AND t.boardRank > :rank")
+    String findNextBoardRank(@Param("tenantId") UUID tenantId,
+                             @Param("projectId") UUID projectId,
+                             @Param("status") TaskStatus status,
+                             @Param("rank") String rank);
+
+    /**
+     * Find the tasks sharing one board rank in a column, in board order.
+     * @param tenantId The tenant ID
+     * @param projectId The project ID
+     * @param status The column status
+     * @param boardRank The rank
+     * @return Tasks with that rank, ordered like the board
+     */
+    List<Task> findByTenantIdAndProjectIdAndStatusAndBoardRankOrderByCreatedAtAscIdAsc(
+            UUID tenantId, UUID projectId, TaskStatus status, String boardRank);
+
+    /**
+     * Serialize rank assignment in one board column: takes a transaction-scoped advisory lock on
+     * (project, status), held until the calling transaction ends, so ranks computed from the
+     * column's current ranks cannot collide with a concurrent create or move.
+     * Lock key: (1918987883 = 'rank', hashtext(project_id:status)).
+     * @param projectId The project ID
+     * @param status The column status
+     * @return Always 1
+     */
+    @Query(value = "SELECT count(*) FROM pg_advisory_xact_lock(1918987883, " +
+                   "hashtext(CAST(:projectId AS text) || ':' || :status))", nativeQuery = true)
+    long lockBoardColumn(@Param("projectId") UUID projectId, @Param("status") String status);
+
+    /**
+     * Fetch the scheduling fields of every task of a project, without loading the entities.
+     * @param tenantId The tenant ID
+     * @param projectId The project ID
+     * @return ID, status and due date of each task
+     */
+    @Query("SELECT t.id AS id, t.status AS status, t.dueDate AS dueDate FROM Task t " +
+           "WHERE t.tenantId = :tenantId AND t.projectId = :projectId")
+    List<ScheduleRow> findScheduleRows(@Param("tenantId") UUID tenantId, @Param("projectId") UUID projectId);
+
     /**
      * Find tasks by tenant and priority.
      * @param tenantId The tenant ID
@@ -71,12 +165,14 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
 
     /**
      * Find overdue tasks for a tenant.
+     * Served by the partial index idx_task_tenant_open_due, which only holds tasks that are not
+     * COMPLETED; keep the status predicate literal so the planner can match it.
      * @param tenantId The tenant ID
      * @param currentDate The current date
      * @return List of overdue tasks
      */
     @Query("SELECT t FROM Task t WHERE t.tenantId = :tenantId AND t.dueDate < :currentDate " +
-           "AND t.status != 'COMPLETED'")
+           "AND t.status <> 'COMPLETED'")
     List<Task> findOverdueTasks(@Param("tenantId") UUID tenantId, @Param("currentDate") LocalDate currentDate);
 
     /**
@@ -87,7 +183,7 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
      * @return List of overdue tasks
      */
     @Query("SELECT t FROM Task t WHERE t.tenantId = :tenantId AND t.projectId = :projectId " +
-           "AND t.dueDate < :currentDate AND t.status != 'COMPLETED'")
+           "AND t.dueDate < :currentDate AND t.status <> 'COMPLETED'")
     List<Task> findOverdueTasksForProject(@Param("tenantId") UUID tenantId,
                                           @Param("projectId") UUID projectId,
                                           @Param("currentDate") LocalDate currentDate);
@@ -117,4 +213,16 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
     @Query("SELECT AVG(t.progressPercentage) FROM Task t " +
            "WHERE t.tenantId = :tenantId AND t.projectId = :projectId")
     Double calculateAverageProgress(@Param("tenantId") UUID tenantId, @Param("projectId") UUID projectId);
+
+    /**
+     * Scheduling fields of a task, as read by {@link #findScheduleRows}.
+     */
+    interface ScheduleRow {
+
+        UUID getId();
+
+        TaskStatus getStatus();
+
+        LocalDate getDueDate();
+    }
 }
@@ -2,6 +2,8 @@ package com.platform.saas.repository;
 
 import com.platform.saas.model.Tenant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -27,4 +29,27 @@ public interface TenantRepository extends JpaRepository<Tenant, UUID> {
      * @return true if subdomain exists, false otherwise
      */
     boolean existsBySubdomain(String subdomain);
+
+    /**
+     * Quota limit and current usage of a tenant in one round-trip (see tenant_quota_usage in V6).
+     * For tenants with a limit this takes a per-tenant advisory lock held until the calling
+     * transaction ends, so it must run in the transaction that creates the resource.
+     * @param tenantId The tenant ID
+     * @return The limit and counts, or empty if the tenant does not exist
+     */
+    @Query(value = "SELECT quota_limit AS quotaLimit, project_count AS projectCount, task_count AS taskCount "
+            + "FROM tenant_quota_usage(:tenantId)", nativeQuery = true)
+    Optional<QuotaUsage> lockQuotaUsage(@Param("tenantId") UUID tenantId);
+
+    /**
+     * Result of {@link #lockQuotaUsage}. Counts are zero for tenants without a limit.
+     */
+    interface QuotaUsage {
+
+        Integer getQuotaLimit();
+
+        long getProjectCount();
+
+        long getTaskCount();
+    }
 }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -72,4 +73,13 @@ public interface UserTenantRepository extends JpaRepository<UserTenant, UserTena
      */
     @Query("SELECT COUNT(ut) FROM UserTenant ut WHERE ut.tenantId = :tenantId AND ut.role = 'ADMINISTRATOR'")
     long countAdministratorsByTenantId(@Param("tenantId") UUID tenantId);
+
+    /**
+     * Find which of the given users belong to a tenant.
+     * @param tenantId The tenant's ID
+     * @param userIds The user IDs to check
+     * @return The IDs of the given users that are members of the tenant
+     */
+    @Query("SELECT ut.userId FROM UserTenant ut WHERE ut.tenantId = :tenantId AND ut.userId IN :userIds")
+    List<UUID> findMemberUserIds(@Param("tenantId") UUID tenantId, @Param("userIds") Collection<UUID> userIds);
 }
@@ -38,6 +38,11 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    /**
+     * Cognito group of platform operators; granted as ROLE_PLATFORM_OPERATOR.
+     */
+    static final String PLATFORM_OPERATOR_GROUP = "PLATFORM_OPERATOR";
+
     @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}")
     private String jwkSetUri;
 
@@ -81,6 +86,11 @@ public class SecurityConfig {
                     "/actuator/info"
                 ).permitAll()
 
+                // Flight recordings cover the whole JVM, so they are limited to platform operators
+                // (Cognito group PLATFORM_OPERATOR), never to tenant roles
+                .requestMatchers("/actuator/flightrecorder", "/actuator/flightrecorder/**")
+                    .hasRole(PLATFORM_OPERATOR_GROUP)
+
                 // Internal API endpoints (Lambda triggers)
                 .requestMatchers("/api/internal/**")
                     .hasAuthority("INTERNAL_API")
@@ -133,11 +143,13 @@ public class SecurityConfig {
             // Get default authorities from cognito:groups
             Collection<GrantedAuthority> authorities = defaultConverter.convert(jwt);
 
-            // Extract custom claims for additional authorities
+            // Extract custom claims for additional authorities. ROLE_ authorities only come from
+            // Cognito groups, which tenants cannot assign themselves.
             List<String> customAuthorities = jwt.getClaimAsStringList("custom:authorities");
 
             if (customAuthorities != null && !customAuthorities.isEmpty()) {
                 Collection<GrantedAuthority> customGrantedAuthorities = customAuthorities.stream()
+                    .filter(authority -> !authority.startsWith("ROLE_"))
                     .map(SimpleGrantedAuthority::new)
                     .collect(Collectors.toList());
 
@@ -3,6 +3,7 @@ package com.platform.saas.security;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Thread-local storage for tenant context.
@@ -22,6 +23,7 @@ public class TenantContext {
 
     private static final ThreadLocal<UUID> TENANT_ID = new ThreadLocal<>();
     private static final ThreadLocal<String> TENANT_SUBDOMAIN = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> ACROSS_TENANTS = new ThreadLocal<>();
 
     /**
      * Set the current tenant ID for this thread.
@@ -100,21 +102,81 @@ public class TenantContext {
 
         TENANT_ID.remove();
         TENANT_SUBDOMAIN.remove();
+        ACROSS_TENANTS.remove();
+    }
+
+    /**
+     * Check if the thread runs explicitly cross-tenant work, see {@link #callAcrossTenants}.
+     *
+     * @return true inside callAcrossTenants without a tenant set since
+     */
+    public static boolean isAcrossTenants() {
+        return Boolean.TRUE.equals(ACROSS_TENANTS.get());
     }
 
     /**
      * Execute a block of code with a specific tenant context.
-     * Automatically clears context after execution.
+     * The previous context of the thread, if any, is restored afterwards.
      *
      * @param tenantId The tenant ID to use
      * @param action The action to execute
      */
     public static void executeWithTenantId(UUID tenantId, Runnable action) {
-        try {
-            setTenantId(tenantId);
+        callWithTenantId(tenantId, () -> {
             action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Compute a value with a specific tenant context, e.g. for background work that must reach the
+     * tenant's shard. The previous context of the thread, if any, is restored afterwards.
+     *
+     * @param tenantId The tenant ID to use
+     * @param action The action to execute
+     * @return The action's result
+     */
+    public static <T> T callWithTenantId(UUID tenantId, Supplier<T> action) {
+        return callWithContext(tenantId, false, action);
+    }
+
+    /**
+     * Compute a value without a tenant, for jobs that deliberately read or write the rows of every
+     * tenant (e.g. the overdue task scanner). Connections obtained inside bypass the row-level
+     * security policies, which otherwise admit no rows without a tenant. Work for one tenant inside
+     * the action must use {@link #callWithTenantId}. The previous context is restored afterwards.
+     *
+     * @param action The action to execute
+     * @return The action's result
+     */
+    public static <T> T callAcrossTenants(Supplier<T> action) {
+        return callWithContext(null, true, action);
+    }
+
+    private static <T> T callWithContext(UUID tenantId, boolean acrossTenants, Supplier<T> action) {
+        UUID previousTenantId = TENANT_ID.get();
+        String previousSubdomain = TENANT_SUBDOMAIN.get();
+        boolean previousAcrossTenants = isAcrossTenants();
+        try {
+            clear();
+            if (tenantId != null) {
+                setTenantId(tenantId);
+            }
+            if (acrossTenants) {
+                ACROSS_TENANTS.set(true);
+            }
+            return action.get();
         } finally {
             clear();
+            if (previousTenantId != null) {
+                TENANT_ID.set(previousTenantId);
+            }
+            if (previousSubdomain != null) {
+                TENANT_SUBDOMAIN.set(previousSubdomain);
+            }
+            if (previousAcrossTenants) {
+                ACROSS_TENANTS.set(true);
+            }
         }
     }
 
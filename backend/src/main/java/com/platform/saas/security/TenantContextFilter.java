@@ -1,7 +1,12 @@
 package com.platform.saas.security;
 
+import com.platform.saas.cache.TenantScopedCache;
 import com.platform.saas.model.Tenant;
+import com.platform.saas.observability.TenantMetricTags;
+import com.platform.saas.observability.jfr.TenantResolutionEvent;
 import com.platform.saas.repository.TenantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,18 +17,24 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Servlet filter that extracts tenant context from the request subdomain.
  *
  * This filter:
  * 1. Extracts the subdomain from the request host (e.g., "acme" from "acme.platform.com")
- * 2. Looks up the tenant in the database by subdomain
+ * 2. Looks up the tenant by subdomain (tenant cache, then database)
  * 3. Stores the tenant ID in TenantContext for the duration of the request
  * 4. Clears the context after request processing
  *
  * The tenant context is then available to all downstream components via TenantContext.getTenantId().
+ * Lookup latency is recorded as the saas.tenant.resolution timer, tagged by outcome and tier, and
+ * as a TenantResolutionEvent for flight recordings.
  *
  * URL Format:
  * - Production: https://{subdomain}.platform.com/api/...
@@ -34,9 +45,27 @@ import java.util.Optional;
 @Slf4j
 public class TenantContextFilter extends OncePerRequestFilter {
 
+    private static final int MAX_SUBDOMAINS = 10_000;
+
     @Autowired
     private TenantRepository tenantRepository;
 
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private TenantMetricTags tenantMetricTags;
+
+    @Autowired(required = false)
+    private TenantScopedCache<UUID, Tenant> tenantCache;
+
+    /**
+     * Candidate tenant IDs by subdomain. Never stale in effect: a hit is only used when the tenant
+     * loaded for it still has that subdomain, and evicting the tenant evicts the only data it
+     * points to.
+     */
+    private final Map<String, UUID> tenantIdsBySubdomain = new ConcurrentHashMap<>();
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -52,7 +81,11 @@ public class TenantContextFilter extends OncePerRequestFilter {
                 log.debug("Processing request for subdomain: {}", subdomain);
 
                 // Lookup tenant by subdomain
-                Optional<Tenant> tenantOpt = tenantRepository.findBySubdomain(subdomain);
+                TenantResolutionEvent resolutionEvent = new TenantResolutionEvent();
+                resolutionEvent.begin();
+                long lookupStart = System.nanoTime();
+                Optional<Tenant> tenantOpt = findTenant(subdomain);
+                recordResolution(subdomain, tenantOpt.orElse(null), System.nanoTime() - lookupStart, resolutionEvent);
 
                 if (tenantOpt.isPresent()) {
                     Tenant tenant = tenantOpt.get();
@@ -102,6 +135,66 @@ public class TenantContextFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * Tenant of a subdomain, served from the tenant cache when it is available.
+     *
+     * The cache is keyed by tenant ID, which a subdomain is first resolved to with a query by
+     * subdomain. Later requests load the tenant by ID through the cache, whose generation guard
+     * keeps a load that overlaps an eviction of the tenant from being stored.
+     */
+    private Optional<Tenant> findTenant(String subdomain) {
+        if (tenantCache == null) {
+            return tenantRepository.findBySubdomain(subdomain);
+        }
+        UUID tenantId = tenantIdsBySubdomain.get(subdomain);
+        if (tenantId != null) {
+            Optional<Tenant> cached = tenantCache.get(tenantId, tenantId, () -> tenantRepository.findById(tenantId))
+                    .filter(tenant -> subdomain.equals(tenant.getSubdomain()));
+            if (cached.isPresent()) {
+                return cached;
+            }
+        }
+
+        Optional<Tenant> tenant = tenantRepository.findBySubdomain(subdomain);
+        tenant.ifPresent(found -> {
+            if (tenantIdsBySubdomain.size() >= MAX_SUBDOMAINS) {
+                tenantIdsBySubdomain.clear();
+            }
+            tenantIdsBySubdomain.put(subdomain, found.getId());
+        });
+        return tenant;
+    }
+
+    /**
+     * Record tenant lookup latency as a timer and a JFR event. Also primes the tenant's metric
+     * tags for downstream meters.
+     */
+    private void recordResolution(String subdomain, Tenant tenant, long durationNanos, TenantResolutionEvent event) {
+        String outcome = tenant == null ? "not_found" : tenant.isActive() ? "found" : "inactive";
+        event.end();
+        if (event.shouldCommit()) {
+            event.subdomain = subdomain;
+            event.tenantId = tenant != null ? String.valueOf(tenant.getId()) : null;
+            event.outcome = outcome;
+            event.commit();
+        }
+
+        if (meterRegistry == null) {
+            return;
+        }
+        String tier = TenantMetricTags.NONE;
+        if (tenant != null && tenantMetricTags != null) {
+            tier = tenantMetricTags.tier(tenant);
+        }
+        Timer.builder("saas.tenant.resolution")
+                .description("Tenant lookup by subdomain")
+                .tag("outcome", outcome)
+                .tag(TenantMetricTags.TIER_TAG, tier)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Extract subdomain from HTTP request.
      *
@@ -112,7 +205,7 @@ public class TenantContextFilter extends OncePerRequestFilter {
      * @param request The HTTP request
      * @return The subdomain, or null if not found
      */
-    private String extractSubdomain(HttpServletRequest request) {
+    String extractSubdomain(HttpServletRequest request) {
         // Strategy 1: Check X-Tenant-Subdomain header (for local development)
         String subdomainHeader = request.getHeader("X-Tenant-Subdomain");
         if (subdomainHeader != null && !subdomainHeader.isEmpty()) {
@@ -171,6 +264,7 @@ public class TenantContextFilter extends OncePerRequestFilter {
                uri.startsWith("/api/auth/oauth") ||
                uri.startsWith("/actuator/health") ||
                uri.startsWith("/actuator/info") ||
+               uri.startsWith("/actuator/prometheus") ||
                uri.startsWith("/api/internal"); // Internal Lambda API
     }
 
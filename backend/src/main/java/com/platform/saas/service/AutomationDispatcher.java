@@ -0,0 +1,124 @@
+package com.platform.saas.service;
+
+import com.platform.saas.automation.ConditionCompiler;
+import com.platform.saas.cache.TenantScopedCache;
+import com.platform.saas.exception.InvalidConditionException;
+import com.platform.saas.model.AutomationRule;
+import com.platform.saas.repository.AutomationRuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Local automation engine used when EventBridge is disabled.
+ *
+ * Published events are queued on the AutomationScheduler after the publishing transaction
+ * commits; a worker then loads the tenant's active rules for the event type, evaluates their
+ * compiled conditions against the payload and runs the actions of matching rules. Currently only call_webhook actions are executed in-process.
+ * The task holds the tenant's scheduler slot until every webhook call it started, retries
+ * included, has completed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AutomationDispatcher {
+
+    private final AutomationRuleRepository automationRuleRepository;
+    private final AutomationScheduler automationScheduler;
+    private final RuleExecutionCounter ruleExecutionCounter;
+    private final WebhookActionExecutor webhookActionExecutor;
+    private final ConditionCompiler conditionCompiler;
+    private final TenantScopedCache<String, List<AutomationRule>> activeAutomationRuleCache;
+
+    /**
+     * Queue rule processing for an event. Runs after commit when called inside a transaction.
+     *
+     * @param tenantId The tenant ID
+     * @param eventType The event type (e.g., "task.status.changed")
+     * @param resourceId The resource ID that triggered the event
+     * @param resourceType The resource type (e.g., "project", "task")
+     * @param eventPayload The event payload
+     */
+    public void dispatch(
+            UUID tenantId,
+            String eventType,
+            UUID resourceId,
+            String resourceType,
+            Map<String, Object> eventPayload) {
+
+        if (tenantId == null || !automationScheduler.isEnabled()) {
+            return;
+        }
+
+        Supplier<CompletableFuture<Void>> task = () -> runRules(tenantId, eventType, resourceId, resourceType, eventPayload);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(tenantId, eventType, task);
+                }
+            });
+        } else {
+            enqueue(tenantId, eventType, task);
+        }
+    }
+
+    private void enqueue(UUID tenantId, String eventType, Supplier<CompletableFuture<Void>> task) {
+        if (!automationScheduler.submitAsync(tenantId, task)) {
+            log.warn("Automation queue full for tenant {}, event {} not processed", tenantId, eventType);
+        }
+    }
+
+    /**
+     * Run every active rule of the tenant that listens to the event type and whose
+     * conditions match the payload.
+     *
+     * @return Completes when the actions started for the event have completed
+     */
+    CompletableFuture<Void> runRules(
+            UUID tenantId,
+            String eventType,
+            UUID resourceId,
+            String resourceType,
+            Map<String, Object> eventPayload) {
+
+        List<AutomationRule> rules = activeAutomationRuleCache
+                .get(tenantId, eventType, () -> Optional.of(List.copyOf(
+                        automationRuleRepository.findByTenantIdAndEventTypeAndIsActive(tenantId, eventType, true))))
+                .orElse(List.of());
+
+        List<CompletableFuture<?>> actions = new ArrayList<>();
+        for (AutomationRule rule : rules) {
+            if (!conditionsMatch(rule, eventPayload)) {
+                continue;
+            }
+            if (WebhookActionExecutor.ACTION_TYPE.equals(rule.getActionType())) {
+                ruleExecutionCounter.recordExecution(tenantId, rule.getId());
+                actions.add(webhookActionExecutor.execute(rule, resourceId, resourceType, eventPayload));
+            } else {
+                log.debug("No in-process executor for action {} (rule {})", rule.getActionType(), rule.getId());
+            }
+        }
+        return CompletableFuture.allOf(actions.toArray(CompletableFuture[]::new));
+    }
+
+    private boolean conditionsMatch(AutomationRule rule, Map<String, Object> eventPayload) {
+        try {
+            return conditionCompiler.forRule(rule).matches(eventPayload);
+        } catch (InvalidConditionException e) {
+            log.warn("Skipping rule {} with invalid conditions: {}", rule.getId(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,441 @@
+package com.platform.saas.service;
+
+import com.platform.saas.cache.CacheInvalidationListener;
+import com.platform.saas.cache.CacheRegion;
+import com.platform.saas.model.SubscriptionTier;
+import com.platform.saas.model.Tenant;
+import com.platform.saas.repository.TenantRepository;
+import com.platform.saas.security.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Executes in-process automation work with fair scheduling across tenants.
+ *
+ * Each tenant has its own bounded FIFO queue. Workers pick the next task by deficit round robin:
+ * a tenant at the head of the rotation receives a quantum equal to its subscription tier weight
+ * and may run that many tasks before the next tenant's turn, so a tenant flooding its queue only
+ * delays its own automations. When a tenant's queue is full the overflow policy either rejects
+ * the new task or drops the tenant's oldest queued task.
+ *
+ * Asynchronous tasks ({@link #submitAsync}) keep their tenant's slot until the future they return
+ * completes, not just until the worker returns, so webhook calls and their retries count against
+ * the tenant. A tenant with max-in-flight-per-tenant unfinished tasks is skipped in the rotation
+ * until one of them completes.
+ *
+ * Queue depth is exposed per tenant via {@link #getQueueDepth} and as gauges per tier.
+ */
+@Service
+@Slf4j
+public class AutomationScheduler implements CacheInvalidationListener {
+
+    /**
+     * What to do when a tenant's queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Refuse the new task.
+         */
+        REJECT,
+
+        /**
+         * Discard the tenant's oldest queued task and accept the new one.
+         */
+        DROP_OLDEST
+    }
+
+    private final TenantRepository tenantRepository;
+    private final boolean enabled;
+    private final int workerCount;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final int maxInFlightPerTenant;
+    private final Map<SubscriptionTier, Integer> weights = new EnumMap<>(SubscriptionTier.class);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Map<UUID, TenantQueue> queues = new HashMap<>();
+    private final ArrayDeque<TenantQueue> rotation = new ArrayDeque<>();
+    private final Map<UUID, SubscriptionTier> tierByTenant = new ConcurrentHashMap<>();
+    private final Map<SubscriptionTier, Counter> rejectedCounters = new EnumMap<>(SubscriptionTier.class);
+    private final Map<SubscriptionTier, Counter> droppedCounters = new EnumMap<>(SubscriptionTier.class);
+
+    private final List<Thread> workers = new ArrayList<>();
+    private boolean running;
+
+    public AutomationScheduler(
+            TenantRepository tenantRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.automation.scheduler.enabled:true}") boolean enabled,
+            @Value("${app.automation.scheduler.worker-count:4}") int workerCount,
+            @Value("${app.automation.scheduler.queue-capacity:1000}") int queueCapacity,
+            @Value("${app.automation.scheduler.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+            @Value("${app.automation.scheduler.max-in-flight-per-tenant:2}") int maxInFlightPerTenant,
+            @Value("${app.automation.scheduler.weight.free:1}") int freeWeight,
+            @Value("${app.automation.scheduler.weight.pro:4}") int proWeight,
+            @Value("${app.automation.scheduler.weight.enterprise:8}") int enterpriseWeight) {
+
+        this.tenantRepository = tenantRepository;
+        this.enabled = enabled;
+        this.workerCount = workerCount;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.maxInFlightPerTenant = Math.max(1, maxInFlightPerTenant);
+        weights.put(SubscriptionTier.FREE, Math.max(1, freeWeight));
+        weights.put(SubscriptionTier.PRO, Math.max(1, proWeight));
+        weights.put(SubscriptionTier.ENTERPRISE, Math.max(1, enterpriseWeight));
+
+        for (SubscriptionTier tier : SubscriptionTier.values()) {
+            String tierTag = tier.name().toLowerCase();
+            Gauge.builder("automation.scheduler.queue.depth", this, scheduler -> scheduler.getQueueDepth(tier))
+                    .description("Queued automation tasks")
+                    .tag("tier", tierTag)
+                    .register(meterRegistry);
+            rejectedCounters.put(tier, Counter.builder("automation.scheduler.rejected")
+                    .description("Automation tasks rejected because the tenant queue was full")
+                    .tag("tier", tierTag)
+                    .register(meterRegistry));
+            droppedCounters.put(tier, Counter.builder("automation.scheduler.dropped")
+                    .description("Queued automation tasks discarded to make room for newer ones")
+                    .tag("tier", tierTag)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("automation.scheduler.active.tenants", this, AutomationScheduler::getActiveTenantCount)
+                .description("Tenants with queued automation tasks")
+                .register(meterRegistry);
+        Gauge.builder("automation.scheduler.in.flight", this, AutomationScheduler::getInFlightCount)
+                .description("Automation tasks started and not yet completed")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("In-process automation scheduler disabled");
+            return;
+        }
+        lock.lock();
+        try {
+            running = true;
+        } finally {
+            lock.unlock();
+        }
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual().name("automation-worker-" + i).start(this::workLoop));
+        }
+        log.info("Automation scheduler started: workers={}, queueCapacity={}, overflowPolicy={}, "
+                        + "maxInFlightPerTenant={}, weights={}",
+                workerCount, queueCapacity, overflowPolicy, maxInFlightPerTenant, weights);
+    }
+
+    /**
+     * Stop accepting work and let workers drain what is already queued.
+     */
+    @PreDestroy
+    public void stop() {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        int remaining = getTotalQueueDepth();
+        if (remaining > 0) {
+            log.warn("Automation scheduler stopped with {} queued tasks", remaining);
+            workers.forEach(Thread::interrupt);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queue a task for a tenant.
+     *
+     * @param tenantId The tenant the work belongs to
+     * @param task The work to run
+     * @return true if the task was queued; false if the scheduler is not running or the
+     *         tenant's queue is full and the overflow policy is REJECT
+     */
+    public boolean submit(UUID tenantId, Runnable task) {
+        return submitAsync(tenantId, () -> {
+            task.run();
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    /**
+     * Queue a task that completes asynchronously. The tenant's slot is held until the returned
+     * future completes.
+     *
+     * @param tenantId The tenant the work belongs to
+     * @param task Starts the work and returns its completion
+     * @return true if the task was queued; false if the scheduler is not running or the
+     *         tenant's queue is full and the overflow policy is REJECT
+     */
+    public boolean submitAsync(UUID tenantId, Supplier<? extends CompletionStage<?>> task) {
+        if (!enabled) {
+            return false;
+        }
+        SubscriptionTier tier = resolveTier(tenantId);
+
+        lock.lock();
+        try {
+            if (!running) {
+                return false;
+            }
+            TenantQueue queue = queues.computeIfAbsent(tenantId, TenantQueue::new);
+            queue.tier = tier;
+
+            if (queue.tasks.size() >= queueCapacity) {
+                if (overflowPolicy == OverflowPolicy.REJECT) {
+                    rejectedCounters.get(tier).increment();
+                    log.debug("Automation queue full for tenant {}, rejecting task", tenantId);
+                    return false;
+                }
+                queue.tasks.pollFirst();
+                droppedCounters.get(tier).increment();
+                log.debug("Automation queue full for tenant {}, dropping oldest task", tenantId);
+            }
+
+            queue.tasks.addLast(task);
+            if (!queue.scheduled) {
+                queue.scheduled = true;
+                rotation.addLast(queue);
+            }
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of tasks queued for a tenant.
+     */
+    public int getQueueDepth(UUID tenantId) {
+        lock.lock();
+        try {
+            TenantQueue queue = queues.get(tenantId);
+            return queue == null ? 0 : queue.tasks.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of tasks queued across all tenants.
+     */
+    public int getTotalQueueDepth() {
+        lock.lock();
+        try {
+            return queues.values().stream().mapToInt(queue -> queue.tasks.size()).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate(CacheRegion region, UUID tenantId, String key) {
+        if (region == CacheRegion.TENANT) {
+            tierByTenant.remove(tenantId);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        tierByTenant.clear();
+    }
+
+    /**
+     * Take the next task in deficit round robin order, waiting while all queues are empty or
+     * their tenants are at the in-flight limit.
+     *
+     * @return The next task, run with its tenant in {@link TenantContext} so that its reads and
+     *         writes reach the tenant's shard; it releases the tenant's slot once its work has
+     *         completed. Null once the scheduler is stopped and fully drained
+     */
+    Runnable next() throws InterruptedException {
+        lock.lockInterruptibly();
+        TenantQueue queue;
+        Supplier<? extends CompletionStage<?>> task;
+        try {
+            while ((queue = headBelowInFlightLimit()) == null) {
+                if (!running && rotation.isEmpty()) {
+                    return null;
+                }
+                notEmpty.await();
+            }
+
+            if (queue.deficit <= 0) {
+                queue.deficit += weights.get(queue.tier);
+            }
+            task = queue.tasks.pollFirst();
+            queue.deficit--;
+            queue.inFlight++;
+
+            if (queue.tasks.isEmpty()) {
+                rotation.pollFirst();
+                queue.scheduled = false;
+                queue.deficit = 0;
+            } else if (queue.deficit <= 0) {
+                rotation.addLast(rotation.pollFirst());
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        TenantQueue started = queue;
+        return () -> {
+            CompletionStage<?> completion;
+            try {
+                completion = TenantContext.callWithTenantId(started.tenantId, task);
+            } catch (RuntimeException e) {
+                release(started);
+                throw e;
+            }
+            if (completion == null) {
+                release(started);
+                return;
+            }
+            completion.whenComplete((result, failure) -> {
+                if (failure != null) {
+                    log.error("Automation task of tenant {} failed", started.tenantId, failure);
+                }
+                release(started);
+            });
+        };
+    }
+
+    /**
+     * Rotate tenants at the in-flight limit to the back and return the first one that may start a
+     * task, or null if there is none. Called with the lock held.
+     */
+    private TenantQueue headBelowInFlightLimit() {
+        for (int i = 0; i < rotation.size(); i++) {
+            TenantQueue head = rotation.peekFirst();
+            if (head.inFlight < maxInFlightPerTenant) {
+                return head;
+            }
+            rotation.addLast(rotation.pollFirst());
+        }
+        return null;
+    }
+
+    private void release(TenantQueue queue) {
+        lock.lock();
+        try {
+            queue.inFlight--;
+            if (queue.inFlight == 0 && queue.tasks.isEmpty()) {
+                queues.remove(queue.tenantId, queue);
+            }
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void workLoop() {
+        while (true) {
+            Runnable task;
+            try {
+                task = next();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (task == null) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Automation task failed", e);
+            }
+        }
+    }
+
+    private SubscriptionTier resolveTier(UUID tenantId) {
+        return tierByTenant.computeIfAbsent(tenantId, id -> tenantRepository.findById(id)
+                .map(Tenant::getSubscriptionTier)
+                .orElse(SubscriptionTier.FREE));
+    }
+
+    private int getQueueDepth(SubscriptionTier tier) {
+        lock.lock();
+        try {
+            return queues.values().stream()
+                    .filter(queue -> queue.tier == tier)
+                    .mapToInt(queue -> queue.tasks.size())
+                    .sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int getInFlightCount() {
+        lock.lock();
+        try {
+            return queues.values().stream().mapToInt(queue -> queue.inFlight).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int getActiveTenantCount() {
+        lock.lock();
+        try {
+            return rotation.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Pending work of one tenant. Guarded by the scheduler lock.
+     */
+    private static final class TenantQueue {
+
+        private final UUID tenantId;
+        private final ArrayDeque<Supplier<? extends CompletionStage<?>>> tasks = new ArrayDeque<>();
+        private SubscriptionTier tier = SubscriptionTier.FREE;
+        private int deficit;
+        private int inFlight;
+        private boolean scheduled;
+
+        private TenantQueue(UUID tenantId) {
+            this.tenantId = tenantId;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.platform.saas.service;
 
+import com.platform.saas.automation.ConditionCompiler;
+import com.platform.saas.cache.CacheInvalidationBus;
+import com.platform.saas.cache.CacheRegion;
 import com.platform.saas.model.AutomationRule;
 import com.platform.saas.model.EventLog;
 import com.platform.saas.repository.AutomationRuleRepository;
@@ -11,7 +14,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -26,11 +34,16 @@ public class AutomationService {
 
     private final AutomationRuleRepository automationRuleRepository;
     private final EventLogRepository eventLogRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final RuleExecutionCounter ruleExecutionCounter;
+    private final AutomationScheduler automationScheduler;
+    private final ConditionCompiler conditionCompiler;
 
     /**
      * Create a new automation rule.
      * @param rule The automation rule to create
      * @return The created automation rule
+     * @throws com.platform.saas.exception.InvalidConditionException if the conditions do not compile
      */
     public AutomationRule createRule(AutomationRule rule) {
         UUID tenantId = TenantContext.getTenantId();
@@ -41,6 +54,9 @@ public class AutomationService {
 
         log.info("Creating automation rule for tenant: {}", tenantId);
 
+        // Reject conditions that would fail at evaluation time
+        conditionCompiler.compile(rule.getConditions());
+
         // Ensure rule belongs to current tenant
         rule.setTenantId(tenantId);
 
@@ -53,6 +69,7 @@ public class AutomationService {
         }
 
         AutomationRule savedRule = automationRuleRepository.save(rule);
+        cacheInvalidationBus.publish(CacheRegion.AUTOMATION_RULE, tenantId, savedRule.getId());
         log.info("Automation rule created: id={}, name={}, event={}, action={}, tenant={}",
                 savedRule.getId(), savedRule.getName(), savedRule.getEventType(),
                 savedRule.getActionType(), tenantId);
@@ -69,8 +86,7 @@ public class AutomationService {
     public AutomationRule getRule(UUID ruleId) {
         UUID tenantId = TenantContext.getTenantId();
 
-        return automationRuleRepository.findById(ruleId)
-                .filter(rule -> rule.getTenantId().equals(tenantId))
+        return automationRuleRepository.findByIdAndTenantId(ruleId, tenantId)
                 .orElseThrow(() -> new RuntimeException("Automation rule not found: " + ruleId));
     }
 
@@ -107,13 +123,48 @@ public class AutomationService {
 
     /**
      * Get top executed automation rules for the current tenant.
+     * Execution counts include executions not yet flushed by RuleExecutionCounter.
      * @param limit Maximum number of rules to return
      * @return List of top executed rules
      */
     @Transactional(readOnly = true)
     public List<AutomationRule> getTopExecutedRules(int limit) {
         UUID tenantId = TenantContext.getTenantId();
-        return automationRuleRepository.findTopExecutedRules(tenantId, limit);
+        List<AutomationRule> topRules = automationRuleRepository.findTopExecutedRules(tenantId, limit);
+
+        Map<UUID, Long> pending = ruleExecutionCounter.getPendingCountsForTenant(tenantId);
+        if (pending.isEmpty()) {
+            return topRules;
+        }
+
+        // A rule outside the persisted top N can only overtake it through pending executions,
+        // so the candidates are the persisted top N plus every rule with a pending delta
+        List<AutomationRule> candidates = new ArrayList<>(topRules);
+        Set<UUID> missing = new HashSet<>(pending.keySet());
+        topRules.forEach(rule -> missing.remove(rule.getId()));
+        if (!missing.isEmpty()) {
+            candidates.addAll(automationRuleRepository.findByIdInAndTenantId(missing, tenantId));
+        }
+
+        candidates.forEach(rule -> mergePendingExecutions(rule, pending.getOrDefault(rule.getId(), 0L)));
+        return candidates.stream()
+                .sorted(Comparator.comparing(AutomationRule::getExecutionCount).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Total number of rule executions for the current tenant, including unflushed executions.
+     * @return The execution count
+     */
+    @Transactional(readOnly = true)
+    public long getTotalExecutionCount() {
+        UUID tenantId = TenantContext.getTenantId();
+        long persisted = automationRuleRepository.sumExecutionCountByTenantId(tenantId);
+        long pending = ruleExecutionCounter.getPendingCountsForTenant(tenantId).values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+        return persisted + pending;
     }
 
     /**
@@ -125,8 +176,7 @@ public class AutomationService {
     public AutomationRule updateRule(UUID ruleId, AutomationRule updatedRule) {
         UUID tenantId = TenantContext.getTenantId();
 
-        AutomationRule existing = automationRuleRepository.findById(ruleId)
-                .filter(rule -> rule.getTenantId().equals(tenantId))
+        AutomationRule existing = automationRuleRepository.findByIdAndTenantId(ruleId, tenantId)
                 .orElseThrow(() -> new RuntimeException("Automation rule not found: " + ruleId));
 
         // Update fields
@@ -140,6 +190,7 @@ public class AutomationService {
             existing.setActionType(updatedRule.getActionType());
         }
         if (updatedRule.getConditions() != null) {
+            conditionCompiler.compile(updatedRule.getConditions());
             existing.setConditions(updatedRule.getConditions());
         }
         if (updatedRule.getActionConfig() != null) {
@@ -150,6 +201,7 @@ public class AutomationService {
         }
 
         AutomationRule saved = automationRuleRepository.save(existing);
+        cacheInvalidationBus.publish(CacheRegion.AUTOMATION_RULE, tenantId, ruleId);
         log.info("Automation rule updated: id={}, tenant={}", ruleId, tenantId);
 
         return saved;
@@ -162,11 +214,12 @@ public class AutomationService {
     public void deleteRule(UUID ruleId) {
         UUID tenantId = TenantContext.getTenantId();
 
-        AutomationRule rule = automationRuleRepository.findById(ruleId)
-                .filter(r -> r.getTenantId().equals(tenantId))
+        AutomationRule rule = automationRuleRepository.findByIdAndTenantId(ruleId, tenantId)
                 .orElseThrow(() -> new RuntimeException("Automation rule not found: " + ruleId));
 
         automationRuleRepository.delete(rule);
+        ruleExecutionCounter.remove(ruleId);
+        cacheInvalidationBus.publish(CacheRegion.AUTOMATION_RULE, tenantId, ruleId);
         log.info("Automation rule deleted: id={}, tenant={}", ruleId, tenantId);
     }
 
@@ -179,12 +232,12 @@ public class AutomationService {
     public AutomationRule toggleRuleStatus(UUID ruleId, boolean isActive) {
         UUID tenantId = TenantContext.getTenantId();
 
-        AutomationRule rule = automationRuleRepository.findById(ruleId)
-                .filter(r -> r.getTenantId().equals(tenantId))
+        AutomationRule rule = automationRuleRepository.findByIdAndTenantId(ruleId, tenantId)
                 .orElseThrow(() -> new RuntimeException("Automation rule not found: " + ruleId));
 
         rule.setIsActive(isActive);
         AutomationRule saved = automationRuleRepository.save(rule);
+        cacheInvalidationBus.publish(CacheRegion.AUTOMATION_RULE, tenantId, ruleId);
 
         log.info("Automation rule status changed: id={}, active={}, tenant={}",
                 ruleId, isActive, tenantId);
@@ -202,6 +255,15 @@ public class AutomationService {
         return automationRuleRepository.countByTenantId(tenantId);
     }
 
+    /**
+     * Number of automation tasks queued for the current tenant and not yet started.
+     * @return The queue depth
+     */
+    public int getQueuedExecutionCount() {
+        UUID tenantId = TenantContext.getTenantId();
+        return automationScheduler.getQueueDepth(tenantId);
+    }
+
     /**
      * Get recent event logs for the current tenant.
      * @param limit Maximum number of logs to return
@@ -223,9 +285,9 @@ public class AutomationService {
         UUID tenantId = TenantContext.getTenantId();
 
         // Verify rule belongs to tenant
-        automationRuleRepository.findById(ruleId)
-                .filter(rule -> rule.getTenantId().equals(tenantId))
-                .orElseThrow(() -> new RuntimeException("Automation rule not found: " + ruleId));
+        if (!automationRuleRepository.existsByIdAndTenantId(ruleId, tenantId)) {
+            throw new RuntimeException("Automation rule not found: " + ruleId);
+        }
 
         return eventLogRepository.findByAutomationRuleId(ruleId);
     }
@@ -276,4 +338,19 @@ public class AutomationService {
         Double avg = eventLogRepository.getAverageExecutionDuration(tenantId);
         return avg != null ? avg : 0.0;
     }
+
+    /**
+     * Add pending executions to a loaded rule's statistics.
+     * Statistics columns are not updatable, so the merged values are never written back.
+     */
+    private void mergePendingExecutions(AutomationRule rule, long pendingCount) {
+        long persisted = rule.getExecutionCount() == null ? 0L : rule.getExecutionCount();
+        rule.setExecutionCount(persisted + pendingCount);
+
+        LocalDateTime pendingLastExecutedAt = ruleExecutionCounter.getPendingLastExecutedAt(rule.getId());
+        if (pendingLastExecutedAt != null
+                && (rule.getLastExecutedAt() == null || pendingLastExecutedAt.isAfter(rule.getLastExecutedAt()))) {
+            rule.setLastExecutedAt(pendingLastExecutedAt);
+        }
+    }
 }
@@ -0,0 +1,189 @@
+package com.platform.saas.service;
+
+/**
+ * Fractional-index keys that order tasks within a board column.
+ *
+ * A key is a string that sorts by plain character order (the column uses the "C" collation), so a
+ * card can be moved by writing one new key between its neighbours' keys; no other row changes. A
+ * key is an integer part followed by an optional fraction, both in base-62 digits. The integer
+ * part's head character encodes its length ('a' = 1 digit, 'b' = 2 ... and 'Z', 'Y' ... for the
+ * negative side), so appending to the end of a column only increments the integer and keys grow
+ * logarithmically; inserting between two keys extends the fraction. Fractions never end in '0', which
+ * keeps room below every key.
+ */
+final class BoardRanks {
+
+    static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    private static final char ZERO = DIGITS.charAt(0);
+    private static final char LAST = DIGITS.charAt(DIGITS.length() - 1);
+    private static final String SMALLEST_INTEGER = "A" + String.valueOf(ZERO).repeat(26);
+
+    private BoardRanks() {
+    }
+
+    /**
+     * A key that sorts strictly between two keys.
+     *
+     * @param before The key to sort after, or null for the start of the column
+     * @param after The key to sort before, or null for the end of the column
+     * @return The new key
+     * @throws IllegalArgumentException if a key is malformed or before does not sort below after
+     */
+    static String between(String before, String after) {
+        if (before != null) {
+            validate(before);
+        }
+        if (after != null) {
+            validate(after);
+        }
+        if (before != null && after != null && before.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("Rank " + before + " does not sort before " + after);
+        }
+
+        if (before == null) {
+            if (after == null) {
+                return "a" + ZERO;
+            }
+            String integer = integerPart(after);
+            String fraction = after.substring(integer.length());
+            if (integer.equals(SMALLEST_INTEGER)) {
+                return integer + midpoint("", fraction);
+            }
+            if (integer.compareTo(after) < 0) {
+                return integer;
+            }
+            String decremented = decrement(integer);
+            if (decremented == null) {
+                throw new IllegalArgumentException("Cannot rank before " + after);
+            }
+            return decremented;
+        }
+
+        String integer = integerPart(before);
+        String fraction = before.substring(integer.length());
+        if (after == null) {
+            String incremented = increment(integer);
+            return incremented != null ? incremented : integer + midpoint(fraction, null);
+        }
+
+        String afterInteger = integerPart(after);
+        if (integer.equals(afterInteger)) {
+            return integer + midpoint(fraction, after.substring(afterInteger.length()));
+        }
+        String incremented = increment(integer);
+        if (incremented == null) {
+            throw new IllegalArgumentException("Cannot rank after " + before);
+        }
+        return incremented.compareTo(after) < 0 ? incremented : integer + midpoint(fraction, null);
+    }
+
+    /**
+     * A fraction between two fractions, where lower may be empty and upper null for "no bound".
+     */
+    private static String midpoint(String lower, String upper) {
+        if (upper != null) {
+            // Copy the common prefix, treating missing digits of lower as zeros
+            int n = 0;
+            while (n < upper.length() && (n < lower.length() ? lower.charAt(n) : ZERO) == upper.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return upper.substring(0, n)
+                        + midpoint(n < lower.length() ? lower.substring(n) : "", upper.substring(n));
+            }
+        }
+
+        int lowerDigit = lower.isEmpty() ? 0 : digit(lower.charAt(0));
+        int upperDigit = upper != null ? digit(upper.charAt(0)) : DIGITS.length();
+        if (upperDigit - lowerDigit > 1) {
+            return String.valueOf(DIGITS.charAt((lowerDigit + upperDigit + 1) / 2));
+        }
+        if (upper != null && upper.length() > 1) {
+            return upper.substring(0, 1);
+        }
+        return DIGITS.charAt(lowerDigit) + midpoint(lower.isEmpty() ? "" : lower.substring(1), null);
+    }
+
+    private static String increment(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        for (int i = digits.length - 1; i >= 0; i--) {
+            int d = digit(digits[i]) + 1;
+            if (d < DIGITS.length()) {
+                digits[i] = DIGITS.charAt(d);
+                return head + new String(digits);
+            }
+            digits[i] = ZERO;
+        }
+        // Every digit carried: move to the next integer length
+        if (head == 'Z') {
+            return "a" + ZERO;
+        }
+        if (head == 'z') {
+            return null;
+        }
+        char nextHead = (char) (head + 1);
+        String rest = new String(digits);
+        return nextHead > 'a' ? nextHead + rest + ZERO : nextHead + rest.substring(1);
+    }
+
+    private static String decrement(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        for (int i = digits.length - 1; i >= 0; i--) {
+            int d = digit(digits[i]) - 1;
+            if (d >= 0) {
+                digits[i] = DIGITS.charAt(d);
+                return head + new String(digits);
+            }
+            digits[i] = LAST;
+        }
+        if (head == 'a') {
+            return "Z" + LAST;
+        }
+        if (head == 'A') {
+            return null;
+        }
+        char previousHead = (char) (head - 1);
+        String rest = new String(digits);
+        return previousHead < 'Z' ? previousHead + rest + LAST : previousHead + rest.substring(1);
+    }
+
+    private static void validate(String key) {
+        if (key.isEmpty() || key.equals(SMALLEST_INTEGER)) {
+            throw new IllegalArgumentException("Invalid rank: " + key);
+        }
+        String integer = integerPart(key);
+        for (int i = 1; i < key.length(); i++) {
+            digit(key.charAt(i));
+        }
+        if (key.length() > integer.length() && key.charAt(key.length() - 1) == ZERO) {
+            throw new IllegalArgumentException("Invalid rank: " + key);
+        }
+    }
+
+    private static String integerPart(String key) {
+        char head = key.charAt(0);
+        int length;
+        if (head >= 'a' && head <= 'z') {
+            length = head - 'a' + 2;
+        } else if (head >= 'A' && head <= 'Z') {
+            length = 'Z' - head + 2;
+        } else {
+            throw new IllegalArgumentException("Invalid rank: " + key);
+        }
+        if (length > key.length()) {
+            throw new IllegalArgumentException("Invalid rank: " + key);
+        }
+        return key.substring(0, length);
+    }
+
+    private static int digit(char c) {
+        int d = DIGITS.indexOf(c);
+        if (d < 0) {
+            throw new IllegalArgumentException("Invalid rank digit: " + c);
+        }
+        return d;
+    }
+}
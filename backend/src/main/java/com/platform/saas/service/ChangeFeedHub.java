@@ -0,0 +1,262 @@
+package com.platform.saas.service;
+
+import com.platform.saas.dto.ChangeEvent;
+import com.platform.saas.exception.ChangeFeedLimitExceededException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fan-out hub that pushes task and project change events to Server-Sent Events subscribers.
+ *
+ * Each subscription owns a small bounded queue drained by its own virtual thread, so thousands of
+ * idle connections cost a parked virtual thread each rather than a platform thread. Publishing
+ * never blocks: events are offered to every matching queue, and a subscriber whose queue is full
+ * is considered too slow and is disconnected (clients reconnect with EventSource semantics).
+ *
+ * Events are delivered after the surrounding transaction commits so subscribers never observe
+ * changes that were rolled back.
+ */
+@Service
+@Slf4j
+public class ChangeFeedHub {
+
+    private static final Object HEARTBEAT = new Object();
+
+    private final ConcurrentMap<UUID, Set<Subscription>> subscriptionsByTenant = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ScheduledExecutorService heartbeatScheduler;
+    private final int queueCapacity;
+    private final int maxSubscriptionsPerTenant;
+    private final long emitterTimeoutMs;
+
+    public ChangeFeedHub(
+            @Value("${app.change-feed.queue-capacity:256}") int queueCapacity,
+            @Value("${app.change-feed.max-subscriptions-per-tenant:1000}") int maxSubscriptionsPerTenant,
+            @Value("${app.change-feed.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${app.change-feed.heartbeat-interval-ms:25000}") long heartbeatIntervalMs) {
+        this.queueCapacity = queueCapacity;
+        this.maxSubscriptionsPerTenant = maxSubscriptionsPerTenant;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name("change-feed-heartbeat").factory());
+        this.heartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeats,
+                heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Open a change feed subscription for a tenant.
+     *
+     * @param tenantId The tenant ID
+     * @param projectId Optional project filter; null receives every change in the tenant
+     * @return The emitter bound to the HTTP response
+     * @throws ChangeFeedLimitExceededException if the tenant has too many open subscriptions
+     */
+    public SseEmitter subscribe(UUID tenantId, UUID projectId) {
+        if (tenantId == null) {
+            throw new IllegalStateException("Tenant context not set");
+        }
+
+        SseEmitter emitter = newEmitter(emitterTimeoutMs);
+        Subscription subscription = new Subscription(tenantId, projectId, emitter,
+                new ArrayBlockingQueue<>(queueCapacity));
+
+        subscriptionsByTenant.compute(tenantId, (id, subscriptions) -> {
+            Set<Subscription> tenantSubscriptions =
+                    subscriptions != null ? subscriptions : ConcurrentHashMap.newKeySet();
+            if (tenantSubscriptions.size() >= maxSubscriptionsPerTenant) {
+                throw new ChangeFeedLimitExceededException(tenantId, maxSubscriptionsPerTenant);
+            }
+            tenantSubscriptions.add(subscription);
+            return tenantSubscriptions;
+        });
+
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(() -> remove(subscription));
+        emitter.onError(e -> remove(subscription));
+
+        subscription.worker = Thread.ofVirtual()
+                .name("change-feed-" + tenantId)
+                .start(() -> drain(subscription));
+
+        log.debug("Change feed subscription opened: tenant={}, project={}, open={}",
+                tenantId, projectId, getSubscriptionCount(tenantId));
+        return emitter;
+    }
+
+    /**
+     * Publish a change to subscribers of the tenant once the current transaction commits.
+     * Never throws: a failure to fan out must not affect the write that produced the event.
+     */
+    public void publish(
+            UUID tenantId,
+            String eventType,
+            UUID resourceId,
+            String resourceType,
+            Map<String, Object> eventPayload) {
+
+        if (tenantId == null || !subscriptionsByTenant.containsKey(tenantId)) {
+            return;
+        }
+
+        ChangeEvent event = ChangeEvent.builder()
+                .sequence(sequence.incrementAndGet())
+                .tenantId(tenantId)
+                .eventType(eventType)
+                .resourceType(resourceType)
+                .resourceId(resourceId)
+                .projectId(resolveProjectId(resourceId, resourceType, eventPayload))
+                .payload(eventPayload)
+                .occurredAt(Instant.now())
+                .build();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcast(event);
+                }
+            });
+        } else {
+            broadcast(event);
+        }
+    }
+
+    /**
+     * Count open subscriptions for a tenant.
+     * @param tenantId The tenant ID
+     * @return Number of open subscriptions
+     */
+    public int getSubscriptionCount(UUID tenantId) {
+        Set<Subscription> subscriptions = subscriptionsByTenant.get(tenantId);
+        return subscriptions == null ? 0 : subscriptions.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        subscriptionsByTenant.values().forEach(subscriptions ->
+                subscriptions.forEach(subscription -> subscription.emitter.complete()));
+    }
+
+    /**
+     * Create the emitter for a subscription. Overridable in tests.
+     */
+    SseEmitter newEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    void broadcast(ChangeEvent event) {
+        Set<Subscription> subscriptions = subscriptionsByTenant.get(event.getTenantId());
+        if (subscriptions == null) {
+            return;
+        }
+
+        for (Subscription subscription : subscriptions) {
+            if (subscription.matches(event) && !subscription.queue.offer(event)) {
+                log.warn("Dropping slow change feed consumer: tenant={}, queued={}",
+                        subscription.tenantId, subscription.queue.size());
+                remove(subscription);
+                subscription.emitter.complete();
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        subscriptionsByTenant.values().forEach(subscriptions ->
+                subscriptions.forEach(subscription -> subscription.queue.offer(HEARTBEAT)));
+    }
+
+    private void drain(Subscription subscription) {
+        try {
+            while (!subscription.closed) {
+                Object next = subscription.queue.take();
+                if (next == HEARTBEAT) {
+                    subscription.emitter.send(SseEmitter.event().comment("keep-alive"));
+                } else {
+                    ChangeEvent event = (ChangeEvent) next;
+                    subscription.emitter.send(SseEmitter.event()
+                            .id(Long.toString(event.getSequence()))
+                            .name(event.getEventType())
+                            .data(event, MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Change feed subscriber disconnected: tenant={}, reason={}",
+                    subscription.tenantId, e.getMessage());
+            remove(subscription);
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        subscription.closed = true;
+        subscriptionsByTenant.computeIfPresent(subscription.tenantId, (id, subscriptions) -> {
+            subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+        Thread worker = subscription.worker;
+        if (worker != null && worker != Thread.currentThread()) {
+            worker.interrupt();
+        }
+    }
+
+    private UUID resolveProjectId(UUID resourceId, String resourceType, Map<String, Object> payload) {
+        if ("project".equals(resourceType)) {
+            return resourceId;
+        }
+        Object projectId = payload == null ? null : payload.get("projectId");
+        if (projectId == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(projectId.toString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * One open SSE connection with its delivery queue.
+     */
+    private static final class Subscription {
+
+        private final UUID tenantId;
+        private final UUID projectId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Object> queue;
+        private volatile Thread worker;
+        private volatile boolean closed;
+
+        private Subscription(UUID tenantId, UUID projectId, SseEmitter emitter, BlockingQueue<Object> queue) {
+            this.tenantId = tenantId;
+            this.projectId = projectId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        private boolean matches(ChangeEvent event) {
+            return !closed && (projectId == null || projectId.equals(event.getProjectId()));
+        }
+    }
+}
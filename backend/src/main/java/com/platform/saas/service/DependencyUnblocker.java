@@ -0,0 +1,124 @@
+package com.platform.saas.service;
+
+import com.platform.saas.model.Task;
+import com.platform.saas.model.TaskStatus;
+import com.platform.saas.repository.TaskDependencyRepository;
+import com.platform.saas.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Moves BLOCKED tasks to TODO once every task blocking them is COMPLETED.
+ *
+ * Runs in the transaction that completes a task and only looks at that task's direct dependents,
+ * found through the dependency primary key, so the cost follows the fan-out of the completed task
+ * rather than the size of the project. Unblocked tasks become TODO, so nothing cascades further.
+ *
+ * The dependents are locked before their other blockers are checked: when two blockers of a task
+ * complete concurrently, the second transaction waits for the first and then sees its completion,
+ * so the task cannot be left BLOCKED by both.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DependencyUnblocker {
+
+    private static final String UNBLOCK_SQL =
+            "UPDATE tasks SET status = 'TODO', board_rank = ? WHERE id = ? AND tenant_id = ? AND status = 'BLOCKED'";
+
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final TaskRepository taskRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EventPublisher eventPublisher;
+
+    /**
+     * Unblock the dependents of a task that has just been completed.
+     * All of them are updated in one JDBC batch and announced with one batch per event type.
+     * @param completed The completed task, saved in the current transaction
+     * @return IDs of the tasks moved from BLOCKED to TODO
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<UUID> unblockDependents(Task completed) {
+        UUID tenantId = completed.getTenantId();
+
+        List<TaskDependencyRepository.BlockedDependent> dependents =
+                taskDependencyRepository.findBlockedDependentsForUpdate(tenantId, completed.getId());
+        if (dependents.isEmpty()) {
+            return List.of();
+        }
+        Set<UUID> stillBlocked = new HashSet<>(taskDependencyRepository.findDependentsWithOpenBlockers(completed.getId()));
+        List<TaskDependencyRepository.BlockedDependent> unblocked = dependents.stream()
+                .filter(dependent -> !stillBlocked.contains(dependent.getId()))
+                .toList();
+        if (unblocked.isEmpty()) {
+            return List.of();
+        }
+
+        // Append to the end of the TODO column, one rank per task, under the column lock
+        taskRepository.lockBoardColumn(completed.getProjectId(), TaskStatus.TODO.name());
+        String rank = taskRepository.findLastBoardRank(tenantId, completed.getProjectId(), TaskStatus.TODO);
+        List<Object[]> rows = new ArrayList<>(unblocked.size());
+        Map<UUID, Map<String, Object>> updatedPayloads = new LinkedHashMap<>();
+        Map<UUID, Map<String, Object>> statusPayloads = new LinkedHashMap<>();
+        for (TaskDependencyRepository.BlockedDependent dependent : unblocked) {
+            rank = BoardRanks.between(rank, null);
+            rows.add(new Object[] {rank, dependent.getId(), tenantId});
+            updatedPayloads.put(dependent.getId(), buildUpdatedPayload(completed, dependent, rank));
+            statusPayloads.put(dependent.getId(), buildStatusChangedPayload(completed, dependent));
+        }
+        jdbcTemplate.batchUpdate(UNBLOCK_SQL, rows);
+
+        log.info("Tasks unblocked: completed={}, unblocked={}, stillBlocked={}, tenant={}",
+                completed.getId(), unblocked.size(), dependents.size() - unblocked.size(), tenantId);
+
+        eventPublisher.publishEvents(tenantId, "task.updated", "task", updatedPayloads);
+        eventPublisher.publishEvents(tenantId, "task.status.changed", "task", statusPayloads);
+
+        return new ArrayList<>(statusPayloads.keySet());
+    }
+
+    private Map<String, Object> buildUpdatedPayload(Task completed, TaskDependencyRepository.BlockedDependent dependent,
+                                                    String newRank) {
+        Map<String, Object> rankChange = new HashMap<>();
+        rankChange.put("old", dependent.getBoardRank());
+        rankChange.put("new", newRank);
+        Map<String, Object> changes = new HashMap<>();
+        changes.put("status", Map.of("old", TaskStatus.BLOCKED.toString(), "new", TaskStatus.TODO.toString()));
+        changes.put("boardRank", rankChange);
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("taskId", dependent.getId().toString());
+        payload.put("projectId", completed.getProjectId().toString());
+        payload.put("name", dependent.getName());
+        payload.put("status", TaskStatus.TODO.toString());
+        payload.put("changes", changes);
+        payload.put("unblockedBy", completed.getId().toString());
+        return payload;
+    }
+
+    private Map<String, Object> buildStatusChangedPayload(Task completed,
+                                                          TaskDependencyRepository.BlockedDependent dependent) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("taskId", dependent.getId().toString());
+        payload.put("projectId", completed.getProjectId().toString());
+        payload.put("name", dependent.getName());
+        payload.put("oldStatus", TaskStatus.BLOCKED.toString());
+        payload.put("newStatus", TaskStatus.TODO.toString());
+        payload.put("priority", dependent.getPriority());
+        payload.put("unblockedBy", completed.getId().toString());
+        return payload;
+    }
+}
@@ -1,5 +1,7 @@
 package com.platform.saas.service;
 
+import com.platform.saas.observability.jfr.EmailSendEvent;
+import com.platform.saas.security.TenantContext;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -80,7 +82,7 @@ public class EmailService {
                     .source(fromEmail)
                     .build();
 
-            SendEmailResponse response = sesClient.sendEmail(emailRequest);
+            SendEmailResponse response = send(emailRequest);
             log.info("Email sent successfully to {}. Message ID: {}", to, response.messageId());
         } catch (SesException e) {
             log.error("Failed to send email to {}: {} (Error code: {})",
@@ -132,7 +134,7 @@ public class EmailService {
                     .source(fromEmail)
                     .build();
 
-            SendEmailResponse response = sesClient.sendEmail(emailRequest);
+            SendEmailResponse response = send(emailRequest);
             log.info("Email sent successfully to {}. Message ID: {}", to, response.messageId());
         } catch (SesException e) {
             log.error("Failed to send email to {}: {} (Error code: {})",
@@ -143,4 +145,25 @@ public class EmailService {
             throw new RuntimeException("Failed to send email", e);
         }
     }
+
+    /**
+     * Call SES, recording the call as an EmailSendEvent.
+     */
+    private SendEmailResponse send(SendEmailRequest emailRequest) {
+        EmailSendEvent event = new EmailSendEvent();
+        event.begin();
+        boolean failed = true;
+        try {
+            SendEmailResponse response = sesClient.sendEmail(emailRequest);
+            failed = false;
+            return response;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.tenantId = String.valueOf(TenantContext.getTenantId());
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
 }
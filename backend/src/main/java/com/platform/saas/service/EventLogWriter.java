@@ -0,0 +1,283 @@
+package com.platform.saas.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.saas.model.EventLog;
+import com.platform.saas.security.TenantContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Optional asynchronous writer for event log records.
+ *
+ * When enabled, EventPublisher hands records to a bounded lock-free queue instead of inserting
+ * them in the caller's transaction. Capacity is reserved at submit time and the record is queued
+ * only after the caller's transaction commits, so rolled-back writes leave no log rows. A single
+ * background thread drains the queue in multi-row INSERT batches, one per tenant, each written
+ * with the tenant in {@link TenantContext} so that it reaches the tenant's shard.
+ *
+ * Event types listed as durable, and any record submitted while the queue is full, are rejected
+ * so the caller writes them synchronously. Records still queued at shutdown are flushed.
+ */
+@Service
+@Slf4j
+public class EventLogWriter {
+
+    private static final String INSERT_PREFIX = "INSERT INTO event_logs (id, tenant_id, automation_rule_id, "
+            + "event_type, action_type, status, event_payload, action_result, resource_id, resource_type, "
+            + "error_message, error_stack_trace, execution_duration_ms, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?::jsonb, ?::jsonb, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean asyncEnabled;
+    private final Set<String> durableEventTypes;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalMs;
+
+    private final Queue<EventLog> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong overflowCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public EventLogWriter(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            @Value("${app.event-log.async.enabled:false}") boolean asyncEnabled,
+            @Value("${app.event-log.async.durable-event-types:}") Set<String> durableEventTypes,
+            @Value("${app.event-log.async.queue-capacity:10000}") int capacity,
+            @Value("${app.event-log.async.batch-size:500}") int batchSize,
+            @Value("${app.event-log.async.flush-interval-ms:200}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.asyncEnabled = asyncEnabled;
+        this.durableEventTypes = Set.copyOf(durableEventTypes);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!asyncEnabled) {
+            return;
+        }
+        running = true;
+        writerThread = Thread.ofVirtual().name("event-log-writer").start(this::writeLoop);
+        log.info("Async event log writer started: capacity={}, batchSize={}, durableTypes={}",
+                capacity, batchSize, durableEventTypes);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            LockSupport.unpark(writerThread);
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Submit an event log record for asynchronous insertion.
+     *
+     * @param eventLog The record to write
+     * @return true if the record will be written asynchronously; false if the caller must save it
+     *         synchronously (async disabled, durable event type, or queue full)
+     */
+    public boolean submit(EventLog eventLog) {
+        if (!asyncEnabled || durableEventTypes.contains(eventLog.getEventType())) {
+            return false;
+        }
+        if (!reserve()) {
+            overflowCount.incrementAndGet();
+            log.debug("Event log queue full, writing synchronously: {}", eventLog.getEventType());
+            return false;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        enqueue(eventLog);
+                    } else {
+                        reserved.decrementAndGet();
+                    }
+                }
+            });
+        } else {
+            enqueue(eventLog);
+        }
+        return true;
+    }
+
+    /**
+     * Write every queued record now. Used by the writer thread and at shutdown.
+     * @return Number of records written
+     */
+    public int flush() {
+        int total = 0;
+        List<EventLog> batch;
+        while (!(batch = drain()).isEmpty()) {
+            Map<UUID, List<EventLog>> byTenant = new LinkedHashMap<>();
+            batch.forEach(eventLog -> byTenant.computeIfAbsent(eventLog.getTenantId(), id -> new ArrayList<>())
+                    .add(eventLog));
+            for (Map.Entry<UUID, List<EventLog>> tenantBatch : byTenant.entrySet()) {
+                total += TenantContext.callWithTenantId(tenantBatch.getKey(), () -> insertBatch(tenantBatch.getValue()));
+            }
+        }
+        return total;
+    }
+
+    public int getQueueDepth() {
+        return reserved.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getOverflowCount() {
+        return overflowCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    private boolean reserve() {
+        while (true) {
+            int current = reserved.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (reserved.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void enqueue(EventLog eventLog) {
+        queue.offer(eventLog);
+        Thread writer = writerThread;
+        if (writer != null && reserved.get() >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private List<EventLog> drain() {
+        List<EventLog> batch = new ArrayList<>(Math.min(batchSize, 64));
+        EventLog next;
+        while (batch.size() < batchSize && (next = queue.poll()) != null) {
+            batch.add(next);
+        }
+        reserved.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private void writeLoop() {
+        while (running) {
+            try {
+                if (flush() == 0) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMs));
+                }
+            } catch (RuntimeException e) {
+                log.error("Event log writer iteration failed", e);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMs));
+            }
+        }
+    }
+
+    /**
+     * Insert a batch with a single multi-row INSERT, falling back to row-by-row on failure so one
+     * bad record does not lose the whole batch.
+     */
+    int insertBatch(List<EventLog> batch) {
+        try {
+            jdbcTemplate.update(INSERT_PREFIX + String.join(", ", Collections.nCopies(batch.size(), ROW_PLACEHOLDERS)),
+                    batch.stream().flatMap(eventLog -> rowValues(eventLog).stream()).toArray());
+            writtenCount.addAndGet(batch.size());
+            return batch.size();
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                failedCount.incrementAndGet();
+                log.error("Failed to write event log: type={}, tenant={}",
+                        batch.get(0).getEventType(), batch.get(0).getTenantId(), e);
+                return 0;
+            }
+            log.warn("Batch insert of {} event logs failed, retrying row by row: {}", batch.size(), e.getMessage());
+            int written = 0;
+            for (EventLog eventLog : batch) {
+                written += insertBatch(List.of(eventLog));
+            }
+            return written;
+        }
+    }
+
+    private List<Object> rowValues(EventLog eventLog) {
+        if (eventLog.getId() == null) {
+            eventLog.setId(UUID.randomUUID());
+        }
+        LocalDateTime createdAt = eventLog.getCreatedAt() != null ? eventLog.getCreatedAt() : LocalDateTime.now();
+
+        List<Object> values = new ArrayList<>(14);
+        values.add(eventLog.getId());
+        values.add(eventLog.getTenantId());
+        values.add(eventLog.getAutomationRuleId());
+        values.add(eventLog.getEventType());
+        values.add(eventLog.getActionType());
+        values.add(eventLog.getStatus().name());
+        values.add(toJson(eventLog.getEventPayload()));
+        values.add(toJson(eventLog.getActionResult()));
+        values.add(eventLog.getResourceId());
+        values.add(eventLog.getResourceType());
+        values.add(eventLog.getErrorMessage());
+        values.add(eventLog.getErrorStackTrace());
+        values.add(eventLog.getExecutionDurationMs());
+        values.add(Timestamp.valueOf(createdAt));
+        return values;
+    }
+
+    private String toJson(Map<String, Object> value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event log payload is not serializable", e);
+        }
+    }
+}
@@ -1,21 +1,32 @@
 package com.platform.saas.service;
 
 import com.platform.saas.model.EventLog;
+import com.platform.saas.observability.EventMetrics;
+import com.platform.saas.observability.jfr.EventBridgePublishEvent;
 import com.platform.saas.repository.EventLogRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
 import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
 import software.amazon.awssdk.services.eventbridge.model.PutEventsRequestEntry;
 import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service for publishing events to AWS EventBridge and logging them locally.
@@ -23,23 +34,49 @@ import java.util.UUID;
  *
  * When EventBridge is disabled, events are only logged locally and can be
  * processed by a local automation engine.
+ *
+ * EventBridge calls never run inside the caller's transaction: events published in a transaction
+ * are sent once it has committed, with their log records written in a transaction of their own.
+ * The caller's row and advisory locks (e.g. the tenant quota lock) are thus never held across the
+ * network call, and rolled-back work publishes nothing.
  */
 @Service
 @Slf4j
 public class EventPublisher {
 
+    /**
+     * Maximum number of entries EventBridge accepts in one PutEvents request.
+     */
+    static final int EVENTBRIDGE_BATCH_SIZE = 10;
+
     private final EventBridgeClient eventBridgeClient;
     private final EventLogRepository eventLogRepository;
+    private final EventLogWriter eventLogWriter;
+    private final ChangeFeedHub changeFeedHub;
+    private final AutomationDispatcher automationDispatcher;
+    private final EventMetrics eventMetrics;
     private final String eventBusName;
     private final boolean eventBridgeEnabled;
+    private final TransactionTemplate afterCommitTransaction;
 
     public EventPublisher(
             EventLogRepository eventLogRepository,
+            EventLogWriter eventLogWriter,
+            ChangeFeedHub changeFeedHub,
+            AutomationDispatcher automationDispatcher,
+            EventMetrics eventMetrics,
+            PlatformTransactionManager transactionManager,
             @Value("${aws.eventbridge.enabled:false}") boolean eventBridgeEnabled,
             @Value("${aws.eventbridge.event-bus-name:default}") String eventBusName,
             @Value("${aws.eventbridge.region:us-east-1}") String region) {
 
         this.eventLogRepository = eventLogRepository;
+        this.eventLogWriter = eventLogWriter;
+        this.changeFeedHub = changeFeedHub;
+        this.automationDispatcher = automationDispatcher;
+        this.eventMetrics = eventMetrics;
+        this.afterCommitTransaction = new TransactionTemplate(transactionManager);
+        this.afterCommitTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
         this.eventBridgeEnabled = eventBridgeEnabled;
         this.eventBusName = eventBusName;
 
@@ -70,8 +107,18 @@ public class EventPublisher {
             UUID resourceId,
             String resourceType,
             Map<String, Object> eventPayload) {
+        afterCommit(() -> doPublishEvent(tenantId, eventType, resourceId, resourceType, eventPayload));
+    }
+
+    private void doPublishEvent(
+            UUID tenantId,
+            String eventType,
+            UUID resourceId,
+            String resourceType,
+            Map<String, Object> eventPayload) {
 
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
+        String destination = eventBridgeEnabled && eventBridgeClient != null ? "eventbridge" : "local";
 
         try {
             // Create event log entry
@@ -95,11 +142,12 @@ public class EventPublisher {
             }
 
             // Calculate execution duration
-            long executionTime = System.currentTimeMillis() - startTime;
-            eventLog.setExecutionDurationMs(executionTime);
+            long executionTime = System.nanoTime() - startTime;
+            eventLog.setExecutionDurationMs(TimeUnit.NANOSECONDS.toMillis(executionTime));
+            eventMetrics.recordPublish(tenantId, eventType, destination, true, executionTime);
 
-            // Save event log
-            eventLogRepository.save(eventLog);
+            // Save event log (queued for batch insert when async writes are enabled)
+            saveEventLog(eventLog);
 
             log.debug("Event logged: id={}, type={}, tenant={}, resource={}:{}",
                     eventLog.getId(), eventType, tenantId, resourceType, resourceId);
@@ -108,7 +156,8 @@ public class EventPublisher {
             log.error("Failed to publish event: {} for tenant {}", eventType, tenantId, e);
 
             // Still save the event log with error status
-            long executionTime = System.currentTimeMillis() - startTime;
+            long executionTime = System.nanoTime() - startTime;
+            eventMetrics.recordPublish(tenantId, eventType, destination, false, executionTime);
             EventLog errorLog = EventLog.builder()
                     .tenantId(tenantId)
                     .eventType(eventType)
@@ -118,11 +167,128 @@ public class EventPublisher {
                     .status(EventLog.ExecutionStatus.FAILED)
                     .errorMessage(e.getMessage())
                     .errorStackTrace(getStackTrace(e))
-                    .executionDurationMs(executionTime)
+                    .executionDurationMs(TimeUnit.NANOSECONDS.toMillis(executionTime))
+                    .createdAt(LocalDateTime.now())
+                    .build();
+
+            saveEventLog(errorLog);
+        }
+
+        // Push to live change feed subscribers (delivered after commit)
+        changeFeedHub.publish(tenantId, eventType, resourceId, resourceType, eventPayload);
+
+        // Without EventBridge, automation rules are processed by the local engine (after commit)
+        if (!eventBridgeEnabled) {
+            automationDispatcher.dispatch(tenantId, eventType, resourceId, resourceType, eventPayload);
+        }
+    }
+
+    /**
+     * Publish one event type for many resources at once, e.g. the tasks unblocked by a single
+     * completion. EventBridge receives the entries in PutEvents requests of up to
+     * {@value #EVENTBRIDGE_BATCH_SIZE}, and log records the async writer does not take are inserted
+     * together.
+     *
+     * @param tenantId The tenant ID
+     * @param eventType The event type (e.g., "task.status.changed")
+     * @param resourceType The resource type (e.g., "task")
+     * @param payloads The event payload per resource ID, in publishing order
+     */
+    public void publishEvents(
+            UUID tenantId,
+            String eventType,
+            String resourceType,
+            Map<UUID, Map<String, Object>> payloads) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> doPublishEvents(tenantId, eventType, resourceType, payloads));
+    }
+
+    private void doPublishEvents(
+            UUID tenantId,
+            String eventType,
+            String resourceType,
+            Map<UUID, Map<String, Object>> payloads) {
+
+        long startTime = System.nanoTime();
+        String destination = eventBridgeEnabled && eventBridgeClient != null ? "eventbridge" : "local";
+        Exception failure = null;
+
+        if (eventBridgeEnabled && eventBridgeClient != null) {
+            try {
+                publishBatchToEventBridge(tenantId, eventType, resourceType, payloads);
+                log.info("{} events published to EventBridge: {} for tenant {}", payloads.size(), eventType, tenantId);
+            } catch (Exception e) {
+                log.error("Failed to publish {} events: {} for tenant {}", payloads.size(), eventType, tenantId, e);
+                failure = e;
+            }
+        } else {
+            log.debug("{} events logged locally: {} for tenant {} (EventBridge disabled)",
+                    payloads.size(), eventType, tenantId);
+        }
+
+        long executionTime = System.nanoTime() - startTime;
+        long executionTimePerEvent = executionTime / payloads.size();
+        List<EventLog> unsubmitted = new ArrayList<>();
+        for (Map.Entry<UUID, Map<String, Object>> entry : payloads.entrySet()) {
+            eventMetrics.recordPublish(tenantId, eventType, destination, failure == null, executionTimePerEvent);
+            EventLog eventLog = EventLog.builder()
+                    .tenantId(tenantId)
+                    .eventType(eventType)
+                    .eventPayload(entry.getValue())
+                    .resourceId(entry.getKey())
+                    .resourceType(resourceType)
+                    .status(failure == null ? EventLog.ExecutionStatus.NO_RULES_MATCHED : EventLog.ExecutionStatus.FAILED)
+                    .errorMessage(failure != null ? failure.getMessage() : null)
+                    .errorStackTrace(failure != null ? getStackTrace(failure) : null)
+                    .executionDurationMs(TimeUnit.NANOSECONDS.toMillis(executionTime))
                     .createdAt(LocalDateTime.now())
                     .build();
+            if (!eventLogWriter.submit(eventLog)) {
+                unsubmitted.add(eventLog);
+            }
+        }
+        if (!unsubmitted.isEmpty()) {
+            try {
+                eventLogRepository.saveAll(unsubmitted);
+            } catch (Exception e) {
+                log.error("Failed to log {} events: {} for tenant {}", unsubmitted.size(), eventType, tenantId, e);
+            }
+        }
+
+        for (Map.Entry<UUID, Map<String, Object>> entry : payloads.entrySet()) {
+            changeFeedHub.publish(tenantId, eventType, entry.getKey(), resourceType, entry.getValue());
+            if (!eventBridgeEnabled) {
+                automationDispatcher.dispatch(tenantId, eventType, entry.getKey(), resourceType, entry.getValue());
+            }
+        }
+    }
 
-            eventLogRepository.save(errorLog);
+    /**
+     * Run a publish now, or, when it calls EventBridge inside a transaction, once that transaction
+     * has committed. The deferred publish writes its log records in a new transaction.
+     */
+    private void afterCommit(Runnable publish) {
+        if (!eventBridgeEnabled || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                afterCommitTransaction.executeWithoutResult(status -> publish.run());
+            }
+        });
+    }
+
+    /**
+     * Hand the record to the async writer, or insert it in the caller's transaction when the
+     * writer does not accept it (async disabled, durable event type, or queue full).
+     */
+    private void saveEventLog(EventLog eventLog) {
+        if (!eventLogWriter.submit(eventLog)) {
+            eventLogRepository.save(eventLog);
         }
     }
 
@@ -153,7 +319,16 @@ public class EventPublisher {
                 .entries(entry)
                 .build();
 
-        PutEventsResponse response = eventBridgeClient.putEvents(request);
+        EventBridgePublishEvent event = new EventBridgePublishEvent();
+        event.begin();
+        PutEventsResponse response;
+        try {
+            response = eventBridgeClient.putEvents(request);
+        } catch (RuntimeException e) {
+            commitPublishEvent(event, tenantId, eventType, 0, true);
+            throw e;
+        }
+        commitPublishEvent(event, tenantId, eventType, response.failedEntryCount(), response.failedEntryCount() > 0);
 
         if (response.failedEntryCount() > 0) {
             throw new RuntimeException("Failed to publish event to EventBridge: " +
@@ -161,10 +336,78 @@ public class EventPublisher {
         }
     }
 
+    /**
+     * Publish events to AWS EventBridge in requests of up to {@value #EVENTBRIDGE_BATCH_SIZE} entries.
+     */
+    private void publishBatchToEventBridge(
+            UUID tenantId,
+            String eventType,
+            String resourceType,
+            Map<UUID, Map<String, Object>> payloads) {
+
+        List<PutEventsRequestEntry> entries = new ArrayList<>(payloads.size());
+        for (Map.Entry<UUID, Map<String, Object>> payload : payloads.entrySet()) {
+            entries.add(PutEventsRequestEntry.builder()
+                    .eventBusName(eventBusName)
+                    .source("com.platform.saas")
+                    .detailType(eventType)
+                    .detail(buildEventDetailJson(tenantId, payload.getKey(), resourceType, payload.getValue()))
+                    .time(Instant.now())
+                    .build());
+        }
+
+        int failedEntries = 0;
+        String firstError = null;
+        for (int from = 0; from < entries.size(); from += EVENTBRIDGE_BATCH_SIZE) {
+            PutEventsRequest request = PutEventsRequest.builder()
+                    .entries(entries.subList(from, Math.min(from + EVENTBRIDGE_BATCH_SIZE, entries.size())))
+                    .build();
+
+            EventBridgePublishEvent event = new EventBridgePublishEvent();
+            event.begin();
+            PutEventsResponse response;
+            try {
+                response = eventBridgeClient.putEvents(request);
+            } catch (RuntimeException e) {
+                commitPublishEvent(event, tenantId, eventType, 0, true);
+                throw e;
+            }
+            commitPublishEvent(event, tenantId, eventType, response.failedEntryCount(), response.failedEntryCount() > 0);
+
+            if (response.failedEntryCount() > 0) {
+                failedEntries += response.failedEntryCount();
+                if (firstError == null) {
+                    firstError = response.entries().stream()
+                            .filter(result -> result.errorMessage() != null)
+                            .map(PutEventsResultEntry::errorMessage)
+                            .findFirst()
+                            .orElse(null);
+                }
+            }
+        }
+
+        if (failedEntries > 0) {
+            throw new RuntimeException("Failed to publish " + failedEntries + " of " + entries.size() +
+                    " events to EventBridge: " + firstError);
+        }
+    }
+
+    private void commitPublishEvent(
+            EventBridgePublishEvent event, UUID tenantId, String eventType, Integer failedEntries, boolean failed) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.tenantId = String.valueOf(tenantId);
+            event.eventType = eventType;
+            event.failedEntries = failedEntries != null ? failedEntries : 0;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+
     /**
      * Build event detail JSON for EventBridge.
      */
-    private String buildEventDetailJson(
+    String buildEventDetailJson(
             UUID tenantId,
             UUID resourceId,
             String resourceType,
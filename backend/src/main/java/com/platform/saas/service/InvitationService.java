@@ -1,5 +1,7 @@
 package com.platform.saas.service;
 
+import com.platform.saas.cache.CacheInvalidationBus;
+import com.platform.saas.cache.CacheRegion;
 import com.platform.saas.dto.InviteUserRequest;
 import com.platform.saas.dto.InviteUserResponse;
 import com.platform.saas.exception.TenantNotFoundException;
@@ -32,6 +34,7 @@ public class InvitationService {
     private final TenantRepository tenantRepository;
     private final UserTenantRepository userTenantRepository;
     private final EmailService emailService; // Will be implemented in T064
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     /**
      * Invite a user to join a tenant.
@@ -87,6 +90,7 @@ public class InvitationService {
         userTenant.setInvitedBy(invitedByUserId);
         userTenant.setJoinedAt(LocalDateTime.now());
         userTenantRepository.save(userTenant);
+        cacheInvalidationBus.publish(CacheRegion.MEMBERSHIP, tenantId, user.getId());
 
         log.info("Created UserTenant association for user {} in tenant {} with role {}",
                 user.getId(), tenantId, request.getRole());
@@ -145,6 +149,7 @@ public class InvitationService {
         }
 
         userTenantRepository.delete(userTenant);
+        cacheInvalidationBus.publish(CacheRegion.MEMBERSHIP, tenantId, userId);
         log.info("Successfully removed user {} from tenant {}", userId, tenantId);
     }
 
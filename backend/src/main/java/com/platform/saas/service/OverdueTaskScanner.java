@@ -0,0 +1,178 @@
+package com.platform.saas.service;
+
+import com.platform.saas.security.TenantContext;
+import com.platform.saas.sharding.ShardRoutingDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Announces tasks that have become overdue with batched task.overdue events.
+ *
+ * Every task records the date it was announced in tasks.overdue_notified_on. Each run claims open
+ * tasks past their due date that were not announced yet over idx_task_overdue_pending, a partial
+ * index that holds exactly those tasks, so the scan never reads announced or completed tasks. A
+ * new due date or reopening a completed task clears the column (trigger of V12), so such tasks are
+ * announced again; tasks completed before their due date passes are never announced. Due dates
+ * are compared with the database's CURRENT_DATE, which is also reported as detectedOn.
+ *
+ * A batch is claimed FOR UPDATE SKIP LOCKED and marked announced in one short transaction; its
+ * events are published after the commit, one batch per tenant, so no row lock is held during
+ * EventBridge calls. Nodes scanning at the same time claim disjoint batches. A node failing between
+ * commit and publish loses that batch's announcement rather than announcing it twice.
+ *
+ * With sharding, every shard is scanned on its own pool, and events are published with the tenant
+ * in {@link TenantContext} so their logs reach the tenant's shard. The claim runs across tenants
+ * ({@link TenantContext#callAcrossTenants}).
+ */
+@Service
+@Slf4j
+public class OverdueTaskScanner {
+
+    static final String EVENT_TYPE = "task.overdue";
+
+    private static final String CLAIM_OVERDUE_SQL =
+            "SELECT id, tenant_id, project_id, name, status, priority, due_date, CURRENT_DATE AS today FROM tasks " +
+            "WHERE status <> 'COMPLETED' AND overdue_notified_on IS NULL AND due_date < CURRENT_DATE " +
+            "ORDER BY due_date, id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String MARK_NOTIFIED_SQL =
+            "UPDATE tasks SET overdue_notified_on = ? WHERE id = ?";
+
+    private final List<ShardScan> shards;
+    private final EventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public OverdueTaskScanner(JdbcTemplate jdbcTemplate,
+                              EventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager,
+                              ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource,
+                              @Value("${app.tasks.overdue-scan.enabled:true}") boolean enabled,
+                              @Value("${app.tasks.overdue-scan.batch-size:500}") int batchSize) {
+        ShardRoutingDataSource router = shardRoutingDataSource.getIfAvailable();
+        if (router == null) {
+            this.shards = List.of(new ShardScan("default", jdbcTemplate, new TransactionTemplate(transactionManager)));
+        } else {
+            this.shards = router.getShardIds().stream().sorted()
+                    .map(shardId -> {
+                        DataSource dataSource = router.getShard(shardId);
+                        return new ShardScan(shardId, new JdbcTemplate(dataSource),
+                                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+                    })
+                    .toList();
+        }
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Announce every open task past its due date that was not announced yet, shard by shard.
+     *
+     * @return Number of tasks announced, 0 when disabled
+     */
+    @Scheduled(fixedDelayString = "${app.tasks.overdue-scan.interval-ms:60000}")
+    public int scan() {
+        if (!enabled) {
+            return 0;
+        }
+        int announced = 0;
+        for (ShardScan shard : shards) {
+            try {
+                announced += scanShard(shard);
+            } catch (RuntimeException e) {
+                log.error("Overdue scan of shard {} failed", shard.shardId(), e);
+            }
+        }
+        return announced;
+    }
+
+    private int scanShard(ShardScan shard) {
+        int announced = 0;
+        List<OverdueTask> batch;
+        do {
+            // Reads open tasks of every tenant, past row-level security
+            batch = TenantContext.callAcrossTenants(() ->
+                    shard.transactionTemplate().execute(status -> claimBatch(shard.jdbcTemplate())));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            publish(batch);
+            announced += batch.size();
+        } while (batch.size() == batchSize);
+
+        if (announced > 0) {
+            log.info("Overdue tasks announced: shard={}, count={}", shard.shardId(), announced);
+        }
+        return announced;
+    }
+
+    /**
+     * Claim the next batch of unannounced overdue tasks and mark them announced.
+     * @return The claimed tasks
+     */
+    private List<OverdueTask> claimBatch(JdbcTemplate jdbcTemplate) {
+        List<OverdueTask> tasks = jdbcTemplate.query(CLAIM_OVERDUE_SQL,
+                (rs, rowNum) -> new OverdueTask(
+                        rs.getObject("id", UUID.class),
+                        rs.getObject("tenant_id", UUID.class),
+                        rs.getObject("project_id", UUID.class),
+                        rs.getString("name"),
+                        rs.getString("status"),
+                        rs.getString("priority"),
+                        rs.getDate("due_date").toLocalDate(),
+                        rs.getDate("today").toLocalDate()),
+                batchSize);
+        if (!tasks.isEmpty()) {
+            jdbcTemplate.batchUpdate(MARK_NOTIFIED_SQL, tasks.stream()
+                    .map(task -> new Object[]{Date.valueOf(task.detectedOn()), task.id()})
+                    .toList());
+        }
+        return tasks;
+    }
+
+    private void publish(List<OverdueTask> tasks) {
+        Map<UUID, Map<UUID, Map<String, Object>>> payloadsByTenant = new LinkedHashMap<>();
+        for (OverdueTask task : tasks) {
+            payloadsByTenant.computeIfAbsent(task.tenantId(), id -> new LinkedHashMap<>())
+                    .put(task.id(), buildOverduePayload(task));
+        }
+        payloadsByTenant.forEach((tenantId, payloads) -> TenantContext.executeWithTenantId(tenantId,
+                () -> eventPublisher.publishEvents(tenantId, EVENT_TYPE, "task", payloads)));
+    }
+
+    private Map<String, Object> buildOverduePayload(OverdueTask task) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("taskId", task.id().toString());
+        payload.put("projectId", task.projectId().toString());
+        payload.put("name", task.name());
+        payload.put("status", task.status());
+        payload.put("priority", task.priority());
+        payload.put("dueDate", task.dueDate().toString());
+        payload.put("detectedOn", task.detectedOn().toString());
+        return payload;
+    }
+
+    private record ShardScan(String shardId, JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+    }
+
+    record OverdueTask(UUID id, UUID tenantId, UUID projectId, String name, String status, String priority,
+                       LocalDate dueDate, LocalDate detectedOn) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.platform.saas.service;
+
+import com.platform.saas.cache.TenantIdSet;
+import com.platform.saas.cache.TenantScopedCache;
+import com.platform.saas.dto.ProjectSchedule;
+import com.platform.saas.model.TaskDependency;
+import com.platform.saas.repository.ProjectRepository;
+import com.platform.saas.repository.TaskDependencyRepository;
+import com.platform.saas.repository.TaskRepository;
+import com.platform.saas.security.TenantContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service for the dependency analysis of a project: topological order, critical path, earliest and
+ * latest dates and the tasks held up by BLOCKED tasks.
+ *
+ * Results are cached per project until the next task or dependency write of the project (both bump
+ * the project through {@link ResourceVersionService}) or the end of the day they were computed for.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ProjectScheduleService {
+
+    private final TaskRepository taskRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final ProjectRepository projectRepository;
+    private final TenantIdSet projectIds;
+    private final TenantScopedCache<UUID, ProjectSchedule> projectScheduleCache;
+
+    /**
+     * Get the dependency analysis of a project.
+     * @param projectId The project ID
+     * @return The analysis as of today
+     */
+    public ProjectSchedule getSchedule(UUID projectId) {
+        UUID tenantId = TenantContext.getTenantId();
+
+        if (!projectIds.contains(tenantId, projectId, () -> projectRepository.existsByIdAndTenantId(projectId, tenantId))) {
+            throw new RuntimeException("Project not found or access denied: " + projectId);
+        }
+
+        LocalDate today = LocalDate.now();
+        Optional<ProjectSchedule> cached = projectScheduleCache.getIfPresent(tenantId, projectId);
+        if (cached.isPresent() && cached.get().getAsOf().equals(today)) {
+            return cached.get();
+        }
+        // Missing or computed on an earlier day: compute and overwrite in place
+        return projectScheduleCache.reload(tenantId, projectId, () -> Optional.of(computeSchedule(tenantId, projectId, today)))
+                .orElseThrow();
+    }
+
+    private ProjectSchedule computeSchedule(UUID tenantId, UUID projectId, LocalDate today) {
+        long start = System.nanoTime();
+        List<TaskRepository.ScheduleRow> tasks = taskRepository.findScheduleRows(tenantId, projectId);
+        List<TaskDependency> dependencies = taskDependencyRepository.findByProject(tenantId, projectId);
+
+        ProjectSchedule schedule = ScheduleAnalyzer.analyze(projectId, tasks, dependencies, today);
+        if (!schedule.getCyclicTasks().isEmpty()) {
+            log.warn("Dependency cycle in project {}: {} tasks left out of the schedule",
+                    projectId, schedule.getCyclicTasks().size());
+        }
+        log.debug("Schedule computed: project={}, tasks={}, dependencies={}, took={}ms",
+                projectId, schedule.getTaskCount(), schedule.getDependencyCount(),
+                (System.nanoTime() - start) / 1_000_000);
+        return schedule;
+    }
+}
@@ -1,11 +1,13 @@
 package com.platform.saas.service;
 
+import com.platform.saas.cache.TenantScopedCache;
 import com.platform.saas.exception.QuotaExceededException;
 import com.platform.saas.exception.TenantNotFoundException;
 import com.platform.saas.model.Priority;
 import com.platform.saas.model.Project;
 import com.platform.saas.model.ProjectStatus;
-import com.platform.saas.model.Tenant;
+import com.platform.saas.observability.QuotaMetrics;
+import com.platform.saas.observability.jfr.QuotaCheckEvent;
 import com.platform.saas.repository.ProjectRepository;
 import com.platform.saas.repository.TenantRepository;
 import com.platform.saas.security.TenantContext;
@@ -32,6 +34,9 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final TenantRepository tenantRepository;
     private final EventPublisher eventPublisher;
+    private final ResourceVersionService resourceVersionService;
+    private final QuotaMetrics quotaMetrics;
+    private final TenantScopedCache<UUID, Project> projectCache;
 
     /**
      * Create a new project with quota enforcement.
@@ -57,6 +62,7 @@ public class ProjectService {
 
         // Save project
         Project savedProject = projectRepository.save(project);
+        resourceVersionService.bumpProject(tenantId, savedProject.getId());
         log.info("Project created: id={}, name={}, tenant={}",
                 savedProject.getId(), savedProject.getName(), tenantId);
 
@@ -75,7 +81,7 @@ public class ProjectService {
     public Project getProject(UUID projectId) {
         UUID tenantId = TenantContext.getTenantId();
 
-        return projectRepository.findByIdAndTenantId(projectId, tenantId)
+        return projectCache.get(tenantId, projectId, () -> projectRepository.findByIdAndTenantId(projectId, tenantId))
                 .orElseThrow(() -> new RuntimeException("Project not found: " + projectId));
     }
 
@@ -188,6 +194,7 @@ public class ProjectService {
         }
 
         Project saved = projectRepository.save(existing);
+        resourceVersionService.bumpProject(tenantId, projectId);
         log.info("Project updated: id={}, tenant={}", projectId, tenantId);
 
         // Publish event if there were changes
@@ -212,6 +219,7 @@ public class ProjectService {
         publishProjectDeletedEvent(project);
 
         projectRepository.delete(project);
+        resourceVersionService.removeProject(tenantId, projectId);
         log.info("Project deleted: id={}, tenant={}", projectId, tenantId);
     }
 
@@ -237,23 +245,32 @@ public class ProjectService {
 
     /**
      * Check if tenant has exceeded their quota for projects.
+     * Limit and usage come from one query that also serializes the tenant's creates until this
+     * transaction ends, so concurrent creates cannot overshoot the limit.
      * @param tenantId The tenant ID
      * @throws QuotaExceededException if quota is exceeded
      * @throws TenantNotFoundException if tenant not found
      */
     private void checkQuota(UUID tenantId) {
-        Tenant tenant = tenantRepository.findById(tenantId)
+        long start = System.nanoTime();
+        QuotaCheckEvent event = QuotaCheckEvent.start(tenantId, "projects");
+        TenantRepository.QuotaUsage usage = tenantRepository.lockQuotaUsage(tenantId)
                 .orElseThrow(() -> new TenantNotFoundException(tenantId));
 
-        Integer quotaLimit = tenant.getQuotaLimit();
+        Integer quotaLimit = usage.getQuotaLimit();
 
         // Enterprise tier has unlimited quota (null quota limit)
         if (quotaLimit == null) {
             log.debug("Enterprise tier - no quota limit for tenant: {}", tenantId);
+            quotaMetrics.recordCheck(tenantId, null, "projects", 0, start);
+            event.complete(0, null);
             return;
         }
 
-        long currentCount = projectRepository.countByTenantId(tenantId);
+        long currentCount = usage.getProjectCount();
+
+        quotaMetrics.recordCheck(tenantId, quotaLimit, "projects", currentCount, start);
+        event.complete(currentCount, quotaLimit);
 
         if (currentCount >= quotaLimit) {
             log.warn("Quota exceeded for tenant: {} - current: {}, limit: {}",
@@ -0,0 +1,213 @@
+package com.platform.saas.service;
+
+import com.platform.saas.cache.CacheInvalidationBus;
+import com.platform.saas.cache.CacheInvalidationListener;
+import com.platform.saas.cache.CacheRegion;
+import com.platform.saas.cache.TenantIdSet;
+import com.platform.saas.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version counters backing strong ETags for task and project reads.
+ *
+ * Every task or project write bumps the tenant's list version and the version of the affected
+ * project. Bumps happen after commit through the {@link CacheInvalidationBus}, so other nodes bump
+ * their own counters too and a client can never be told "not modified" for data it has not seen.
+ * That only holds while the bus is enabled: without it a write on one node is invisible to the
+ * counters of the others, so no ETags are issued at all and reads are always answered in full.
+ *
+ * Versions are kept per tenant and per (tenant, project), for at most maxTenants tenants and
+ * projectsPerTenant projects of each. Every tenant entry gets a new incarnation number when it is
+ * created, which is part of its ETags; dropping an entry therefore reissues that tenant's ETags
+ * instead of repeating old ones. Entries are dropped on a tenant-wide change, when the tenant is
+ * the least recently used one of a full map, and when the tenant has too many project counters.
+ * The counters are node-local, so ETags also carry a node epoch that changes on every restart.
+ *
+ * Project ETags are only handed out for projects of the requesting tenant, so a conditional
+ * request cannot be answered "not modified" for another tenant's or a missing project.
+ *
+ * ETags also carry the current date because list responses include the date-dependent overdue flag.
+ */
+@Service
+@Slf4j
+public class ResourceVersionService implements CacheInvalidationListener {
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ProjectRepository projectRepository;
+    private final TenantIdSet projectIds;
+    private final boolean enabled;
+    private final int projectsPerTenant;
+    private final String epoch = newEpoch();
+    private final AtomicLong incarnations = new AtomicLong();
+    private final Map<UUID, TenantVersions> tenantVersions;
+
+    public ResourceVersionService(CacheInvalidationBus cacheInvalidationBus,
+                                  ProjectRepository projectRepository,
+                                  TenantIdSet projectIds,
+                                  @Value("${app.cache.entities.max-tenants:1000}") int maxTenants,
+                                  @Value("${app.cache.entities.projects-per-tenant:1000}") int projectsPerTenant) {
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.projectRepository = projectRepository;
+        this.projectIds = projectIds;
+        this.enabled = cacheInvalidationBus.isEnabled();
+        this.projectsPerTenant = Math.max(1, projectsPerTenant);
+        int limit = Math.max(1, maxTenants);
+        this.tenantVersions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, TenantVersions> eldest) {
+                return size() > limit;
+            }
+        };
+        if (!enabled) {
+            log.info("ETags disabled: the cache invalidation bus is off");
+        }
+    }
+
+    /**
+     * Record a write to a project or one of its tasks. Takes effect once the transaction commits.
+     *
+     * @param tenantId The tenant ID
+     * @param projectId The project that changed, or null for a tenant-wide change
+     */
+    public void bumpProject(UUID tenantId, UUID projectId) {
+        cacheInvalidationBus.publish(CacheRegion.PROJECT, tenantId, projectId);
+    }
+
+    /**
+     * Record the deletion of a project: bumps versions like {@link #bumpProject} and drops the
+     * project from the project ID sets of every node once the transaction commits.
+     *
+     * @param tenantId The tenant ID
+     * @param projectId The deleted project
+     */
+    public void removeProject(UUID tenantId, UUID projectId) {
+        bumpProject(tenantId, projectId);
+        cacheInvalidationBus.publish(CacheRegion.PROJECT_ID, tenantId, projectId);
+    }
+
+    /**
+     * ETag for tenant-wide task and project lists.
+     * @param tenantId The tenant ID
+     * @return Quoted strong ETag, or null when ETags are disabled
+     * @throws IllegalStateException if no tenant is given
+     */
+    public String getTenantETag(UUID tenantId) {
+        requireTenant(tenantId);
+        if (!enabled) {
+            return null;
+        }
+        synchronized (tenantVersions) {
+            TenantVersions versions = versions(tenantId);
+            return toETag(versions.incarnation + "-" + versions.version);
+        }
+    }
+
+    /**
+     * ETag for a single project and its task list.
+     * @param tenantId The tenant ID
+     * @param projectId The project ID
+     * @return Quoted strong ETag, or null when ETags are disabled
+     * @throws IllegalStateException if no tenant is given
+     * @throws RuntimeException if the project does not exist or belongs to another tenant
+     */
+    public String getProjectETag(UUID tenantId, UUID projectId) {
+        requireTenant(tenantId);
+        if (!enabled) {
+            return null;
+        }
+        if (!projectIds.contains(tenantId, projectId, () -> projectRepository.existsByIdAndTenantId(projectId, tenantId))) {
+            throw new RuntimeException("Project not found or access denied: " + projectId);
+        }
+        synchronized (tenantVersions) {
+            TenantVersions versions = versions(tenantId);
+            return toETag(versions.incarnation + "-" + versions.projects.getOrDefault(projectId, 0L));
+        }
+    }
+
+    @Override
+    public void invalidate(CacheRegion region, UUID tenantId, String key) {
+        if (region != CacheRegion.PROJECT && region != CacheRegion.PROJECT_ID) {
+            return;
+        }
+        synchronized (tenantVersions) {
+            if (region == CacheRegion.PROJECT_ID) {
+                // Deleted project: its counter is no longer needed, the ID is never reused
+                TenantVersions versions = tenantVersions.get(tenantId);
+                if (versions != null && key != null) {
+                    versions.projects.remove(UUID.fromString(key));
+                }
+                return;
+            }
+            TenantVersions versions = tenantVersions.get(tenantId);
+            if (versions == null) {
+                // Nothing issued since the entry was dropped; the next read starts a new incarnation
+                return;
+            }
+            if (key == null) {
+                // Tenant-wide change: every project of the tenant may be affected
+                tenantVersions.remove(tenantId);
+                return;
+            }
+            versions.version++;
+            UUID projectId = UUID.fromString(key);
+            if (!versions.projects.containsKey(projectId) && versions.projects.size() >= projectsPerTenant) {
+                tenantVersions.remove(tenantId);
+                return;
+            }
+            versions.projects.merge(projectId, 1L, Long::sum);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (tenantVersions) {
+            tenantVersions.clear();
+        }
+        log.info("Resource versions reset, all ETags reissued");
+    }
+
+    /**
+     * The tenant's counters, created with a new incarnation when missing. Caller holds the map's
+     * monitor.
+     */
+    private TenantVersions versions(UUID tenantId) {
+        return tenantVersions.computeIfAbsent(tenantId, id -> new TenantVersions(incarnations.incrementAndGet()));
+    }
+
+    private static void requireTenant(UUID tenantId) {
+        if (tenantId == null) {
+            throw new IllegalStateException("Tenant context not set");
+        }
+    }
+
+    private String toETag(String version) {
+        return "\"" + epoch + "-" + version + "-" + LocalDate.now().toEpochDay() + "\"";
+    }
+
+    private static String newEpoch() {
+        return Long.toHexString(System.nanoTime() ^ UUID.randomUUID().getLeastSignificantBits());
+    }
+
+    /**
+     * Version counters of one tenant. Guarded by the monitor of the tenant map.
+     */
+    private static final class TenantVersions {
+
+        private final long incarnation;
+        private long version;
+        private final Map<UUID, Long> projects = new HashMap<>();
+
+        private TenantVersions(long incarnation) {
+            this.incarnation = incarnation;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.platform.saas.service;
+
+import com.platform.saas.security.TenantContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Buffers automation rule execution statistics in memory and flushes them in batches.
+ *
+ * Recording an execution only touches a striped LongAdder, so popular rules do not serialize on
+ * row locks of automation_rules. Deltas are applied periodically with a single UPDATE ... FROM
+ * (VALUES ...) statement per tenant and chunk, run with the tenant in context so that it reaches
+ * the tenant's shard, and once more on graceful shutdown. Readers merge the pending
+ * deltas via {@link #getPendingCount} so results stay exact between flushes.
+ */
+@Service
+@Slf4j
+public class RuleExecutionCounter {
+
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<UUID, Pending> pendingByRule = new ConcurrentHashMap<>();
+
+    public RuleExecutionCounter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Record one execution of a rule.
+     *
+     * @param tenantId The tenant owning the rule
+     * @param ruleId The rule ID
+     */
+    public void recordExecution(UUID tenantId, UUID ruleId) {
+        Pending pending = pendingByRule.computeIfAbsent(ruleId, id -> new Pending(tenantId));
+        pending.count.increment();
+        pending.lastExecutedAtMillis.accumulate(System.currentTimeMillis());
+    }
+
+    /**
+     * Executions recorded for a rule but not yet flushed.
+     */
+    public long getPendingCount(UUID ruleId) {
+        Pending pending = pendingByRule.get(ruleId);
+        return pending == null ? 0L : pending.count.sum();
+    }
+
+    /**
+     * Unflushed executions per rule for a tenant.
+     * @param tenantId The tenant ID
+     * @return Map of rule ID to pending execution count (only rules with pending executions)
+     */
+    public Map<UUID, Long> getPendingCountsForTenant(UUID tenantId) {
+        Map<UUID, Long> counts = new ConcurrentHashMap<>();
+        pendingByRule.forEach((ruleId, pending) -> {
+            long count = pending.count.sum();
+            if (count > 0 && pending.tenantId.equals(tenantId)) {
+                counts.put(ruleId, count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Last execution time recorded in memory for a rule, or null if none is pending.
+     */
+    public LocalDateTime getPendingLastExecutedAt(UUID ruleId) {
+        Pending pending = pendingByRule.get(ruleId);
+        if (pending == null || pending.count.sum() == 0) {
+            return null;
+        }
+        return toLocalDateTime(pending.lastExecutedAtMillis.get());
+    }
+
+    /**
+     * Apply pending deltas to automation_rules.
+     * Deltas are subtracted from the in-memory counters before writing and restored on failure,
+     * so concurrent executions are never lost or double counted.
+     *
+     * @return Number of rules updated
+     */
+    @Scheduled(fixedDelayString = "${app.automation.execution-count.flush-interval-ms:5000}")
+    public synchronized int flush() {
+        Map<UUID, List<Object[]>> rowsByTenant = new LinkedHashMap<>();
+        Map<UUID, List<Pending>> takenByTenant = new LinkedHashMap<>();
+
+        pendingByRule.forEach((ruleId, pending) -> {
+            long delta = pending.count.sum();
+            if (delta > 0) {
+                pending.count.add(-delta);
+                rowsByTenant.computeIfAbsent(pending.tenantId, id -> new ArrayList<>())
+                        .add(new Object[]{ruleId, delta, new Timestamp(pending.lastExecutedAtMillis.get())});
+                takenByTenant.computeIfAbsent(pending.tenantId, id -> new ArrayList<>()).add(pending);
+            }
+        });
+
+        if (rowsByTenant.isEmpty()) {
+            return 0;
+        }
+
+        // One tenant per statement, written with the tenant in context so it reaches the tenant's shard
+        int updated = 0;
+        for (Map.Entry<UUID, List<Object[]>> entry : rowsByTenant.entrySet()) {
+            UUID tenantId = entry.getKey();
+            updated += TenantContext.callWithTenantId(tenantId,
+                    () -> flushTenant(entry.getValue(), takenByTenant.get(tenantId)));
+        }
+
+        log.debug("Flushed execution counts for {} automation rules", updated);
+        return updated;
+    }
+
+    private int flushTenant(List<Object[]> rows, List<Pending> taken) {
+        int updated = 0;
+        for (int start = 0; start < rows.size(); start += MAX_ROWS_PER_STATEMENT) {
+            int end = Math.min(start + MAX_ROWS_PER_STATEMENT, rows.size());
+            List<Object[]> chunk = rows.subList(start, end);
+            try {
+                jdbcTemplate.update(buildUpdateSql(chunk.size()), chunk.stream().flatMap(Arrays::stream).toArray());
+                updated += chunk.size();
+            } catch (RuntimeException e) {
+                log.error("Failed to flush execution counts for {} rules, will retry", chunk.size(), e);
+                for (int i = start; i < end; i++) {
+                    taken.get(i).count.add((Long) rows.get(i)[1]);
+                }
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Forget buffered statistics for a deleted rule.
+     */
+    public void remove(UUID ruleId) {
+        pendingByRule.remove(ruleId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        int updated = flush();
+        log.info("Flushed execution counts for {} automation rules on shutdown", updated);
+    }
+
+    private String buildUpdateSql(int rowCount) {
+        return "UPDATE automation_rules ar SET "
+                + "execution_count = ar.execution_count + v.delta, "
+                + "last_executed_at = GREATEST(COALESCE(ar.last_executed_at, v.executed_at), v.executed_at) "
+                + "FROM (VALUES "
+                + String.join(", ", Collections.nCopies(rowCount, "(?::uuid, ?::bigint, ?::timestamp)"))
+                + ") AS v(id, delta, executed_at) WHERE ar.id = v.id";
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    /**
+     * Unflushed statistics for one rule.
+     */
+    private static final class Pending {
+
+        private final UUID tenantId;
+        private final LongAdder count = new LongAdder();
+        private final LongAccumulator lastExecutedAtMillis = new LongAccumulator(Math::max, 0L);
+
+        private Pending(UUID tenantId) {
+            this.tenantId = tenantId;
+        }
+    }
+}
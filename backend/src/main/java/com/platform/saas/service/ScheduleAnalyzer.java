@@ -0,0 +1,261 @@
+package com.platform.saas.service;
+
+import com.platform.saas.dto.ProjectSchedule;
+import com.platform.saas.model.TaskDependency;
+import com.platform.saas.model.TaskStatus;
+import com.platform.saas.repository.TaskRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Dependency analysis of one project in O(tasks + dependencies).
+ *
+ * Tasks are numbered 0..n-1 and dependencies stored as a compressed adjacency list (the blocked
+ * tasks of task i are adj[start[i]] .. adj[start[i + 1] - 1]); dates are epoch days in int arrays.
+ * Kahn's algorithm gives the topological order, one forward pass the earliest dates, one backward
+ * pass the latest finish dates and one breadth-first walk the tasks behind BLOCKED tasks. See
+ * {@link ProjectSchedule} for the date rules.
+ */
+final class ScheduleAnalyzer {
+
+    private static final int NONE = Integer.MIN_VALUE;
+
+    private final UUID[] ids;
+    private final boolean[] open;
+    private final boolean[] blocked;
+    private final int[] due;
+    private final int[] start;
+    private final int[] adj;
+    private final int dependencyCount;
+
+    private ScheduleAnalyzer(List<TaskRepository.ScheduleRow> tasks, List<TaskDependency> dependencies) {
+        int n = tasks.size();
+        ids = new UUID[n];
+        open = new boolean[n];
+        blocked = new boolean[n];
+        due = new int[n];
+        Map<UUID, Integer> index = new HashMap<>(Math.max(16, n * 2));
+        for (int i = 0; i < n; i++) {
+            TaskRepository.ScheduleRow task = tasks.get(i);
+            ids[i] = task.getId();
+            open[i] = task.getStatus() != TaskStatus.COMPLETED;
+            blocked[i] = task.getStatus() == TaskStatus.BLOCKED;
+            due[i] = task.getDueDate() != null ? (int) task.getDueDate().toEpochDay() : NONE;
+            index.put(task.getId(), i);
+        }
+
+        // Keep dependencies with both tasks in the project, then bucket them by blocking task
+        int[] from = new int[dependencies.size()];
+        int[] to = new int[dependencies.size()];
+        int m = 0;
+        for (TaskDependency dependency : dependencies) {
+            Integer blocking = index.get(dependency.getBlockingTaskId());
+            Integer blockedTask = index.get(dependency.getBlockedTaskId());
+            if (blocking != null && blockedTask != null) {
+                from[m] = blocking;
+                to[m] = blockedTask;
+                m++;
+            }
+        }
+        dependencyCount = m;
+        start = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            start[from[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            start[i + 1] += start[i];
+        }
+        adj = new int[m];
+        int[] next = Arrays.copyOf(start, n);
+        for (int e = 0; e < m; e++) {
+            adj[next[from[e]]++] = to[e];
+        }
+    }
+
+    /**
+     * Analyze the tasks and dependencies of a project.
+     * @param projectId The project ID
+     * @param tasks Every task of the project
+     * @param dependencies Dependencies between them; others are ignored
+     * @param today The day to schedule from
+     * @return The analysis
+     */
+    static ProjectSchedule analyze(UUID projectId, List<TaskRepository.ScheduleRow> tasks,
+                                   List<TaskDependency> dependencies, LocalDate today) {
+        return new ScheduleAnalyzer(tasks, dependencies).analyze(projectId, today);
+    }
+
+    private ProjectSchedule analyze(UUID projectId, LocalDate today) {
+        int n = ids.length;
+        int[] order = topologicalOrder();
+        int ordered = order.length;
+        // Tasks left out of the order are on or behind a cycle and have no dates
+        boolean[] inOrder = new boolean[n];
+        for (int k = 0; k < ordered; k++) {
+            inOrder[order[k]] = true;
+        }
+
+        // Forward pass: earliest start and finish, remembering the blocker that set each start
+        int todayDay = (int) today.toEpochDay();
+        int[] earliestStart = new int[n];
+        int[] earliestFinish = new int[n];
+        int[] driver = new int[n];
+        Arrays.fill(earliestStart, todayDay);
+        Arrays.fill(driver, -1);
+        int last = -1;
+        for (int k = 0; k < ordered; k++) {
+            int v = order[k];
+            if (!open[v]) {
+                continue;
+            }
+            earliestFinish[v] = Math.max(due[v], earliestStart[v]);
+            if (last < 0 || earliestFinish[v] > earliestFinish[last]) {
+                last = v;
+            }
+            for (int e = start[v]; e < start[v + 1]; e++) {
+                int w = adj[e];
+                if (open[w] && earliestFinish[v] + 1 > earliestStart[w]) {
+                    earliestStart[w] = earliestFinish[v] + 1;
+                    driver[w] = v;
+                }
+            }
+        }
+
+        // Backward pass: latest finish that keeps every open dependent on its due date
+        int projectedFinish = last >= 0 ? earliestFinish[last] : NONE;
+        int[] latestFinish = new int[n];
+        for (int k = ordered - 1; k >= 0; k--) {
+            int v = order[k];
+            if (!open[v]) {
+                continue;
+            }
+            int latest = due[v] != NONE ? due[v] : projectedFinish;
+            for (int e = start[v]; e < start[v + 1]; e++) {
+                int w = adj[e];
+                if (open[w] && inOrder[w]) {
+                    latest = Math.min(latest, latestFinish[w] - 1);
+                }
+            }
+            latestFinish[v] = latest;
+        }
+
+        // Critical path: from the last finishing task back through the blockers that pushed its
+        // finish, stopping at a task whose own due date or today's date sets it
+        boolean[] critical = new boolean[n];
+        List<UUID> criticalPath = new ArrayList<>();
+        for (int v = last; v >= 0; v = earliestFinish[v] == earliestStart[v] ? driver[v] : -1) {
+            critical[v] = true;
+            criticalPath.add(ids[v]);
+        }
+        Collections.reverse(criticalPath);
+
+        List<UUID> topologicalOrder = new ArrayList<>(ordered);
+        List<ProjectSchedule.TaskSchedule> schedules = new ArrayList<>();
+        for (int k = 0; k < ordered; k++) {
+            int v = order[k];
+            topologicalOrder.add(ids[v]);
+            if (open[v]) {
+                schedules.add(ProjectSchedule.TaskSchedule.builder()
+                        .taskId(ids[v])
+                        .earliestStart(LocalDate.ofEpochDay(earliestStart[v]))
+                        .earliestFinish(LocalDate.ofEpochDay(earliestFinish[v]))
+                        .latestFinish(LocalDate.ofEpochDay(latestFinish[v]))
+                        .slackDays((long) latestFinish[v] - earliestFinish[v])
+                        .critical(critical[v])
+                        .build());
+            }
+        }
+        List<UUID> cyclicTasks = new ArrayList<>();
+        for (int v = 0; v < n; v++) {
+            if (!inOrder[v]) {
+                cyclicTasks.add(ids[v]);
+            }
+        }
+
+        return ProjectSchedule.builder()
+                .projectId(projectId)
+                .asOf(today)
+                .taskCount(n)
+                .dependencyCount(dependencyCount)
+                .projectedFinish(projectedFinish != NONE ? LocalDate.ofEpochDay(projectedFinish) : null)
+                .topologicalOrder(topologicalOrder)
+                .criticalPath(criticalPath)
+                .transitivelyBlocked(transitivelyBlocked())
+                .cyclicTasks(cyclicTasks)
+                .tasks(schedules)
+                .build();
+    }
+
+    /**
+     * Kahn's algorithm. Tasks on or behind a cycle never reach in-degree zero and are left out.
+     */
+    private int[] topologicalOrder() {
+        int n = ids.length;
+        int[] inDegree = new int[n];
+        for (int target : adj) {
+            inDegree[target]++;
+        }
+        int[] queue = new int[n];
+        int tail = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegree[v] == 0) {
+                queue[tail++] = v;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int v = queue[head];
+            for (int e = start[v]; e < start[v + 1]; e++) {
+                if (--inDegree[adj[e]] == 0) {
+                    queue[tail++] = adj[e];
+                }
+            }
+        }
+        return tail == n ? queue : Arrays.copyOf(queue, tail);
+    }
+
+    /**
+     * Open tasks reachable from any BLOCKED task, found in one multi-source breadth-first walk.
+     */
+    private List<UUID> transitivelyBlocked() {
+        int n = ids.length;
+        boolean[] reached = new boolean[n];
+        int[] queue = new int[n];
+        int tail = 0;
+        for (int v = 0; v < n; v++) {
+            if (!blocked[v]) {
+                continue;
+            }
+            for (int e = start[v]; e < start[v + 1]; e++) {
+                int w = adj[e];
+                if (!reached[w]) {
+                    reached[w] = true;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int v = queue[head];
+            for (int e = start[v]; e < start[v + 1]; e++) {
+                int w = adj[e];
+                if (!reached[w]) {
+                    reached[w] = true;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        List<UUID> result = new ArrayList<>();
+        for (int k = 0; k < tail; k++) {
+            if (open[queue[k]]) {
+                result.add(ids[queue[k]]);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,325 @@
+package com.platform.saas.service;
+
+import com.platform.saas.dto.TaskPage;
+import com.platform.saas.model.Task;
+import com.platform.saas.model.TaskAssignee;
+import com.platform.saas.model.TaskAssigneeId;
+import com.platform.saas.model.TaskStatus;
+import com.platform.saas.repository.TaskAssigneeRepository;
+import com.platform.saas.repository.TaskRepository;
+import com.platform.saas.repository.UserTenantRepository;
+import com.platform.saas.security.TenantContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service for task assignees: single and bulk assignment, the "my tasks" list and batch loading of
+ * assignee IDs for task lists.
+ *
+ * Bulk writes are single statements over arrays of task and user IDs, so a request costs the same
+ * number of round trips for one pair as for thousands. Every write bumps the affected projects
+ * because task responses carry their assignee IDs.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class TaskAssigneeService {
+
+    /**
+     * Upper bounds for one bulk request; every task is paired with every user.
+     */
+    static final int MAX_BULK_TASKS = 500;
+    static final int MAX_BULK_USERS = 50;
+
+    /**
+     * Upper bound for the page size of the "my tasks" list.
+     */
+    static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * Task IDs per query when loading assignees for a task list.
+     */
+    static final int ASSIGNEE_FETCH_CHUNK = 1000;
+
+    private static final List<String> OPEN_STATUSES =
+            List.of(TaskStatus.TODO.name(), TaskStatus.IN_PROGRESS.name(), TaskStatus.BLOCKED.name());
+
+    private static final UUID NIL_UUID = new UUID(0L, 0L);
+
+    // Reads status and tenant from the task row it locks, so a concurrent status change is either
+    // seen here or waits and then updates the new row through trg_tasks_assignee_status
+    private static final String ASSIGN_SQL =
+            "INSERT INTO task_assignees (task_id, user_id, tenant_id, task_status) " +
+            "SELECT t.id, u.user_id, t.tenant_id, t.status FROM tasks t CROSS JOIN unnest(?) AS u(user_id) " +
+            "WHERE t.tenant_id = ? AND t.id = ANY(?) FOR SHARE OF t " +
+            "ON CONFLICT (task_id, user_id) DO NOTHING " +
+            "RETURNING task_id, user_id";
+
+    private static final String UNASSIGN_SQL =
+            "DELETE FROM task_assignees WHERE tenant_id = ? AND task_id = ANY(?) AND user_id = ANY(?) " +
+            "RETURNING task_id, user_id";
+
+    private static final RowMapper<TaskAssigneeId> ASSIGNEE_ID_MAPPER = (rs, rowNum) ->
+            new TaskAssigneeId(rs.getObject("task_id", UUID.class), rs.getObject("user_id", UUID.class));
+
+    private final TaskAssigneeRepository taskAssigneeRepository;
+    private final TaskRepository taskRepository;
+    private final UserTenantRepository userTenantRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EventPublisher eventPublisher;
+    private final ResourceVersionService resourceVersionService;
+
+    /**
+     * List the assignees of a task.
+     * @param taskId The task ID
+     * @return Assignees in assignment order
+     */
+    @Transactional(readOnly = true)
+    public List<TaskAssignee> getAssignees(UUID taskId) {
+        UUID tenantId = TenantContext.getTenantId();
+
+        taskRepository.findByIdAndTenantId(taskId, tenantId)
+                .orElseThrow(() -> new RuntimeException("Task not found: " + taskId));
+
+        return taskAssigneeRepository.findByTenantIdAndTaskIdOrderByAssignedAtAsc(tenantId, taskId);
+    }
+
+    /**
+     * Assign a user to a task. Assigning an existing assignee returns it unchanged.
+     * @param taskId The task ID
+     * @param userId The user ID
+     * @return The assignment
+     * @throws IllegalArgumentException if the user is not a member of the tenant
+     */
+    public TaskAssignee assignUser(UUID taskId, UUID userId) {
+        assignUsers(List.of(taskId), List.of(userId));
+        return taskAssigneeRepository.findById(new TaskAssigneeId(taskId, userId))
+                .orElseThrow(() -> new RuntimeException("Task not found: " + taskId));
+    }
+
+    /**
+     * Assign every given user to every given task in one statement. Existing assignments are kept.
+     * @param taskIds The task IDs
+     * @param userIds The user IDs
+     * @return The assignments that did not exist before
+     * @throws IllegalArgumentException if the request is too large or a user is not a member of
+     *         the tenant
+     */
+    public List<TaskAssigneeId> assignUsers(Collection<UUID> taskIds, Collection<UUID> userIds) {
+        UUID tenantId = TenantContext.getTenantId();
+        Set<UUID> users = validateBulkSize(taskIds, userIds);
+        Map<UUID, Task> tasks = findTasks(tenantId, taskIds);
+
+        Set<UUID> members = new HashSet<>(userTenantRepository.findMemberUserIds(tenantId, users));
+        for (UUID userId : users) {
+            if (!members.contains(userId)) {
+                throw new IllegalArgumentException("User is not a member of the tenant: " + userId);
+            }
+        }
+
+        List<TaskAssigneeId> assigned = jdbcTemplate.query(ASSIGN_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("uuid", users.toArray()));
+            ps.setObject(2, tenantId);
+            ps.setArray(3, ps.getConnection().createArrayOf("uuid", tasks.keySet().toArray()));
+        }, ASSIGNEE_ID_MAPPER);
+
+        afterAssignmentChange(tenantId, tasks, assigned, "task.assigned");
+        log.info("Users assigned: tasks={}, users={}, new={}, tenant={}",
+                tasks.size(), users.size(), assigned.size(), tenantId);
+        return assigned;
+    }
+
+    /**
+     * Remove a user from a task.
+     * @param taskId The task ID
+     * @param userId The user ID
+     */
+    public void unassignUser(UUID taskId, UUID userId) {
+        if (unassignUsers(List.of(taskId), List.of(userId)).isEmpty()) {
+            throw new RuntimeException("Task assignee not found: " + userId + " on " + taskId);
+        }
+    }
+
+    /**
+     * Remove every given user from every given task in one statement. Pairs that are not assigned
+     * are skipped.
+     * @param taskIds The task IDs
+     * @param userIds The user IDs
+     * @return The assignments that were removed
+     * @throws IllegalArgumentException if the request is too large
+     */
+    public List<TaskAssigneeId> unassignUsers(Collection<UUID> taskIds, Collection<UUID> userIds) {
+        UUID tenantId = TenantContext.getTenantId();
+        Set<UUID> users = validateBulkSize(taskIds, userIds);
+        Map<UUID, Task> tasks = findTasks(tenantId, taskIds);
+
+        List<TaskAssigneeId> removed = jdbcTemplate.query(UNASSIGN_SQL, ps -> {
+            ps.setObject(1, tenantId);
+            ps.setArray(2, ps.getConnection().createArrayOf("uuid", tasks.keySet().toArray()));
+            ps.setArray(3, ps.getConnection().createArrayOf("uuid", users.toArray()));
+        }, ASSIGNEE_ID_MAPPER);
+
+        afterAssignmentChange(tenantId, tasks, removed, "task.unassigned");
+        log.info("Users unassigned: tasks={}, users={}, removed={}, tenant={}",
+                tasks.size(), users.size(), removed.size(), tenantId);
+        return removed;
+    }
+
+    /**
+     * Get one page of the tasks assigned to a user in the current tenant, ordered by status and
+     * task ID.
+     *
+     * The cursor is the (status, task ID) of the last task returned. Status is mutable: a task whose
+     * status changes between two page requests moves to another position in the order, so it can
+     * be skipped (moved behind the cursor) or returned twice (moved ahead of it). Tasks that keep
+     * their status are listed exactly once. Clients that need a consistent listing filter by one
+     * status or dedupe by task ID.
+     * @param userId The user ID
+     * @param status Only tasks with this status; null for every status but COMPLETED
+     * @param cursor nextCursor of the previous page; null for the first page
+     * @param limit Maximum number of tasks, capped at {@value #MAX_PAGE_SIZE}
+     * @return The page, with assignee IDs loaded
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public TaskPage getAssignedTasks(UUID userId, TaskStatus status, String cursor, int limit) {
+        UUID tenantId = TenantContext.getTenantId();
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        String afterStatus = "";
+        UUID afterTaskId = NIL_UUID;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            afterStatus = position[0];
+            afterTaskId = UUID.fromString(position[1]);
+        }
+        List<String> statuses = status != null ? List.of(status.name()) : OPEN_STATUSES;
+
+        List<Task> tasks = new ArrayList<>(taskAssigneeRepository.findAssignedTasks(
+                userId, tenantId, statuses, afterStatus, afterTaskId, pageSize + 1));
+        String nextCursor = null;
+        if (tasks.size() > pageSize) {
+            tasks = new ArrayList<>(tasks.subList(0, pageSize));
+            Task last = tasks.get(pageSize - 1);
+            nextCursor = encodeCursor(last.getStatus(), last.getId());
+        }
+        attachAssignees(tasks);
+
+        return TaskPage.builder()
+                .tasks(tasks)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Fill in the assignee IDs of tasks of the current tenant with one query per
+     * {@value #ASSIGNEE_FETCH_CHUNK} tasks.
+     * @param tasks The tasks
+     */
+    @Transactional(readOnly = true)
+    public void attachAssignees(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        UUID tenantId = TenantContext.getTenantId();
+
+        Map<UUID, List<UUID>> assigneesByTask = new HashMap<>();
+        List<UUID> taskIds = tasks.stream().map(Task::getId).toList();
+        for (int from = 0; from < taskIds.size(); from += ASSIGNEE_FETCH_CHUNK) {
+            List<UUID> chunk = taskIds.subList(from, Math.min(from + ASSIGNEE_FETCH_CHUNK, taskIds.size()));
+            for (TaskAssignee assignee : taskAssigneeRepository.findByTenantIdAndTaskIdIn(tenantId, chunk)) {
+                assigneesByTask.computeIfAbsent(assignee.getTaskId(), id -> new ArrayList<>()).add(assignee.getUserId());
+            }
+        }
+        for (Task task : tasks) {
+            task.setAssigneeIds(assigneesByTask.getOrDefault(task.getId(), List.of()));
+        }
+    }
+
+    private Set<UUID> validateBulkSize(Collection<UUID> taskIds, Collection<UUID> userIds) {
+        if (taskIds.isEmpty() || userIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one task and one user are required");
+        }
+        if (taskIds.size() > MAX_BULK_TASKS || userIds.size() > MAX_BULK_USERS) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_TASKS + " tasks and "
+                    + MAX_BULK_USERS + " users per request");
+        }
+        return new LinkedHashSet<>(userIds);
+    }
+
+    private Map<UUID, Task> findTasks(UUID tenantId, Collection<UUID> taskIds) {
+        Set<UUID> ids = new LinkedHashSet<>(taskIds);
+        Map<UUID, Task> tasks = new LinkedHashMap<>();
+        for (Task task : taskRepository.findByTenantIdAndIdIn(tenantId, ids)) {
+            tasks.put(task.getId(), task);
+        }
+        for (UUID id : ids) {
+            if (!tasks.containsKey(id)) {
+                throw new RuntimeException("Task not found: " + id);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Bump the projects of the changed tasks and publish one event per changed task.
+     */
+    private void afterAssignmentChange(UUID tenantId, Map<UUID, Task> tasks,
+                                       List<TaskAssigneeId> changed, String eventType) {
+        Map<UUID, List<String>> usersByTask = new LinkedHashMap<>();
+        for (TaskAssigneeId id : changed) {
+            usersByTask.computeIfAbsent(id.getTaskId(), taskId -> new ArrayList<>()).add(id.getUserId().toString());
+        }
+
+        Set<UUID> projects = new LinkedHashSet<>();
+        Map<UUID, Map<String, Object>> payloads = new LinkedHashMap<>();
+        usersByTask.forEach((taskId, userIds) -> {
+            Task task = tasks.get(taskId);
+            projects.add(task.getProjectId());
+
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("taskId", taskId.toString());
+            payload.put("projectId", task.getProjectId().toString());
+            payload.put("name", task.getName());
+            payload.put("userIds", userIds);
+            payloads.put(taskId, payload);
+        });
+
+        projects.forEach(projectId -> resourceVersionService.bumpProject(tenantId, projectId));
+        eventPublisher.publishEvents(tenantId, eventType, "task", payloads);
+    }
+
+    static String encodeCursor(TaskStatus status, UUID taskId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((status.name() + ":" + taskId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 2);
+            TaskStatus.valueOf(position[0]);
+            UUID.fromString(position[1]);
+            return position;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package com.platform.saas.service;
 
+import com.platform.saas.cache.TenantIdSet;
+import com.platform.saas.dto.BoardMoveRequest;
+import com.platform.saas.dto.ProjectBoard;
 import com.platform.saas.exception.QuotaExceededException;
 import com.platform.saas.exception.TenantNotFoundException;
 import com.platform.saas.model.*;
+import com.platform.saas.observability.QuotaMetrics;
+import com.platform.saas.observability.jfr.QuotaCheckEvent;
 import com.platform.saas.repository.ProjectRepository;
+import com.platform.saas.repository.TaskDependencyRepository;
 import com.platform.saas.repository.TaskRepository;
 import com.platform.saas.repository.TenantRepository;
 import com.platform.saas.security.TenantContext;
@@ -13,10 +19,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -29,10 +38,21 @@ import java.util.UUID;
 @Transactional
 public class TaskService {
 
+    /**
+     * Upper bound for the per-column limit of a board request.
+     */
+    static final int MAX_BOARD_COLUMN_SIZE = 200;
+
     private final TaskRepository taskRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
     private final ProjectRepository projectRepository;
     private final TenantRepository tenantRepository;
     private final EventPublisher eventPublisher;
+    private final ResourceVersionService resourceVersionService;
+    private final QuotaMetrics quotaMetrics;
+    private final TenantIdSet projectIds;
+    private final DependencyUnblocker dependencyUnblocker;
+    private final TaskAssigneeService taskAssigneeService;
 
     /**
      * Create a new task with quota enforcement.
@@ -59,8 +79,13 @@ public class TaskService {
         // Check quota before creating
         checkQuota(tenantId);
 
-        // Save task
+        // New tasks go to the bottom of their board column
+        task.setBoardRank(nextBoardRank(tenantId, task.getProjectId(), task.getStatus()));
+
+        // Save task; a new task has no assignees yet, so none are loaded
+        task.setAssigneeIds(List.of());
         Task savedTask = taskRepository.save(task);
+        resourceVersionService.bumpProject(tenantId, savedTask.getProjectId());
         log.info("Task created: id={}, name={}, tenant={}, project={}",
                 savedTask.getId(), savedTask.getName(), tenantId, savedTask.getProjectId());
 
@@ -79,8 +104,9 @@ public class TaskService {
     public Task getTask(UUID taskId) {
         UUID tenantId = TenantContext.getTenantId();
 
-        return taskRepository.findByIdAndTenantId(taskId, tenantId)
+        Task task = taskRepository.findByIdAndTenantId(taskId, tenantId)
                 .orElseThrow(() -> new RuntimeException("Task not found: " + taskId));
+        return withAssignees(List.of(task)).get(0);
     }
 
     /**
@@ -90,7 +116,7 @@ public class TaskService {
     @Transactional(readOnly = true)
     public List<Task> getAllTasks() {
         UUID tenantId = TenantContext.getTenantId();
-        return taskRepository.findByTenantId(tenantId);
+        return withAssignees(taskRepository.findByTenantId(tenantId));
     }
 
     /**
@@ -105,7 +131,7 @@ public class TaskService {
         // Validate project belongs to tenant
         validateProject(projectId, tenantId);
 
-        return taskRepository.findByTenantIdAndProjectId(tenantId, projectId);
+        return withAssignees(taskRepository.findByTenantIdAndProjectId(tenantId, projectId));
     }
 
     /**
@@ -116,7 +142,7 @@ public class TaskService {
     @Transactional(readOnly = true)
     public List<Task> getTasksByStatus(TaskStatus status) {
         UUID tenantId = TenantContext.getTenantId();
-        return taskRepository.findByTenantIdAndStatus(tenantId, status);
+        return withAssignees(taskRepository.findByTenantIdAndStatus(tenantId, status));
     }
 
     /**
@@ -132,7 +158,104 @@ public class TaskService {
         // Validate project belongs to tenant
         validateProject(projectId, tenantId);
 
-        return taskRepository.findByTenantIdAndProjectIdAndStatus(tenantId, projectId, status);
+        return withAssignees(taskRepository.findByTenantIdAndProjectIdAndStatus(tenantId, projectId, status));
+    }
+
+    /**
+     * Get the board of a project: the first tasks of every status column in board order, fetched
+     * in one query.
+     * @param projectId The project ID
+     * @param limit Maximum tasks per column, capped at MAX_BOARD_COLUMN_SIZE
+     * @return The board with one column per status
+     */
+    @Transactional(readOnly = true)
+    public ProjectBoard getProjectBoard(UUID projectId, int limit) {
+        UUID tenantId = TenantContext.getTenantId();
+
+        // Validate project belongs to tenant
+        validateProject(projectId, tenantId);
+
+        int perColumn = Math.max(1, Math.min(limit, MAX_BOARD_COLUMN_SIZE));
+        // One extra row per column tells whether the column continues past the limit
+        List<Task> tasks = withAssignees(taskRepository.findBoardColumns(tenantId, projectId, perColumn + 1));
+
+        Map<TaskStatus, List<Task>> byStatus = new EnumMap<>(TaskStatus.class);
+        for (Task task : tasks) {
+            byStatus.computeIfAbsent(task.getStatus(), status -> new ArrayList<>()).add(task);
+        }
+
+        List<ProjectBoard.Column> columns = new ArrayList<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            List<Task> columnTasks = byStatus.getOrDefault(status, List.of());
+            columns.add(ProjectBoard.Column.builder()
+                    .status(status)
+                    .tasks(columnTasks.size() > perColumn ? columnTasks.subList(0, perColumn) : columnTasks)
+                    .hasMore(columnTasks.size() > perColumn)
+                    .build());
+        }
+
+        return ProjectBoard.builder()
+                .projectId(projectId)
+                .limit(perColumn)
+                .columns(columns)
+                .build();
+    }
+
+    /**
+     * Move a task to a new board position, optionally into another status column.
+     * Only the moved task gets a new rank, placed between the given neighbours, unless the
+     * neighbours share a rank: the tasks with that rank are then given distinct ranks first.
+     * @param taskId The task ID
+     * @param move The target column and neighbours
+     * @return The moved task
+     * @throws IllegalArgumentException if a neighbour is not in the target column or the neighbours
+     *         are not in board order
+     */
+    public Task moveTask(UUID taskId, BoardMoveRequest move) {
+        UUID tenantId = TenantContext.getTenantId();
+
+        Task task = taskRepository.findByIdAndTenantId(taskId, tenantId)
+                .orElseThrow(() -> new RuntimeException("Task not found: " + taskId));
+
+        TaskStatus oldStatus = task.getStatus();
+        TaskStatus newStatus = move.getStatus() != null ? move.getStatus() : oldStatus;
+
+        lockBoardColumn(task.getProjectId(), newStatus);
+        String above = neighbourRank(move.getAfterTaskId(), task, newStatus, tenantId);
+        String below = neighbourRank(move.getBeforeTaskId(), task, newStatus, tenantId);
+        if (move.getAfterTaskId() == null && move.getBeforeTaskId() == null) {
+            above = taskRepository.findLastBoardRank(tenantId, task.getProjectId(), newStatus);
+        }
+        if (above != null && above.equals(below)) {
+            spreadRank(tenantId, task.getProjectId(), newStatus, above);
+            above = neighbourRank(move.getAfterTaskId(), task, newStatus, tenantId);
+            below = neighbourRank(move.getBeforeTaskId(), task, newStatus, tenantId);
+        }
+        if (above != null && below != null && above.compareTo(below) >= 0) {
+            throw new IllegalArgumentException("Board neighbours are out of order, reload the column");
+        }
+
+        Map<String, Object> changes = new HashMap<>();
+        Map<String, Object> rankChange = new HashMap<>();
+        rankChange.put("old", task.getBoardRank());
+        task.setBoardRank(BoardRanks.between(above, below));
+        rankChange.put("new", task.getBoardRank());
+        changes.put("boardRank", rankChange);
+
+        boolean statusChanged = newStatus != oldStatus;
+        if (statusChanged) {
+            changes.put("status", Map.of("old", oldStatus.toString(), "new", newStatus.toString()));
+            task.setStatus(newStatus);
+        }
+
+        Task saved = taskRepository.save(task);
+        resourceVersionService.bumpProject(tenantId, saved.getProjectId());
+        log.info("Task moved on board: id={}, status={}, tenant={}", taskId, newStatus, tenantId);
+
+        publishUpdateEventsIfNeeded(saved, changes, statusChanged, oldStatus);
+        unblockDependentsIfCompleted(saved, statusChanged);
+
+        return withAssignees(List.of(saved)).get(0);
     }
 
     /**
@@ -143,7 +266,7 @@ public class TaskService {
     @Transactional(readOnly = true)
     public List<Task> getTasksByPriority(Priority priority) {
         UUID tenantId = TenantContext.getTenantId();
-        return taskRepository.findByTenantIdAndPriority(tenantId, priority);
+        return withAssignees(taskRepository.findByTenantIdAndPriority(tenantId, priority));
     }
 
     /**
@@ -153,7 +276,7 @@ public class TaskService {
     @Transactional(readOnly = true)
     public List<Task> getOverdueTasks() {
         UUID tenantId = TenantContext.getTenantId();
-        return taskRepository.findOverdueTasks(tenantId, LocalDate.now());
+        return withAssignees(taskRepository.findOverdueTasks(tenantId, LocalDate.now()));
     }
 
     /**
@@ -168,7 +291,7 @@ public class TaskService {
         // Validate project belongs to tenant
         validateProject(projectId, tenantId);
 
-        return taskRepository.findOverdueTasksForProject(tenantId, projectId, LocalDate.now());
+        return withAssignees(taskRepository.findOverdueTasksForProject(tenantId, projectId, LocalDate.now()));
     }
 
     /**
@@ -190,14 +313,19 @@ public class TaskService {
 
         // Apply field updates
         boolean statusChanged = applyTaskFieldUpdates(existing, updatedTask, changes);
+        if (statusChanged) {
+            existing.setBoardRank(nextBoardRank(tenantId, existing.getProjectId(), existing.getStatus()));
+        }
 
         Task saved = taskRepository.save(existing);
+        resourceVersionService.bumpProject(tenantId, saved.getProjectId());
         log.info("Task updated: id={}, tenant={}", taskId, tenantId);
 
         // Publish events if there were changes
         publishUpdateEventsIfNeeded(saved, changes, statusChanged, oldStatus);
+        unblockDependentsIfCompleted(saved, statusChanged);
 
-        return saved;
+        return withAssignees(List.of(saved)).get(0);
     }
 
     /**
@@ -206,7 +334,7 @@ public class TaskService {
      * PMAT: Helper method for field updates
      * @return true if status changed, false otherwise
      */
-    private boolean applyTaskFieldUpdates(Task existing, Task updatedTask, Map<String, Object> changes) {
+    static boolean applyTaskFieldUpdates(Task existing, Task updatedTask, Map<String, Object> changes) {
         boolean statusChanged = false;
 
         if (updatedTask.getName() != null && !updatedTask.getName().equals(existing.getName())) {
@@ -254,6 +382,24 @@ public class TaskService {
         }
     }
 
+    /**
+     * Load the assignee IDs of listed tasks in one query per chunk instead of one per task.
+     */
+    private List<Task> withAssignees(List<Task> tasks) {
+        taskAssigneeService.attachAssignees(tasks);
+        return tasks;
+    }
+
+    /**
+     * Move the BLOCKED dependents of a task that just became COMPLETED to TODO once none of their
+     * other blockers is open. They share the task's project, whose version was already bumped.
+     */
+    private void unblockDependentsIfCompleted(Task task, boolean statusChanged) {
+        if (statusChanged && task.getStatus() == TaskStatus.COMPLETED) {
+            dependencyUnblocker.unblockDependents(task);
+        }
+    }
+
     /**
      * Delete a task.
      * @param taskId The task ID
@@ -268,6 +414,7 @@ public class TaskService {
         publishTaskDeletedEvent(task);
 
         taskRepository.delete(task);
+        resourceVersionService.bumpProject(tenantId, task.getProjectId());
         log.info("Task deleted: id={}, tenant={}", taskId, tenantId);
     }
 
@@ -312,8 +459,88 @@ public class TaskService {
         return avgProgress != null ? avgProgress : 0.0;
     }
 
+    /**
+     * Get the dependencies blocking a task.
+     * @param taskId The blocked task ID
+     * @return Dependencies whose blocked task is the given task
+     */
+    @Transactional(readOnly = true)
+    public List<TaskDependency> getDependencies(UUID taskId) {
+        UUID tenantId = TenantContext.getTenantId();
+
+        taskRepository.findByIdAndTenantId(taskId, tenantId)
+                .orElseThrow(() -> new RuntimeException("Task not found: " + taskId));
+
+        return taskDependencyRepository.findByBlockedTaskId(taskId);
+    }
+
+    /**
+     * Make a task wait for another task of the same project.
+     * Adding an existing dependency returns it unchanged.
+     * @param blockedTaskId The task that waits
+     * @param blockingTaskId The task that must complete first
+     * @return The dependency
+     * @throws IllegalArgumentException if the tasks are in different projects or the dependency
+     *         would create a cycle
+     */
+    public TaskDependency addDependency(UUID blockedTaskId, UUID blockingTaskId) {
+        UUID tenantId = TenantContext.getTenantId();
+
+        Task blocked = taskRepository.findByIdAndTenantId(blockedTaskId, tenantId)
+                .orElseThrow(() -> new RuntimeException("Task not found: " + blockedTaskId));
+        Task blocking = taskRepository.findByIdAndTenantId(blockingTaskId, tenantId)
+                .orElseThrow(() -> new RuntimeException("Task not found: " + blockingTaskId));
+        if (!blocking.getProjectId().equals(blocked.getProjectId())) {
+            throw new IllegalArgumentException("Dependencies must stay within one project");
+        }
+
+        // The cycle check and the insert must see the same graph
+        taskDependencyRepository.lockProjectDependencies(blocked.getProjectId());
+
+        Optional<TaskDependency> existing = taskDependencyRepository.findById(
+                new TaskDependencyId(blockingTaskId, blockedTaskId));
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        validateDependency(blockingTaskId, blockedTaskId);
+
+        TaskDependency saved = taskDependencyRepository.save(
+                new TaskDependency(blockingTaskId, blockedTaskId, tenantId));
+        resourceVersionService.bumpProject(tenantId, blocked.getProjectId());
+        log.info("Task dependency added: blocking={}, blocked={}, tenant={}", blockingTaskId, blockedTaskId, tenantId);
+
+        publishTaskDependencyEvent(blocked, blockingTaskId, "task.dependency.added");
+
+        return saved;
+    }
+
+    /**
+     * Remove a dependency between two tasks.
+     * @param blockedTaskId The task that waits
+     * @param blockingTaskId The task it waits for
+     */
+    public void removeDependency(UUID blockedTaskId, UUID blockingTaskId) {
+        UUID tenantId = TenantContext.getTenantId();
+
+        Task blocked = taskRepository.findByIdAndTenantId(blockedTaskId, tenantId)
+                .orElseThrow(() -> new RuntimeException("Task not found: " + blockedTaskId));
+        TaskDependencyId id = new TaskDependencyId(blockingTaskId, blockedTaskId);
+        if (!taskDependencyRepository.existsById(id)) {
+            throw new RuntimeException("Task dependency not found: " + blockingTaskId + " -> " + blockedTaskId);
+        }
+
+        taskDependencyRepository.deleteById(id);
+        resourceVersionService.bumpProject(tenantId, blocked.getProjectId());
+        log.info("Task dependency removed: blocking={}, blocked={}, tenant={}", blockingTaskId, blockedTaskId, tenantId);
+
+        publishTaskDependencyEvent(blocked, blockingTaskId, "task.dependency.removed");
+    }
+
     /**
      * Validate that a dependency relationship doesn't create a circular dependency.
+     * The new dependency closes a cycle when the blocking task already depends on the blocked
+     * task, which one recursive query over the dependency index answers.
      * @param blockingTaskId The task that blocks
      * @param blockedTaskId The task that is blocked
      * @throws IllegalArgumentException if circular dependency detected
@@ -323,10 +550,10 @@ public class TaskService {
             throw new IllegalArgumentException("Task cannot depend on itself");
         }
 
-        // TODO: Implement graph traversal to detect circular dependencies
-        // This would require a TaskDependencyRepository to query existing dependencies
-        log.warn("Circular dependency check not yet implemented for tasks {} -> {}",
-                blockingTaskId, blockedTaskId);
+        if (taskDependencyRepository.isReachable(blockedTaskId, blockingTaskId)) {
+            throw new IllegalArgumentException("Circular dependency: task " + blockingTaskId
+                    + " already depends on task " + blockedTaskId);
+        }
     }
 
     /**
@@ -336,33 +563,97 @@ public class TaskService {
      * @throws RuntimeException if project not found or doesn't belong to tenant
      */
     private void validateProject(UUID projectId, UUID tenantId) {
-        projectRepository.findByIdAndTenantId(projectId, tenantId)
-                .orElseThrow(() -> new RuntimeException("Project not found or access denied: " + projectId));
+        if (!projectIds.contains(tenantId, projectId, () -> projectRepository.existsByIdAndTenantId(projectId, tenantId))) {
+            throw new RuntimeException("Project not found or access denied: " + projectId);
+        }
+    }
+
+    /**
+     * Rank that places a task at the bottom of a board column. Locks the column until the
+     * transaction ends.
+     */
+    private String nextBoardRank(UUID tenantId, UUID projectId, TaskStatus status) {
+        lockBoardColumn(projectId, status);
+        return BoardRanks.between(taskRepository.findLastBoardRank(tenantId, projectId, status), null);
+    }
+
+    /**
+     * Serialize rank assignment in a board column with concurrent creates and moves.
+     */
+    private void lockBoardColumn(UUID projectId, TaskStatus status) {
+        taskRepository.lockBoardColumn(projectId, status.name());
+    }
+
+    /**
+     * Give the tasks sharing a rank distinct ranks in their board order (created_at, id), between
+     * the rank and the next higher one. Such ties were left by rank assignment that raced before
+     * the column lock; the first task keeps the rank. Requires the column lock.
+     */
+    private void spreadRank(UUID tenantId, UUID projectId, TaskStatus status, String rank) {
+        List<Task> tied = taskRepository.findByTenantIdAndProjectIdAndStatusAndBoardRankOrderByCreatedAtAscIdAsc(
+                tenantId, projectId, status, rank);
+        String next = taskRepository.findNextBoardRank(tenantId, projectId, status, rank);
+        String previous = rank;
+        for (Task tiedTask : tied.subList(Math.min(1, tied.size()), tied.size())) {
+            previous = BoardRanks.between(previous, next);
+            tiedTask.setBoardRank(previous);
+        }
+        taskRepository.saveAll(tied);
+        log.info("Board rank ties resolved: project={}, status={}, tasks={}", projectId, status, tied.size());
+    }
+
+    /**
+     * Rank of a move neighbour, which must be another ranked task of the target column.
+     * @return The rank, or null when no neighbour was given
+     */
+    private String neighbourRank(UUID neighbourId, Task moved, TaskStatus status, UUID tenantId) {
+        if (neighbourId == null) {
+            return null;
+        }
+        Task neighbour = taskRepository.findByIdAndTenantId(neighbourId, tenantId)
+                .filter(candidate -> !candidate.getId().equals(moved.getId()))
+                .filter(candidate -> candidate.getProjectId().equals(moved.getProjectId()))
+                .filter(candidate -> candidate.getStatus() == status)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Neighbour task is not in the target column: " + neighbourId));
+        if (neighbour.getBoardRank() == null) {
+            throw new IllegalArgumentException("Neighbour task has no board position: " + neighbourId);
+        }
+        return neighbour.getBoardRank();
     }
 
     /**
      * Check if tenant has exceeded their quota for tasks.
+     * Limit and usage come from one query that also serializes the tenant's creates until this
+     * transaction ends, so concurrent creates cannot overshoot the limit.
      * @param tenantId The tenant ID
      * @throws QuotaExceededException if quota is exceeded
      * @throws TenantNotFoundException if tenant not found
      */
     private void checkQuota(UUID tenantId) {
-        Tenant tenant = tenantRepository.findById(tenantId)
+        long start = System.nanoTime();
+        QuotaCheckEvent event = QuotaCheckEvent.start(tenantId, "projects+tasks");
+        TenantRepository.QuotaUsage usage = tenantRepository.lockQuotaUsage(tenantId)
                 .orElseThrow(() -> new TenantNotFoundException(tenantId));
 
-        Integer quotaLimit = tenant.getQuotaLimit();
+        Integer quotaLimit = usage.getQuotaLimit();
 
         // Enterprise tier has unlimited quota (null quota limit)
         if (quotaLimit == null) {
             log.debug("Enterprise tier - no quota limit for tenant: {}", tenantId);
+            quotaMetrics.recordCheck(tenantId, null, "projects+tasks", 0, start);
+            event.complete(0, null);
             return;
         }
 
         // Quota applies to combined projects + tasks
-        long projectCount = projectRepository.countByTenantId(tenantId);
-        long taskCount = taskRepository.countByTenantId(tenantId);
+        long projectCount = usage.getProjectCount();
+        long taskCount = usage.getTaskCount();
         long totalCount = projectCount + taskCount;
 
+        quotaMetrics.recordCheck(tenantId, quotaLimit, "projects+tasks", totalCount, start);
+        event.complete(totalCount, quotaLimit);
+
         if (totalCount >= quotaLimit) {
             log.warn("Quota exceeded for tenant: {} - current: {} (projects: {}, tasks: {}), limit: {}",
                     tenantId, totalCount, projectCount, taskCount, quotaLimit);
@@ -434,6 +725,24 @@ public class TaskService {
         );
     }
 
+    /**
+     * Publish task.dependency.added or task.dependency.removed event.
+     */
+    private void publishTaskDependencyEvent(Task blocked, UUID blockingTaskId, String eventType) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("taskId", blocked.getId().toString());
+        payload.put("projectId", blocked.getProjectId().toString());
+        payload.put("blockingTaskId", blockingTaskId.toString());
+
+        eventPublisher.publishEvent(
+                blocked.getTenantId(),
+                eventType,
+                blocked.getId(),
+                "task",
+                payload
+        );
+    }
+
     /**
      * Publish task.deleted event.
      */
@@ -1,5 +1,7 @@
 package com.platform.saas.service;
 
+import com.platform.saas.cache.CacheInvalidationBus;
+import com.platform.saas.cache.CacheRegion;
 import com.platform.saas.dto.TenantRegistrationRequest;
 import com.platform.saas.dto.TenantResponse;
 import com.platform.saas.exception.InvalidSubdomainException;
@@ -13,6 +15,7 @@ import com.platform.saas.model.UserRole;
 import com.platform.saas.repository.ProjectRepository;
 import com.platform.saas.repository.TaskRepository;
 import com.platform.saas.repository.TenantRepository;
+import com.platform.saas.security.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -36,6 +39,7 @@ public class TenantService {
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
     private final UserService userService;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     /**
      * Reserved subdomains that cannot be used for tenant registration.
@@ -79,13 +83,17 @@ public class TenantService {
 
         tenant = tenantRepository.save(tenant);
         log.info("Tenant created with ID: {}", tenant.getId());
+        cacheInvalidationBus.publishTenant(CacheRegion.TENANT, tenant.getId());
 
         // Create owner user and associate with tenant
         User owner = userService.findOrCreateUserByEmail(
                 request.getOwnerEmail(),
                 request.getOwnerName()
         );
-        userService.addUserToTenant(owner.getId(), tenant.getId(), UserRole.ADMINISTRATOR, null);
+        UUID tenantId = tenant.getId();
+        // Membership belongs to the tenant's shard; the tenants row above is written on the default shard
+        TenantContext.executeWithTenantId(tenantId,
+                () -> userService.addUserToTenant(owner.getId(), tenantId, UserRole.ADMINISTRATOR, null));
 
         log.info("Tenant registration completed for subdomain: {}", request.getSubdomain());
         return toTenantResponse(tenant, 0L);
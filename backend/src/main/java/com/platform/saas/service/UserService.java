@@ -1,5 +1,7 @@
 package com.platform.saas.service;
 
+import com.platform.saas.cache.CacheInvalidationBus;
+import com.platform.saas.cache.CacheRegion;
 import com.platform.saas.exception.TenantNotFoundException;
 import com.platform.saas.exception.UserNotFoundException;
 import com.platform.saas.model.Tenant;
@@ -29,6 +31,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final TenantRepository tenantRepository;
     private final UserTenantRepository userTenantRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     /**
      * Create a new user from AWS Cognito authentication.
@@ -155,6 +158,7 @@ public class UserService {
         userTenant.setInvitedBy(invitedBy);
 
         userTenant = userTenantRepository.save(userTenant);
+        cacheInvalidationBus.publish(CacheRegion.MEMBERSHIP, tenantId, userId);
         log.info("User {} added to tenant {} successfully", userId, tenantId);
 
         return userTenant;
@@ -0,0 +1,372 @@
+package com.platform.saas.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.saas.model.AutomationRule;
+import com.platform.saas.model.EventLog;
+import com.platform.saas.repository.EventLogRepository;
+import com.platform.saas.security.TenantContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes "call_webhook" automation actions.
+ *
+ * Requests go through one shared, connection-pooled HTTP/2-capable client and complete
+ * asynchronously, so no thread waits on a slow endpoint. Each destination host gets a
+ * concurrency limit and a circuit breaker; attempts beyond the limit wait for a permit without
+ * using up an attempt ({@link WebhookHostPermits}). Failed attempts (I/O errors, timeouts, 429
+ * and 5xx) are retried with full-jitter exponential backoff. The outcome and latency of every execution
+ * are recorded as an EventLog.
+ *
+ * Hosts resolving to loopback, private, link-local or metadata addresses are refused before every
+ * attempt ({@link WebhookAddressPolicy}) unless allow-private-addresses is set, and redirects are
+ * not followed.
+ *
+ * Action config: {"url": "https://...", "method": "POST", "headers": {"X-Token": "..."}}
+ */
+@Service
+@Slf4j
+public class WebhookActionExecutor {
+
+    public static final String ACTION_TYPE = "call_webhook";
+
+    private static final Set<String> SUPPORTED_METHODS = Set.of("POST", "PUT", "PATCH");
+
+    private final EventLogRepository eventLogRepository;
+    private final EventLogWriter eventLogWriter;
+    private final ObjectMapper objectMapper;
+    private final Duration requestTimeout;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final int maxResponseBodyChars;
+
+    private final ExecutorService responseExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+    private final WebhookCircuitBreaker circuitBreaker;
+    private final WebhookAddressPolicy addressPolicy;
+    private final WebhookHostPermits hostPermits;
+
+    public WebhookActionExecutor(
+            EventLogRepository eventLogRepository,
+            EventLogWriter eventLogWriter,
+            ObjectMapper objectMapper,
+            @Value("${app.automation.webhook.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${app.automation.webhook.request-timeout-ms:10000}") long requestTimeoutMs,
+            @Value("${app.automation.webhook.max-concurrent-per-host:8}") int maxConcurrentPerHost,
+            @Value("${app.automation.webhook.max-permit-wait-ms:30000}") long maxPermitWaitMs,
+            @Value("${app.automation.webhook.max-attempts:3}") int maxAttempts,
+            @Value("${app.automation.webhook.initial-backoff-ms:200}") long initialBackoffMs,
+            @Value("${app.automation.webhook.max-backoff-ms:5000}") long maxBackoffMs,
+            @Value("${app.automation.webhook.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${app.automation.webhook.circuit-breaker.open-duration-ms:30000}") long openDurationMs,
+            @Value("${app.automation.webhook.max-response-body-chars:2000}") int maxResponseBodyChars,
+            @Value("${app.automation.webhook.allow-private-addresses:false}") boolean allowPrivateAddresses) {
+
+        this.eventLogRepository = eventLogRepository;
+        this.eventLogWriter = eventLogWriter;
+        this.objectMapper = objectMapper;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.maxResponseBodyChars = maxResponseBodyChars;
+        this.hostPermits = new WebhookHostPermits(maxConcurrentPerHost, maxPermitWaitMs);
+        this.circuitBreaker = new WebhookCircuitBreaker(failureThreshold, openDurationMs, Clock.systemUTC());
+        this.addressPolicy = new WebhookAddressPolicy(allowPrivateAddresses, InetAddress::getAllByName);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(responseExecutor)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpClient.shutdownNow();
+        responseExecutor.shutdownNow();
+    }
+
+    /**
+     * Call the rule's webhook with the event and record the outcome.
+     *
+     * @param rule The call_webhook rule being executed
+     * @param resourceId The resource ID that triggered the event
+     * @param resourceType The resource type (e.g., "project", "task")
+     * @param eventPayload The event payload
+     * @return Future completed with the saved event log once all attempts are finished
+     */
+    public CompletableFuture<EventLog> execute(
+            AutomationRule rule,
+            UUID resourceId,
+            String resourceType,
+            Map<String, Object> eventPayload) {
+
+        long startNanos = System.nanoTime();
+        WebhookCall call;
+        try {
+            call = buildCall(rule, resourceId, resourceType, eventPayload);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid webhook configuration for rule {}: {}", rule.getId(), e.getMessage());
+            return CompletableFuture.completedFuture(record(rule, resourceId, resourceType, eventPayload,
+                    null, new Outcome(0, null, e.getMessage(), 0, false), startNanos));
+        }
+
+        CompletableFuture<Outcome> outcome = new CompletableFuture<>();
+        attempt(call, 1, outcome);
+        return outcome.thenApply(result ->
+                record(rule, resourceId, resourceType, eventPayload, call, result, startNanos));
+    }
+
+    WebhookCircuitBreaker.State getCircuitState(String host) {
+        return circuitBreaker.getState(host);
+    }
+
+    private void attempt(WebhookCall call, int attemptNumber, CompletableFuture<Outcome> outcome) {
+        // Every attempt, so a host re-pointed at an internal address between retries is caught
+        try {
+            addressPolicy.check(call.request().uri().getHost());
+        } catch (UnknownHostException e) {
+            retryOrComplete(call, attemptNumber, outcome,
+                    new Outcome(0, null, describe(e), attemptNumber, false), true);
+            return;
+        } catch (IllegalArgumentException e) {
+            log.warn("Refusing webhook call to {}: {}", call.host(), e.getMessage());
+            outcome.complete(new Outcome(0, null, e.getMessage(), attemptNumber, false));
+            return;
+        }
+
+        // Waiting for a permit does not use up an attempt; only waiting too long fails the call
+        hostPermits.acquire(call.host()).whenCompleteAsync((ignored, error) -> {
+            if (error != null) {
+                outcome.complete(new Outcome(0, null,
+                        "Timed out waiting for a connection slot to " + call.host(), attemptNumber, false));
+                return;
+            }
+            send(call, attemptNumber, outcome);
+        }, responseExecutor);
+    }
+
+    /**
+     * Send one attempt while holding a permit of the host.
+     */
+    private void send(WebhookCall call, int attemptNumber, CompletableFuture<Outcome> outcome) {
+        if (!circuitBreaker.tryAcquire(call.host())) {
+            hostPermits.release(call.host());
+            outcome.complete(new Outcome(0, null, "Circuit open for " + call.host(), attemptNumber, true));
+            return;
+        }
+
+        httpClient.sendAsync(call.request(), HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    hostPermits.release(call.host());
+                    if (error != null) {
+                        circuitBreaker.recordFailure(call.host());
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        retryOrComplete(call, attemptNumber, outcome,
+                                new Outcome(0, null, describe(cause), attemptNumber, false),
+                                cause instanceof IOException);
+                        return;
+                    }
+
+                    int status = response.statusCode();
+                    boolean retryable = status == 429 || status >= 500;
+                    if (retryable) {
+                        circuitBreaker.recordFailure(call.host());
+                    } else {
+                        circuitBreaker.recordSuccess(call.host());
+                    }
+                    String failure = status >= 200 && status < 300 ? null : "Webhook responded with HTTP " + status;
+                    retryOrComplete(call, attemptNumber, outcome,
+                            new Outcome(status, truncate(response.body()), failure, attemptNumber, false),
+                            retryable);
+                });
+    }
+
+    private void retryOrComplete(
+            WebhookCall call,
+            int attemptNumber,
+            CompletableFuture<Outcome> outcome,
+            Outcome result,
+            boolean retryable) {
+
+        if (!retryable || attemptNumber >= maxAttempts) {
+            outcome.complete(result);
+            return;
+        }
+        long delayMs = backoffMs(attemptNumber);
+        log.debug("Retrying webhook {} in {}ms (attempt {} failed: {})",
+                call.host(), delayMs, attemptNumber, result.error());
+        CompletableFuture.runAsync(() -> attempt(call, attemptNumber + 1, outcome),
+                CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS, responseExecutor));
+    }
+
+    /**
+     * Full-jitter exponential backoff: uniform in [0, min(max, initial * 2^(attempt-1))].
+     */
+    private long backoffMs(int attemptNumber) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attemptNumber - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private WebhookCall buildCall(
+            AutomationRule rule,
+            UUID resourceId,
+            String resourceType,
+            Map<String, Object> eventPayload) {
+
+        Map<String, Object> config = rule.getActionConfig();
+        Object url = config != null ? config.get("url") : null;
+        if (!(url instanceof String urlString) || urlString.isBlank()) {
+            throw new IllegalArgumentException("Webhook url is required");
+        }
+
+        URI uri;
+        try {
+            uri = URI.create(urlString.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Webhook url is invalid: " + urlString);
+        }
+        String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+        if (!scheme.equals("http") && !scheme.equals("https") || uri.getHost() == null) {
+            throw new IllegalArgumentException("Webhook url must be an absolute http(s) URL: " + urlString);
+        }
+
+        String method = config.get("method") instanceof String m ? m.toUpperCase(Locale.ROOT) : "POST";
+        if (!SUPPORTED_METHODS.contains(method)) {
+            throw new IllegalArgumentException("Unsupported webhook method: " + method);
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("ruleId", rule.getId());
+        body.put("tenantId", rule.getTenantId());
+        body.put("eventType", rule.getEventType());
+        body.put("resourceId", resourceId);
+        body.put("resourceType", resourceType);
+        body.put("payload", eventPayload);
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(toJson(body)));
+        if (config.get("headers") instanceof Map<?, ?> headers) {
+            headers.forEach((name, value) -> request.header(String.valueOf(name), String.valueOf(value)));
+        }
+
+        int port = uri.getPort() != -1 ? uri.getPort() : (scheme.equals("https") ? 443 : 80);
+        String host = scheme + "://" + uri.getHost().toLowerCase(Locale.ROOT) + ":" + port;
+        return new WebhookCall(host, uri.toString(), method, request.build());
+    }
+
+    private EventLog record(
+            AutomationRule rule,
+            UUID resourceId,
+            String resourceType,
+            Map<String, Object> eventPayload,
+            WebhookCall call,
+            Outcome outcome,
+            long startNanos) {
+
+        Map<String, Object> actionResult = new LinkedHashMap<>();
+        if (call != null) {
+            actionResult.put("url", call.url());
+            actionResult.put("method", call.method());
+        }
+        actionResult.put("attempts", outcome.attempts());
+        if (outcome.statusCode() > 0) {
+            actionResult.put("statusCode", outcome.statusCode());
+        }
+        if (outcome.responseBody() != null) {
+            actionResult.put("responseBody", outcome.responseBody());
+        }
+        if (outcome.circuitOpen()) {
+            actionResult.put("circuitOpen", true);
+        }
+
+        EventLog eventLog = EventLog.builder()
+                .tenantId(rule.getTenantId())
+                .automationRuleId(rule.getId())
+                .eventType(rule.getEventType())
+                .actionType(ACTION_TYPE)
+                .status(outcome.error() == null ? EventLog.ExecutionStatus.SUCCESS : EventLog.ExecutionStatus.FAILED)
+                .eventPayload(eventPayload)
+                .actionResult(actionResult)
+                .errorMessage(outcome.error())
+                .executionDurationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+                .resourceId(resourceId)
+                .resourceType(resourceType)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        try {
+            // Runs on an HTTP client thread: the tenant context routes a synchronous save to the tenant's shard
+            if (!eventLogWriter.submit(eventLog)) {
+                TenantContext.executeWithTenantId(rule.getTenantId(), () -> eventLogRepository.save(eventLog));
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to record webhook result for rule {}", rule.getId(), e);
+        }
+
+        log.debug("Webhook executed: rule={}, status={}, attempts={}, duration={}ms",
+                rule.getId(), eventLog.getStatus(), outcome.attempts(), eventLog.getExecutionDurationMs());
+        return eventLog;
+    }
+
+    private String toJson(Map<String, Object> body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Webhook payload is not serializable", e);
+        }
+    }
+
+    private String truncate(String body) {
+        if (body == null || body.length() <= maxResponseBodyChars) {
+            return body;
+        }
+        return body.substring(0, maxResponseBodyChars);
+    }
+
+    private static String describe(Throwable error) {
+        return error.getClass().getSimpleName() + (error.getMessage() != null ? ": " + error.getMessage() : "");
+    }
+
+    /**
+     * A prepared webhook request and the host key used for limits and the circuit breaker.
+     */
+    private record WebhookCall(String host, String url, String method, HttpRequest request) {
+    }
+
+    /**
+     * Final outcome of a webhook execution across attempts.
+     */
+    private record Outcome(int statusCode, String responseBody, String error, int attempts, boolean circuitOpen) {
+    }
+}
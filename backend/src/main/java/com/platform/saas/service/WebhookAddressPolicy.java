@@ -0,0 +1,120 @@
+package com.platform.saas.service;
+
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * Keeps outbound webhook calls away from internal networks (server-side request forgery).
+ *
+ * A webhook URL is chosen by the tenant, so without a check it could reach the loopback interface,
+ * the cloud metadata service (169.254.169.254, fd00:ec2::254) or private services next to the
+ * application. The host is resolved and the call refused if any of its addresses is loopback,
+ * link-local, site-local/unique-local, carrier-grade NAT, multicast, unspecified or reserved;
+ * IPv4 addresses embedded in IPv6 (mapped, compatible, NAT64) are checked as IPv4.
+ *
+ * The check is made right before every attempt, retries included. The HTTP client resolves the
+ * host again when it connects and is answered from the JVM's positive address cache
+ * (networkaddress.cache.ttl, 30 seconds by default), so it connects to the addresses that were
+ * checked and a DNS answer rebound in between is not used. Redirects are never followed.
+ */
+class WebhookAddressPolicy {
+
+    /**
+     * Resolves a host name to all its addresses; replaceable in tests.
+     */
+    @FunctionalInterface
+    interface Resolver {
+        InetAddress[] resolve(String host) throws UnknownHostException;
+    }
+
+    private final boolean allowPrivateAddresses;
+    private final Resolver resolver;
+
+    WebhookAddressPolicy(boolean allowPrivateAddresses, Resolver resolver) {
+        this.allowPrivateAddresses = allowPrivateAddresses;
+        this.resolver = resolver;
+    }
+
+    /**
+     * Resolve the host and check all its addresses.
+     *
+     * @throws UnknownHostException if the host does not resolve
+     * @throws IllegalArgumentException if the host resolves to an address webhooks may not reach
+     */
+    void check(String host) throws UnknownHostException {
+        if (allowPrivateAddresses) {
+            return;
+        }
+        for (InetAddress address : resolver.resolve(host)) {
+            if (isBlocked(address)) {
+                throw new IllegalArgumentException("Webhook host " + host
+                        + " resolves to a non-public address " + address.getHostAddress());
+            }
+        }
+    }
+
+    static boolean isBlocked(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return true;
+        }
+        byte[] bytes = address.getAddress();
+        if (address instanceof Inet4Address) {
+            return isBlockedIpv4(bytes, 0);
+        }
+        if (address instanceof Inet6Address) {
+            // fc00::/7 unique local
+            if ((bytes[0] & 0xfe) == 0xfc) {
+                return true;
+            }
+            // ::/96 compatible, ::ffff:0:0/96 mapped and 64:ff9b::/96 NAT64 carry an IPv4 address
+            if (isZero(bytes, 0, 10) && (isZero(bytes, 10, 12) || (bytes[10] == (byte) 0xff && bytes[11] == (byte) 0xff))
+                    || isNat64(bytes)) {
+                return isBlockedIpv4(bytes, 12) || isLocalIpv4(bytes, 12);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reserved IPv4 ranges the InetAddress predicates do not cover.
+     */
+    private static boolean isBlockedIpv4(byte[] bytes, int offset) {
+        int first = bytes[offset] & 0xff;
+        int second = bytes[offset + 1] & 0xff;
+        return first == 0                                               // 0.0.0.0/8 "this network"
+                || first == 100 && (second & 0xc0) == 64                // 100.64.0.0/10 carrier-grade NAT
+                || first == 192 && second == 0 && bytes[offset + 2] == 0 // 192.0.0.0/24 IETF protocol assignments
+                || first == 198 && (second & 0xfe) == 18                // 198.18.0.0/15 benchmarking
+                || first >= 224;                                        // multicast, reserved and broadcast
+    }
+
+    /**
+     * Loopback, link-local and private IPv4 ranges, for addresses embedded in IPv6.
+     */
+    private static boolean isLocalIpv4(byte[] bytes, int offset) {
+        int first = bytes[offset] & 0xff;
+        int second = bytes[offset + 1] & 0xff;
+        return first == 127
+                || first == 10
+                || first == 169 && second == 254
+                || first == 172 && (second & 0xf0) == 16
+                || first == 192 && second == 168;
+    }
+
+    private static boolean isNat64(byte[] bytes) {
+        return bytes[0] == 0 && bytes[1] == 0x64 && bytes[2] == (byte) 0xff && bytes[3] == (byte) 0x9b
+                && isZero(bytes, 4, 12);
+    }
+
+    private static boolean isZero(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
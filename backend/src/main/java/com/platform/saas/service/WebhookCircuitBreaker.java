@@ -0,0 +1,151 @@
+package com.platform.saas.service;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Per-host circuit breaker for outbound webhook calls.
+ *
+ * After a number of consecutive failures the circuit for a host opens and calls are rejected
+ * without touching the network. Once the open period elapses a single trial call is let through
+ * (half-open); its outcome closes the circuit again or re-opens it.
+ *
+ * Circuits of hosts that have not been called for two open periods are dropped, checked at most
+ * once per open period; a host called again afterwards starts with a new, closed circuit. An open
+ * circuit has always become half-open by then.
+ */
+class WebhookCircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMs;
+    private final Clock clock;
+    private final Map<String, HostCircuit> circuits = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepAt;
+
+    WebhookCircuitBreaker(int failureThreshold, long openDurationMs, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+        this.clock = clock;
+        this.lastSweepAt = new AtomicLong(clock.millis());
+    }
+
+    /**
+     * Check whether a call to the host may proceed. In the half-open state only one caller is
+     * admitted until its outcome is recorded.
+     */
+    boolean tryAcquire(String host) {
+        sweepIfDue();
+        return withCircuit(host, HostCircuit::tryAcquire);
+    }
+
+    void recordSuccess(String host) {
+        withCircuit(host, HostCircuit::recordSuccess);
+    }
+
+    void recordFailure(String host) {
+        withCircuit(host, HostCircuit::recordFailure);
+    }
+
+    State getState(String host) {
+        return withCircuit(host, HostCircuit::getState);
+    }
+
+    int hostCount() {
+        return circuits.size();
+    }
+
+    /**
+     * Run an action on the host's circuit under its monitor, retrying with a new circuit when the
+     * one found was dropped concurrently.
+     */
+    private <T> T withCircuit(String host, Function<HostCircuit, T> action) {
+        while (true) {
+            HostCircuit circuit = circuits.computeIfAbsent(host, h -> new HostCircuit());
+            synchronized (circuit) {
+                if (!circuit.dropped) {
+                    circuit.lastUsedAt = clock.millis();
+                    return action.apply(circuit);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop the circuits not used for two open periods, unless a trial call is in flight.
+     */
+    private void sweepIfDue() {
+        long now = clock.millis();
+        long last = lastSweepAt.get();
+        if (now - last < openDurationMs || !lastSweepAt.compareAndSet(last, now)) {
+            return;
+        }
+        circuits.forEach((host, circuit) -> {
+            synchronized (circuit) {
+                if (!circuit.trialInFlight && now - circuit.lastUsedAt >= 2 * openDurationMs) {
+                    circuit.dropped = true;
+                    circuits.remove(host, circuit);
+                }
+            }
+        });
+    }
+
+    private final class HostCircuit {
+
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;
+        private boolean trialInFlight;
+        private long lastUsedAt;
+        private boolean dropped;
+
+        synchronized boolean tryAcquire() {
+            if (state == State.OPEN) {
+                if (clock.millis() - openedAt < openDurationMs) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = false;
+            }
+            if (state == State.HALF_OPEN) {
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+            }
+            return true;
+        }
+
+        synchronized State recordSuccess() {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            trialInFlight = false;
+            return state;
+        }
+
+        synchronized State recordFailure() {
+            trialInFlight = false;
+            if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAt = clock.millis();
+                consecutiveFailures = 0;
+            }
+            return state;
+        }
+
+        synchronized State getState() {
+            if (state == State.OPEN && clock.millis() - openedAt >= openDurationMs) {
+                return State.HALF_OPEN;
+            }
+            return state;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.platform.saas.service;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-host concurrency limit for outbound webhook calls.
+ *
+ * At most maxConcurrentPerHost calls run against a host at a time. Further callers wait in the
+ * host's FIFO queue and are handed a permit as soon as a running call releases one, or fail once
+ * they have waited maxWaitMs. A host is only tracked while it has calls running or waiting.
+ */
+class WebhookHostPermits {
+
+    private final int maxConcurrentPerHost;
+    private final long maxWaitMs;
+    private final Map<String, Host> hosts = new ConcurrentHashMap<>();
+
+    WebhookHostPermits(int maxConcurrentPerHost, long maxWaitMs) {
+        this.maxConcurrentPerHost = Math.max(1, maxConcurrentPerHost);
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    /**
+     * Take a permit for the host.
+     *
+     * @return Future completed once the permit is held, or exceptionally with a
+     *         {@link java.util.concurrent.TimeoutException} after maxWaitMs; every permit obtained
+     *         must be handed back through {@link #release}
+     */
+    CompletableFuture<Void> acquire(String host) {
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        hosts.compute(host, (h, state) -> {
+            Host current = state != null ? state : new Host();
+            if (current.running < maxConcurrentPerHost) {
+                current.running++;
+                waiter.complete(null);
+            } else {
+                current.waiting.add(waiter);
+            }
+            return current;
+        });
+        if (!waiter.isDone()) {
+            waiter.orTimeout(maxWaitMs, TimeUnit.MILLISECONDS)
+                    .whenComplete((ignored, error) -> {
+                        if (error != null) {
+                            hosts.computeIfPresent(host, (h, state) -> {
+                                state.waiting.remove(waiter);
+                                return state.isIdle() ? null : state;
+                            });
+                        }
+                    });
+        }
+        return waiter;
+    }
+
+    /**
+     * Hand a permit back: it passes to the longest waiting caller of the host, if any.
+     */
+    void release(String host) {
+        while (true) {
+            CompletableFuture<Void> next = handOver(host);
+            // A waiter that timed out in the meantime declines the permit; offer it to the next one
+            if (next == null || next.complete(null)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Number of hosts with calls running or waiting.
+     */
+    int hostCount() {
+        return hosts.size();
+    }
+
+    /**
+     * The next waiter, which then owns the released permit, or null once the permit has been
+     * returned to the host. Waiters are completed by the caller, outside the map update.
+     */
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Void> handOver(String host) {
+        CompletableFuture<Void>[] next = new CompletableFuture[1];
+        hosts.computeIfPresent(host, (h, state) -> {
+            next[0] = state.waiting.poll();
+            if (next[0] == null) {
+                state.running--;
+            }
+            return state.isIdle() ? null : state;
+        });
+        return next[0];
+    }
+
+    /**
+     * Calls of one host. Only accessed inside map updates of its key.
+     */
+    private static final class Host {
+
+        private int running;
+        private final Queue<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+
+        private boolean isIdle() {
+            return running == 0 && waiting.isEmpty();
+        }
+    }
+}
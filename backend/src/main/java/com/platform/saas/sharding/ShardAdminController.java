@@ -0,0 +1,107 @@
+package com.platform.saas.sharding;
+
+import com.platform.saas.dto.TenantMoveResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Internal API for placing tenants on shards.
+ * Secured with the internal API secret like the other /api/internal endpoints.
+ */
+@RestController
+@RequestMapping("/api/internal/shards")
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+@Slf4j
+public class ShardAdminController {
+
+    private final TenantMoveService tenantMoveService;
+    private final String internalApiSecret;
+
+    public ShardAdminController(
+            TenantMoveService tenantMoveService,
+            @Value("${app.api.internal-secret}") String internalApiSecret) {
+        this.tenantMoveService = tenantMoveService;
+        this.internalApiSecret = internalApiSecret;
+    }
+
+    /**
+     * Get the shard a tenant lives on.
+     *
+     * GET /api/internal/shards/tenants/{tenantId}
+     */
+    @GetMapping("/tenants/{tenantId}")
+    public ResponseEntity<ShardAssignment> getAssignment(
+            @RequestHeader("X-API-Secret") String apiSecret,
+            @PathVariable UUID tenantId) {
+        if (!internalApiSecret.equals(apiSecret)) {
+            log.warn("Invalid internal API secret provided");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(tenantMoveService.getAssignment(tenantId));
+    }
+
+    /**
+     * Move a tenant to another shard. Blocks until the tenant is served from the target.
+     *
+     * POST /api/internal/shards/tenants/{tenantId}/move?targetShard=shard-1
+     */
+    @PostMapping("/tenants/{tenantId}/move")
+    public ResponseEntity<TenantMoveResult> moveTenant(
+            @RequestHeader("X-API-Secret") String apiSecret,
+            @PathVariable UUID tenantId,
+            @RequestParam String targetShard) {
+        if (!internalApiSecret.equals(apiSecret)) {
+            log.warn("Invalid internal API secret provided");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (tenantMoveService.getAssignment(tenantId).state() != ShardState.ACTIVE) {
+            log.warn("Tenant {} is already being moved", tenantId);
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok(tenantMoveService.move(tenantId, targetShard));
+    }
+
+    /**
+     * Refresh the copy of a tenants row on the tenant's shard after the row changed on the default shard.
+     *
+     * POST /api/internal/shards/tenants/{tenantId}/sync
+     */
+    @PostMapping("/tenants/{tenantId}/sync")
+    public ResponseEntity<Map<String, Long>> syncTenant(
+            @RequestHeader("X-API-Secret") String apiSecret,
+            @PathVariable UUID tenantId) {
+        if (!internalApiSecret.equals(apiSecret)) {
+            log.warn("Invalid internal API secret provided");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (tenantMoveService.getAssignment(tenantId).state() != ShardState.ACTIVE) {
+            log.warn("Tenant {} is being moved", tenantId);
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok(Map.of("tenants", tenantMoveService.syncTenantRow(tenantId)));
+    }
+
+    /**
+     * Delete the stale copy of a tenant from a shard it was moved away from.
+     *
+     * DELETE /api/internal/shards/{shardId}/tenants/{tenantId}
+     */
+    @DeleteMapping("/{shardId}/tenants/{tenantId}")
+    public ResponseEntity<Map<String, Long>> purgeTenant(
+            @RequestHeader("X-API-Secret") String apiSecret,
+            @PathVariable String shardId,
+            @PathVariable UUID tenantId) {
+        if (!internalApiSecret.equals(apiSecret)) {
+            log.warn("Invalid internal API secret provided");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(tenantMoveService.purgeSource(tenantId, shardId));
+    }
+}
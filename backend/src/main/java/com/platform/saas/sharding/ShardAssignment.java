@@ -0,0 +1,10 @@
+package com.platform.saas.sharding;
+
+/**
+ * Shard a tenant lives on.
+ *
+ * @param shardId The shard ID (e.g. "shard-0")
+ * @param state The assignment state
+ */
+public record ShardAssignment(String shardId, ShardState state) {
+}
@@ -0,0 +1,111 @@
+package com.platform.saas.sharding;
+
+import com.platform.saas.cache.CacheInvalidationListener;
+import com.platform.saas.cache.CacheRegion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cached tenant-to-shard map backed by the tenant_shards table on the default shard.
+ *
+ * Lookups are served from memory and re-read after refreshMs, so a node that missed an
+ * invalidation still converges. Changes are evicted through the TENANT_SHARD cache region.
+ */
+@Slf4j
+public class ShardDirectory implements CacheInvalidationListener {
+
+    private final JdbcTemplate directoryJdbcTemplate;
+    private final String defaultShard;
+    private final long refreshMs;
+    private final Map<UUID, CachedAssignment> assignments = new ConcurrentHashMap<>();
+
+    /**
+     * @param directoryJdbcTemplate JdbcTemplate on the default shard (never routed)
+     * @param defaultShard Shard of tenants without a directory entry
+     * @param refreshMs Maximum age of a cached assignment
+     */
+    public ShardDirectory(JdbcTemplate directoryJdbcTemplate, String defaultShard, long refreshMs) {
+        this.directoryJdbcTemplate = directoryJdbcTemplate;
+        this.defaultShard = defaultShard;
+        this.refreshMs = refreshMs;
+    }
+
+    public String getDefaultShard() {
+        return defaultShard;
+    }
+
+    /**
+     * Shard assignment of a tenant.
+     *
+     * @param tenantId The tenant ID
+     * @return The assignment, the default shard when the tenant has no entry
+     */
+    public ShardAssignment lookup(UUID tenantId) {
+        CachedAssignment cached = assignments.get(tenantId);
+        long now = System.currentTimeMillis();
+        if (cached != null && now - cached.loadedAt() < refreshMs) {
+            return cached.assignment();
+        }
+        ShardAssignment assignment = load(tenantId);
+        assignments.put(tenantId, new CachedAssignment(assignment, now));
+        return assignment;
+    }
+
+    /**
+     * Shard assignment read from the directory table, bypassing the cache.
+     */
+    public ShardAssignment reload(UUID tenantId) {
+        assignments.remove(tenantId);
+        return lookup(tenantId);
+    }
+
+    /**
+     * Place a tenant on a shard. Callers publish the TENANT_SHARD invalidation for other nodes.
+     *
+     * @param tenantId The tenant ID
+     * @param shardId The shard ID
+     * @param state The new state
+     */
+    public void assign(UUID tenantId, String shardId, ShardState state) {
+        directoryJdbcTemplate.update(
+                "INSERT INTO tenant_shards (tenant_id, shard_id, state, updated_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP) "
+                        + "ON CONFLICT (tenant_id) DO UPDATE SET shard_id = EXCLUDED.shard_id, "
+                        + "state = EXCLUDED.state, updated_at = EXCLUDED.updated_at",
+                tenantId, shardId, state.name());
+        assignments.remove(tenantId);
+        log.info("Tenant shard assignment changed: tenant={}, shard={}, state={}", tenantId, shardId, state);
+    }
+
+    @Override
+    public void invalidate(CacheRegion region, UUID tenantId, String key) {
+        if (region != CacheRegion.TENANT_SHARD) {
+            return;
+        }
+        if (tenantId == null) {
+            assignments.clear();
+        } else {
+            assignments.remove(tenantId);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        assignments.clear();
+    }
+
+    private ShardAssignment load(UUID tenantId) {
+        List<ShardAssignment> rows = directoryJdbcTemplate.query(
+                "SELECT shard_id, state FROM tenant_shards WHERE tenant_id = ?",
+                (rs, rowNum) -> new ShardAssignment(rs.getString("shard_id"), ShardState.valueOf(rs.getString("state"))),
+                tenantId);
+        return rows.isEmpty() ? new ShardAssignment(defaultShard, ShardState.ACTIVE) : rows.get(0);
+    }
+
+    private record CachedAssignment(ShardAssignment assignment, long loadedAt) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.platform.saas.sharding;
+
+import com.platform.saas.exception.TenantMovingException;
+import com.platform.saas.security.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Routes connections to the shard of the tenant in {@link TenantContext}.
+ *
+ * Work without a tenant (Flyway, schedulers, internal endpoints) goes to the default shard. While a
+ * tenant is LOCKED for the cutover of a move, connection requests for it wait, re-reading the
+ * directory, until the move completes or lockWaitMs elapses.
+ */
+@Slf4j
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final long LOCK_POLL_MS = 50;
+
+    private final ShardDirectory shardDirectory;
+    private final Set<String> shardIds;
+    private final long lockWaitMs;
+
+    /**
+     * @param shardDirectory The tenant directory
+     * @param shards Pools by shard ID, including the default shard
+     * @param lockWaitMs How long a request waits for a LOCKED tenant
+     */
+    public ShardRoutingDataSource(ShardDirectory shardDirectory, Map<String, ? extends DataSource> shards,
+                                  long lockWaitMs) {
+        if (!shards.containsKey(shardDirectory.getDefaultShard())) {
+            throw new IllegalArgumentException("Default shard not configured: " + shardDirectory.getDefaultShard());
+        }
+        this.shardDirectory = shardDirectory;
+        this.shardIds = Set.copyOf(shards.keySet());
+        this.lockWaitMs = lockWaitMs;
+        setTargetDataSources(Map.copyOf(shards));
+        setDefaultTargetDataSource(shards.get(shardDirectory.getDefaultShard()));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public Set<String> getShardIds() {
+        return shardIds;
+    }
+
+    /**
+     * The pool of a shard, for maintenance work that must not follow the tenant context.
+     *
+     * @throws IllegalArgumentException if the shard is not configured
+     */
+    public DataSource getShard(String shardId) {
+        DataSource dataSource = getResolvedDataSources().get(shardId);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Unknown shard: " + shardId);
+        }
+        return dataSource;
+    }
+
+    /**
+     * Close the pools of the additional shards; the default shard's pool is a bean of its own.
+     */
+    public void close() {
+        getResolvedDataSources().forEach((shardId, dataSource) -> {
+            DataSource pool = dataSource instanceof DelegatingDataSource delegating
+                    ? delegating.getTargetDataSource() : dataSource;
+            if (dataSource != getResolvedDefaultDataSource() && pool instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close shard pool {}", shardId, e);
+                }
+            }
+        });
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        UUID tenantId = TenantContext.getTenantId();
+        if (tenantId == null) {
+            return shardDirectory.getDefaultShard();
+        }
+        return resolveShard(tenantId);
+    }
+
+    String resolveShard(UUID tenantId) {
+        ShardAssignment assignment = shardDirectory.lookup(tenantId);
+        if (assignment.state() != ShardState.LOCKED) {
+            return assignment.shardId();
+        }
+
+        long deadline = System.currentTimeMillis() + lockWaitMs;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LOCK_POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            assignment = shardDirectory.reload(tenantId);
+            if (assignment.state() != ShardState.LOCKED) {
+                return assignment.shardId();
+            }
+        }
+        log.warn("Tenant {} still locked for a shard move after {}ms", tenantId, lockWaitMs);
+        throw new TenantMovingException(tenantId, lockWaitMs);
+    }
+}
@@ -0,0 +1,16 @@
+package com.platform.saas.sharding;
+
+/**
+ * State of a tenant's shard assignment.
+ */
+public enum ShardState {
+
+    /** Served from its shard. */
+    ACTIVE,
+
+    /** Being copied to another shard; still served from the current one. */
+    MOVING,
+
+    /** Cutover in progress; connections for the tenant wait until the move finishes. */
+    LOCKED
+}
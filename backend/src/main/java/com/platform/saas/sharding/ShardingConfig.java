@@ -0,0 +1,123 @@
+package com.platform.saas.sharding;
+
+import com.platform.saas.config.TenantSessionDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spreads tenants over several PostgreSQL instances.
+ *
+ * The default shard is configured from spring.datasource.* and holds the tenant_shards directory;
+ * further shards are listed as id=jdbcUrl in app.sharding.shards and share its credentials. The
+ * application DataSource becomes a {@link ShardRoutingDataSource}, so JPA and JdbcTemplate follow
+ * the tenant of the current request. Flyway migrates the default shard as usual and the other
+ * shards at startup. Enabled with app.sharding.enabled=true; not combinable with read replicas.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+@Slf4j
+public class ShardingConfig {
+
+    /**
+     * The default shard's pool, configured from spring.datasource.* as without sharding.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource defaultShardDataSource(
+            DataSourceProperties properties,
+            @Value("${app.sharding.default-shard:shard-0}") String defaultShard,
+            @Value("${app.datasource.replicas.enabled:false}") boolean replicasEnabled) {
+        if (replicasEnabled) {
+            throw new IllegalStateException(
+                    "app.sharding.enabled and app.datasource.replicas.enabled cannot be used together");
+        }
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(defaultShard);
+        return dataSource;
+    }
+
+    @Bean
+    public ShardDirectory shardDirectory(
+            @Qualifier("defaultShardDataSource") DataSource defaultShardDataSource,
+            @Value("${app.sharding.default-shard:shard-0}") String defaultShard,
+            @Value("${app.sharding.directory-refresh-ms:30000}") long refreshMs) {
+        return new ShardDirectory(new JdbcTemplate(defaultShardDataSource), defaultShard, refreshMs);
+    }
+
+    /**
+     * The DataSource used by JPA, JdbcTemplate and Flyway.
+     */
+    @Bean
+    @Primary
+    public ShardRoutingDataSource dataSource(
+            @Qualifier("defaultShardDataSource") DataSource defaultShardDataSource,
+            ShardDirectory shardDirectory,
+            MeterRegistry meterRegistry,
+            @Value("${app.sharding.shards:}") List<String> shardUrls,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${app.sharding.pool-size:10}") int poolSize,
+            @Value("${app.sharding.lock-wait-ms:5000}") long lockWaitMs,
+            @Value("${spring.flyway.locations:classpath:db/migration}") String[] migrationLocations,
+            @Value("${app.tenancy.row-level-security.enabled:false}") boolean rowLevelSecurity) {
+
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        shards.put(shardDirectory.getDefaultShard(), defaultShardDataSource);
+        for (String entry : shardUrls) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Shard must be configured as id=jdbcUrl: " + entry);
+            }
+            String shardId = entry.substring(0, separator).trim();
+            if (shards.containsKey(shardId)) {
+                throw new IllegalArgumentException("Duplicate shard ID: " + shardId);
+            }
+            HikariConfig config = new HikariConfig();
+            config.setPoolName(shardId);
+            config.setJdbcUrl(entry.substring(separator + 1).trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(poolSize);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            HikariDataSource dataSource = new HikariDataSource(config);
+
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .locations(migrationLocations)
+                    .baselineOnMigrate(true)
+                    .load()
+                    .migrate();
+            shards.put(shardId, dataSource);
+        }
+        log.info("Tenant sharding enabled: shards={}, default={}", shards.keySet(), shardDirectory.getDefaultShard());
+        if (rowLevelSecurity) {
+            // Wrap the pools rather than the router so that per-shard maintenance access clears the tenant too
+            shards.replaceAll((shardId, dataSource) -> new TenantSessionDataSource(dataSource));
+        }
+
+        return new ShardRoutingDataSource(shardDirectory, shards, lockWaitMs);
+    }
+}
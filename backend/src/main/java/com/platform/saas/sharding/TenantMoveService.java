@@ -0,0 +1,496 @@
+package com.platform.saas.sharding;
+
+import com.platform.saas.cache.CacheInvalidationBus;
+import com.platform.saas.cache.CacheRegion;
+import com.platform.saas.dto.TenantMoveResult;
+import com.platform.saas.security.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Moves a tenant's rows from its shard to another one while the tenant stays online.
+ *
+ * The tenant is marked MOVING and copied in full, then re-copied incrementally (rows whose change
+ * column is newer than the previous pass, minus an overlap window for in-flight transactions and
+ * clock skew) until a pass copies few rows. The tenant is then LOCKED, which holds its new
+ * connection requests in {@link ShardRoutingDataSource} for up to app.sharding.lock-wait-ms before
+ * they fail with TenantMovingException. The last delta is copied once the source takes no more
+ * writes of the tenant: with the cache invalidation bus, every node sees LOCKED within
+ * app.sharding.move.cutover-grace-ms and the move then waits for the source's transactions that
+ * began before that point, for at most app.sharding.directory-refresh-ms. Without the bus a node
+ * only notices LOCKED when its cached entry expires, so the move pauses for the refresh interval.
+ * Then rows deleted on the source are removed from the target and the directory points the
+ * tenant at the target. Copies are idempotent upserts, so a failed move only reverts the directory
+ * entry and can be retried. The source rows stay until {@link #purgeSource} is called.
+ *
+ * users is a global table: the tenant's members, inviters and project owners are upserted on the
+ * target and never deleted from either shard. tenants rows are owned by the default shard, where
+ * subdomains are resolved before the tenant (and thus its shard) is known; they are only written
+ * there (see {@link TenantWriteGuard}). The copy on the tenant's shard is a read-only replica that
+ * anchors foreign keys and the quota function; a move copies it, {@link #syncTenantRow} refreshes it
+ * after the owner row changed.
+ */
+@Service
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+@Slf4j
+public class TenantMoveService {
+
+    private static final String SHARED_TABLE = "users";
+    private static final String TENANTS_TABLE = "tenants";
+    private static final long IN_FLIGHT_POLL_MS = 50;
+
+    /**
+     * Copied tables in foreign key order. The filter selects the tenant's rows (every ? is bound to
+     * the tenant ID); the change column drives incremental passes, null meaning every pass re-reads
+     * the table's tenant rows.
+     */
+    static final List<TableSpec> TABLES = List.of(
+            new TableSpec(TENANTS_TABLE, "id = ?", "updated_at"),
+            new TableSpec(SHARED_TABLE, "id IN (SELECT user_id FROM user_tenants WHERE tenant_id = ?"
+                    + " UNION SELECT invited_by FROM user_tenants WHERE tenant_id = ?"
+                    + " UNION SELECT owner_id FROM projects WHERE tenant_id = ?)", null),
+            new TableSpec("user_tenants", "tenant_id = ?", null),
+            new TableSpec("projects", "tenant_id = ?", "updated_at"),
+            new TableSpec("tasks", "tenant_id = ?", "updated_at"),
+            new TableSpec("automation_rules", "tenant_id = ?", "updated_at"),
+            new TableSpec("event_logs", "tenant_id = ?", "created_at"),
+            new TableSpec("task_dependencies", "tenant_id = ?", "created_at"),
+            new TableSpec("task_assignees", "task_id IN (SELECT id FROM tasks WHERE tenant_id = ?)", "assigned_at"));
+
+    private final ShardRoutingDataSource shardRoutingDataSource;
+    private final ShardDirectory shardDirectory;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final int batchSize;
+    private final int maxCatchUpPasses;
+    private final long catchUpThreshold;
+    private final long overlapMs;
+    private final long cutoverGraceMs;
+    private final long directoryRefreshMs;
+    private final Set<UUID> movesInProgress = ConcurrentHashMap.newKeySet();
+
+    public TenantMoveService(
+            ShardRoutingDataSource shardRoutingDataSource,
+            ShardDirectory shardDirectory,
+            CacheInvalidationBus cacheInvalidationBus,
+            @Value("${app.sharding.move.batch-size:1000}") int batchSize,
+            @Value("${app.sharding.move.max-catch-up-passes:5}") int maxCatchUpPasses,
+            @Value("${app.sharding.move.catch-up-threshold:500}") long catchUpThreshold,
+            @Value("${app.sharding.move.overlap-ms:60000}") long overlapMs,
+            @Value("${app.sharding.move.cutover-grace-ms:1000}") long cutoverGraceMs,
+            @Value("${app.sharding.directory-refresh-ms:30000}") long directoryRefreshMs) {
+        this.shardRoutingDataSource = shardRoutingDataSource;
+        this.shardDirectory = shardDirectory;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.batchSize = batchSize;
+        this.maxCatchUpPasses = maxCatchUpPasses;
+        this.catchUpThreshold = catchUpThreshold;
+        this.overlapMs = overlapMs;
+        this.cutoverGraceMs = cutoverGraceMs;
+        this.directoryRefreshMs = directoryRefreshMs;
+        if (!cacheInvalidationBus.isEnabled()) {
+            log.warn("Cache invalidation bus disabled: tenant moves lock tenants for app.sharding.directory-refresh-ms={}",
+                    directoryRefreshMs);
+        }
+    }
+
+    /**
+     * Current shard assignment of a tenant.
+     */
+    public ShardAssignment getAssignment(UUID tenantId) {
+        return shardDirectory.reload(tenantId);
+    }
+
+    /**
+     * Move a tenant to another shard. Blocks until the move is finished.
+     *
+     * @param tenantId The tenant ID
+     * @param targetShard The destination shard ID
+     * @return Copy statistics
+     * @throws IllegalArgumentException if the target shard is unknown or already holds the tenant
+     * @throws IllegalStateException if the tenant is already being moved
+     */
+    public TenantMoveResult move(UUID tenantId, String targetShard) {
+        DataSource target = shardRoutingDataSource.getShard(targetShard);
+        if (!movesInProgress.add(tenantId)) {
+            throw new IllegalStateException("Tenant is already being moved: " + tenantId);
+        }
+        try {
+            ShardAssignment current = shardDirectory.reload(tenantId);
+            if (current.state() != ShardState.ACTIVE) {
+                throw new IllegalStateException("Tenant is already being moved: " + tenantId);
+            }
+            if (current.shardId().equals(targetShard)) {
+                throw new IllegalArgumentException("Tenant " + tenantId + " is already on shard " + targetShard);
+            }
+            // The tenant in context admits its rows through row-level security on both shards
+            return TenantContext.callWithTenantId(tenantId, () -> move(tenantId, current.shardId(),
+                    shardRoutingDataSource.getShard(current.shardId()), targetShard, target));
+        } finally {
+            movesInProgress.remove(tenantId);
+        }
+    }
+
+    private TenantMoveResult move(UUID tenantId, String sourceShard, DataSource source,
+                                  String targetShard, DataSource target) {
+        long start = System.nanoTime();
+        log.info("Moving tenant {} from shard {} to {}", tenantId, sourceShard, targetShard);
+
+        Map<String, Long> copied = new LinkedHashMap<>();
+        long lockedAt = 0;
+        try {
+            updateDirectory(tenantId, sourceShard, ShardState.MOVING);
+
+            Timestamp since = null;
+            int passes = 0;
+            long passRows;
+            do {
+                Timestamp passStart = clock(source);
+                passRows = copyTenant(tenantId, source, target, since, copied);
+                since = new Timestamp(passStart.getTime() - overlapMs);
+                passes++;
+                log.info("Tenant {} copy pass {}: {} rows", tenantId, passes, passRows);
+            } while (passRows > catchUpThreshold && passes <= maxCatchUpPasses);
+
+            updateDirectory(tenantId, sourceShard, ShardState.LOCKED);
+            lockedAt = System.nanoTime();
+            awaitCutover(tenantId, source);
+
+            copyTenant(tenantId, source, target, since, copied);
+            Map<String, Long> deleted = deleteMissing(tenantId, source, target);
+
+            updateDirectory(tenantId, targetShard, ShardState.ACTIVE);
+            long lockedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lockedAt);
+
+            TenantMoveResult result = TenantMoveResult.builder()
+                    .tenantId(tenantId)
+                    .sourceShard(sourceShard)
+                    .targetShard(targetShard)
+                    .copyPasses(passes)
+                    .rowsCopied(copied)
+                    .rowsDeleted(deleted)
+                    .lockedMs(lockedMs)
+                    .durationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                    .build();
+            log.info("Tenant {} moved to shard {}: passes={}, locked={}ms, duration={}ms",
+                    tenantId, targetShard, passes, lockedMs, result.getDurationMs());
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            revert(tenantId, sourceShard, e);
+            throw new IllegalStateException("Tenant move interrupted: " + tenantId, e);
+        } catch (RuntimeException e) {
+            revert(tenantId, sourceShard, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Delete a tenant's rows from a shard it no longer lives on. Shared user rows are kept.
+     *
+     * @param tenantId The tenant ID
+     * @param shardId The shard holding the stale copy
+     * @return Deleted rows by table
+     * @throws IllegalArgumentException if the tenant is still assigned to the shard
+     */
+    public Map<String, Long> purgeSource(UUID tenantId, String shardId) {
+        DataSource dataSource = shardRoutingDataSource.getShard(shardId);
+        ShardAssignment current = shardDirectory.reload(tenantId);
+        if (current.shardId().equals(shardId) || movesInProgress.contains(tenantId)) {
+            throw new IllegalArgumentException("Tenant " + tenantId + " still uses shard " + shardId);
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Set<String> tables = existingTables(jdbcTemplate);
+        Map<String, Long> deleted = new LinkedHashMap<>();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        // The tenant in context admits its rows through row-level security
+        TenantContext.executeWithTenantId(tenantId, () -> transactionTemplate.executeWithoutResult(status -> {
+            for (TableSpec spec : reversed(TABLES)) {
+                if (spec.table().equals(SHARED_TABLE) || !tables.contains(spec.table())
+                        || (spec.table().equals(TENANTS_TABLE) && shardId.equals(shardDirectory.getDefaultShard()))) {
+                    continue;
+                }
+                int rows = jdbcTemplate.update("DELETE FROM " + spec.table() + " WHERE " + spec.filter(),
+                        spec.filterArgs(tenantId));
+                deleted.put(spec.table(), (long) rows);
+            }
+        }));
+        log.info("Purged tenant {} from shard {}: {}", tenantId, shardId, deleted);
+        return deleted;
+    }
+
+    /**
+     * Copy the tenants row from the default shard, its owner, to the shard the tenant lives on.
+     *
+     * @param tenantId The tenant ID
+     * @return Rows copied, 0 when the tenant lives on the default shard
+     * @throws IllegalStateException if the tenant is being moved
+     */
+    public long syncTenantRow(UUID tenantId) {
+        ShardAssignment current = shardDirectory.reload(tenantId);
+        if (current.state() != ShardState.ACTIVE || movesInProgress.contains(tenantId)) {
+            throw new IllegalStateException("Tenant is being moved: " + tenantId);
+        }
+        String defaultShard = shardDirectory.getDefaultShard();
+        if (current.shardId().equals(defaultShard)) {
+            return 0;
+        }
+        long rows = copyTables(List.of(TABLES.get(0)), tenantId, shardRoutingDataSource.getShard(defaultShard),
+                shardRoutingDataSource.getShard(current.shardId()), null, new LinkedHashMap<>());
+        cacheInvalidationBus.publishTenant(CacheRegion.TENANT, tenantId);
+        log.info("Synced tenant {} row to shard {}", tenantId, current.shardId());
+        return rows;
+    }
+
+    private void updateDirectory(UUID tenantId, String shardId, ShardState state) {
+        shardDirectory.assign(tenantId, shardId, state);
+        cacheInvalidationBus.publishTenant(CacheRegion.TENANT_SHARD, tenantId);
+    }
+
+    private void revert(UUID tenantId, String sourceShard, Exception cause) {
+        log.error("Tenant {} move failed, keeping it on shard {}", tenantId, sourceShard, cause);
+        try {
+            updateDirectory(tenantId, sourceShard, ShardState.ACTIVE);
+        } catch (RuntimeException e) {
+            log.error("Failed to reactivate tenant {} on shard {}", tenantId, sourceShard, e);
+        }
+    }
+
+    /**
+     * Wait until the source takes no more writes of the tenant. With the invalidation bus every
+     * node has seen LOCKED after the grace period, so only transactions that began before it can
+     * still write; they are awaited on the source, which cannot tell tenants apart, for at most
+     * the directory refresh interval. Without the bus that interval is the only bound.
+     */
+    private void awaitCutover(UUID tenantId, DataSource source) throws InterruptedException {
+        if (!cacheInvalidationBus.isEnabled()) {
+            Thread.sleep(Math.max(cutoverGraceMs, directoryRefreshMs));
+            return;
+        }
+        Thread.sleep(cutoverGraceMs);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(source);
+        Timestamp cutoff = jdbcTemplate.queryForObject("SELECT clock_timestamp()", Timestamp.class);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(directoryRefreshMs);
+        long inFlight;
+        while ((inFlight = inFlightTransactions(jdbcTemplate, cutoff)) > 0) {
+            if (System.nanoTime() >= deadline) {
+                log.warn("Tenant {} cutover: {} source transactions older than the lock still open after {}ms",
+                        tenantId, inFlight, directoryRefreshMs);
+                return;
+            }
+            Thread.sleep(IN_FLIGHT_POLL_MS);
+        }
+    }
+
+    private static long inFlightTransactions(JdbcTemplate jdbcTemplate, Timestamp startedBefore) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_stat_activity WHERE datname = current_database()"
+                        + " AND backend_type = 'client backend' AND pid <> pg_backend_pid() AND xact_start < ?",
+                Long.class, startedBefore);
+        return count != null ? count : 0L;
+    }
+
+    private Timestamp clock(DataSource source) {
+        return new JdbcTemplate(source).queryForObject("SELECT LOCALTIMESTAMP", Timestamp.class);
+    }
+
+    /**
+     * Upsert the tenant's rows changed since a point in time (everything when null).
+     * @return Rows copied in this pass
+     */
+    private long copyTenant(UUID tenantId, DataSource source, DataSource target, Timestamp since,
+                            Map<String, Long> copied) {
+        return copyTables(TABLES, tenantId, source, target, since, copied);
+    }
+
+    private long copyTables(List<TableSpec> specs, UUID tenantId, DataSource source, DataSource target,
+                            Timestamp since, Map<String, Long> copied) {
+        JdbcTemplate sourceJdbc = new JdbcTemplate(source);
+        sourceJdbc.setFetchSize(batchSize);
+        JdbcTemplate targetJdbc = new JdbcTemplate(target);
+        Set<String> sourceTables = existingTables(sourceJdbc);
+        TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(source));
+        readOnly.setReadOnly(true);
+
+        long total = 0;
+        for (TableSpec spec : specs) {
+            if (!sourceTables.contains(spec.table())) {
+                continue;
+            }
+            List<String> primaryKey = primaryKey(targetJdbc, spec.table());
+            StringBuilder sql = new StringBuilder("SELECT * FROM ").append(spec.table())
+                    .append(" WHERE (").append(spec.filter()).append(')');
+            List<Object> args = new ArrayList<>(List.of(spec.filterArgs(tenantId)));
+            if (since != null && spec.changeColumn() != null) {
+                sql.append(" AND ").append(spec.changeColumn()).append(" >= ?");
+                args.add(since);
+            }
+
+            // Fetch size only streams inside a transaction
+            Long rows = readOnly.execute(status -> sourceJdbc.query(sql.toString(),
+                    (ResultSetExtractor<Long>) rs -> upsertAll(rs, spec.table(), primaryKey, targetJdbc),
+                    args.toArray()));
+            long count = rows != null ? rows : 0L;
+            copied.merge(spec.table(), count, Long::sum);
+            total += count;
+        }
+        return total;
+    }
+
+    private long upsertAll(ResultSet rs, String table, List<String> primaryKey, JdbcTemplate targetJdbc)
+            throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        List<String> columns = new ArrayList<>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            columns.add(metaData.getColumnName(i));
+        }
+        String sql = upsertSql(table, columns, primaryKey);
+
+        long count = 0;
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        while (rs.next()) {
+            Object[] row = new Object[columns.size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = rs.getObject(i + 1);
+            }
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                targetJdbc.batchUpdate(sql, batch);
+                count += batch.size();
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            targetJdbc.batchUpdate(sql, batch);
+            count += batch.size();
+        }
+        return count;
+    }
+
+    /**
+     * INSERT ... ON CONFLICT DO UPDATE that leaves identical rows untouched, so re-copies neither
+     * create dead tuples nor fire update triggers.
+     */
+    static String upsertSql(String table, List<String> columns, List<String> primaryKey) {
+        String placeholders = columns.stream().map(column -> "?").collect(Collectors.joining(", "));
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                .append(" (").append(String.join(", ", columns)).append(") VALUES (").append(placeholders)
+                .append(") ON CONFLICT (").append(String.join(", ", primaryKey)).append(')');
+
+        List<String> updated = columns.stream().filter(column -> !primaryKey.contains(column)).toList();
+        if (updated.isEmpty()) {
+            return sql.append(" DO NOTHING").toString();
+        }
+        sql.append(" DO UPDATE SET ")
+                .append(updated.stream().map(column -> column + " = EXCLUDED." + column).collect(Collectors.joining(", ")))
+                .append(" WHERE (")
+                .append(updated.stream().map(column -> table + "." + column).collect(Collectors.joining(", ")))
+                .append(") IS DISTINCT FROM (")
+                .append(updated.stream().map(column -> "EXCLUDED." + column).collect(Collectors.joining(", ")))
+                .append(')');
+        return sql.toString();
+    }
+
+    /**
+     * Remove target rows of the tenant whose primary key no longer exists on the source, children first.
+     */
+    private Map<String, Long> deleteMissing(UUID tenantId, DataSource source, DataSource target) {
+        JdbcTemplate sourceJdbc = new JdbcTemplate(source);
+        JdbcTemplate targetJdbc = new JdbcTemplate(target);
+        Set<String> sourceTables = existingTables(sourceJdbc);
+        Map<String, Long> deleted = new LinkedHashMap<>();
+
+        for (TableSpec spec : reversed(TABLES)) {
+            if (spec.table().equals(SHARED_TABLE) || !sourceTables.contains(spec.table())) {
+                continue;
+            }
+            List<String> primaryKey = primaryKey(targetJdbc, spec.table());
+            String keySql = "SELECT " + String.join(", ", primaryKey) + " FROM " + spec.table()
+                    + " WHERE " + spec.filter();
+            Set<List<Object>> sourceKeys = new HashSet<>(sourceJdbc.query(keySql,
+                    (rs, rowNum) -> keyOf(rs, primaryKey.size()), spec.filterArgs(tenantId)));
+            List<Object[]> missing = targetJdbc.query(keySql,
+                            (rs, rowNum) -> keyOf(rs, primaryKey.size()), spec.filterArgs(tenantId))
+                    .stream()
+                    .filter(key -> !sourceKeys.contains(key))
+                    .map(List::toArray)
+                    .toList();
+            if (missing.isEmpty()) {
+                continue;
+            }
+            String deleteSql = "DELETE FROM " + spec.table() + " WHERE "
+                    + primaryKey.stream().map(column -> column + " = ?").collect(Collectors.joining(" AND "));
+            targetJdbc.batchUpdate(deleteSql, missing);
+            deleted.put(spec.table(), (long) missing.size());
+        }
+        return deleted;
+    }
+
+    private static List<Object> keyOf(ResultSet rs, int columns) throws SQLException {
+        List<Object> key = new ArrayList<>(columns);
+        for (int i = 1; i <= columns; i++) {
+            key.add(rs.getObject(i));
+        }
+        return key;
+    }
+
+    private static List<String> primaryKey(JdbcTemplate jdbcTemplate, String table) {
+        List<String> columns = jdbcTemplate.queryForList(
+                "SELECT a.attname FROM pg_index i"
+                        + " JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = ANY(i.indkey)"
+                        + " WHERE i.indrelid = to_regclass(?) AND i.indisprimary ORDER BY a.attnum",
+                String.class, table);
+        if (columns.isEmpty()) {
+            throw new IllegalStateException("Table " + table + " has no primary key on the target shard");
+        }
+        return columns;
+    }
+
+    private static Set<String> existingTables(JdbcTemplate jdbcTemplate) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT table_name FROM information_schema.tables WHERE table_schema = current_schema()",
+                String.class));
+    }
+
+    private static List<TableSpec> reversed(List<TableSpec> tables) {
+        List<TableSpec> copy = new ArrayList<>(tables);
+        Collections.reverse(copy);
+        return copy;
+    }
+
+    /**
+     * A copied table.
+     */
+    record TableSpec(String table, String filter, String changeColumn) {
+
+        Object[] filterArgs(UUID tenantId) {
+            Object[] args = new Object[(int) filter.chars().filter(c -> c == '?').count()];
+            Arrays.fill(args, tenantId);
+            return args;
+        }
+    }
+}
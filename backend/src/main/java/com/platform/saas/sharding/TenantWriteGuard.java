@@ -0,0 +1,83 @@
+package com.platform.saas.sharding;
+
+import com.platform.saas.model.Tenant;
+import com.platform.saas.model.TenantOwned;
+import com.platform.saas.security.TenantContext;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PreDeleteEvent;
+import org.hibernate.event.spi.PreDeleteEventListener;
+import org.hibernate.event.spi.PreInsertEvent;
+import org.hibernate.event.spi.PreInsertEventListener;
+import org.hibernate.event.spi.PreUpdateEvent;
+import org.hibernate.event.spi.PreUpdateEventListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Rejects JPA writes that would land on the wrong shard.
+ *
+ * {@link ShardRoutingDataSource} picks the shard from {@link TenantContext}, and work without a
+ * tenant goes to the default shard. A tenant-owned entity written without its tenant in context
+ * would therefore be stored on the default shard instead of the tenant's one and silently vanish
+ * from the tenant's view. Tenants rows are owned by the default shard and must be written without a
+ * tenant in context; the copy on the tenant's shard is refreshed by {@link TenantMoveService}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+@Slf4j
+public class TenantWriteGuard implements PreInsertEventListener, PreUpdateEventListener, PreDeleteEventListener {
+
+    public TenantWriteGuard(EntityManagerFactory entityManagerFactory) {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.PRE_INSERT, this);
+        registry.appendListeners(EventType.PRE_UPDATE, this);
+        registry.appendListeners(EventType.PRE_DELETE, this);
+        log.info("Tenant write guard enabled for sharded persistence");
+    }
+
+    @Override
+    public boolean onPreInsert(PreInsertEvent event) {
+        check(event.getEntity());
+        return false;
+    }
+
+    @Override
+    public boolean onPreUpdate(PreUpdateEvent event) {
+        check(event.getEntity());
+        return false;
+    }
+
+    @Override
+    public boolean onPreDelete(PreDeleteEvent event) {
+        check(event.getEntity());
+        return false;
+    }
+
+    /**
+     * @throws IllegalStateException if the entity does not belong to the shard the write is routed to
+     */
+    static void check(Object entity) {
+        UUID current = TenantContext.getTenantId();
+        if (entity instanceof TenantOwned owned) {
+            if (current == null) {
+                throw new IllegalStateException("Write of " + entity.getClass().getSimpleName() + " for tenant "
+                        + owned.getTenantId() + " without a tenant in context would go to the default shard");
+            }
+            if (!current.equals(owned.getTenantId())) {
+                throw new IllegalStateException("Write of " + entity.getClass().getSimpleName() + " for tenant "
+                        + owned.getTenantId() + " in the context of tenant " + current);
+            }
+        } else if (entity instanceof Tenant tenant && current != null) {
+            throw new IllegalStateException("Tenant " + tenant.getId()
+                    + " must be written on the default shard, without a tenant in context");
+        }
+    }
+}
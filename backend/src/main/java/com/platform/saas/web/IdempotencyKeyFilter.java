@@ -0,0 +1,277 @@
+package com.platform.saas.web;
+
+import com.platform.saas.security.TenantContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Servlet filter implementing the Idempotency-Key header for create endpoints.
+ *
+ * Retried POSTs carrying the same key (scoped by the resolved tenant and the principal) replay the
+ * original 2xx response without reaching the controllers, so retries after client timeouts do not
+ * create duplicates, consume quota or emit events twice. Concurrent duplicates wait for the first
+ * execution to finish and then replay its response. Non-2xx outcomes are not stored, so the
+ * request can be retried with the same key. Requests without a tenant are not deduplicated.
+ *
+ * Reusing a key with a different path or request body is rejected with 422.
+ *
+ * Responses are kept in memory on the node that served them ({@link IdempotencyStore}), so the
+ * guarantee holds only while a tenant's retries reach the same node.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@Slf4j
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final Set<String> paths;
+    private final long waitTimeoutMs;
+    private final int maxStoredBodyBytes;
+
+    public IdempotencyKeyFilter(
+            @Value("${app.idempotency.paths:/api/tasks,/api/projects}") List<String> paths,
+            @Value("${app.idempotency.ttl-ms:86400000}") long ttlMs,
+            @Value("${app.idempotency.max-entries:100000}") int maxEntries,
+            @Value("${app.idempotency.wait-timeout-ms:30000}") long waitTimeoutMs,
+            @Value("${app.idempotency.max-stored-body-bytes:65536}") int maxStoredBodyBytes) {
+        this.store = new IdempotencyStore(ttlMs, maxEntries, Clock.systemUTC());
+        this.paths = Set.copyOf(paths);
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.maxStoredBodyBytes = maxStoredBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !paths.contains(pathWithinApplication(request));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST,
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        if (!TenantContext.isSet()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        UUID tenantId = TenantContext.getTenantId();
+
+        byte[] body = request.getInputStream().readAllBytes();
+        HttpServletRequest cachedRequest = new CachedBodyRequest(request, body);
+        IdempotencyStore.Key scopedKey = new IdempotencyStore.Key(tenantId, principal(), idempotencyKey);
+        String fingerprint = fingerprint(pathWithinApplication(request), body);
+
+        while (true) {
+            IdempotencyStore.Claim claim = store.claim(scopedKey, fingerprint);
+            IdempotencyStore.Entry entry = claim.entry();
+
+            if (claim.owner()) {
+                execute(scopedKey, entry, cachedRequest, response, filterChain);
+                return;
+            }
+
+            if (!fingerprint.equals(entry.getFingerprint())) {
+                log.warn("Idempotency-Key reused with a different request: {}", idempotencyKey);
+                response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                        "Idempotency-Key was already used with a different request path or body");
+                return;
+            }
+
+            IdempotencyStore.StoredResponse stored;
+            try {
+                stored = entry.getResult().get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                response.sendError(HttpServletResponse.SC_CONFLICT,
+                        "A request with this Idempotency-Key is still being processed");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                response.sendError(HttpServletResponse.SC_CONFLICT,
+                        "A request with this Idempotency-Key is still being processed");
+                return;
+            } catch (ExecutionException e) {
+                throw new ServletException(e.getCause());
+            }
+
+            if (stored != null) {
+                replay(stored, response);
+                return;
+            }
+            // Original execution did not succeed; claim again and execute
+        }
+    }
+
+    private void execute(
+            IdempotencyStore.Key scopedKey,
+            IdempotencyStore.Entry entry,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+
+            int status = wrapper.getStatus();
+            if (status >= 200 && status < 300 && wrapper.getContentSize() <= maxStoredBodyBytes) {
+                store.complete(entry, new IdempotencyStore.StoredResponse(
+                        status,
+                        wrapper.getContentType(),
+                        wrapper.getHeader(HttpHeaders.LOCATION),
+                        wrapper.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.release(scopedKey, entry);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(IdempotencyStore.StoredResponse stored, HttpServletResponse response) throws IOException {
+        log.debug("Replaying idempotent response: status={}", stored.status());
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    /**
+     * Principal the key is scoped to, so users of a tenant cannot collide.
+     */
+    private String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
+
+    private String pathWithinApplication(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private String fingerprint(String path, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(path.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Request wrapper that serves a body already read into memory.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
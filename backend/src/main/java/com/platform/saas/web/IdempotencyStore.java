@@ -0,0 +1,166 @@
+package com.platform.saas.web;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bounded in-memory store of idempotent responses keyed by tenant, principal and Idempotency-Key.
+ *
+ * Each entry holds a future that completes with the stored response once the first request
+ * finishes, which lets concurrent duplicates wait on the original execution instead of running
+ * it again. Entries expire after the TTL; when the store is full, the oldest completed entries are
+ * evicted. In-flight entries are never evicted.
+ *
+ * Entries are kept in claim order, which is also expiry order since every entry lives for the same
+ * TTL, so expired and evicted entries are always taken from the head: a claim costs O(1) amortized
+ * plus the in-flight entries it has to step over.
+ *
+ * The store is local to the node. A retry that reaches another node, or arrives after a restart,
+ * executes again; deployments with several nodes must route a tenant's requests to one node for
+ * the guarantee to hold.
+ */
+@Slf4j
+public class IdempotencyStore {
+
+    /**
+     * Entries in claim order. Guarded by this store's monitor.
+     */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>();
+    private final long ttlMs;
+    private final int maxEntries;
+    private final Clock clock;
+
+    public IdempotencyStore(long ttlMs, int maxEntries, Clock clock) {
+        this.ttlMs = ttlMs;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * Claim a key. The first caller owns the execution; later callers get the live entry.
+     *
+     * @param key The scoped idempotency key
+     * @param fingerprint Hash of the request
+     * @return The claim
+     */
+    public synchronized Claim claim(Key key, String fingerprint) {
+        long now = clock.millis();
+        Entry existing = entries.get(key);
+        if (existing != null && !existing.isExpired(now)) {
+            return new Claim(existing, false);
+        }
+        if (existing != null) {
+            // Re-insert at the tail so claim order stays expiry order
+            entries.remove(key);
+        }
+
+        Entry created = new Entry(fingerprint, now + ttlMs);
+        entries.put(key, created);
+        evict(now);
+        return new Claim(created, true);
+    }
+
+    /**
+     * Store the final response for an owned entry and release waiting duplicates.
+     */
+    public void complete(Entry entry, StoredResponse response) {
+        entry.result.complete(response);
+    }
+
+    /**
+     * Drop an owned entry so the next retry executes again, and release waiting duplicates.
+     */
+    public void release(Key key, Entry entry) {
+        synchronized (this) {
+            entries.remove(key, entry);
+        }
+        entry.result.complete(null);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Remove expired entries and, while the store is over its bound, the oldest completed ones.
+     * Stops at the first completed entry that is neither.
+     */
+    private void evict(long now) {
+        int excess = entries.size() - maxEntries;
+        int evicted = 0;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (!entry.result.isDone()) {
+                continue;
+            }
+            if (!entry.isExpired(now) && evicted >= excess) {
+                break;
+            }
+            iterator.remove();
+            evicted++;
+        }
+        if (excess > 0) {
+            log.debug("Idempotency store full, evicted {} entries", evicted);
+        }
+    }
+
+    /**
+     * Scope of an idempotency key: keys of different tenants or principals never collide.
+     * @param tenantId The tenant ID
+     * @param principal The authenticated principal name
+     * @param idempotencyKey The Idempotency-Key header value
+     */
+    public record Key(UUID tenantId, String principal, String idempotencyKey) {
+    }
+
+    /**
+     * Result of claiming a key.
+     * @param entry The live entry for the key
+     * @param owner True when the caller must execute the request and complete or release the entry
+     */
+    public record Claim(Entry entry, boolean owner) {
+    }
+
+    /**
+     * Response captured from the first execution of an idempotent request.
+     */
+    public record StoredResponse(int status, String contentType, String location, byte[] body) {
+    }
+
+    /**
+     * Store entry shared by the owner and any waiting duplicates.
+     */
+    public static final class Entry {
+
+        private final String fingerprint;
+        private final long expiresAt;
+        private final CompletableFuture<StoredResponse> result = new CompletableFuture<>();
+
+        private Entry(String fingerprint, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        /**
+         * Future completed with the stored response, or with null when the original execution
+         * did not produce a replayable response and the request should be retried.
+         */
+        public CompletableFuture<StoredResponse> getResult() {
+            return result;
+        }
+
+        private boolean isExpired(long now) {
+            return result.isDone() && now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+-- =====================================================
+-- Flyway Migration V10: Overdue Task Scan
+-- =====================================================
+-- Description: Partial due-date indexes on open tasks and the position of the overdue scanner
+-- Tables: task_overdue_scan
+-- Indexes: idx_task_open_due, idx_task_tenant_open_due (replace idx_task_due_date)
+-- =====================================================
+
+-- Only tasks that are not COMPLETED can become overdue. Both indexes leave completed history out,
+-- so they stay proportional to the open work and overdue lookups never visit finished tasks.
+-- Queries must spell the predicate as status <> 'COMPLETED' for the planner to use them.
+
+-- The scanner walks open tasks of every tenant in (due_date, id) order
+CREATE INDEX idx_task_open_due ON tasks(due_date, id) WHERE status <> 'COMPLETED';
+
+-- Overdue lists of a tenant (and of a project within it)
+CREATE INDEX idx_task_tenant_open_due ON tasks(tenant_id, due_date) WHERE status <> 'COMPLETED';
+
+DROP INDEX IF EXISTS idx_task_due_date;
+
+-- High-water mark of the overdue scanner: every open task ordered at or before
+-- (last_due_date, last_task_id) has been announced. The single row is locked FOR UPDATE SKIP LOCKED
+-- by the node running a scan, so one node scans at a time.
+CREATE TABLE task_overdue_scan (
+    id SMALLINT PRIMARY KEY DEFAULT 1,
+    last_due_date DATE NOT NULL,
+    last_task_id UUID NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_task_overdue_scan_single_row CHECK (id = 1)
+);
+
+-- Start after everything already overdue, so the first scan does not announce the backlog
+INSERT INTO task_overdue_scan (id, last_due_date, last_task_id)
+VALUES (1, CURRENT_DATE - 1, 'ffffffff-ffff-ffff-ffff-ffffffffffff');
+
+COMMENT ON TABLE task_overdue_scan IS 'Position of the overdue task scanner (single row)';
+COMMENT ON COLUMN task_overdue_scan.last_due_date IS 'Due date of the last task announced as overdue';
+COMMENT ON COLUMN task_overdue_scan.last_task_id IS 'ID of the last task announced as overdue';
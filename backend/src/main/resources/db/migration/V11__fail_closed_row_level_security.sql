@@ -0,0 +1,76 @@
+-- =====================================================
+-- Flyway Migration V11: Fail-Closed Row-Level Security
+-- =====================================================
+-- Description: Tenant isolation policies that hide every row from sessions without a tenant,
+--              and tenant isolation for task dependencies
+-- Tables: projects, tasks, automation_rules, event_logs, task_assignees, task_dependencies
+-- =====================================================
+
+-- The V5 policies let sessions without app.tenant_id see and write every tenant's rows, so a
+-- request or job that lost its tenant context was unrestricted. The policies below only admit rows
+-- of the session's tenant. Work that legitimately spans tenants has two ways through:
+--   * the application sets app.rls_bypass to 'on' for the connections of explicitly cross-tenant
+--     jobs (TenantContext.callAcrossTenants), and 'off' for every other connection;
+--   * roles with BYPASSRLS (or superusers) are not subject to the policies at all. Migrations,
+--     maintenance sessions and deployments with app.tenancy.row-level-security.enabled=false must
+--     connect as such a role: FORCE applies the policies to the table owner as well.
+
+-- task_dependencies gets the tenant of its tasks, so it can carry the same policy. Backfilled while
+-- the V5 policies still admit this session.
+ALTER TABLE task_dependencies ADD COLUMN tenant_id UUID REFERENCES tenants(id) ON DELETE CASCADE;
+
+UPDATE task_dependencies d
+SET tenant_id = t.tenant_id
+FROM tasks t
+WHERE t.id = d.blocked_task_id;
+
+ALTER TABLE task_dependencies ALTER COLUMN tenant_id SET NOT NULL;
+
+CREATE INDEX idx_task_dependency_tenant ON task_dependencies(tenant_id);
+
+COMMENT ON COLUMN task_dependencies.tenant_id IS 'Tenant of both tasks';
+
+CREATE OR REPLACE FUNCTION rls_bypass()
+RETURNS BOOLEAN AS $$
+    SELECT COALESCE(current_setting('app.rls_bypass', true), '') = 'on'
+$$ LANGUAGE sql STABLE;
+
+COMMENT ON FUNCTION rls_bypass() IS 'True for sessions of explicitly cross-tenant application jobs';
+COMMENT ON FUNCTION current_tenant_id() IS 'Tenant of the current session for row-level security, NULL admits no rows';
+
+-- projects
+DROP POLICY tenant_isolation ON projects;
+CREATE POLICY tenant_isolation ON projects
+    USING (tenant_id = current_tenant_id() OR rls_bypass())
+    WITH CHECK (tenant_id = current_tenant_id() OR rls_bypass());
+
+-- tasks
+DROP POLICY tenant_isolation ON tasks;
+CREATE POLICY tenant_isolation ON tasks
+    USING (tenant_id = current_tenant_id() OR rls_bypass())
+    WITH CHECK (tenant_id = current_tenant_id() OR rls_bypass());
+
+-- automation_rules
+DROP POLICY tenant_isolation ON automation_rules;
+CREATE POLICY tenant_isolation ON automation_rules
+    USING (tenant_id = current_tenant_id() OR rls_bypass())
+    WITH CHECK (tenant_id = current_tenant_id() OR rls_bypass());
+
+-- event_logs
+DROP POLICY tenant_isolation ON event_logs;
+CREATE POLICY tenant_isolation ON event_logs
+    USING (tenant_id = current_tenant_id() OR rls_bypass())
+    WITH CHECK (tenant_id = current_tenant_id() OR rls_bypass());
+
+-- task_assignees
+DROP POLICY tenant_isolation ON task_assignees;
+CREATE POLICY tenant_isolation ON task_assignees
+    USING (tenant_id = current_tenant_id() OR rls_bypass())
+    WITH CHECK (tenant_id = current_tenant_id() OR rls_bypass());
+
+-- task_dependencies
+ALTER TABLE task_dependencies ENABLE ROW LEVEL SECURITY;
+ALTER TABLE task_dependencies FORCE ROW LEVEL SECURITY;
+CREATE POLICY tenant_isolation ON task_dependencies
+    USING (tenant_id = current_tenant_id() OR rls_bypass())
+    WITH CHECK (tenant_id = current_tenant_id() OR rls_bypass());
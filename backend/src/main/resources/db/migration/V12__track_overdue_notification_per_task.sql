@@ -0,0 +1,54 @@
+-- =====================================================
+-- Flyway Migration V12: Per-Task Overdue Notification
+-- =====================================================
+-- Description: Record on each task whether it was announced as overdue, replacing the scanner's
+--              high-water mark
+-- Tables: tasks (overdue_notified_on), task_overdue_scan (dropped)
+-- Indexes: idx_task_overdue_pending (replaces idx_task_open_due)
+-- =====================================================
+
+-- The (due_date, id) high-water mark of V10 missed tasks ordered before it: tasks created with a
+-- past due date, tasks whose due date moved earlier and tasks reopened after completion. Instead,
+-- every task records the date it was announced; the scanner picks open tasks past their due date
+-- that have not been announced, and the trigger below re-arms a task when it needs a new
+-- announcement.
+ALTER TABLE tasks ADD COLUMN overdue_notified_on DATE;
+
+COMMENT ON COLUMN tasks.overdue_notified_on IS 'Date the task was announced as overdue, NULL when pending';
+
+-- Whatever the mark had passed is announced already. Spans tenants, so the backfill bypasses the
+-- row-level security policies for this transaction.
+SELECT set_config('app.rls_bypass', 'on', true);
+
+UPDATE tasks t
+SET overdue_notified_on = CURRENT_DATE
+FROM task_overdue_scan s
+WHERE t.status <> 'COMPLETED'
+  AND t.due_date < CURRENT_DATE
+  AND (t.due_date, t.id) <= (s.last_due_date, s.last_task_id);
+
+-- Open tasks past their due date that are still to be announced. Announced and completed tasks
+-- leave the index, so it only holds the scanner's pending work.
+CREATE INDEX idx_task_overdue_pending ON tasks(due_date, id)
+    WHERE status <> 'COMPLETED' AND overdue_notified_on IS NULL;
+
+DROP INDEX IF EXISTS idx_task_open_due;
+DROP TABLE task_overdue_scan;
+
+-- A new due date, or reopening a completed task, makes the task eligible for a new announcement.
+-- Compares values since ORM updates rewrite every column.
+CREATE OR REPLACE FUNCTION reset_task_overdue_notification()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.due_date IS DISTINCT FROM OLD.due_date
+            OR (OLD.status = 'COMPLETED' AND NEW.status <> 'COMPLETED') THEN
+        NEW.overdue_notified_on = NULL;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tasks_overdue_notification
+    BEFORE UPDATE OF due_date, status ON tasks
+    FOR EACH ROW
+    EXECUTE FUNCTION reset_task_overdue_notification();
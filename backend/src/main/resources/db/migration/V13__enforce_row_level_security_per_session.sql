@@ -0,0 +1,58 @@
+-- =====================================================
+-- Flyway Migration V13: Row-Level Security Enforced Per Session
+-- =====================================================
+-- Description: Apply the fail-closed tenant isolation policies of V11 only to sessions of the
+--              row-level security mode
+-- Tables: projects, tasks, automation_rules, event_logs, task_assignees, task_dependencies
+-- =====================================================
+
+-- The V11 policies admit no rows to sessions without a tenant, which also hid every row from
+-- deployments running with app.tenancy.row-level-security.enabled=false (nothing sets app.tenant_id
+-- there) unless they connected as a role with BYPASSRLS. Enforcement is now tied to
+-- app.rls_enforced, which only the enabled mode sets, at every connection checkout
+-- (TenantSessionDataSource). Within that mode the policies stay fail-closed: a connection without a
+-- tenant sees no rows unless it is explicitly cross-tenant (app.rls_bypass). Sessions that never
+-- set app.rls_enforced (mode disabled, Flyway, maintenance) are not restricted, as before V11.
+
+CREATE OR REPLACE FUNCTION rls_enforced()
+RETURNS BOOLEAN AS $$
+    SELECT COALESCE(current_setting('app.rls_enforced', true), '') = 'on'
+$$ LANGUAGE sql STABLE;
+
+COMMENT ON FUNCTION rls_enforced() IS 'True for sessions of the row-level security mode, which the tenant policies apply to';
+
+-- projects
+DROP POLICY tenant_isolation ON projects;
+CREATE POLICY tenant_isolation ON projects
+    USING (NOT rls_enforced() OR tenant_id = current_tenant_id() OR rls_bypass())
+    WITH CHECK (NOT rls_enforced() OR tenant_id = current_tenant_id() OR rls_bypass());
+
+-- tasks
+DROP POLICY tenant_isolation ON tasks;
+CREATE POLICY tenant_isolation ON tasks
+    USING (NOT rls_enforced() OR tenant_id = current_tenant_id() OR rls_bypass())
+    WITH CHECK (NOT rls_enforced() OR tenant_id = current_tenant_id() OR rls_bypass());
+
+-- automation_rules
+DROP POLICY tenant_isolation ON automation_rules;
+CREATE POLICY tenant_isolation ON automation_rules
+    USING (NOT rls_enforced() OR tenant_id = current_tenant_id() OR rls_bypass())
+    WITH CHECK (NOT rls_enforced() OR tenant_id = current_tenant_id() OR rls_bypass());
+
+-- event_logs
+DROP POLICY tenant_isolation ON event_logs;
+CREATE POLICY tenant_isolation ON event_logs
+    USING (NOT rls_enforced() OR tenant_id = current_tenant_id() OR rls_bypass())
+    WITH CHECK (NOT rls_enforced() OR tenant_id = current_tenant_id() OR rls_bypass());
+
+-- task_assignees
+DROP POLICY tenant_isolation ON task_assignees;
+CREATE POLICY tenant_isolation ON task_assignees
+    USING (NOT rls_enforced() OR tenant_id = current_tenant_id() OR rls_bypass())
+    WITH CHECK (NOT rls_enforced() OR tenant_id = current_tenant_id() OR rls_bypass());
+
+-- task_dependencies
+DROP POLICY tenant_isolation ON task_dependencies;
+CREATE POLICY tenant_isolation ON task_dependencies
+    USING (NOT rls_enforced() OR tenant_id = current_tenant_id() OR rls_bypass())
+    WITH CHECK (NOT rls_enforced() OR tenant_id = current_tenant_id() OR rls_bypass());
@@ -0,0 +1,19 @@
+-- =====================================================
+-- Table: tenant_shards
+-- Description: Directory of tenants placed on a shard other than the default one.
+-- Only read on the default shard; tenants without a row live on the default shard.
+-- =====================================================
+CREATE TABLE tenant_shards (
+    tenant_id UUID PRIMARY KEY,
+    shard_id VARCHAR(63) NOT NULL,
+    state VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    -- Constraints
+    CONSTRAINT chk_tenant_shard_state CHECK (state IN ('ACTIVE', 'MOVING', 'LOCKED'))
+);
+
+CREATE INDEX idx_tenant_shard_shard ON tenant_shards(shard_id);
+
+COMMENT ON TABLE tenant_shards IS 'Shard placement of tenants (absent = default shard)';
+COMMENT ON COLUMN tenant_shards.state IS 'ACTIVE, MOVING (copy to another shard in progress) or LOCKED (cutover, requests wait)';
@@ -0,0 +1,48 @@
+-- =====================================================
+-- Flyway Migration V5: Enable Row-Level Security
+-- =====================================================
+-- Description: Tenant isolation policies for tenant-owned tables
+-- Tables: projects, tasks, automation_rules, event_logs
+-- =====================================================
+
+-- Policies compare tenant_id with the app.tenant_id session variable, which the application sets
+-- at connection checkout when app.tenancy.row-level-security.enabled=true. Sessions without the
+-- variable (mode disabled, schedulers, migrations) are not restricted. FORCE applies the policies
+-- to the table owner, which the application usually connects as.
+-- tenants, users and user_tenants are deliberately excluded: they are read across tenants while
+-- resolving subdomains and memberships.
+
+CREATE OR REPLACE FUNCTION current_tenant_id()
+RETURNS UUID AS $$
+    SELECT NULLIF(current_setting('app.tenant_id', true), '')::uuid
+$$ LANGUAGE sql STABLE;
+
+COMMENT ON FUNCTION current_tenant_id() IS 'Tenant of the current session for row-level security, NULL when unrestricted';
+
+-- projects
+ALTER TABLE projects ENABLE ROW LEVEL SECURITY;
+ALTER TABLE projects FORCE ROW LEVEL SECURITY;
+CREATE POLICY tenant_isolation ON projects
+    USING (current_tenant_id() IS NULL OR tenant_id = current_tenant_id())
+    WITH CHECK (current_tenant_id() IS NULL OR tenant_id = current_tenant_id());
+
+-- tasks
+ALTER TABLE tasks ENABLE ROW LEVEL SECURITY;
+ALTER TABLE tasks FORCE ROW LEVEL SECURITY;
+CREATE POLICY tenant_isolation ON tasks
+    USING (current_tenant_id() IS NULL OR tenant_id = current_tenant_id())
+    WITH CHECK (current_tenant_id() IS NULL OR tenant_id = current_tenant_id());
+
+-- automation_rules
+ALTER TABLE automation_rules ENABLE ROW LEVEL SECURITY;
+ALTER TABLE automation_rules FORCE ROW LEVEL SECURITY;
+CREATE POLICY tenant_isolation ON automation_rules
+    USING (current_tenant_id() IS NULL OR tenant_id = current_tenant_id())
+    WITH CHECK (current_tenant_id() IS NULL OR tenant_id = current_tenant_id());
+
+-- event_logs
+ALTER TABLE event_logs ENABLE ROW LEVEL SECURITY;
+ALTER TABLE event_logs FORCE ROW LEVEL SECURITY;
+CREATE POLICY tenant_isolation ON event_logs
+    USING (current_tenant_id() IS NULL OR tenant_id = current_tenant_id())
+    WITH CHECK (current_tenant_id() IS NULL OR tenant_id = current_tenant_id());
@@ -0,0 +1,41 @@
+-- =====================================================
+-- Flyway Migration V6: Tenant Quota Usage Function
+-- =====================================================
+-- Description: Serialized quota check in one round-trip
+-- Functions: tenant_quota_usage(UUID)
+-- =====================================================
+
+-- Returns the tenant's quota limit with its current project and task counts, or no row when the
+-- tenant does not exist. For limited tenants it first takes a transaction-scoped advisory lock on
+-- the tenant, so concurrent creates of one tenant run their check-then-insert one at a time until
+-- the creating transaction ends. The counts are separate statements of a VOLATILE function and
+-- therefore see everything committed before the lock was granted (READ COMMITTED).
+-- Unlimited tenants are neither locked nor counted.
+-- Lock key: (1903521652 = 'quot', hashtext(tenant_id)); the first key keeps it apart from other
+-- advisory lock users.
+
+CREATE OR REPLACE FUNCTION tenant_quota_usage(p_tenant_id UUID)
+RETURNS TABLE (quota_limit INTEGER, project_count BIGINT, task_count BIGINT) AS $$
+DECLARE
+    v_quota_limit INTEGER;
+BEGIN
+    SELECT t.quota_limit INTO v_quota_limit FROM tenants t WHERE t.id = p_tenant_id;
+    IF NOT FOUND THEN
+        RETURN;
+    END IF;
+
+    IF v_quota_limit IS NULL THEN
+        RETURN QUERY SELECT NULL::INTEGER, 0::BIGINT, 0::BIGINT;
+        RETURN;
+    END IF;
+
+    PERFORM pg_advisory_xact_lock(1903521652, hashtext(p_tenant_id::text));
+
+    RETURN QUERY SELECT
+        v_quota_limit,
+        (SELECT count(*) FROM projects p WHERE p.tenant_id = p_tenant_id),
+        (SELECT count(*) FROM tasks k WHERE k.tenant_id = p_tenant_id);
+END;
+$$ LANGUAGE plpgsql VOLATILE;
+
+COMMENT ON FUNCTION tenant_quota_usage(UUID) IS 'Quota limit and project/task usage of a tenant, serialized per tenant by an advisory lock';
@@ -0,0 +1,34 @@
+-- =====================================================
+-- Flyway Migration V7: Task Board Rank
+-- =====================================================
+-- Description: Ordered board columns per project and status
+-- Columns: tasks.board_rank
+-- Indexes: idx_task_board (replaces idx_task_tenant_project)
+-- =====================================================
+
+-- Fractional-index key ordering a task within its board column (project + status). Keys compare
+-- by byte order, hence the "C" collation; moving a card rewrites only its own key.
+ALTER TABLE tasks ADD COLUMN board_rank VARCHAR(255) COLLATE "C";
+
+-- Rank existing tasks in creation order. Keys 'd' + 4 base-62 digits are valid integer keys and
+-- leave room before, between and after them.
+WITH ranked AS (
+    SELECT id,
+           ROW_NUMBER() OVER (PARTITION BY tenant_id, project_id, status ORDER BY created_at, id) - 1 AS n
+    FROM tasks
+)
+UPDATE tasks t
+SET board_rank = 'd'
+    || substr('0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz', (r.n / 238328 % 62)::int + 1, 1)
+    || substr('0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz', (r.n / 3844 % 62)::int + 1, 1)
+    || substr('0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz', (r.n / 62 % 62)::int + 1, 1)
+    || substr('0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz', (r.n % 62)::int + 1, 1)
+FROM ranked r
+WHERE t.id = r.id;
+
+-- Serves each board column as one ordered, limited index range. Its (tenant_id, project_id) prefix
+-- also covers every lookup of the index it replaces.
+CREATE INDEX idx_task_board ON tasks(tenant_id, project_id, status, board_rank, created_at, id);
+DROP INDEX IF EXISTS idx_task_tenant_project;
+
+COMMENT ON COLUMN tasks.board_rank IS 'Fractional-index position within the board column of the task status';
@@ -0,0 +1,23 @@
+-- =====================================================
+-- Flyway Migration V8: Task Dependencies
+-- =====================================================
+-- Description: Blocking relationships between tasks of a project
+-- Tables: task_dependencies
+-- =====================================================
+
+-- One row per edge "blocking task must complete before blocked task". Tenant and project come
+-- from the tasks; both ends are deleted with their task. The primary key serves lookups by
+-- blocking task (dependents), idx_task_dependency_blocked lookups by blocked task (blockers).
+CREATE TABLE task_dependencies (
+    blocking_task_id UUID NOT NULL REFERENCES tasks(id) ON DELETE CASCADE,
+    blocked_task_id UUID NOT NULL REFERENCES tasks(id) ON DELETE CASCADE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (blocking_task_id, blocked_task_id),
+    CONSTRAINT chk_task_dependency_not_self CHECK (blocking_task_id <> blocked_task_id)
+);
+
+CREATE INDEX idx_task_dependency_blocked ON task_dependencies(blocked_task_id);
+
+COMMENT ON TABLE task_dependencies IS 'Blocking relationships between tasks of the same project';
+COMMENT ON COLUMN task_dependencies.blocking_task_id IS 'Task that must complete first';
+COMMENT ON COLUMN task_dependencies.blocked_task_id IS 'Task waiting on the blocking task';
@@ -0,0 +1,47 @@
+-- =====================================================
+-- Flyway Migration V9: Task Assignees
+-- =====================================================
+-- Description: Users assigned to tasks, indexed for per-user task lists
+-- Tables: task_assignees
+-- =====================================================
+
+-- One row per (task, user). tenant_id and task_status are copies of the task's columns so that
+-- "my tasks" is a range scan of idx_task_assignee_user without touching other users' or tenants'
+-- rows; the trigger below keeps task_status in step with tasks.status.
+CREATE TABLE task_assignees (
+    task_id UUID NOT NULL REFERENCES tasks(id) ON DELETE CASCADE,
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    tenant_id UUID NOT NULL REFERENCES tenants(id) ON DELETE CASCADE,
+    task_status VARCHAR(50) NOT NULL,
+    assigned_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (task_id, user_id),
+    CONSTRAINT chk_task_assignee_status CHECK (task_status IN ('TODO', 'IN_PROGRESS', 'BLOCKED', 'COMPLETED'))
+);
+
+-- Keyset pages of a user's tasks in one tenant, ordered by (task_status, task_id)
+CREATE INDEX idx_task_assignee_user ON task_assignees(user_id, tenant_id, task_status, task_id);
+
+COMMENT ON TABLE task_assignees IS 'Users assigned to tasks';
+COMMENT ON COLUMN task_assignees.tenant_id IS 'Tenant of the task';
+COMMENT ON COLUMN task_assignees.task_status IS 'Copy of tasks.status, maintained by trg_tasks_assignee_status';
+
+CREATE OR REPLACE FUNCTION sync_task_assignee_status()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE task_assignees SET task_status = NEW.status WHERE task_id = NEW.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tasks_assignee_status
+    AFTER UPDATE OF status ON tasks
+    FOR EACH ROW
+    WHEN (OLD.status IS DISTINCT FROM NEW.status)
+    EXECUTE FUNCTION sync_task_assignee_status();
+
+-- Same tenant isolation policy as the other tenant-owned tables (see V5)
+ALTER TABLE task_assignees ENABLE ROW LEVEL SECURITY;
+ALTER TABLE task_assignees FORCE ROW LEVEL SECURITY;
+CREATE POLICY tenant_isolation ON task_assignees
+    USING (current_tenant_id() IS NULL OR tenant_id = current_tenant_id())
+    WITH CHECK (current_tenant_id() IS NULL OR tenant_id = current_tenant_id());
@@ -0,0 +1,298 @@
+package com.platform.saas.automation;
+
+import com.platform.saas.cache.CacheRegion;
+import com.platform.saas.exception.InvalidConditionException;
+import com.platform.saas.model.AutomationRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ConditionCompiler.
+ * Tests compilation of rule conditions and their evaluation against event payloads.
+ */
+@DisplayName("ConditionCompiler Tests")
+class ConditionCompilerTest {
+
+    private final ConditionCompiler compiler = new ConditionCompiler();
+
+    @Test
+    @DisplayName("Should match every event when conditions are empty")
+    void compile_EmptyConditions_AlwaysMatches() {
+        assertThat(compiler.compile(null).matches(Map.of("status", "TODO"))).isTrue();
+        assertThat(compiler.compile(Map.of()).matches(null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should evaluate equals on a top-level field")
+    void compile_Equals_MatchesField() {
+        CompiledCondition condition = compiler.compile(
+                Map.of("field", "status", "operator", "equals", "value", "COMPLETED"));
+
+        assertThat(condition.matches(Map.of("status", "COMPLETED"))).isTrue();
+        assertThat(condition.matches(Map.of("status", "TODO"))).isFalse();
+        assertThat(condition.matches(Map.of())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should resolve nested field paths")
+    void compile_NestedPath_ResolvesValue() {
+        CompiledCondition condition = compiler.compile(
+                Map.of("field", "task.priority", "operator", "not_equals", "value", "LOW"));
+
+        assertThat(condition.matches(Map.of("task", Map.of("priority", "HIGH")))).isTrue();
+        assertThat(condition.matches(Map.of("task", Map.of("priority", "LOW")))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should compare numbers numerically")
+    void compile_Numbers_ComparedNumerically() {
+        CompiledCondition condition = compiler.compile(
+                Map.of("field", "progress", "operator", "equals", "value", 100));
+
+        assertThat(condition.matches(Map.of("progress", 100.0))).isTrue();
+        assertThat(condition.matches(Map.of("progress", 100L))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject unknown operators and malformed fields")
+    void compile_Invalid_Throws() {
+        assertThatThrownBy(() -> compiler.compile(Map.of("field", "status", "operator", "like", "value", "x")))
+                .isInstanceOf(InvalidConditionException.class)
+                .hasMessageContaining("like");
+        assertThatThrownBy(() -> compiler.compile(Map.of("field", "a..b", "operator", "equals", "value", "x")))
+                .isInstanceOf(InvalidConditionException.class);
+    }
+
+    // ========== Operators ==========
+
+    @Test
+    @DisplayName("Should compare ordered values")
+    void compile_Comparisons_Evaluated() {
+        CompiledCondition condition = compiler.compile(
+                Map.of("field", "estimate", "operator", "gte", "value", 8));
+
+        assertThat(condition.matches(Map.of("estimate", 8))).isTrue();
+        assertThat(condition.matches(Map.of("estimate", 8.5))).isTrue();
+        assertThat(condition.matches(Map.of("estimate", 7L))).isFalse();
+        assertThat(condition.matches(Map.of("estimate", "eight"))).isFalse();
+
+        CompiledCondition before = compiler.compile(
+                Map.of("field", "dueDate", "operator", "lt", "value", "2025-01-01"));
+        assertThat(before.matches(Map.of("dueDate", "2024-12-31"))).isTrue();
+        assertThat(before.matches(Map.of("dueDate", "2025-02-01"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should evaluate in, starts_with, matches and exists")
+    void compile_SetAndStringOperators_Evaluated() {
+        CompiledCondition in = compiler.compile(
+                Map.of("field", "priority", "operator", "in", "value", List.of("HIGH", "CRITICAL")));
+        assertThat(in.matches(Map.of("priority", "HIGH"))).isTrue();
+        assertThat(in.matches(Map.of("priority", "LOW"))).isFalse();
+
+        CompiledCondition numbers = compiler.compile(
+                Map.of("field", "progress", "operator", "not_in", "value", List.of(0, 100)));
+        assertThat(numbers.matches(Map.of("progress", 50))).isTrue();
+        assertThat(numbers.matches(Map.of("progress", 100.0))).isFalse();
+
+        CompiledCondition prefix = compiler.compile(
+                Map.of("field", "name", "operator", "starts_with", "value", "[Bug]"));
+        assertThat(prefix.matches(Map.of("name", "[Bug] Login fails"))).isTrue();
+        assertThat(prefix.matches(Map.of("name", "Login fails"))).isFalse();
+
+        CompiledCondition pattern = compiler.compile(
+                Map.of("field", "email", "operator", "matches", "value", ".+@example\\.com"));
+        assertThat(pattern.matches(Map.of("email", "ops@example.com"))).isTrue();
+        assertThat(pattern.matches(Map.of("email", "ops@example.com.evil"))).isFalse();
+
+        CompiledCondition exists = compiler.compile(Map.of("field", "assignee", "operator", "exists"));
+        assertThat(exists.matches(Map.of("assignee", "user-1"))).isTrue();
+        assertThat(exists.matches(Map.of())).isFalse();
+    }
+
+    // ========== Composition ==========
+
+    @Test
+    @DisplayName("Should combine conditions with and, or and not")
+    void compile_BooleanCombinations_Evaluated() {
+        CompiledCondition condition = compiler.compile(Map.of("and", List.of(
+                Map.of("field", "status", "value", "COMPLETED"),
+                Map.of("or", List.of(
+                        Map.of("field", "priority", "value", "HIGH"),
+                        Map.of("not", Map.of("field", "project.archived", "value", false)))))));
+
+        assertThat(condition.matches(Map.of("status", "COMPLETED", "priority", "HIGH"))).isTrue();
+        assertThat(condition.matches(Map.of("status", "COMPLETED", "priority", "LOW",
+                "project", Map.of("archived", true)))).isTrue();
+        assertThat(condition.matches(Map.of("status", "COMPLETED", "priority", "LOW",
+                "project", Map.of("archived", false)))).isFalse();
+        assertThat(condition.matches(Map.of("status", "TODO", "priority", "HIGH"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should treat plain field maps as shorthand equality")
+    void compile_Shorthand_MatchesAllEntries() {
+        CompiledCondition condition = compiler.compile(
+                Map.of("status", "COMPLETED", "priority", List.of("HIGH", "CRITICAL")));
+
+        assertThat(condition.matches(Map.of("status", "COMPLETED", "priority", "CRITICAL"))).isTrue();
+        assertThat(condition.matches(Map.of("status", "COMPLETED", "priority", "LOW"))).isFalse();
+        assertThat(condition.matches(Map.of("priority", "HIGH"))).isFalse();
+    }
+
+    // ========== Expressions ==========
+
+    @Test
+    @DisplayName("Should parse and evaluate text expressions")
+    void compile_Expression_Evaluated() {
+        CompiledCondition condition = compiler.compile(Map.of("expression",
+                "status == 'COMPLETED' and (priority in [\"HIGH\", 'CRITICAL'] || estimate > 5.5) "
+                        + "and not assignee.email matches '.*@contractor\\.io' and name startsWith 'API'"));
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("status", "COMPLETED");
+        payload.put("priority", "LOW");
+        payload.put("estimate", 8);
+        payload.put("assignee", Map.of("email", "dev@example.com"));
+        payload.put("name", "API rate limits");
+        assertThat(condition.matches(payload)).isTrue();
+
+        payload.put("estimate", 2);
+        assertThat(condition.matches(payload)).isFalse();
+
+        payload.put("priority", "CRITICAL");
+        payload.put("assignee", Map.of("email", "dev@contractor.io"));
+        assertThat(condition.matches(payload)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should support keywords, literals and exists in expressions")
+    void compile_ExpressionLiterals_Evaluated() {
+        CompiledCondition condition = compiler.compile(Map.of("expression",
+                "description exists AND blocked != true AND progress not in [0, 100] AND dueDate = null"));
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("description", "Details");
+        payload.put("blocked", false);
+        payload.put("progress", 40);
+        payload.put("dueDate", null);
+        assertThat(condition.matches(payload)).isTrue();
+
+        payload.put("progress", 100);
+        assertThat(condition.matches(payload)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should report syntax errors with their position")
+    void compile_InvalidExpression_Throws() {
+        assertThatThrownBy(() -> compiler.compile(Map.of("expression", "status == ")))
+                .isInstanceOf(InvalidConditionException.class)
+                .hasMessageContaining("Expected a value");
+        assertThatThrownBy(() -> compiler.compile(Map.of("expression", "status = 'DONE' and (priority == 'HIGH'")))
+                .isInstanceOf(InvalidConditionException.class)
+                .hasMessageContaining("Expected ')'");
+        assertThatThrownBy(() -> compiler.compile(Map.of("expression", "status ~ 'DONE'")))
+                .isInstanceOf(InvalidConditionException.class)
+                .hasMessageContaining("position 7");
+        assertThatThrownBy(() -> compiler.compile(Map.of("expression", "name matches '[a-'")))
+                .isInstanceOf(InvalidConditionException.class)
+                .hasMessageContaining("Invalid pattern");
+    }
+
+    // ========== Limits ==========
+
+    @Test
+    @DisplayName("Should reject conditions exceeding size limits")
+    void compile_ExceedsLimits_Throws() {
+        String manyTerms = String.join(" or ", IntStream.range(0, ConditionCompiler.MAX_NODES + 1)
+                .mapToObj(i -> "field" + i + " == " + i)
+                .toList());
+        assertThatThrownBy(() -> compiler.compile(Map.of("expression", manyTerms)))
+                .isInstanceOf(InvalidConditionException.class)
+                .hasMessageContaining("nodes");
+
+        Map<String, Object> nested = Map.of("field", "status", "value", "DONE");
+        for (int i = 0; i < ConditionCompiler.MAX_DEPTH; i++) {
+            nested = Map.of("not", nested);
+        }
+        Map<String, Object> tooDeep = nested;
+        assertThatThrownBy(() -> compiler.compile(tooDeep))
+                .isInstanceOf(InvalidConditionException.class)
+                .hasMessageContaining("nesting");
+
+        List<Integer> values = new ArrayList<>();
+        IntStream.rangeClosed(0, ConditionCompiler.MAX_LIST_SIZE).forEach(values::add);
+        assertThatThrownBy(() -> compiler.compile(Map.of("field", "progress", "operator", "in", "value", values)))
+                .isInstanceOf(InvalidConditionException.class);
+
+        assertThatThrownBy(() -> compiler.compile(Map.of("field", "name", "operator", "matches",
+                "value", "a".repeat(ConditionCompiler.MAX_PATTERN_LENGTH + 1))))
+                .isInstanceOf(InvalidConditionException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject deeply parenthesised and overlong expressions without overflowing the stack")
+    void compile_ExpressionNesting_Throws() {
+        String parenthesised = "(".repeat(2000) + "status == 'DONE'" + ")".repeat(2000);
+        assertThatThrownBy(() -> compiler.compile(Map.of("expression", parenthesised)))
+                .isInstanceOf(InvalidConditionException.class)
+                .hasMessageContaining("nesting");
+
+        String unbalanced = "(".repeat(100_000);
+        assertThatThrownBy(() -> compiler.compile(Map.of("expression", unbalanced)))
+                .isInstanceOf(InvalidConditionException.class)
+                .hasMessageContaining("characters");
+    }
+
+    @Test
+    @DisplayName("Should abort a backtracking pattern match after its time limit")
+    void matches_CatastrophicBacktracking_TimesOut() {
+        // Given - a repeated group around .* backtracks polynomially with a large exponent on a value that fails
+        CompiledCondition condition = compiler.compile(
+                Map.of("field", "name", "operator", "matches", "value", "(.*a){12}"));
+        Map<String, Object> payload = Map.of("name", "a".repeat(48) + "!");
+
+        // When / Then
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> condition.matches(payload))
+                .isInstanceOf(InvalidConditionException.class)
+                .hasMessageContaining("exceeded");
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(2));
+        assertThat(condition.matches(Map.of("name", "a".repeat(12)))).isTrue();
+    }
+
+    // ========== Rule cache ==========
+
+    @Test
+    @DisplayName("Should reuse compiled rule conditions until invalidated or changed")
+    void forRule_CachesUntilInvalidated() {
+        AutomationRule rule = new AutomationRule();
+        rule.setId(UUID.randomUUID());
+        rule.setTenantId(UUID.randomUUID());
+        rule.setConditions(Map.of("status", "DONE"));
+
+        CompiledCondition first = compiler.forRule(rule);
+        assertThat(compiler.forRule(rule)).isSameAs(first);
+
+        rule.setConditions(Map.of("status", "DONE"));
+        assertThat(compiler.forRule(rule)).isSameAs(first);
+
+        compiler.invalidate(CacheRegion.AUTOMATION_RULE, rule.getTenantId(), rule.getId().toString());
+        assertThat(compiler.forRule(rule)).isNotSameAs(first);
+
+        rule.setConditions(Map.of("status", "TODO"));
+        CompiledCondition changed = compiler.forRule(rule);
+        assertThat(changed.matches(Map.of("status", "TODO"))).isTrue();
+        assertThat(changed.matches(Map.of("status", "DONE"))).isFalse();
+    }
+}
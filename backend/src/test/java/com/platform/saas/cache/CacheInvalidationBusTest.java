@@ -0,0 +1,166 @@
+package com.platform.saas.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CacheInvalidationBus.
+ * Tests local eviction, remote message handling, and gap detection.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidationBus Tests")
+class CacheInvalidationBusTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ObjectProvider<CacheInvalidationListener> listeners;
+
+    @Mock
+    private CacheInvalidationListener listener;
+
+    private CacheInvalidationBus bus;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        bus = new CacheInvalidationBus(jdbcTemplate, listeners, false, "cache_invalidation",
+                100, 1000L, 1000L, "", "", "");
+    }
+
+    // ========== Publish Tests ==========
+
+    @Test
+    @DisplayName("Should evict locally without a transaction and skip NOTIFY when disabled")
+    void publish_Disabled_EvictsLocallyOnly() {
+        // Given
+        UUID ruleId = UUID.randomUUID();
+        when(listeners.orderedStream()).thenAnswer(invocation -> Stream.of(listener));
+
+        // When
+        bus.publish(CacheRegion.AUTOMATION_RULE, tenantId, ruleId);
+
+        // Then
+        verify(listener).invalidate(CacheRegion.AUTOMATION_RULE, tenantId, ruleId.toString());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should evict the whole tenant partition")
+    void publishTenant_EvictsPartition() {
+        // Given
+        when(listeners.orderedStream()).thenAnswer(invocation -> Stream.of(listener));
+
+        // When
+        bus.publishTenant(CacheRegion.TENANT, tenantId);
+
+        // Then
+        verify(listener).invalidate(CacheRegion.TENANT, tenantId, null);
+    }
+
+    @Test
+    @DisplayName("Should reject unsafe channel names")
+    void constructor_InvalidChannel_ThrowsException() {
+        assertThatThrownBy(() -> new CacheInvalidationBus(jdbcTemplate, listeners, true,
+                "bad; DROP TABLE tenants", 100, 1000L, 1000L, "jdbc:postgresql://db/app", "", ""))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ========== Remote Message Tests ==========
+
+    @Test
+    @DisplayName("Should evict entries announced by another node")
+    void handleNotification_OtherNode_Evicts() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        when(listeners.orderedStream()).thenAnswer(invocation -> Stream.of(listener));
+
+        // When
+        bus.handleNotification("node2:1:MEMBERSHIP:" + tenantId + ":" + userId);
+
+        // Then
+        verify(listener).invalidate(CacheRegion.MEMBERSHIP, tenantId, userId.toString());
+        verify(listener, never()).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Should ignore messages sent by this node")
+    void handleNotification_OwnNode_Ignored() {
+        // When
+        bus.handleNotification(bus.getNodeId() + ":1:TENANT:" + tenantId + ":*");
+
+        // Then
+        verifyNoInteractions(listeners);
+    }
+
+    @Test
+    @DisplayName("Should flush all caches when a sequence gap is detected")
+    void handleNotification_Gap_FlushesAll() {
+        // Given
+        when(listeners.orderedStream()).thenAnswer(invocation -> Stream.of(listener));
+        bus.handleNotification("node2:1:TENANT:" + tenantId + ":*");
+
+        // When
+        bus.handleNotification("node2:3:TENANT:" + tenantId + ":*");
+
+        // Then
+        verify(listener).invalidate(CacheRegion.TENANT, tenantId, null);
+        verify(listener).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Should not flush for contiguous sequences")
+    void handleNotification_Contiguous_NoFlush() {
+        // Given
+        when(listeners.orderedStream()).thenAnswer(invocation -> Stream.of(listener));
+
+        // When
+        bus.handleNotification("node2:7:TENANT:" + tenantId + ":*");
+        bus.handleNotification("node2:8:TENANT:" + tenantId + ":*");
+
+        // Then
+        verify(listener, times(2)).invalidate(CacheRegion.TENANT, tenantId, null);
+        verify(listener, never()).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Should ignore malformed messages")
+    void handleNotification_Malformed_Ignored() {
+        // When
+        bus.handleNotification("garbage");
+        bus.handleNotification("node2:x:TENANT:" + tenantId + ":*");
+        bus.handleNotification("node2:1:UNKNOWN:" + tenantId + ":*");
+
+        // Then
+        verifyNoInteractions(listeners);
+    }
+
+    @Test
+    @DisplayName("Should keep notifying listeners when one fails")
+    void handleNotification_ListenerFails_ContinuesWithOthers() {
+        // Given
+        CacheInvalidationListener failing = mock(CacheInvalidationListener.class);
+        doThrow(new RuntimeException("boom")).when(failing).invalidate(any(), any(), any());
+        when(listeners.orderedStream()).thenAnswer(invocation -> Stream.of(failing, listener));
+
+        // When
+        bus.handleNotification("node2:1:TENANT:" + tenantId + ":*");
+
+        // Then
+        verify(listener).invalidate(CacheRegion.TENANT, tenantId, null);
+    }
+}
@@ -0,0 +1,198 @@
+package com.platform.saas.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for TenantIdSet.
+ * Tests existence checks, removal from the open-addressing table and invalidation.
+ */
+@DisplayName("TenantIdSet Tests")
+class TenantIdSetTest {
+
+    private TenantIdSet set;
+    private UUID tenantId;
+    private AtomicInteger checks;
+
+    @BeforeEach
+    void setUp() {
+        set = new TenantIdSet("project-ids", CacheRegion.PROJECT_ID, 1000, 2);
+        tenantId = UUID.randomUUID();
+        checks = new AtomicInteger();
+    }
+
+    private boolean contains(UUID tenant, UUID id, boolean exists) {
+        return set.contains(tenant, id, () -> {
+            checks.incrementAndGet();
+            return exists;
+        });
+    }
+
+    // ========== Existence ==========
+
+    @Test
+    @DisplayName("Should remember existing IDs")
+    void contains_Existing_CheckedOnce() {
+        // Given
+        UUID id = UUID.randomUUID();
+
+        // When
+        boolean first = contains(tenantId, id, true);
+        boolean second = contains(tenantId, id, true);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(checks).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should not remember missing IDs")
+    void contains_Missing_CheckedEveryTime() {
+        // Given
+        UUID id = UUID.randomUUID();
+
+        // When
+        contains(tenantId, id, false);
+        boolean second = contains(tenantId, id, false);
+
+        // Then
+        assertThat(second).isFalse();
+        assertThat(checks).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should keep tenants apart for the same ID")
+    void contains_OtherTenant_Checked() {
+        // Given
+        UUID id = UUID.randomUUID();
+        contains(tenantId, id, true);
+
+        // When
+        boolean other = contains(UUID.randomUUID(), id, false);
+
+        // Then
+        assertThat(other).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should grow past the initial table size and handle the nil UUID")
+    void contains_ManyIds_AllRemembered() {
+        // Given
+        List<UUID> ids = new ArrayList<>();
+        ids.add(new UUID(0, 0));
+        for (int i = 0; i < 500; i++) {
+            ids.add(new UUID(0, i + 1));
+        }
+        ids.forEach(id -> contains(tenantId, id, true));
+
+        // When
+        boolean allKnown = ids.stream().allMatch(id -> contains(tenantId, id, false));
+
+        // Then
+        assertThat(allKnown).isTrue();
+        assertThat(set.size()).isEqualTo(ids.size());
+    }
+
+    @Test
+    @DisplayName("Should start over when a tenant reaches its limit")
+    void contains_TenantFull_Cleared() {
+        // Given
+        set = new TenantIdSet("project-ids", CacheRegion.PROJECT_ID, 2, 2);
+        UUID first = UUID.randomUUID();
+        contains(tenantId, first, true);
+        contains(tenantId, UUID.randomUUID(), true);
+
+        // When
+        contains(tenantId, UUID.randomUUID(), true);
+
+        // Then
+        assertThat(set.size()).isEqualTo(1);
+        assertThat(contains(tenantId, first, false)).isFalse();
+    }
+
+    // ========== Removal ==========
+
+    @Test
+    @DisplayName("Should keep colliding IDs reachable after a removal")
+    void remove_CollidingIds_OthersStillFound() {
+        // Given
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            ids.add(new UUID(i % 3, i / 3));
+        }
+        ids.forEach(id -> contains(tenantId, id, true));
+
+        // When
+        for (int i = 0; i < ids.size(); i += 2) {
+            set.remove(tenantId, ids.get(i));
+        }
+
+        // Then
+        for (int i = 0; i < ids.size(); i++) {
+            assertThat(contains(tenantId, ids.get(i), false)).isEqualTo(i % 2 == 1);
+        }
+        assertThat(set.size()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should not add an ID whose check overlapped a removal")
+    void contains_RemovedDuringCheck_NotAdded() {
+        // Given
+        UUID id = UUID.randomUUID();
+
+        // When
+        set.contains(tenantId, id, () -> {
+            set.invalidate(CacheRegion.PROJECT_ID, tenantId, id.toString());
+            return true;
+        });
+
+        // Then
+        assertThat(contains(tenantId, id, false)).isFalse();
+    }
+
+    // ========== Invalidation ==========
+
+    @Test
+    @DisplayName("Should drop the tenant for tenant-wide or unparsable keys and ignore other regions")
+    void invalidate_Keys_MappedToRemovals() {
+        // Given
+        UUID id = UUID.randomUUID();
+        contains(tenantId, id, true);
+
+        // When
+        set.invalidate(CacheRegion.PROJECT, tenantId, null);
+        int afterOtherRegion = set.tenantCount();
+        set.invalidate(CacheRegion.PROJECT_ID, tenantId, "not-a-uuid");
+
+        // Then
+        assertThat(afterOtherRegion).isEqualTo(1);
+        assertThat(set.tenantCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop the least recently used tenant when too many tenants are tracked")
+    void contains_TooManyTenants_EvictsTenant() {
+        // Given
+        UUID id = UUID.randomUUID();
+        UUID otherTenantId = UUID.randomUUID();
+        contains(tenantId, id, true);
+        contains(otherTenantId, id, true);
+        contains(tenantId, id, true);
+
+        // When
+        contains(UUID.randomUUID(), id, true);
+
+        // Then
+        assertThat(set.tenantCount()).isEqualTo(2);
+        assertThat(contains(otherTenantId, id, false)).isFalse();
+    }
+}
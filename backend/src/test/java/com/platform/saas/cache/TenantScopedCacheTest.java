@@ -0,0 +1,266 @@
+package com.platform.saas.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for TenantScopedCache.
+ * Tests loading, per-tenant and per-partition eviction, invalidation and metrics.
+ */
+@DisplayName("TenantScopedCache Tests")
+class TenantScopedCacheTest {
+
+    private TenantScopedCache<UUID, String> cache;
+    private UUID tenantId;
+    private UUID otherTenantId;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TenantScopedCache<>("projects", CacheRegion.PROJECT, UUID::fromString, 2, 2, Duration.ofMinutes(10));
+        tenantId = UUID.randomUUID();
+        otherTenantId = UUID.randomUUID();
+        loads = new AtomicInteger();
+    }
+
+    private Optional<String> load(UUID tenant, UUID key) {
+        return cache.get(tenant, key, () -> {
+            loads.incrementAndGet();
+            return Optional.of("value-" + key);
+        });
+    }
+
+    // ========== Loading ==========
+
+    @Test
+    @DisplayName("Should load once and serve later reads from the cache")
+    void get_SecondRead_Hit() {
+        // Given
+        UUID key = UUID.randomUUID();
+
+        // When
+        Optional<String> first = load(tenantId, key);
+        Optional<String> second = load(tenantId, key);
+
+        // Then
+        assertThat(first).contains("value-" + key);
+        assertThat(second).contains("value-" + key);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache empty results")
+    void get_EmptyResult_NotCached() {
+        // Given
+        UUID key = UUID.randomUUID();
+
+        // When
+        cache.get(tenantId, key, Optional::empty);
+
+        // Then
+        assertThat(cache.getIfPresent(tenantId, key)).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep tenants apart for the same key")
+    void get_SameKeyOtherTenant_Miss() {
+        // Given
+        UUID key = UUID.randomUUID();
+        load(tenantId, key);
+
+        // When
+        Optional<String> cached = cache.getIfPresent(otherTenantId, key);
+
+        // Then
+        assertThat(cached).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should expire entries after the TTL")
+    void get_Expired_Reloads() {
+        // Given
+        cache = new TenantScopedCache<>("projects", CacheRegion.PROJECT, UUID::fromString, 2, 2, Duration.ZERO);
+        UUID key = UUID.randomUUID();
+        load(tenantId, key);
+
+        // When
+        load(tenantId, key);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not store a value loaded before an invalidation")
+    void get_InvalidatedDuringLoad_NotStored() {
+        // Given
+        UUID key = UUID.randomUUID();
+
+        // When
+        cache.get(tenantId, key, () -> {
+            cache.invalidate(CacheRegion.PROJECT, tenantId, key.toString());
+            return Optional.of("stale");
+        });
+
+        // Then
+        assertThat(cache.getIfPresent(tenantId, key)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should replace a cached value on reload without touching other loads")
+    void reload_Cached_Replaced() {
+        // Given
+        UUID key = UUID.randomUUID();
+        UUID otherKey = UUID.randomUUID();
+        cache.get(tenantId, key, () -> Optional.of("old"));
+
+        // When - a load of another key overlaps the reload
+        cache.get(tenantId, otherKey, () -> {
+            cache.reload(tenantId, key, () -> Optional.of("new"));
+            return Optional.of("other");
+        });
+
+        // Then
+        assertThat(cache.getIfPresent(tenantId, key)).contains("new");
+        assertThat(cache.getIfPresent(tenantId, otherKey)).contains("other");
+    }
+
+    @Test
+    @DisplayName("Should not store a value reloaded before an invalidation")
+    void reload_InvalidatedDuringLoad_NotStored() {
+        // Given
+        UUID key = UUID.randomUUID();
+        cache.get(tenantId, key, () -> Optional.of("old"));
+
+        // When
+        Optional<String> reloaded = cache.reload(tenantId, key, () -> {
+            cache.invalidate(CacheRegion.PROJECT, tenantId, key.toString());
+            return Optional.of("stale");
+        });
+
+        // Then
+        assertThat(reloaded).contains("stale");
+        assertThat(cache.getIfPresent(tenantId, key)).isEmpty();
+    }
+
+    // ========== Eviction ==========
+
+    @Test
+    @DisplayName("Should evict the least recently used entry of a full tenant")
+    void put_TenantFull_EvictsLeastRecentlyUsed() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        load(tenantId, first);
+        load(tenantId, second);
+        cache.getIfPresent(tenantId, first);
+
+        // When
+        load(tenantId, UUID.randomUUID());
+
+        // Then
+        assertThat(cache.getIfPresent(tenantId, first)).isPresent();
+        assertThat(cache.getIfPresent(tenantId, second)).isEmpty();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should drop the least recently used tenant when too many tenants are cached")
+    void get_TooManyTenants_EvictsPartition() {
+        // Given
+        UUID key = UUID.randomUUID();
+        load(tenantId, key);
+        load(otherTenantId, key);
+        load(tenantId, key);
+
+        // When
+        load(UUID.randomUUID(), key);
+
+        // Then
+        assertThat(cache.tenantCount()).isEqualTo(2);
+        assertThat(cache.getIfPresent(tenantId, key)).isPresent();
+        assertThat(cache.getIfPresent(otherTenantId, key)).isEmpty();
+    }
+
+    // ========== Invalidation ==========
+
+    @Test
+    @DisplayName("Should evict only the invalidated key")
+    void invalidate_Key_EvictsEntry() {
+        // Given
+        UUID key = UUID.randomUUID();
+        UUID otherKey = UUID.randomUUID();
+        load(tenantId, key);
+        load(tenantId, otherKey);
+
+        // When
+        cache.invalidate(CacheRegion.PROJECT, tenantId, key.toString());
+
+        // Then
+        assertThat(cache.getIfPresent(tenantId, key)).isEmpty();
+        assertThat(cache.getIfPresent(tenantId, otherKey)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should evict the tenant for tenant-wide or unparsable keys")
+    void invalidate_TenantOrUnparsableKey_EvictsTenant() {
+        // Given
+        UUID key = UUID.randomUUID();
+        load(tenantId, key);
+        load(otherTenantId, key);
+
+        // When
+        cache.invalidate(CacheRegion.PROJECT, tenantId, "not-a-uuid");
+        cache.invalidate(CacheRegion.PROJECT, otherTenantId, null);
+
+        // Then
+        assertThat(cache.tenantCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should ignore other regions")
+    void invalidate_OtherRegion_Ignored() {
+        // Given
+        UUID key = UUID.randomUUID();
+        load(tenantId, key);
+
+        // When
+        cache.invalidate(CacheRegion.TENANT, tenantId, key.toString());
+
+        // Then
+        assertThat(cache.getIfPresent(tenantId, key)).isPresent();
+    }
+
+    // ========== Metrics ==========
+
+    @Test
+    @DisplayName("Should publish hit, miss and size meters")
+    void metrics_Bound_PublishesCacheMeters() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new TenantPartitionedCache.Metrics(cache).bindTo(registry);
+        UUID key = UUID.randomUUID();
+
+        // When
+        load(tenantId, key);
+        load(tenantId, key);
+
+        // Then
+        assertThat(registry.get("cache.gets").tag("cache", "projects").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tag("cache", "projects").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.size").tag("cache", "projects").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("cache.tenants").tag("cache", "projects").gauge().value()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,246 @@
+package com.platform.saas.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReplicaRoutingDataSource.
+ * Tests round-robin routing, lag thresholds, opted-in paths and fallback to the primary.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private DataSource replica2;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replica1Connection;
+
+    @Mock
+    private Connection replica2Connection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, 1000,
+                List.of("/api/automations/logs/**"), 60000, meterRegistry);
+        request("GET", "/api/automations/logs/failed");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    // ========== Routing ==========
+
+    @Test
+    @DisplayName("Should spread connections over replicas round-robin")
+    void getConnection_HealthyReplicas_RoundRobin() throws SQLException {
+        // Given
+        when(replica1.getConnection()).thenReturn(replica1Connection);
+        when(replica2.getConnection()).thenReturn(replica2Connection);
+
+        // When / Then
+        assertThat(routingDataSource.getConnection()).isSameAs(replica1Connection);
+        assertThat(routingDataSource.getConnection()).isSameAs(replica2Connection);
+        assertThat(routingDataSource.getConnection()).isSameAs(replica1Connection);
+        verifyNoInteractions(primary);
+        assertThat(meterRegistry.get("saas.datasource.routing").tag("target", "replica-1").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the next replica and skip a failed one")
+    void getConnection_ReplicaFails_SkipsReplica() throws SQLException {
+        // Given
+        when(replica1.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(replica2.getConnection()).thenReturn(replica2Connection);
+
+        // When
+        Connection first = routingDataSource.getConnection();
+        Connection second = routingDataSource.getConnection();
+        Connection third = routingDataSource.getConnection();
+
+        // Then
+        assertThat(List.of(first, second, third)).containsOnly(replica2Connection);
+        verify(replica1, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when every replica fails")
+    void getConnection_AllReplicasFail_UsesPrimary() throws SQLException {
+        // Given
+        when(replica1.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(replica2.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(meterRegistry.get("saas.datasource.routing")
+                .tag("target", "primary").tag("reason", "failover").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("saas.datasource.replica.available").tag("pool", "replica-1").gauge().value())
+                .isZero();
+    }
+
+    // ========== Replication Lag ==========
+
+    @Test
+    @DisplayName("Should use the primary when replicas lag behind")
+    void getConnection_ReplicasLagging_UsesPrimary() throws SQLException {
+        // Given
+        stubLag(replica1, 5000);
+        stubLag(replica2, 5000);
+        routingDataSource.checkReplicas();
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(meterRegistry.get("saas.datasource.replica.lag").tag("pool", "replica-1").gauge().value())
+                .isEqualTo(5000.0);
+    }
+
+    // ========== Opt-in Paths ==========
+
+    @Test
+    @DisplayName("Should read the primary on paths that did not opt into replicas")
+    void getConnection_PathNotListed_UsesPrimary() throws SQLException {
+        // Given
+        request("GET", "/api/projects/123");
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+        verifyNoInteractions(replica1, replica2);
+        assertThat(meterRegistry.get("saas.datasource.routing")
+                .tag("target", "primary").tag("reason", "not_eligible").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should read the primary inside mutating requests on listed paths")
+    void getConnection_PostOnListedPath_UsesPrimary() throws SQLException {
+        // Given
+        request("POST", "/api/automations/logs/failed");
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When / Then
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        verifyNoInteractions(replica1, replica2);
+    }
+
+    @Test
+    @DisplayName("Should read the primary outside of requests")
+    void getConnection_NoRequest_UsesPrimary() throws SQLException {
+        // Given
+        RequestContextHolder.resetRequestAttributes();
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When / Then
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        verifyNoInteractions(replica1, replica2);
+    }
+
+    @Test
+    @DisplayName("Should register the routing counters once")
+    void getConnection_ManyReads_ReusesCounters() throws SQLException {
+        // Given
+        when(replica1.getConnection()).thenReturn(replica1Connection);
+        when(replica2.getConnection()).thenReturn(replica2Connection);
+        int registered = meterRegistry.find("saas.datasource.routing").counters().size();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            routingDataSource.getConnection();
+        }
+
+        // Then
+        assertThat(meterRegistry.find("saas.datasource.routing").counters()).hasSize(registered);
+        assertThat(meterRegistry.get("saas.datasource.routing").tag("target", "replica-2").counter().count())
+                .isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("Should revive a failed replica once its health check passes")
+    void checkReplicas_FailedReplicaRecovers_RoutesAgain() throws SQLException {
+        // Given
+        when(replica1.getConnection())
+                .thenThrow(new SQLException("Connection refused"))
+                .thenReturn(replica1Connection);
+        when(replica2.getConnection()).thenReturn(replica2Connection);
+        routingDataSource.getConnection();
+        stubLag(replica1, 0);
+        stubLag(replica2, 0);
+
+        // When
+        routingDataSource.checkReplicas();
+
+        // Then
+        assertThat(routingDataSource.getConnection()).isIn(replica1Connection, replica2Connection);
+        Health health = routingDataSource.health();
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("servingReplicas", 2);
+    }
+
+    private void request(String method, String path) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(method, path)));
+    }
+
+    private void stubLag(DataSource replica, long lagMs) throws SQLException {
+        Connection connection = replica == replica1 ? replica1Connection : replica2Connection;
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        doReturn(connection).when(replica).getConnection();
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReplicaRoutingDataSource.LAG_QUERY)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(lagMs);
+    }
+}
@@ -0,0 +1,132 @@
+package com.platform.saas.config;
+
+import com.platform.saas.security.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TenantSessionDataSource.
+ * Tests that the tenant session variable is set or cleared at every checkout.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TenantSessionDataSource Tests")
+class TenantSessionDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    private MockedStatic<TenantContext> mockedTenantContext;
+    private TenantSessionDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        mockedTenantContext = mockStatic(TenantContext.class);
+        dataSource = new TenantSessionDataSource(target);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(TenantSessionDataSource.SET_TENANT_SQL)).thenReturn(statement);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mockedTenantContext.close();
+    }
+
+    @Test
+    @DisplayName("Should set the tenant of the current context")
+    void getConnection_WithTenant_SetsTenant() throws SQLException {
+        // Given
+        UUID tenantId = UUID.randomUUID();
+        mockedTenantContext.when(TenantContext::getTenantId).thenReturn(tenantId);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        // When
+        Connection result = dataSource.getConnection();
+
+        // Then
+        assertThat(result).isSameAs(connection);
+        verify(statement).setString(1, tenantId.toString());
+        verify(statement).setString(2, "off");
+        verify(statement).execute();
+        verify(connection, never()).commit();
+    }
+
+    @Test
+    @DisplayName("Should clear the tenant without tenant context")
+    void getConnection_WithoutTenant_ClearsTenant() throws SQLException {
+        // Given
+        mockedTenantContext.when(TenantContext::getTenantId).thenReturn(null);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        // When
+        dataSource.getConnection();
+
+        // Then
+        verify(statement).setString(1, "");
+        verify(statement).setString(2, "off");
+    }
+
+    @Test
+    @DisplayName("Should bypass row-level security only for explicitly cross-tenant work")
+    void getConnection_AcrossTenants_SetsBypass() throws SQLException {
+        // Given
+        mockedTenantContext.when(TenantContext::getTenantId).thenReturn(null);
+        mockedTenantContext.when(TenantContext::isAcrossTenants).thenReturn(true);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        // When
+        dataSource.getConnection();
+
+        // Then
+        verify(statement).setString(1, "");
+        verify(statement).setString(2, "on");
+    }
+
+    @Test
+    @DisplayName("Should commit the setting when auto-commit is off")
+    void getConnection_AutoCommitOff_CommitsSetting() throws SQLException {
+        // Given
+        mockedTenantContext.when(TenantContext::getTenantId).thenReturn(UUID.randomUUID());
+        when(connection.getAutoCommit()).thenReturn(false);
+
+        // When
+        dataSource.getConnection();
+
+        // Then
+        verify(connection).commit();
+    }
+
+    @Test
+    @DisplayName("Should close the connection when the tenant cannot be set")
+    void getConnection_SetFails_ClosesConnection() throws SQLException {
+        // Given
+        mockedTenantContext.when(TenantContext::getTenantId).thenReturn(UUID.randomUUID());
+        when(statement.execute()).thenThrow(new SQLException("connection lost"));
+
+        // When & Then
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLException.class)
+                .hasMessageContaining("connection lost");
+        verify(connection).close();
+    }
+}
@@ -1,9 +1,12 @@
 package com.platform.saas.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.saas.dto.RuleReplayRequest;
+import com.platform.saas.dto.RuleReplayResult;
 import com.platform.saas.model.AutomationRule;
 import com.platform.saas.model.EventLog;
 import com.platform.saas.service.AutomationService;
+import com.platform.saas.service.RuleReplayService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -49,6 +52,9 @@ class AutomationControllerTest {
     @MockBean
     private AutomationService automationService;
 
+    @MockBean
+    private RuleReplayService ruleReplayService;
+
     @MockBean
     private com.platform.saas.repository.TenantRepository tenantRepository;
 
@@ -399,6 +405,8 @@ class AutomationControllerTest {
     void getAutomationStats_Success() throws Exception {
         // Given
         when(automationService.countRules()).thenReturn(10L);
+        when(automationService.getTotalExecutionCount()).thenReturn(250L);
+        when(automationService.getQueuedExecutionCount()).thenReturn(3);
         when(automationService.countLogsByStatus(EventLog.ExecutionStatus.SUCCESS)).thenReturn(100L);
         when(automationService.countLogsByStatus(EventLog.ExecutionStatus.FAILED)).thenReturn(5L);
         when(automationService.countLogsByStatus(EventLog.ExecutionStatus.SKIPPED)).thenReturn(2L);
@@ -410,6 +418,8 @@ class AutomationControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.totalRules").value(10))
+                .andExpect(jsonPath("$.totalExecutions").value(250))
+                .andExpect(jsonPath("$.queuedExecutions").value(3))
                 .andExpect(jsonPath("$.successfulExecutions").value(100))
                 .andExpect(jsonPath("$.failedExecutions").value(5))
                 .andExpect(jsonPath("$.skippedExecutions").value(2))
@@ -417,7 +427,57 @@ class AutomationControllerTest {
                 .andExpect(jsonPath("$.averageExecutionDurationMs").value(150.0));
 
         verify(automationService, times(1)).countRules();
+        verify(automationService, times(1)).getTotalExecutionCount();
         verify(automationService, times(4)).countLogsByStatus(any());
         verify(automationService, times(1)).getAverageExecutionDuration();
     }
+
+    // ========== REPLAY TESTS ==========
+
+    @Test
+    @WithMockUser(authorities = {"ADMINISTRATOR"})
+    @DisplayName("Should replay conditions against historical events")
+    void replayRule_Success() throws Exception {
+        // Given
+        RuleReplayRequest request = RuleReplayRequest.builder()
+                .eventType("task.status.changed")
+                .conditions(Map.of("field", "status", "operator", "equals", "value", "DONE"))
+                .startDate(LocalDateTime.now().minusDays(7))
+                .endDate(LocalDateTime.now())
+                .build();
+        RuleReplayResult result = RuleReplayResult.builder()
+                .scannedEvents(1000)
+                .matchedEvents(42)
+                .sampleMatches(List.of())
+                .build();
+        when(ruleReplayService.replay(any(RuleReplayRequest.class))).thenReturn(result);
+
+        // When & Then
+        mockMvc.perform(post("/api/automations/replay")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.scannedEvents").value(1000))
+                .andExpect(jsonPath("$.matchedEvents").value(42));
+
+        verify(ruleReplayService, times(1)).replay(any(RuleReplayRequest.class));
+    }
+
+    @Test
+    @WithMockUser(authorities = {"ADMINISTRATOR"})
+    @DisplayName("Should reject replay without a date range")
+    void replayRule_MissingDates_BadRequest() throws Exception {
+        RuleReplayRequest request = RuleReplayRequest.builder()
+                .eventType("task.status.changed")
+                .build();
+
+        mockMvc.perform(post("/api/automations/replay")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(ruleReplayService);
+    }
 }
@@ -0,0 +1,103 @@
+package com.platform.saas.controller;
+
+import com.platform.saas.exception.ChangeFeedLimitExceededException;
+import com.platform.saas.security.TenantContext;
+import com.platform.saas.service.ChangeFeedHub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Web layer tests for ChangeFeedController.
+ * Tests SSE subscription and connection limit handling.
+ */
+@WebMvcTest(controllers = ChangeFeedController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("ChangeFeedController Tests")
+class ChangeFeedControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ChangeFeedHub changeFeedHub;
+
+    @MockBean
+    private com.platform.saas.repository.TenantRepository tenantRepository;
+
+    private UUID testTenantId;
+
+    @BeforeEach
+    void setUp() {
+        testTenantId = UUID.randomUUID();
+        TenantContext.setTenantId(testTenantId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("GET /api/events/stream - Should open change feed for current tenant")
+    void streamChanges_Success() throws Exception {
+        // Given
+        when(changeFeedHub.subscribe(testTenantId, null)).thenReturn(new SseEmitter());
+
+        // When & Then
+        mockMvc.perform(get("/api/events/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(changeFeedHub).subscribe(testTenantId, null);
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("GET /api/events/stream?projectId - Should pass project filter")
+    void streamChanges_WithProjectFilter() throws Exception {
+        // Given
+        UUID projectId = UUID.randomUUID();
+        when(changeFeedHub.subscribe(testTenantId, projectId)).thenReturn(new SseEmitter());
+
+        // When & Then
+        mockMvc.perform(get("/api/events/stream")
+                        .param("projectId", projectId.toString())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(changeFeedHub).subscribe(testTenantId, projectId);
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("GET /api/events/stream - Should return 429 when connection limit reached")
+    void streamChanges_LimitExceeded() throws Exception {
+        // Given
+        when(changeFeedHub.subscribe(eq(testTenantId), any()))
+                .thenThrow(new ChangeFeedLimitExceededException(testTenantId, 1000));
+
+        // When & Then
+        mockMvc.perform(get("/api/events/stream").accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.status", is(429)));
+    }
+}
@@ -42,6 +42,9 @@ class GlobalExceptionHandlerTest {
     @MockBean
     private com.platform.saas.service.TaskService taskService;
 
+    @MockBean
+    private com.platform.saas.service.ResourceVersionService resourceVersionService;
+
     @MockBean
     private com.platform.saas.repository.TenantRepository tenantRepository;
 
@@ -0,0 +1,98 @@
+package com.platform.saas.controller;
+
+import com.platform.saas.dto.TaskPage;
+import com.platform.saas.model.Task;
+import com.platform.saas.model.TaskStatus;
+import com.platform.saas.model.User;
+import com.platform.saas.service.TaskAssigneeService;
+import com.platform.saas.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Web layer tests for MeController.
+ * Tests resolution of the current user and the "my tasks" page parameters.
+ */
+@WebMvcTest(controllers = MeController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("MeController Tests")
+class MeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private TaskAssigneeService taskAssigneeService;
+
+    @MockBean
+    private com.platform.saas.repository.TenantRepository tenantRepository;
+
+    private UUID testUserId;
+
+    @BeforeEach
+    void setUp() {
+        testUserId = UUID.randomUUID();
+
+        User user = new User();
+        user.setId(testUserId);
+        user.setCognitoUserId("user-123");
+        when(userService.getUserByCognitoId("user-123")).thenReturn(user);
+    }
+
+    @Test
+    @DisplayName("Should return the current user's tasks with the next cursor")
+    void getMyTasks_Success() throws Exception {
+        // Given
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setName("Assigned Task");
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        when(taskAssigneeService.getAssignedTasks(testUserId, TaskStatus.IN_PROGRESS, "abc", 20))
+                .thenReturn(TaskPage.builder().tasks(List.of(task)).nextCursor("def").build());
+
+        // When & Then
+        mockMvc.perform(get("/api/me/tasks")
+                        .param("status", "IN_PROGRESS")
+                        .param("cursor", "abc")
+                        .param("limit", "20")
+                        .with(jwt().jwt(token -> token.subject("user-123"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks", hasSize(1)))
+                .andExpect(jsonPath("$.tasks[0].name").value("Assigned Task"))
+                .andExpect(jsonPath("$.nextCursor").value("def"));
+    }
+
+    @Test
+    @DisplayName("Should list open tasks with the default page size")
+    void getMyTasks_Defaults() throws Exception {
+        // Given
+        when(taskAssigneeService.getAssignedTasks(testUserId, null, null, 50))
+                .thenReturn(TaskPage.builder().tasks(List.of()).build());
+
+        // When & Then
+        mockMvc.perform(get("/api/me/tasks")
+                        .with(jwt().jwt(token -> token.subject("user-123"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks", hasSize(0)));
+
+        verify(taskAssigneeService).getAssignedTasks(testUserId, null, null, 50);
+    }
+}
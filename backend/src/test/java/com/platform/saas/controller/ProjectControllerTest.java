@@ -1,10 +1,17 @@
 package com.platform.saas.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.saas.dto.ProjectBoard;
+import com.platform.saas.dto.ProjectSchedule;
 import com.platform.saas.model.Priority;
 import com.platform.saas.model.Project;
 import com.platform.saas.model.ProjectStatus;
+import com.platform.saas.model.Task;
+import com.platform.saas.model.TaskStatus;
+import com.platform.saas.service.ProjectScheduleService;
 import com.platform.saas.service.ProjectService;
+import com.platform.saas.service.ResourceVersionService;
+import com.platform.saas.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -51,6 +58,15 @@ class ProjectControllerTest {
     @MockBean
     private ProjectService projectService;
 
+    @MockBean
+    private ResourceVersionService resourceVersionService;
+
+    @MockBean
+    private TaskService taskService;
+
+    @MockBean
+    private ProjectScheduleService projectScheduleService;
+
     @MockBean
     private com.platform.saas.repository.TenantRepository tenantRepository;
 
@@ -269,6 +285,130 @@ class ProjectControllerTest {
         verify(projectService, times(1)).getProject(testProjectId);
     }
 
+    @Test
+    @WithMockUser(authorities = {"VIEWER"})
+    @DisplayName("Should return 304 for unchanged project without loading it")
+    void getProject_ETagMatches_NotModified() throws Exception {
+        // Given
+        when(resourceVersionService.getProjectETag(any(), eq(testProjectId))).thenReturn("\"abc-7-20000\"");
+
+        // When & Then
+        mockMvc.perform(get("/api/projects/{id}", testProjectId)
+                        .header("If-None-Match", "\"abc-7-20000\""))
+                .andExpect(status().isNotModified());
+
+        verify(projectService, never()).getProject(any());
+    }
+
+    @Test
+    @WithMockUser(authorities = {"VIEWER"})
+    @DisplayName("Should return 304 for unchanged project list without querying")
+    void getAllProjects_ETagMatches_NotModified() throws Exception {
+        // Given
+        when(resourceVersionService.getTenantETag(any())).thenReturn("\"abc-7-20000\"");
+
+        // When & Then
+        mockMvc.perform(get("/api/projects")
+                        .header("If-None-Match", "\"abc-7-20000\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc-7-20000\""));
+
+        verifyNoInteractions(projectService);
+    }
+
+    @Test
+    @WithMockUser(authorities = {"VIEWER"})
+    @DisplayName("Should return full project list when ETag is stale")
+    void getAllProjects_ETagStale_ReturnsList() throws Exception {
+        // Given
+        when(resourceVersionService.getTenantETag(any())).thenReturn("\"abc-8-20000\"");
+        when(projectService.getAllProjects()).thenReturn(Arrays.asList(testProject));
+
+        // When & Then
+        mockMvc.perform(get("/api/projects")
+                        .header("If-None-Match", "\"abc-7-20000\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc-8-20000\""))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    // ========== PROJECT BOARD TESTS ==========
+
+    @Test
+    @WithMockUser(authorities = {"VIEWER"})
+    @DisplayName("Should get project board grouped by status")
+    void getProjectBoard_Success() throws Exception {
+        // Given
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setProjectId(testProjectId);
+        task.setName("Board Task");
+        task.setStatus(TaskStatus.TODO);
+        task.setBoardRank("a0");
+        ProjectBoard board = ProjectBoard.builder()
+                .projectId(testProjectId)
+                .limit(20)
+                .columns(List.of(
+                        ProjectBoard.Column.builder().status(TaskStatus.TODO).tasks(List.of(task)).hasMore(true).build(),
+                        ProjectBoard.Column.builder().status(TaskStatus.IN_PROGRESS).tasks(List.of()).build()))
+                .build();
+        when(resourceVersionService.getProjectETag(any(), eq(testProjectId))).thenReturn("\"abc-3-20000\"");
+        when(taskService.getProjectBoard(testProjectId, 20)).thenReturn(board);
+
+        // When & Then
+        mockMvc.perform(get("/api/projects/{id}/board", testProjectId)
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc-3-20000\""))
+                .andExpect(jsonPath("$.columns", hasSize(2)))
+                .andExpect(jsonPath("$.columns[0].status").value("TODO"))
+                .andExpect(jsonPath("$.columns[0].hasMore").value(true))
+                .andExpect(jsonPath("$.columns[0].tasks[0].name").value("Board Task"));
+    }
+
+    @Test
+    @WithMockUser(authorities = {"VIEWER"})
+    @DisplayName("Should return 304 for unchanged board without querying tasks")
+    void getProjectBoard_ETagMatches_NotModified() throws Exception {
+        // Given
+        when(resourceVersionService.getProjectETag(any(), eq(testProjectId))).thenReturn("\"abc-3-20000\"");
+
+        // When & Then
+        mockMvc.perform(get("/api/projects/{id}/board", testProjectId)
+                        .header("If-None-Match", "\"abc-3-20000\""))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(taskService);
+    }
+
+    // ========== PROJECT SCHEDULE TESTS ==========
+
+    @Test
+    @WithMockUser(authorities = {"VIEWER"})
+    @DisplayName("Should get project schedule")
+    void getProjectSchedule_Success() throws Exception {
+        // Given
+        UUID taskId = UUID.randomUUID();
+        ProjectSchedule schedule = ProjectSchedule.builder()
+                .projectId(testProjectId)
+                .asOf(LocalDate.of(2026, 1, 1))
+                .taskCount(1)
+                .projectedFinish(LocalDate.of(2026, 1, 5))
+                .topologicalOrder(List.of(taskId))
+                .criticalPath(List.of(taskId))
+                .transitivelyBlocked(List.of())
+                .cyclicTasks(List.of())
+                .tasks(List.of())
+                .build();
+        when(projectScheduleService.getSchedule(testProjectId)).thenReturn(schedule);
+
+        // When & Then
+        mockMvc.perform(get("/api/projects/{id}/schedule", testProjectId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectedFinish").value("2026-01-05"))
+                .andExpect(jsonPath("$.criticalPath[0]").value(taskId.toString()));
+    }
+
     // ========== UPDATE PROJECT TESTS ==========
 
     @Test
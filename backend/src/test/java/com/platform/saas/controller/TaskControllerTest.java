@@ -1,9 +1,18 @@
 package com.platform.saas.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.saas.dto.BoardMoveRequest;
+import com.platform.saas.dto.TaskAssigneeRequest;
+import com.platform.saas.dto.TaskAssignmentRequest;
+import com.platform.saas.dto.TaskDependencyRequest;
 import com.platform.saas.model.Priority;
 import com.platform.saas.model.Task;
+import com.platform.saas.model.TaskAssignee;
+import com.platform.saas.model.TaskAssigneeId;
+import com.platform.saas.model.TaskDependency;
 import com.platform.saas.model.TaskStatus;
+import com.platform.saas.service.ResourceVersionService;
+import com.platform.saas.service.TaskAssigneeService;
 import com.platform.saas.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -50,6 +59,12 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskAssigneeService taskAssigneeService;
+
+    @MockBean
+    private ResourceVersionService resourceVersionService;
+
     @MockBean
     private com.platform.saas.repository.TenantRepository tenantRepository;
 
@@ -158,6 +173,37 @@ class TaskControllerTest {
         verify(taskService, times(1)).getTasksByProject(testProjectId);
     }
 
+    @Test
+    @WithMockUser(authorities = {"VIEWER"})
+    @DisplayName("Should return ETag with task list")
+    void getAllTasks_ReturnsETag() throws Exception {
+        // Given
+        when(resourceVersionService.getProjectETag(any(), eq(testProjectId))).thenReturn("\"abc-3-20000\"");
+        when(taskService.getTasksByProject(testProjectId)).thenReturn(Arrays.asList(testTask));
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks")
+                        .param("projectId", testProjectId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"abc-3-20000\""));
+    }
+
+    @Test
+    @WithMockUser(authorities = {"VIEWER"})
+    @DisplayName("Should return 304 without querying when ETag matches")
+    void getAllTasks_ETagMatches_NotModified() throws Exception {
+        // Given
+        when(resourceVersionService.getTenantETag(any())).thenReturn("\"abc-3-20000\"");
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks")
+                        .header("If-None-Match", "\"abc-3-20000\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"abc-3-20000\""));
+
+        verifyNoInteractions(taskService);
+    }
+
     @Test
     @WithMockUser(authorities = {"VIEWER"})
     @DisplayName("Should get tasks filtered by status")
@@ -293,6 +339,161 @@ class TaskControllerTest {
         verify(taskService, times(1)).getTask(testTaskId);
     }
 
+    // ========== BOARD POSITION TEST ==========
+
+    @Test
+    @WithMockUser(authorities = {"EDITOR"})
+    @DisplayName("Should move task to a new board position")
+    void moveTask_Success() throws Exception {
+        // Given
+        UUID aboveId = UUID.randomUUID();
+        testTask.setStatus(TaskStatus.IN_PROGRESS);
+        testTask.setBoardRank("a0V");
+        when(taskService.moveTask(eq(testTaskId), any(BoardMoveRequest.class))).thenReturn(testTask);
+        BoardMoveRequest move = BoardMoveRequest.builder()
+                .status(TaskStatus.IN_PROGRESS)
+                .afterTaskId(aboveId)
+                .build();
+
+        // When & Then
+        mockMvc.perform(put("/api/tasks/{id}/board-position", testTaskId)
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(move)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.boardRank").value("a0V"));
+
+        verify(taskService).moveTask(eq(testTaskId), eq(move));
+    }
+
+    // ========== DEPENDENCY TESTS ==========
+
+    @Test
+    @WithMockUser(authorities = {"EDITOR"})
+    @DisplayName("Should add task dependency")
+    void addDependency_Success() throws Exception {
+        // Given
+        UUID blockingId = UUID.randomUUID();
+        when(taskService.addDependency(testTaskId, blockingId))
+                .thenReturn(new TaskDependency(blockingId, testTaskId));
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/{id}/dependencies", testTaskId)
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskDependencyRequest(blockingId))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.blockingTaskId").value(blockingId.toString()))
+                .andExpect(jsonPath("$.blockedTaskId").value(testTaskId.toString()));
+    }
+
+    @Test
+    @WithMockUser(authorities = {"EDITOR"})
+    @DisplayName("Should return 400 for a circular dependency")
+    void addDependency_Cycle_Returns400() throws Exception {
+        // Given
+        UUID blockingId = UUID.randomUUID();
+        when(taskService.addDependency(testTaskId, blockingId))
+                .thenThrow(new IllegalArgumentException("Circular dependency"));
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/{id}/dependencies", testTaskId)
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskDependencyRequest(blockingId))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(authorities = {"EDITOR"})
+    @DisplayName("Should remove task dependency")
+    void removeDependency_Success() throws Exception {
+        // Given
+        UUID blockingId = UUID.randomUUID();
+
+        // When & Then
+        mockMvc.perform(delete("/api/tasks/{id}/dependencies/{blockingTaskId}", testTaskId, blockingId)
+                        .with(csrf()))
+                .andExpect(status().isNoContent());
+
+        verify(taskService).removeDependency(testTaskId, blockingId);
+    }
+
+    // ========== ASSIGNEE TESTS ==========
+
+    @Test
+    @WithMockUser(authorities = {"EDITOR"})
+    @DisplayName("Should assign user to task")
+    void assignUser_Success() throws Exception {
+        // Given
+        UUID userId = UUID.randomUUID();
+        when(taskAssigneeService.assignUser(testTaskId, userId))
+                .thenReturn(new TaskAssignee(testTaskId, userId));
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/{id}/assignees", testTaskId)
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskAssigneeRequest(userId))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.taskId").value(testTaskId.toString()))
+                .andExpect(jsonPath("$.userId").value(userId.toString()));
+    }
+
+    @Test
+    @WithMockUser(authorities = {"EDITOR"})
+    @DisplayName("Should remove assignee from task")
+    void unassignUser_Success() throws Exception {
+        // Given
+        UUID userId = UUID.randomUUID();
+
+        // When & Then
+        mockMvc.perform(delete("/api/tasks/{id}/assignees/{userId}", testTaskId, userId)
+                        .with(csrf()))
+                .andExpect(status().isNoContent());
+
+        verify(taskAssigneeService).unassignUser(testTaskId, userId);
+    }
+
+    @Test
+    @WithMockUser(authorities = {"EDITOR"})
+    @DisplayName("Should bulk assign users and return the new assignments")
+    void assignUsers_Bulk_Success() throws Exception {
+        // Given
+        UUID otherTaskId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        TaskAssignmentRequest request = new TaskAssignmentRequest(List.of(testTaskId, otherTaskId), List.of(userId));
+        when(taskAssigneeService.assignUsers(request.getTaskIds(), request.getUserIds()))
+                .thenReturn(List.of(new TaskAssigneeId(otherTaskId, userId)));
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/assignees/bulk")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].taskId").value(otherTaskId.toString()));
+    }
+
+    @Test
+    @WithMockUser(authorities = {"EDITOR"})
+    @DisplayName("Should return 400 for a bulk request without users")
+    void unassignUsers_NoUsers_Returns400() throws Exception {
+        // Given
+        TaskAssignmentRequest request = new TaskAssignmentRequest(List.of(testTaskId), List.of());
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/assignees/bulk-remove")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(taskAssigneeService);
+    }
+
     // ========== UPDATE TASK TEST ==========
 
     @Test
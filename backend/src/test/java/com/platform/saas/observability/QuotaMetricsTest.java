@@ -0,0 +1,111 @@
+package com.platform.saas.observability;
+
+import com.platform.saas.model.SubscriptionTier;
+import com.platform.saas.model.Tenant;
+import com.platform.saas.repository.TenantRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for QuotaMetrics.
+ * Tests the meters recorded for allowed, exceeded and unlimited quota checks.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuotaMetrics Tests")
+class QuotaMetricsTest {
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private QuotaMetrics quotaMetrics;
+    private Tenant tenant;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        quotaMetrics = new QuotaMetrics(meterRegistry, new TenantMetricTags(tenantRepository, 10, List.of()));
+
+        tenant = new Tenant();
+        tenant.setId(UUID.randomUUID());
+        tenant.setSubdomain("acme");
+        tenant.setSubscriptionTier(SubscriptionTier.FREE);
+        tenant.setQuotaLimit(50);
+    }
+
+    @Test
+    @DisplayName("Should time allowed checks and record usage ratio")
+    void recordCheck_Allowed_RecordsTimerAndUsage() {
+        // When
+        quotaMetrics.recordCheck(tenant, "projects", 40, System.nanoTime());
+
+        // Then
+        assertThat(meterRegistry.get("saas.quota.check")
+                .tags("resource", "projects", "outcome", "allowed", "tier", "free")
+                .timer().count()).isEqualTo(1);
+        DistributionSummary usage = meterRegistry.get("saas.quota.usage").summary();
+        assertThat(usage.max()).isEqualTo(0.8);
+        assertThat(meterRegistry.find("saas.quota.exceeded").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should count exceeded checks per tenant")
+    void recordCheck_Exceeded_CountsPerTenant() {
+        // When
+        quotaMetrics.recordCheck(tenant, "projects", 50, System.nanoTime());
+
+        // Then
+        assertThat(meterRegistry.get("saas.quota.check").tag("outcome", "exceeded").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("saas.quota.exceeded")
+                .tags("tenant", "acme", "tier", "free")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should only time checks of tenants without a limit")
+    void recordCheck_Unlimited_NoUsage() {
+        // Given
+        tenant.setQuotaLimit(null);
+        tenant.setSubscriptionTier(SubscriptionTier.ENTERPRISE);
+
+        // When
+        quotaMetrics.recordCheck(tenant, "projects", 0, System.nanoTime());
+
+        // Then
+        assertThat(meterRegistry.get("saas.quota.check").tag("outcome", "unlimited").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("saas.quota.usage").summary()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should resolve tags by tenant ID when the tenant was not loaded")
+    void recordCheck_ByTenantId_LoadsTagsOnce() {
+        // Given
+        when(tenantRepository.findById(tenant.getId())).thenReturn(Optional.of(tenant));
+
+        // When
+        quotaMetrics.recordCheck(tenant.getId(), 50, "projects+tasks", 50, System.nanoTime());
+        quotaMetrics.recordCheck(tenant.getId(), 50, "projects+tasks", 10, System.nanoTime());
+
+        // Then
+        assertThat(meterRegistry.get("saas.quota.check")
+                .tags("resource", "projects+tasks", "tier", "free")
+                .timers()).hasSize(2);
+        assertThat(meterRegistry.get("saas.quota.exceeded")
+                .tags("tenant", "acme", "tier", "free")
+                .counter().count()).isEqualTo(1.0);
+        verify(tenantRepository, times(1)).findById(tenant.getId());
+    }
+}
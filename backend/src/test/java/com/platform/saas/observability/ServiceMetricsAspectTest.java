@@ -0,0 +1,93 @@
+package com.platform.saas.observability;
+
+import com.platform.saas.service.TaskService;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ServiceMetricsAspect.
+ * Tests the recorded timers and that failing to record never affects the timed call.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ServiceMetricsAspect Tests")
+class ServiceMetricsAspectTest {
+
+    @Mock
+    private TenantMetricTags tenantMetricTags;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ServiceMetricsAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new ServiceMetricsAspect(meterRegistry, tenantMetricTags);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getDeclaringType()).thenReturn(TaskService.class);
+        when(signature.getName()).thenReturn("getTask");
+    }
+
+    @Test
+    @DisplayName("Should time the call with and without the tenant tag")
+    void timeServiceCall_Success_RecordsTimers() throws Throwable {
+        // Given
+        when(joinPoint.proceed()).thenReturn("task");
+        when(tenantMetricTags.tier(nullable(UUID.class))).thenReturn("none");
+        when(tenantMetricTags.forTenant(nullable(UUID.class))).thenReturn(Tags.of("tenant", "none", "tier", "none"));
+
+        // When
+        Object result = aspect.timeServiceCall(joinPoint);
+
+        // Then
+        assertThat(result).isEqualTo("task");
+        assertThat(meterRegistry.get(ServiceMetricsAspect.CALLS)
+                .tags("service", "TaskService", "method", "getTask", "outcome", "success", "tier", "none")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ServiceMetricsAspect.TENANT_CALLS)
+                .tags("service", "TaskService", "tenant", "none")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return the call's result when recording fails")
+    void timeServiceCall_RecordingFails_ReturnsResult() throws Throwable {
+        // Given
+        when(joinPoint.proceed()).thenReturn("task");
+        when(tenantMetricTags.tier(nullable(UUID.class))).thenThrow(new IllegalStateException("metrics down"));
+
+        // When / Then
+        assertThat(aspect.timeServiceCall(joinPoint)).isEqualTo("task");
+    }
+
+    @Test
+    @DisplayName("Should rethrow the call's exception when recording fails too")
+    void timeServiceCall_CallAndRecordingFail_RethrowsCallException() throws Throwable {
+        // Given
+        RuntimeException failure = new RuntimeException("Task not found");
+        when(joinPoint.proceed()).thenThrow(failure);
+        when(tenantMetricTags.tier(nullable(UUID.class))).thenThrow(new IllegalStateException("metrics down"));
+
+        // When / Then
+        assertThatThrownBy(() -> aspect.timeServiceCall(joinPoint)).isSameAs(failure);
+    }
+}
@@ -0,0 +1,145 @@
+package com.platform.saas.observability;
+
+import com.platform.saas.cache.CacheRegion;
+import com.platform.saas.model.SubscriptionTier;
+import com.platform.saas.model.Tenant;
+import com.platform.saas.repository.TenantRepository;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TenantMetricTags.
+ * Tests tag resolution, the tenant tag limit, cache eviction and load failures.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TenantMetricTags Tests")
+class TenantMetricTagsTest {
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    private TenantMetricTags tenantMetricTags;
+
+    @BeforeEach
+    void setUp() {
+        tenantMetricTags = new TenantMetricTags(tenantRepository, 2, List.of("bigcorp"));
+    }
+
+    @Test
+    @DisplayName("Should tag requests without tenant as none")
+    void forTenant_NoTenant_None() {
+        assertThat(tenantMetricTags.forTenant((UUID) null))
+                .isEqualTo(Tags.of("tenant", "none", "tier", "none"));
+        verifyNoInteractions(tenantRepository);
+    }
+
+    @Test
+    @DisplayName("Should resolve subdomain and tier once per tenant")
+    void forTenant_LoadsTenantOnce() {
+        // Given
+        Tenant acme = tenant("acme", SubscriptionTier.PRO);
+        when(tenantRepository.findById(acme.getId())).thenReturn(Optional.of(acme));
+
+        // When
+        Tags first = tenantMetricTags.forTenant(acme.getId());
+        Tags second = tenantMetricTags.forTenant(acme.getId());
+
+        // Then
+        assertThat(first).isEqualTo(Tags.of("tenant", "acme", "tier", "pro"));
+        assertThat(second).isSameAs(first);
+        assertThat(tenantMetricTags.tier(acme.getId())).isEqualTo("pro");
+        verify(tenantRepository, times(1)).findById(acme.getId());
+    }
+
+    @Test
+    @DisplayName("Should report tenants beyond the limit as other, except included ones")
+    void forTenant_LimitReached_Other() {
+        // Given
+        Tenant first = tenant("first", SubscriptionTier.FREE);
+        Tenant second = tenant("second", SubscriptionTier.FREE);
+        Tenant third = tenant("third", SubscriptionTier.ENTERPRISE);
+        Tenant included = tenant("bigcorp", SubscriptionTier.ENTERPRISE);
+
+        // When / Then
+        assertThat(tenantMetricTags.forTenant(first)).contains(Tag.of("tenant", "first"));
+        assertThat(tenantMetricTags.forTenant(second)).contains(Tag.of("tenant", "second"));
+        assertThat(tenantMetricTags.forTenant(third))
+                .isEqualTo(Tags.of("tenant", "other", "tier", "enterprise"));
+        assertThat(tenantMetricTags.forTenant(included))
+                .isEqualTo(Tags.of("tenant", "bigcorp", "tier", "enterprise"));
+    }
+
+    @Test
+    @DisplayName("Should re-resolve tier after the tenant is invalidated and keep its tag slot")
+    void invalidate_Tenant_ReloadsTier() {
+        // Given
+        Tenant acme = tenant("acme", SubscriptionTier.FREE);
+        when(tenantRepository.findById(acme.getId())).thenReturn(Optional.of(acme));
+        assertThat(tenantMetricTags.tier(acme.getId())).isEqualTo("free");
+
+        // When
+        acme.setSubscriptionTier(SubscriptionTier.PRO);
+        tenantMetricTags.invalidate(CacheRegion.TENANT, acme.getId(), acme.getId().toString());
+
+        // Then
+        assertThat(tenantMetricTags.forTenant(acme.getId()))
+                .isEqualTo(Tags.of("tenant", "acme", "tier", "pro"));
+    }
+
+    @Test
+    @DisplayName("Should report tenants that cannot be loaded as other and retry later")
+    void forTenant_LoadFails_OtherWithoutCaching() {
+        // Given
+        Tenant acme = tenant("acme", SubscriptionTier.PRO);
+        when(tenantRepository.findById(acme.getId()))
+                .thenThrow(new IllegalStateException("connection refused"))
+                .thenReturn(Optional.of(acme));
+
+        // When / Then
+        assertThat(tenantMetricTags.forTenant(acme.getId()))
+                .isEqualTo(Tags.of("tenant", "other", "tier", "none"));
+        assertThat(tenantMetricTags.forTenant(acme.getId()))
+                .isEqualTo(Tags.of("tenant", "acme", "tier", "pro"));
+    }
+
+    @Test
+    @DisplayName("Should not cache tags loaded while the tenant was invalidated")
+    void forTenant_InvalidatedWhileLoading_NotCached() {
+        // Given - the tenant changes while it is being loaded
+        Tenant acme = tenant("acme", SubscriptionTier.FREE);
+        when(tenantRepository.findById(acme.getId())).thenAnswer(invocation -> {
+            tenantMetricTags.invalidate(CacheRegion.TENANT, acme.getId(), acme.getId().toString());
+            return Optional.of(acme);
+        });
+
+        // When
+        tenantMetricTags.tier(acme.getId());
+        tenantMetricTags.tier(acme.getId());
+
+        // Then
+        verify(tenantRepository, times(2)).findById(acme.getId());
+    }
+
+    // ========== Helpers ==========
+
+    private Tenant tenant(String subdomain, SubscriptionTier tier) {
+        Tenant tenant = new Tenant();
+        tenant.setId(UUID.randomUUID());
+        tenant.setSubdomain(subdomain);
+        tenant.setSubscriptionTier(tier);
+        return tenant;
+    }
+}
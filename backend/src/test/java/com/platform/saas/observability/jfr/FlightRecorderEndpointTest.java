@@ -0,0 +1,154 @@
+package com.platform.saas.observability.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for FlightRecorderEndpoint.
+ * Tests starting, listing, dumping, stopping and closing recordings of the platform events.
+ */
+@DisplayName("FlightRecorderEndpoint Tests")
+class FlightRecorderEndpointTest {
+
+    private FlightRecorderEndpoint endpoint;
+    private Long recordingId;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new FlightRecorderEndpoint("default", 60, 16, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (recordingId != null) {
+            endpoint.close(recordingId);
+        }
+    }
+
+    @Test
+    @DisplayName("Should start a recording and list it")
+    void start_ValidSettings_StartsRecording() {
+        // When
+        WebEndpointResponse<FlightRecorderEndpoint.RecordingDescriptor> response = endpoint.start(null, null);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        recordingId = response.getBody().id();
+        assertThat(response.getBody().state()).isEqualTo("RUNNING");
+        assertThat(endpoint.recordings())
+                .extracting(FlightRecorderEndpoint.RecordingDescriptor::id)
+                .contains(recordingId);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown settings")
+    void start_UnknownSettings_ReturnsBadRequest() {
+        // When
+        WebEndpointResponse<FlightRecorderEndpoint.RecordingDescriptor> response = endpoint.start("no-such-settings", null);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("Should limit the number of running recordings")
+    void start_LimitReached_ReturnsTooManyRequests() {
+        // Given
+        recordingId = endpoint.start(null, null).getBody().id();
+
+        // When
+        WebEndpointResponse<FlightRecorderEndpoint.RecordingDescriptor> response = endpoint.start(null, null);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    @DisplayName("Should dump recorded platform events after stopping")
+    void dump_StoppedRecording_ContainsPlatformEvents() throws Exception {
+        // Given
+        recordingId = endpoint.start(null, null).getBody().id();
+        UUID tenantId = UUID.randomUUID();
+        QuotaCheckEvent event = QuotaCheckEvent.start(tenantId, "projects");
+        event.complete(50, 50);
+
+        // When
+        assertThat(endpoint.stop(recordingId).getBody().state()).isEqualTo("STOPPED");
+        WebEndpointResponse<Resource> response = endpoint.dump(recordingId);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        Path copy = Files.createTempFile("dump-test", ".jfr");
+        try {
+            try (InputStream in = response.getBody().getInputStream()) {
+                Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+            }
+            assertThat(response.getBody().exists()).isFalse();
+
+            List<RecordedEvent> quotaEvents = RecordingFile.readAllEvents(copy).stream()
+                    .filter(recorded -> recorded.getEventType().getName().equals("com.platform.saas.QuotaCheck"))
+                    .toList();
+            assertThat(quotaEvents).hasSize(1);
+            assertThat(quotaEvents.get(0).getString("tenantId")).isEqualTo(tenantId.toString());
+            assertThat(quotaEvents.get(0).getBoolean("exceeded")).isTrue();
+        } finally {
+            Files.deleteIfExists(copy);
+        }
+    }
+
+    @Test
+    @DisplayName("Should not record environment variables, system properties or processes")
+    void start_AnySettings_DisablesRedactedEvents() {
+        // When
+        recordingId = endpoint.start("profile", null).getBody().id();
+
+        // Then
+        Map<String, String> settings = jdk.jfr.FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getId() == recordingId)
+                .findFirst()
+                .orElseThrow()
+                .getSettings();
+        FlightRecorderEndpoint.REDACTED_EVENTS.forEach(event ->
+                assertThat(settings).containsEntry(event + "#enabled", "false"));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for unknown recordings")
+    void unknownRecording_ReturnsNotFound() throws Exception {
+        assertThat(endpoint.stop(-1).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+        assertThat(endpoint.dump(-1).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+        assertThat(endpoint.close(-1).getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Should discard a closed recording")
+    void close_RemovesRecording() {
+        // Given
+        long id = endpoint.start(null, null).getBody().id();
+
+        // When
+        WebEndpointResponse<Void> response = endpoint.close(id);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_NO_CONTENT);
+        assertThat(endpoint.recordings())
+                .extracting(FlightRecorderEndpoint.RecordingDescriptor::id)
+                .doesNotContain(id);
+    }
+}
@@ -1,5 +1,7 @@
 package com.platform.saas.security;
 
+import com.platform.saas.cache.CacheRegion;
+import com.platform.saas.cache.TenantScopedCache;
 import com.platform.saas.model.Tenant;
 import com.platform.saas.repository.TenantRepository;
 import jakarta.servlet.FilterChain;
@@ -14,8 +16,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -629,4 +633,55 @@ class TenantContextFilterTest {
         verify(tenantRepository, never()).findBySubdomain("different");
         verify(filterChain).doFilter(request, response);
     }
+
+    // ========== TENANT CACHE TESTS ==========
+
+    @Test
+    @DisplayName("Should serve a resolved subdomain from the tenant cache")
+    void tenantCache_KnownSubdomain_ServedFromCache() throws ServletException, IOException {
+        // Given
+        withTenantCache();
+        when(request.getHeader("X-Tenant-Subdomain")).thenReturn("acme");
+        when(tenantRepository.findBySubdomain("acme")).thenReturn(Optional.of(testTenant));
+        when(tenantRepository.findById(testTenantId)).thenReturn(Optional.of(testTenant));
+
+        // When - resolve the subdomain, load the tenant into the cache, then hit it
+        filter.doFilterInternal(request, response, filterChain);
+        filter.doFilterInternal(request, response, filterChain);
+        filter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        verify(tenantRepository, times(1)).findBySubdomain("acme");
+        verify(tenantRepository, times(1)).findById(testTenantId);
+        verify(filterChain, times(3)).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("Should not cache a tenant loaded while it was evicted")
+    void tenantCache_EvictedDuringLoad_NotStored() throws ServletException, IOException {
+        // Given
+        TenantScopedCache<UUID, Tenant> tenantCache = withTenantCache();
+        when(request.getHeader("X-Tenant-Subdomain")).thenReturn("acme");
+        when(tenantRepository.findBySubdomain("acme")).thenReturn(Optional.of(testTenant));
+        when(tenantRepository.findById(testTenantId)).thenAnswer(invocation -> {
+            tenantCache.invalidate(CacheRegion.TENANT, testTenantId, testTenantId.toString());
+            return Optional.of(testTenant);
+        });
+
+        // When
+        filter.doFilterInternal(request, response, filterChain);
+        filter.doFilterInternal(request, response, filterChain);
+        filter.doFilterInternal(request, response, filterChain);
+
+        // Then - every lookup after the first loads again
+        verify(tenantRepository, times(2)).findById(testTenantId);
+        assertThat(tenantCache.size()).isZero();
+    }
+
+    private TenantScopedCache<UUID, Tenant> withTenantCache() {
+        TenantScopedCache<UUID, Tenant> tenantCache =
+                new TenantScopedCache<>("tenants", CacheRegion.TENANT, UUID::fromString, 1, 10, Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(filter, "tenantCache", tenantCache);
+        return tenantCache;
+    }
 }
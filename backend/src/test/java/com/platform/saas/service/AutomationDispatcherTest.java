@@ -0,0 +1,176 @@
+package com.platform.saas.service;
+
+import com.platform.saas.automation.ConditionCompiler;
+import com.platform.saas.cache.CacheRegion;
+import com.platform.saas.cache.TenantScopedCache;
+import com.platform.saas.model.AutomationRule;
+import com.platform.saas.model.EventLog;
+import com.platform.saas.repository.AutomationRuleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AutomationDispatcher.
+ * Tests queuing of events on the scheduler and execution of matching rules.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AutomationDispatcher Tests")
+class AutomationDispatcherTest {
+
+    @Mock
+    private AutomationRuleRepository automationRuleRepository;
+
+    @Mock
+    private AutomationScheduler automationScheduler;
+
+    @Mock
+    private RuleExecutionCounter ruleExecutionCounter;
+
+    @Mock
+    private WebhookActionExecutor webhookActionExecutor;
+
+    @Spy
+    private ConditionCompiler conditionCompiler = new ConditionCompiler();
+
+    @Spy
+    private TenantScopedCache<String, List<AutomationRule>> activeAutomationRuleCache =
+            new TenantScopedCache<>("automation-rules", CacheRegion.AUTOMATION_RULE, null, 100, 100, Duration.ofMinutes(10));
+
+    @InjectMocks
+    private AutomationDispatcher automationDispatcher;
+
+    private UUID tenantId;
+    private UUID taskId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        taskId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should queue event processing on the tenant's scheduler queue")
+    void dispatch_SubmitsToScheduler() {
+        // Given
+        when(automationScheduler.isEnabled()).thenReturn(true);
+        when(automationScheduler.submitAsync(eq(tenantId), any())).thenReturn(true);
+
+        // When
+        automationDispatcher.dispatch(tenantId, "task.created", taskId, "task", Map.of());
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Supplier<CompletableFuture<Void>>> task = ArgumentCaptor.forClass(Supplier.class);
+        verify(automationScheduler).submitAsync(eq(tenantId), task.capture());
+        verifyNoInteractions(automationRuleRepository);
+
+        assertThat(task.getValue().get()).isDone();
+        verify(automationRuleRepository).findByTenantIdAndEventTypeAndIsActive(tenantId, "task.created", true);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when the scheduler is disabled")
+    void dispatch_SchedulerDisabled_NoOp() {
+        when(automationScheduler.isEnabled()).thenReturn(false);
+
+        automationDispatcher.dispatch(tenantId, "task.created", taskId, "task", Map.of());
+
+        verify(automationScheduler, never()).submitAsync(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should execute webhook rules and record their executions")
+    void runRules_WebhookRule_Executes() {
+        // Given
+        AutomationRule webhook = rule("call_webhook");
+        AutomationRule email = rule("send_email");
+        Map<String, Object> payload = Map.of("status", "DONE");
+        when(automationRuleRepository.findByTenantIdAndEventTypeAndIsActive(tenantId, "task.completed", true))
+                .thenReturn(List.of(webhook, email));
+        CompletableFuture<EventLog> call = new CompletableFuture<>();
+        when(webhookActionExecutor.execute(webhook, taskId, "task", payload)).thenReturn(call);
+
+        // When
+        CompletableFuture<Void> completion =
+                automationDispatcher.runRules(tenantId, "task.completed", taskId, "task", payload);
+
+        // Then - the task completes with its webhook call, not before
+        assertThat(completion).isNotDone();
+        call.complete(new EventLog());
+        assertThat(completion).isCompleted();
+        verify(webhookActionExecutor).execute(webhook, taskId, "task", payload);
+        verify(ruleExecutionCounter).recordExecution(tenantId, webhook.getId());
+        verify(ruleExecutionCounter, never()).recordExecution(tenantId, email.getId());
+        verifyNoMoreInteractions(webhookActionExecutor);
+    }
+
+    @Test
+    @DisplayName("Should skip rules whose conditions do not match the payload")
+    void runRules_ConditionsNotMatched_Skipped() {
+        // Given
+        AutomationRule matching = rule("call_webhook");
+        matching.setConditions(Map.of("expression", "status == 'DONE' and priority in ['HIGH', 'CRITICAL']"));
+        AutomationRule other = rule("call_webhook");
+        other.setConditions(Map.of("status", "TODO"));
+        Map<String, Object> payload = Map.of("status", "DONE", "priority", "HIGH");
+        when(automationRuleRepository.findByTenantIdAndEventTypeAndIsActive(tenantId, "task.completed", true))
+                .thenReturn(List.of(matching, other));
+        when(webhookActionExecutor.execute(matching, taskId, "task", payload))
+                .thenReturn(CompletableFuture.completedFuture(new EventLog()));
+
+        // When
+        automationDispatcher.runRules(tenantId, "task.completed", taskId, "task", payload);
+
+        // Then
+        verify(webhookActionExecutor).execute(matching, taskId, "task", payload);
+        verify(webhookActionExecutor, never()).execute(eq(other), any(), any(), any());
+        verify(ruleExecutionCounter, never()).recordExecution(tenantId, other.getId());
+    }
+
+    @Test
+    @DisplayName("Should skip rules with invalid stored conditions")
+    void runRules_InvalidConditions_Skipped() {
+        // Given
+        AutomationRule broken = rule("call_webhook");
+        broken.setConditions(Map.of("field", "status", "operator", "like", "value", "DONE"));
+        when(automationRuleRepository.findByTenantIdAndEventTypeAndIsActive(tenantId, "task.completed", true))
+                .thenReturn(List.of(broken));
+
+        // When
+        automationDispatcher.runRules(tenantId, "task.completed", taskId, "task", Map.of("status", "DONE"));
+
+        // Then
+        verifyNoInteractions(webhookActionExecutor, ruleExecutionCounter);
+    }
+
+    // ========== Helpers ==========
+
+    private AutomationRule rule(String actionType) {
+        AutomationRule rule = new AutomationRule();
+        rule.setId(UUID.randomUUID());
+        rule.setTenantId(tenantId);
+        rule.setEventType("task.completed");
+        rule.setActionType(actionType);
+        rule.setActionConfig(Map.of("url", "https://hooks.example.com"));
+        return rule;
+    }
+}
@@ -0,0 +1,279 @@
+package com.platform.saas.service;
+
+import com.platform.saas.cache.CacheRegion;
+import com.platform.saas.model.SubscriptionTier;
+import com.platform.saas.model.Tenant;
+import com.platform.saas.repository.TenantRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AutomationScheduler.
+ * Tests deficit round robin ordering, overflow policies, tier resolution and worker execution.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AutomationScheduler Tests")
+class AutomationSchedulerTest {
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AutomationScheduler scheduler;
+    private final List<String> executed = new ArrayList<>();
+
+    private UUID proTenant;
+    private UUID freeTenant;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        proTenant = UUID.randomUUID();
+        freeTenant = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.stop();
+        }
+    }
+
+    // ========== Fair scheduling ==========
+
+    @Test
+    @DisplayName("Should interleave tenants by tier weight so a busy tenant cannot starve others")
+    void next_TwoTenants_DeficitRoundRobinOrder() throws Exception {
+        // Given - PRO weight 4, FREE weight 1; PRO floods its queue first
+        scheduler = createScheduler(0, 100, AutomationScheduler.OverflowPolicy.REJECT);
+        stubTier(proTenant, SubscriptionTier.PRO);
+        stubTier(freeTenant, SubscriptionTier.FREE);
+        for (int i = 0; i < 10; i++) {
+            scheduler.submit(proTenant, record("P"));
+        }
+        for (int i = 0; i < 3; i++) {
+            scheduler.submit(freeTenant, record("F"));
+        }
+
+        // When
+        runQueued(13);
+
+        // Then
+        assertThat(String.join("", executed)).isEqualTo("PPPPFPPPPFPPF");
+        assertThat(scheduler.getTotalQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report queue depth per tenant and per tier")
+    void submit_TracksQueueDepth() {
+        scheduler = createScheduler(0, 100, AutomationScheduler.OverflowPolicy.REJECT);
+        stubTier(proTenant, SubscriptionTier.PRO);
+        stubTier(freeTenant, SubscriptionTier.FREE);
+
+        scheduler.submit(proTenant, record("P"));
+        scheduler.submit(proTenant, record("P"));
+        scheduler.submit(freeTenant, record("F"));
+
+        assertThat(scheduler.getQueueDepth(proTenant)).isEqualTo(2);
+        assertThat(scheduler.getQueueDepth(freeTenant)).isEqualTo(1);
+        assertThat(meterRegistry.get("automation.scheduler.queue.depth").tag("tier", "pro").gauge().value())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("automation.scheduler.active.tenants").gauge().value()).isEqualTo(2.0);
+    }
+
+    // ========== Overflow policies ==========
+
+    @Test
+    @DisplayName("Should reject new tasks when the queue is full with REJECT policy")
+    void submit_QueueFull_Reject() throws Exception {
+        scheduler = createScheduler(0, 2, AutomationScheduler.OverflowPolicy.REJECT);
+        stubTier(freeTenant, SubscriptionTier.FREE);
+
+        assertThat(scheduler.submit(freeTenant, record("1"))).isTrue();
+        assertThat(scheduler.submit(freeTenant, record("2"))).isTrue();
+        assertThat(scheduler.submit(freeTenant, record("3"))).isFalse();
+
+        runQueued(2);
+        assertThat(executed).containsExactly("1", "2");
+        assertThat(meterRegistry.get("automation.scheduler.rejected").tag("tier", "free").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest task when the queue is full with DROP_OLDEST policy")
+    void submit_QueueFull_DropOldest() throws Exception {
+        scheduler = createScheduler(0, 2, AutomationScheduler.OverflowPolicy.DROP_OLDEST);
+        stubTier(freeTenant, SubscriptionTier.FREE);
+
+        scheduler.submit(freeTenant, record("1"));
+        scheduler.submit(freeTenant, record("2"));
+        assertThat(scheduler.submit(freeTenant, record("3"))).isTrue();
+
+        runQueued(2);
+        assertThat(executed).containsExactly("2", "3");
+        assertThat(meterRegistry.get("automation.scheduler.dropped").tag("tier", "free").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should isolate overflow to the tenant whose queue is full")
+    void submit_OneTenantFull_OtherTenantAccepted() {
+        scheduler = createScheduler(0, 1, AutomationScheduler.OverflowPolicy.REJECT);
+        stubTier(proTenant, SubscriptionTier.PRO);
+        stubTier(freeTenant, SubscriptionTier.FREE);
+
+        scheduler.submit(proTenant, record("P"));
+
+        assertThat(scheduler.submit(proTenant, record("P"))).isFalse();
+        assertThat(scheduler.submit(freeTenant, record("F"))).isTrue();
+    }
+
+    // ========== Tier resolution ==========
+
+    @Test
+    @DisplayName("Should cache tenant tiers until the tenant is invalidated")
+    void resolveTier_CachedUntilInvalidated() {
+        scheduler = createScheduler(0, 100, AutomationScheduler.OverflowPolicy.REJECT);
+        stubTier(proTenant, SubscriptionTier.PRO);
+
+        scheduler.submit(proTenant, record("P"));
+        scheduler.submit(proTenant, record("P"));
+        verify(tenantRepository, times(1)).findById(proTenant);
+
+        scheduler.invalidate(CacheRegion.TENANT, proTenant, null);
+        scheduler.submit(proTenant, record("P"));
+        verify(tenantRepository, times(2)).findById(proTenant);
+    }
+
+    // ========== Workers ==========
+
+    @Test
+    @DisplayName("Should run submitted tasks on worker threads")
+    void workers_RunTasks() throws Exception {
+        scheduler = createScheduler(2, 100, AutomationScheduler.OverflowPolicy.REJECT);
+        stubTier(freeTenant, SubscriptionTier.FREE);
+        CountDownLatch done = new CountDownLatch(5);
+
+        for (int i = 0; i < 5; i++) {
+            scheduler.submit(freeTenant, done::countDown);
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    // ========== In-flight limit ==========
+
+    @Test
+    @DisplayName("Should hold a tenant's slot until its asynchronous task completes")
+    void next_AsyncTasks_SkipTenantAtInFlightLimit() throws Exception {
+        // Given - at most 2 unfinished tasks per tenant
+        scheduler = createScheduler(0, 100, AutomationScheduler.OverflowPolicy.REJECT);
+        stubTier(proTenant, SubscriptionTier.PRO);
+        stubTier(freeTenant, SubscriptionTier.FREE);
+        List<CompletableFuture<Void>> calls = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            scheduler.submitAsync(proTenant, () -> {
+                executed.add("P");
+                CompletableFuture<Void> call = new CompletableFuture<>();
+                calls.add(call);
+                return call;
+            });
+        }
+        scheduler.submit(freeTenant, record("F"));
+
+        // When - two PRO calls are started and still running
+        runQueued(3);
+
+        // Then - the third PRO task waits while FREE runs
+        assertThat(executed).containsExactly("P", "P", "F");
+        assertThat(scheduler.getQueueDepth(proTenant)).isEqualTo(1);
+        assertThat(meterRegistry.get("automation.scheduler.in.flight").gauge().value()).isEqualTo(2.0);
+
+        // When - a call completes
+        calls.get(0).complete(null);
+        runQueued(1);
+
+        // Then
+        assertThat(executed).containsExactly("P", "P", "F", "P");
+        assertThat(scheduler.getQueueDepth(proTenant)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should release the slot when an asynchronous task fails to start")
+    void next_AsyncTaskThrows_ReleasesSlot() throws Exception {
+        scheduler = createScheduler(0, 100, AutomationScheduler.OverflowPolicy.REJECT);
+        stubTier(freeTenant, SubscriptionTier.FREE);
+        scheduler.submitAsync(freeTenant, () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThatThrownBy(() -> scheduler.next().run()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get("automation.scheduler.in.flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should refuse work after stop")
+    void stop_RejectsNewWork() throws Exception {
+        scheduler = createScheduler(0, 100, AutomationScheduler.OverflowPolicy.REJECT);
+
+        scheduler.stop();
+
+        assertThat(scheduler.submit(freeTenant, record("F"))).isFalse();
+        assertThat(scheduler.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should accept nothing when disabled")
+    void disabled_SubmitReturnsFalse() {
+        scheduler = new AutomationScheduler(tenantRepository, meterRegistry, false, 0, 100,
+                AutomationScheduler.OverflowPolicy.REJECT, 2, 1, 4, 8);
+        scheduler.start();
+
+        assertThat(scheduler.submit(freeTenant, record("F"))).isFalse();
+        verifyNoInteractions(tenantRepository);
+    }
+
+    // ========== Helpers ==========
+
+    private AutomationScheduler createScheduler(int workers, int capacity, AutomationScheduler.OverflowPolicy policy) {
+        AutomationScheduler created = new AutomationScheduler(tenantRepository, meterRegistry, true, workers,
+                capacity, policy, 2, 1, 4, 8);
+        created.start();
+        return created;
+    }
+
+    private void stubTier(UUID tenantId, SubscriptionTier tier) {
+        Tenant tenant = new Tenant();
+        tenant.setId(tenantId);
+        tenant.setSubscriptionTier(tier);
+        when(tenantRepository.findById(tenantId)).thenReturn(Optional.of(tenant));
+    }
+
+    private Runnable record(String label) {
+        return () -> executed.add(label);
+    }
+
+    private void runQueued(int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            scheduler.next().run();
+        }
+    }
+}
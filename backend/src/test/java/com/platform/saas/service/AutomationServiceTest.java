@@ -1,5 +1,9 @@
 package com.platform.saas.service;
 
+import com.platform.saas.automation.ConditionCompiler;
+import com.platform.saas.cache.CacheInvalidationBus;
+import com.platform.saas.cache.CacheRegion;
+import com.platform.saas.exception.InvalidConditionException;
 import com.platform.saas.model.AutomationRule;
 import com.platform.saas.model.EventLog;
 import com.platform.saas.repository.AutomationRuleRepository;
@@ -13,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
@@ -53,6 +58,18 @@ class AutomationServiceTest {
     @Mock
     private EventLogRepository eventLogRepository;
 
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private RuleExecutionCounter ruleExecutionCounter;
+
+    @Mock
+    private AutomationScheduler automationScheduler;
+
+    @Spy
+    private ConditionCompiler conditionCompiler = new ConditionCompiler();
+
     @InjectMocks
     private AutomationService automationService;
 
@@ -183,6 +200,25 @@ class AutomationServiceTest {
         verify(automationRuleRepository, never()).save(any(AutomationRule.class));
     }
 
+    @Test
+    @DisplayName("Should reject rule with invalid conditions")
+    void createRule_InvalidConditions_ThrowsException() {
+        // Given
+        tenantContextMock.when(TenantContext::getTenantId).thenReturn(tenantId);
+
+        AutomationRule newRule = new AutomationRule();
+        newRule.setName("Broken Rule");
+        newRule.setEventType("task.created");
+        newRule.setActionType("call_webhook");
+        newRule.setConditions(Map.of("expression", "priority in ['HIGH'"));
+
+        // When / Then
+        assertThatThrownBy(() -> automationService.createRule(newRule))
+                .isInstanceOf(InvalidConditionException.class);
+
+        verify(automationRuleRepository, never()).save(any(AutomationRule.class));
+    }
+
     // ==================== getRule() Tests ====================
 
     @Test
@@ -190,7 +226,7 @@ class AutomationServiceTest {
     void getRule_ExistsAndBelongsToTenant_ReturnsRule() {
         // Given
         tenantContextMock.when(TenantContext::getTenantId).thenReturn(tenantId);
-        when(automationRuleRepository.findById(ruleId)).thenReturn(Optional.of(testRule));
+        when(automationRuleRepository.findByIdAndTenantId(ruleId, tenantId)).thenReturn(Optional.of(testRule));
 
         // When
         AutomationRule result = automationService.getRule(ruleId);
@@ -199,7 +235,7 @@ class AutomationServiceTest {
         assertThat(result).isEqualTo(testRule);
         assertThat(result.getTenantId()).isEqualTo(tenantId);
 
-        verify(automationRuleRepository).findById(ruleId);
+        verify(automationRuleRepository).findByIdAndTenantId(ruleId, tenantId);
     }
 
     @Test
@@ -208,14 +244,14 @@ class AutomationServiceTest {
         // Given
         UUID differentTenantId = UUID.randomUUID();
         tenantContextMock.when(TenantContext::getTenantId).thenReturn(differentTenantId);
-        when(automationRuleRepository.findById(ruleId)).thenReturn(Optional.of(testRule));
+        when(automationRuleRepository.findByIdAndTenantId(ruleId, differentTenantId)).thenReturn(Optional.empty());
 
         // When / Then
         assertThatThrownBy(() -> automationService.getRule(ruleId))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Automation rule not found");
 
-        verify(automationRuleRepository).findById(ruleId);
+        verify(automationRuleRepository).findByIdAndTenantId(ruleId, differentTenantId);
     }
 
     @Test
@@ -223,14 +259,14 @@ class AutomationServiceTest {
     void getRule_NotFound_ThrowsException() {
         // Given
         tenantContextMock.when(TenantContext::getTenantId).thenReturn(tenantId);
-        when(automationRuleRepository.findById(ruleId)).thenReturn(Optional.empty());
+        when(automationRuleRepository.findByIdAndTenantId(ruleId, tenantId)).thenReturn(Optional.empty());
 
         // When / Then
         assertThatThrownBy(() -> automationService.getRule(ruleId))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Automation rule not found");
 
-        verify(automationRuleRepository).findById(ruleId);
+        verify(automationRuleRepository).findByIdAndTenantId(ruleId, tenantId);
     }
 
     // ==================== getAllRules() Tests ====================
@@ -334,6 +370,59 @@ class AutomationServiceTest {
         verify(automationRuleRepository).findTopExecutedRules(tenantId, limit);
     }
 
+    @Test
+    @DisplayName("Should merge unflushed executions into top executed rules")
+    void getTopExecutedRules_WithPendingExecutions_MergesDeltas() {
+        // Given - persisted top 1 is testRule, but another rule has more pending executions
+        tenantContextMock.when(TenantContext::getTenantId).thenReturn(tenantId);
+        testRule.setExecutionCount(10L);
+        AutomationRule busyRule = createRule("Busy Rule");
+        busyRule.setExecutionCount(5L);
+        LocalDateTime pendingAt = LocalDateTime.now();
+
+        when(automationRuleRepository.findTopExecutedRules(tenantId, 1)).thenReturn(List.of(testRule));
+        when(ruleExecutionCounter.getPendingCountsForTenant(tenantId))
+                .thenReturn(Map.of(ruleId, 2L, busyRule.getId(), 20L));
+        when(automationRuleRepository.findByIdInAndTenantId(Set.of(busyRule.getId()), tenantId)).thenReturn(List.of(busyRule));
+        when(ruleExecutionCounter.getPendingLastExecutedAt(any())).thenReturn(pendingAt);
+
+        // When
+        List<AutomationRule> result = automationService.getTopExecutedRules(1);
+
+        // Then
+        assertThat(result).containsExactly(busyRule);
+        assertThat(busyRule.getExecutionCount()).isEqualTo(25L);
+        assertThat(busyRule.getLastExecutedAt()).isEqualTo(pendingAt);
+        assertThat(testRule.getExecutionCount()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("Should include unflushed executions in total execution count")
+    void getTotalExecutionCount_IncludesPending() {
+        // Given
+        tenantContextMock.when(TenantContext::getTenantId).thenReturn(tenantId);
+        when(automationRuleRepository.sumExecutionCountByTenantId(tenantId)).thenReturn(100L);
+        when(ruleExecutionCounter.getPendingCountsForTenant(tenantId))
+                .thenReturn(Map.of(ruleId, 3L, UUID.randomUUID(), 4L));
+
+        // When
+        long total = automationService.getTotalExecutionCount();
+
+        // Then
+        assertThat(total).isEqualTo(107L);
+    }
+
+    @Test
+    @DisplayName("Should report queued executions for the current tenant")
+    void getQueuedExecutionCount_ReturnsTenantQueueDepth() {
+        // Given
+        tenantContextMock.when(TenantContext::getTenantId).thenReturn(tenantId);
+        when(automationScheduler.getQueueDepth(tenantId)).thenReturn(7);
+
+        // When & Then
+        assertThat(automationService.getQueuedExecutionCount()).isEqualTo(7);
+    }
+
     // ==================== updateRule() Tests ====================
 
     @Test
@@ -341,7 +430,7 @@ class AutomationServiceTest {
     void updateRule_ValidUpdate_UpdatesFields() {
         // Given
         tenantContextMock.when(TenantContext::getTenantId).thenReturn(tenantId);
-        when(automationRuleRepository.findById(ruleId)).thenReturn(Optional.of(testRule));
+        when(automationRuleRepository.findByIdAndTenantId(ruleId, tenantId)).thenReturn(Optional.of(testRule));
 
         AutomationRule updates = new AutomationRule();
         updates.setName("Updated Name");
@@ -379,7 +468,7 @@ class AutomationServiceTest {
     void updateRule_NullFields_DoesNotUpdate() {
         // Given
         tenantContextMock.when(TenantContext::getTenantId).thenReturn(tenantId);
-        when(automationRuleRepository.findById(ruleId)).thenReturn(Optional.of(testRule));
+        when(automationRuleRepository.findByIdAndTenantId(ruleId, tenantId)).thenReturn(Optional.of(testRule));
 
         String originalName = testRule.getName();
         String originalEventType = testRule.getEventType();
@@ -407,7 +496,7 @@ class AutomationServiceTest {
         // Given
         UUID differentTenantId = UUID.randomUUID();
         tenantContextMock.when(TenantContext::getTenantId).thenReturn(differentTenantId);
-        when(automationRuleRepository.findById(ruleId)).thenReturn(Optional.of(testRule));
+        when(automationRuleRepository.findByIdAndTenantId(ruleId, differentTenantId)).thenReturn(Optional.empty());
 
         AutomationRule updates = new AutomationRule();
         updates.setName("Updated Name");
@@ -420,6 +509,25 @@ class AutomationServiceTest {
         verify(automationRuleRepository, never()).save(any(AutomationRule.class));
     }
 
+    @Test
+    @DisplayName("Should reject update with invalid conditions")
+    void updateRule_InvalidConditions_ThrowsException() {
+        // Given
+        tenantContextMock.when(TenantContext::getTenantId).thenReturn(tenantId);
+        when(automationRuleRepository.findByIdAndTenantId(ruleId, tenantId)).thenReturn(Optional.of(testRule));
+
+        AutomationRule updates = new AutomationRule();
+        updates.setConditions(Map.of("field", "status", "operator", "like", "value", "DONE"));
+
+        // When / Then
+        assertThatThrownBy(() -> automationService.updateRule(ruleId, updates))
+                .isInstanceOf(InvalidConditionException.class)
+                .hasMessageContaining("like");
+
+        assertThat(testRule.getConditions()).isNull();
+        verify(automationRuleRepository, never()).save(any(AutomationRule.class));
+    }
+
     // ==================== deleteRule() Tests ====================
 
     @Test
@@ -427,13 +535,15 @@ class AutomationServiceTest {
     void deleteRule_BelongsToTenant_DeletesRule() {
         // Given
         tenantContextMock.when(TenantContext::getTenantId).thenReturn(tenantId);
-        when(automationRuleRepository.findById(ruleId)).thenReturn(Optional.of(testRule));
+        when(automationRuleRepository.findByIdAndTenantId(ruleId, tenantId)).thenReturn(Optional.of(testRule));
 
         // When
         automationService.deleteRule(ruleId);
 
         // Then
         verify(automationRuleRepository).delete(testRule);
+        verify(ruleExecutionCounter).remove(ruleId);
+        verify(cacheInvalidationBus).publish(CacheRegion.AUTOMATION_RULE, tenantId, ruleId);
     }
 
     @Test
@@ -442,7 +552,7 @@ class AutomationServiceTest {
         // Given
         UUID differentTenantId = UUID.randomUUID();
         tenantContextMock.when(TenantContext::getTenantId).thenReturn(differentTenantId);
-        when(automationRuleRepository.findById(ruleId)).thenReturn(Optional.of(testRule));
+        when(automationRuleRepository.findByIdAndTenantId(ruleId, differentTenantId)).thenReturn(Optional.empty());
 
         // When / Then
         assertThatThrownBy(() -> automationService.deleteRule(ruleId))
@@ -459,7 +569,7 @@ class AutomationServiceTest {
     void toggleRuleStatus_ToInactive_UpdatesStatus() {
         // Given
         tenantContextMock.when(TenantContext::getTenantId).thenReturn(tenantId);
-        when(automationRuleRepository.findById(ruleId)).thenReturn(Optional.of(testRule));
+        when(automationRuleRepository.findByIdAndTenantId(ruleId, tenantId)).thenReturn(Optional.of(testRule));
         when(automationRuleRepository.save(any(AutomationRule.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -478,7 +588,7 @@ class AutomationServiceTest {
         // Given
         testRule.setIsActive(false); // Start as inactive
         tenantContextMock.when(TenantContext::getTenantId).thenReturn(tenantId);
-        when(automationRuleRepository.findById(ruleId)).thenReturn(Optional.of(testRule));
+        when(automationRuleRepository.findByIdAndTenantId(ruleId, tenantId)).thenReturn(Optional.of(testRule));
         when(automationRuleRepository.save(any(AutomationRule.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -535,7 +645,7 @@ class AutomationServiceTest {
     void getLogsForRule_ValidRule_ReturnsLogs() {
         // Given
         tenantContextMock.when(TenantContext::getTenantId).thenReturn(tenantId);
-        when(automationRuleRepository.findById(ruleId)).thenReturn(Optional.of(testRule));
+        when(automationRuleRepository.existsByIdAndTenantId(ruleId, tenantId)).thenReturn(true);
 
         List<EventLog> logs = Arrays.asList(createEventLog(), createEventLog());
         when(eventLogRepository.findByAutomationRuleId(ruleId)).thenReturn(logs);
@@ -546,7 +656,7 @@ class AutomationServiceTest {
         // Then
         assertThat(result).hasSize(2);
 
-        verify(automationRuleRepository).findById(ruleId);
+        verify(automationRuleRepository).existsByIdAndTenantId(ruleId, tenantId);
         verify(eventLogRepository).findByAutomationRuleId(ruleId);
     }
 
@@ -556,7 +666,7 @@ class AutomationServiceTest {
         // Given
         UUID differentTenantId = UUID.randomUUID();
         tenantContextMock.when(TenantContext::getTenantId).thenReturn(differentTenantId);
-        when(automationRuleRepository.findById(ruleId)).thenReturn(Optional.of(testRule));
+        when(automationRuleRepository.existsByIdAndTenantId(ruleId, differentTenantId)).thenReturn(false);
 
         // When / Then
         assertThatThrownBy(() -> automationService.getLogsForRule(ruleId))
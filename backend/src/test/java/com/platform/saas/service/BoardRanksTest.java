@@ -0,0 +1,89 @@
+package com.platform.saas.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for BoardRanks.
+ * Tests key ordering for appends, prepends and inserts, key growth and malformed input.
+ */
+@DisplayName("BoardRanks Tests")
+class BoardRanksTest {
+
+    // ========== Ordering ==========
+
+    @Test
+    @DisplayName("Should start an empty column and extend it at both ends")
+    void between_Ends_IntegerKeys() {
+        assertThat(BoardRanks.between(null, null)).isEqualTo("a0");
+        assertThat(BoardRanks.between("a0", null)).isEqualTo("a1");
+        assertThat(BoardRanks.between("az", null)).isEqualTo("b00");
+        assertThat(BoardRanks.between(null, "a0")).isEqualTo("Zz");
+        assertThat(BoardRanks.between(null, "a0V")).isEqualTo("a0");
+    }
+
+    @Test
+    @DisplayName("Should extend the fraction between adjacent integers")
+    void between_AdjacentKeys_FractionalKey() {
+        assertThat(BoardRanks.between("a0", "a1")).isEqualTo("a0V");
+        assertThat(BoardRanks.between("a0", "a0V")).isEqualTo("a0G");
+        assertThat(BoardRanks.between("d0000", "d0001")).isEqualTo("d0000V");
+    }
+
+    @Test
+    @DisplayName("Should keep every key between its neighbours over random inserts")
+    void between_RandomInserts_StayOrdered() {
+        // Given
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 5000; i++) {
+            int position = random.nextInt(keys.size() + 1);
+            String lower = position == 0 ? null : keys.get(position - 1);
+            String upper = position == keys.size() ? null : keys.get(position);
+            keys.add(position, BoardRanks.between(lower, upper));
+        }
+
+        // Then
+        assertThat(keys).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should grow appended keys logarithmically")
+    void between_ManyAppends_ShortKeys() {
+        // Given
+        String key = null;
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            key = BoardRanks.between(key, null);
+        }
+
+        // Then
+        assertThat(key).hasSizeLessThanOrEqualTo(4);
+    }
+
+    // ========== Validation ==========
+
+    @Test
+    @DisplayName("Should reject keys out of order or malformed")
+    void between_InvalidInput_ThrowsException() {
+        assertThatThrownBy(() -> BoardRanks.between("a2", "a1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BoardRanks.between("a1", "a1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BoardRanks.between("a10", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BoardRanks.between("!", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BoardRanks.between("b1", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,202 @@
+package com.platform.saas.service;
+
+import com.platform.saas.dto.ChangeEvent;
+import com.platform.saas.exception.ChangeFeedLimitExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ChangeFeedHub.
+ * Tests tenant/project fan-out, subscription limits, and slow consumer handling.
+ */
+@DisplayName("ChangeFeedHub Tests")
+class ChangeFeedHubTest {
+
+    private UUID tenantId;
+    private UUID otherTenantId;
+    private UUID projectId;
+
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private CountDownLatch blockSends;
+    private ChangeFeedHub hub;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        otherTenantId = UUID.randomUUID();
+        projectId = UUID.randomUUID();
+        blockSends = new CountDownLatch(0);
+        hub = createHub(16, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        blockSends.countDown();
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should deliver events to subscribers of the same tenant")
+    void publish_SameTenant_Delivered() throws Exception {
+        // Given
+        hub.subscribe(tenantId, null);
+        RecordingEmitter emitter = emitters.get(0);
+
+        // When
+        hub.publish(tenantId, "task.created", UUID.randomUUID(), "task",
+                Map.of("projectId", projectId.toString()));
+
+        // Then
+        assertThat(emitter.awaitEvents(1)).isTrue();
+        ChangeEvent event = emitter.events.get(0);
+        assertThat(event.getEventType()).isEqualTo("task.created");
+        assertThat(event.getProjectId()).isEqualTo(projectId);
+        assertThat(event.getTenantId()).isEqualTo(tenantId);
+    }
+
+    @Test
+    @DisplayName("Should not deliver events across tenants")
+    void publish_OtherTenant_NotDelivered() throws Exception {
+        // Given
+        hub.subscribe(otherTenantId, null);
+        hub.subscribe(tenantId, null);
+        RecordingEmitter otherEmitter = emitters.get(0);
+        RecordingEmitter emitter = emitters.get(1);
+
+        // When
+        hub.publish(tenantId, "project.created", projectId, "project", Map.of());
+
+        // Then
+        assertThat(emitter.awaitEvents(1)).isTrue();
+        assertThat(otherEmitter.events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should filter events by project when subscribed to a project")
+    void publish_ProjectFilter_OnlyMatchingProject() throws Exception {
+        // Given
+        hub.subscribe(tenantId, projectId);
+        RecordingEmitter emitter = emitters.get(0);
+
+        // When
+        hub.publish(tenantId, "task.updated", UUID.randomUUID(), "task",
+                Map.of("projectId", UUID.randomUUID().toString()));
+        hub.publish(tenantId, "project.updated", projectId, "project", Map.of());
+
+        // Then
+        assertThat(emitter.awaitEvents(1)).isTrue();
+        assertThat(emitter.events).extracting(ChangeEvent::getEventType).containsExactly("project.updated");
+    }
+
+    @Test
+    @DisplayName("Should reject subscriptions above the per-tenant limit")
+    void subscribe_LimitReached_ThrowsException() {
+        // Given
+        hub.shutdown();
+        hub = createHub(16, 1);
+        hub.subscribe(tenantId, null);
+
+        // When & Then
+        assertThatThrownBy(() -> hub.subscribe(tenantId, null))
+                .isInstanceOf(ChangeFeedLimitExceededException.class);
+        assertThat(hub.getSubscriptionCount(tenantId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop a slow consumer when its queue overflows")
+    void publish_SlowConsumer_Dropped() {
+        // Given - consumer blocks on the first send and never drains its queue
+        hub.shutdown();
+        blockSends = new CountDownLatch(1);
+        hub = createHub(2, 10);
+        hub.subscribe(tenantId, null);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            hub.publish(tenantId, "task.updated", UUID.randomUUID(), "task", Map.of());
+        }
+
+        // Then
+        assertThat(hub.getSubscriptionCount(tenantId)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should skip work when the tenant has no subscribers")
+    void publish_NoSubscribers_NoOp() {
+        // When & Then
+        assertThatCode(() -> hub.publish(tenantId, "task.created", UUID.randomUUID(), "task", null))
+                .doesNotThrowAnyException();
+        assertThat(hub.getSubscriptionCount(tenantId)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fail fast without tenant context")
+    void subscribe_NullTenant_ThrowsException() {
+        assertThatThrownBy(() -> hub.subscribe(null, null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Tenant context not set");
+    }
+
+    // ========== Helpers ==========
+
+    private ChangeFeedHub createHub(int queueCapacity, int maxSubscriptions) {
+        return new ChangeFeedHub(queueCapacity, maxSubscriptions, 0L, 60_000L) {
+            @Override
+            SseEmitter newEmitter(long timeoutMs) {
+                RecordingEmitter emitter = new RecordingEmitter(blockSends);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    /**
+     * Emitter that records delivered change events instead of writing to a response.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<ChangeEvent> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blockSends;
+
+        RecordingEmitter(CountDownLatch blockSends) {
+            this.blockSends = blockSends;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                blockSends.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted", e);
+            }
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof ChangeEvent event) {
+                    events.add(event);
+                }
+            }
+        }
+
+        boolean awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return events.size() >= count;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.platform.saas.service;
+
+import com.platform.saas.model.Task;
+import com.platform.saas.model.TaskStatus;
+import com.platform.saas.repository.TaskDependencyRepository;
+import com.platform.saas.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DependencyUnblocker.
+ * Tests which dependents are unblocked, the batched update and the batched events.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DependencyUnblocker Tests")
+class DependencyUnblockerTest {
+
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @InjectMocks
+    private DependencyUnblocker dependencyUnblocker;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> rowsCaptor;
+
+    @Captor
+    private ArgumentCaptor<Map<UUID, Map<String, Object>>> payloadsCaptor;
+
+    private UUID tenantId;
+    private Task completed;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        completed = new Task();
+        completed.setId(UUID.randomUUID());
+        completed.setTenantId(tenantId);
+        completed.setProjectId(UUID.randomUUID());
+        completed.setStatus(TaskStatus.COMPLETED);
+    }
+
+    private TaskDependencyRepository.BlockedDependent dependent(UUID id) {
+        return new TaskDependencyRepository.BlockedDependent() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return "Dependent " + id;
+            }
+
+            @Override
+            public String getPriority() {
+                return "HIGH";
+            }
+
+            @Override
+            public String getBoardRank() {
+                return "a0";
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should unblock dependents without open blockers in one batch")
+    void unblockDependents_MixedBlockers_BatchesReadyTasks() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID waiting = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(taskDependencyRepository.findBlockedDependentsForUpdate(tenantId, completed.getId()))
+                .thenReturn(List.of(dependent(first), dependent(waiting), dependent(second)));
+        when(taskDependencyRepository.findDependentsWithOpenBlockers(completed.getId())).thenReturn(List.of(waiting));
+        when(taskRepository.findLastBoardRank(tenantId, completed.getProjectId(), TaskStatus.TODO)).thenReturn("a4");
+
+        // When
+        List<UUID> unblocked = dependencyUnblocker.unblockDependents(completed);
+
+        // Then
+        assertThat(unblocked).containsExactly(first, second);
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), rowsCaptor.capture());
+        List<Object[]> rows = rowsCaptor.getValue();
+        assertThat(rows).extracting(row -> row[1]).containsExactly(first, second);
+        assertThat(rows).extracting(row -> row[0]).containsExactly("a5", "a6");
+        verify(taskRepository).lockBoardColumn(completed.getProjectId(), "TODO");
+        assertThat(rows).allMatch(row -> tenantId.equals(row[2]));
+
+        verify(eventPublisher).publishEvents(eq(tenantId), eq("task.status.changed"), eq("task"), payloadsCaptor.capture());
+        Map<UUID, Map<String, Object>> payloads = payloadsCaptor.getValue();
+        assertThat(payloads).containsOnlyKeys(first, second);
+        assertThat(payloads.get(first))
+                .containsEntry("oldStatus", "BLOCKED")
+                .containsEntry("newStatus", "TODO")
+                .containsEntry("unblockedBy", completed.getId().toString());
+        verify(eventPublisher).publishEvents(eq(tenantId), eq("task.updated"), eq("task"), anyMap());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no dependent is BLOCKED")
+    void unblockDependents_NoBlockedDependents_NoUpdate() {
+        // Given
+        when(taskDependencyRepository.findBlockedDependentsForUpdate(tenantId, completed.getId())).thenReturn(List.of());
+
+        // When
+        List<UUID> unblocked = dependencyUnblocker.unblockDependents(completed);
+
+        // Then
+        assertThat(unblocked).isEmpty();
+        verify(taskDependencyRepository, never()).findDependentsWithOpenBlockers(any());
+        verifyNoInteractions(jdbcTemplate, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should keep dependents BLOCKED while another blocker is open")
+    void unblockDependents_OtherBlockerOpen_NoUpdate() {
+        // Given
+        UUID waiting = UUID.randomUUID();
+        when(taskDependencyRepository.findBlockedDependentsForUpdate(tenantId, completed.getId()))
+                .thenReturn(List.of(dependent(waiting)));
+        when(taskDependencyRepository.findDependentsWithOpenBlockers(completed.getId())).thenReturn(List.of(waiting));
+
+        // When
+        List<UUID> unblocked = dependencyUnblocker.unblockDependents(completed);
+
+        // Then
+        assertThat(unblocked).isEmpty();
+        verifyNoInteractions(jdbcTemplate, eventPublisher);
+    }
+}
@@ -0,0 +1,173 @@
+package com.platform.saas.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.saas.model.EventLog;
+import com.platform.saas.security.TenantContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EventLogWriter.
+ * Tests submit policy (disabled, durable types, overflow) and batched inserts.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventLogWriter Tests")
+class EventLogWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("Should reject records when async mode is disabled")
+    void submit_Disabled_ReturnsFalse() {
+        EventLogWriter writer = createWriter(false, Set.of(), 10);
+
+        assertThat(writer.submit(eventLog("task.created"))).isFalse();
+        assertThat(writer.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject durable event types so they are written synchronously")
+    void submit_DurableType_ReturnsFalse() {
+        EventLogWriter writer = createWriter(true, Set.of("task.deleted"), 10);
+
+        assertThat(writer.submit(eventLog("task.deleted"))).isFalse();
+        assertThat(writer.submit(eventLog("task.created"))).isTrue();
+        assertThat(writer.getQueueDepth()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject records when the queue is full")
+    void submit_QueueFull_ReturnsFalse() {
+        EventLogWriter writer = createWriter(true, Set.of(), 2);
+
+        assertThat(writer.submit(eventLog("task.created"))).isTrue();
+        assertThat(writer.submit(eventLog("task.created"))).isTrue();
+        assertThat(writer.submit(eventLog("task.created"))).isFalse();
+        assertThat(writer.getOverflowCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should write queued records of a tenant in one multi-row insert")
+    void flush_WritesSingleBatch() {
+        // Given
+        EventLogWriter writer = createWriter(true, Set.of(), 10);
+        UUID tenantId = UUID.randomUUID();
+        writer.submit(eventLog("task.created", tenantId));
+        writer.submit(eventLog("task.updated", tenantId));
+        writer.submit(eventLog("project.created", tenantId));
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+
+        // When
+        int written = writer.flush();
+
+        // Then
+        assertThat(written).isEqualTo(3);
+        verify(jdbcTemplate, times(1)).update(sqlCaptor.capture(), argsCaptor.capture());
+        assertThat(sqlCaptor.getValue()).startsWith("INSERT INTO event_logs");
+        assertThat(sqlCaptor.getValue().split("\\), \\(")).hasSize(3);
+        assertThat(argsCaptor.getValue()).hasSize(3 * 14);
+        assertThat(writer.getQueueDepth()).isZero();
+        assertThat(writer.getWrittenCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should write each tenant's records with that tenant in context")
+    void flush_TwoTenants_OneInsertPerTenantInContext() {
+        // Given
+        EventLogWriter writer = createWriter(true, Set.of(), 10);
+        UUID tenantA = UUID.randomUUID();
+        UUID tenantB = UUID.randomUUID();
+        writer.submit(eventLog("task.created", tenantA));
+        writer.submit(eventLog("task.created", tenantB));
+        writer.submit(eventLog("task.updated", tenantA));
+        List<UUID> contexts = new ArrayList<>();
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            contexts.add(TenantContext.getTenantId());
+            return 1;
+        });
+
+        // When
+        int written = writer.flush();
+
+        // Then
+        assertThat(written).isEqualTo(3);
+        assertThat(contexts).containsExactly(tenantA, tenantB);
+        assertThat(TenantContext.isSet()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should retry row by row when the batch insert fails")
+    void flush_BatchFails_FallsBackToRows() {
+        // Given
+        EventLogWriter writer = createWriter(true, Set.of(), 10);
+        UUID tenantId = UUID.randomUUID();
+        writer.submit(eventLog("task.created", tenantId));
+        writer.submit(eventLog("task.updated", tenantId));
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DataIntegrityViolationException("bad row"))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("bad row"));
+
+        // When
+        int written = writer.flush();
+
+        // Then
+        assertThat(written).isEqualTo(1);
+        assertThat(writer.getFailedCount()).isEqualTo(1);
+        verify(jdbcTemplate, times(3)).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Should do nothing when the queue is empty")
+    void flush_Empty_NoInsert() {
+        EventLogWriter writer = createWriter(true, Set.of(), 10);
+
+        assertThat(writer.flush()).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    // ========== Helpers ==========
+
+    private EventLogWriter createWriter(boolean enabled, Set<String> durableTypes, int capacity) {
+        return new EventLogWriter(jdbcTemplate, objectMapper, enabled, durableTypes, capacity, 500, 200L);
+    }
+
+    private EventLog eventLog(String eventType) {
+        return eventLog(eventType, UUID.randomUUID());
+    }
+
+    private EventLog eventLog(String eventType, UUID tenantId) {
+        return EventLog.builder()
+                .tenantId(tenantId)
+                .eventType(eventType)
+                .eventPayload(Map.of("name", "Task"))
+                .resourceId(UUID.randomUUID())
+                .resourceType("task")
+                .status(EventLog.ExecutionStatus.NO_RULES_MATCHED)
+                .executionDurationMs(0L)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.platform.saas.service;
 
 import com.platform.saas.model.EventLog;
+import com.platform.saas.observability.EventMetrics;
 import com.platform.saas.repository.EventLogRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,17 +11,26 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
 import software.amazon.awssdk.services.eventbridge.model.PutEventsRequest;
 import software.amazon.awssdk.services.eventbridge.model.PutEventsResponse;
 import software.amazon.awssdk.services.eventbridge.model.PutEventsResultEntry;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -38,6 +48,7 @@ import static org.mockito.Mockito.*;
  * 6. publishEvent() - Exception during EventBridge publish
  * 7. publishEvent() - Exception during save (error log creation)
  * 8. Edge cases - null/empty payloads, large payloads
+ * 9. publishEvents() - batched logging and chunked EventBridge requests
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("EventPublisher Service Tests")
@@ -49,6 +60,21 @@ class EventPublisherTest {
     @Mock
     private EventBridgeClient eventBridgeClient;
 
+    @Mock
+    private EventLogWriter eventLogWriter;
+
+    @Mock
+    private ChangeFeedHub changeFeedHub;
+
+    @Mock
+    private AutomationDispatcher automationDispatcher;
+
+    @Mock
+    private EventMetrics eventMetrics;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @Captor
     private ArgumentCaptor<EventLog> eventLogCaptor;
 
@@ -74,6 +100,11 @@ class EventPublisherTest {
         // When
         eventPublisher = new EventPublisher(
                 eventLogRepository,
+                eventLogWriter,
+                changeFeedHub,
+                automationDispatcher,
+                eventMetrics,
+                transactionManager,
                 false, // eventBridgeEnabled = false
                 "default",
                 "us-east-1"
@@ -91,6 +122,11 @@ class EventPublisherTest {
         // When
         eventPublisher = new EventPublisher(
                 eventLogRepository,
+                eventLogWriter,
+                changeFeedHub,
+                automationDispatcher,
+                eventMetrics,
+                transactionManager,
                 true, // eventBridgeEnabled = true
                 "test-event-bus",
                 "us-west-2"
@@ -110,6 +146,11 @@ class EventPublisherTest {
         // Given
         eventPublisher = new EventPublisher(
                 eventLogRepository,
+                eventLogWriter,
+                changeFeedHub,
+                automationDispatcher,
+                eventMetrics,
+                transactionManager,
                 false, // EventBridge disabled
                 "default",
                 "us-east-1"
@@ -144,6 +185,10 @@ class EventPublisherTest {
         assertThat(savedLog.getCreatedAt()).isNotNull();
         assertThat(savedLog.getErrorMessage()).isNull();
         assertThat(savedLog.getErrorStackTrace()).isNull();
+
+        // Then - rules are processed by the local automation engine
+        verify(automationDispatcher).dispatch(tenantId, "task.status.changed", resourceId, "task", payload);
+        verify(eventMetrics).recordPublish(eq(tenantId), eq("task.status.changed"), eq("local"), eq(true), anyLong());
     }
 
     @Test
@@ -152,6 +197,11 @@ class EventPublisherTest {
         // Given
         eventPublisher = new EventPublisher(
                 eventLogRepository,
+                eventLogWriter,
+                changeFeedHub,
+                automationDispatcher,
+                eventMetrics,
+                transactionManager,
                 false,
                 "default",
                 "us-east-1"
@@ -182,6 +232,11 @@ class EventPublisherTest {
         // Given
         eventPublisher = new EventPublisher(
                 eventLogRepository,
+                eventLogWriter,
+                changeFeedHub,
+                automationDispatcher,
+                eventMetrics,
+                transactionManager,
                 false,
                 "default",
                 "us-east-1"
@@ -213,6 +268,11 @@ class EventPublisherTest {
         // Given
         eventPublisher = new EventPublisher(
                 eventLogRepository,
+                eventLogWriter,
+                changeFeedHub,
+                automationDispatcher,
+                eventMetrics,
+                transactionManager,
                 false,
                 "default",
                 "us-east-1"
@@ -242,6 +302,32 @@ class EventPublisherTest {
         assertThat(savedLog.getStatus()).isEqualTo(EventLog.ExecutionStatus.NO_RULES_MATCHED);
     }
 
+    @Test
+    @DisplayName("Should skip synchronous insert when async writer accepts the record")
+    void publishEvent_AsyncWriterAccepts_NoRepositorySave() {
+        // Given
+        eventPublisher = new EventPublisher(
+                eventLogRepository,
+                eventLogWriter,
+                changeFeedHub,
+                automationDispatcher,
+                eventMetrics,
+                transactionManager,
+                false,
+                "default",
+                "us-east-1"
+        );
+        when(eventLogWriter.submit(any(EventLog.class))).thenReturn(true);
+
+        // When
+        eventPublisher.publishEvent(tenantId, "task.created", resourceId, "task", new HashMap<>());
+
+        // Then
+        verify(eventLogWriter).submit(eventLogCaptor.capture());
+        assertThat(eventLogCaptor.getValue().getEventType()).isEqualTo("task.created");
+        verify(eventLogRepository, never()).save(any(EventLog.class));
+    }
+
     // ==================== publishEvent() - EventBridge Enabled ====================
 
     @Test
@@ -293,6 +379,9 @@ class EventPublisherTest {
 
         assertThat(savedLog.getStatus()).isEqualTo(EventLog.ExecutionStatus.NO_RULES_MATCHED);
         assertThat(savedLog.getErrorMessage()).isNull();
+
+        // Then - EventBridge consumers handle automation, not the local engine
+        verifyNoInteractions(automationDispatcher);
     }
 
     @Test
@@ -369,6 +458,40 @@ class EventPublisherTest {
         assertThat(savedLog.getErrorStackTrace()).contains("AWS SDK connection timeout");
     }
 
+    @Test
+    @DisplayName("Should call EventBridge only after the caller's transaction commits")
+    void publishEvent_InTransaction_PublishesAfterCommit() {
+        // Given
+        eventPublisher = createEventPublisherWithMockedClient(true);
+        when(eventBridgeClient.putEvents(any(PutEventsRequest.class))).thenReturn(PutEventsResponse.builder()
+                .failedEntryCount(0)
+                .entries(PutEventsResultEntry.builder().eventId("event-123").build())
+                .build());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When - published while the caller still holds its locks
+            eventPublisher.publishEvent(tenantId, "task.created", resourceId, "task", new HashMap<>());
+
+            // Then
+            verifyNoInteractions(eventBridgeClient, eventLogWriter, eventLogRepository);
+
+            // When - the caller commits
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            TransactionSynchronizationManager.clearSynchronization();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+            // Then - published and logged in a transaction of its own
+            verify(eventBridgeClient).putEvents(any(PutEventsRequest.class));
+            verify(transactionManager).getTransaction(argThat(definition ->
+                    definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+            verify(eventLogWriter).submit(any(EventLog.class));
+        } finally {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+    }
+
     // ==================== Error Handling Tests ====================
 
     @Test
@@ -412,6 +535,11 @@ class EventPublisherTest {
         // Given
         eventPublisher = new EventPublisher(
                 eventLogRepository,
+                eventLogWriter,
+                changeFeedHub,
+                automationDispatcher,
+                eventMetrics,
+                transactionManager,
                 false,
                 "default",
                 "us-east-1"
@@ -582,6 +710,86 @@ class EventPublisherTest {
         assertThat(detail).contains("\"payload\":{");
     }
 
+    // ==================== publishEvents() ====================
+
+    @Test
+    @DisplayName("Should log a batch with one insert and deliver every event")
+    void publishEvents_EventBridgeDisabled_SavesAllOnce() {
+        // Given
+        eventPublisher = createEventPublisherWithMockedClient(false);
+        Map<UUID, Map<String, Object>> payloads = new LinkedHashMap<>();
+        for (int i = 0; i < 3; i++) {
+            payloads.put(UUID.randomUUID(), Map.of("newStatus", "TODO"));
+        }
+        when(eventLogWriter.submit(any(EventLog.class))).thenReturn(false);
+
+        // When
+        eventPublisher.publishEvents(tenantId, "task.status.changed", "task", payloads);
+
+        // Then
+        verify(eventLogRepository, times(1)).saveAll(argThat(logs -> logs instanceof List<?> list && list.size() == 3));
+        verify(eventLogRepository, never()).save(any(EventLog.class));
+        verify(eventMetrics, times(3)).recordPublish(eq(tenantId), eq("task.status.changed"), eq("local"), eq(true), anyLong());
+        payloads.forEach((id, payload) -> {
+            verify(changeFeedHub).publish(tenantId, "task.status.changed", id, "task", payload);
+            verify(automationDispatcher).dispatch(tenantId, "task.status.changed", id, "task", payload);
+        });
+    }
+
+    @Test
+    @DisplayName("Should split a batch into PutEvents requests of at most ten entries")
+    void publishEvents_EventBridgeEnabled_ChunksRequests() {
+        // Given
+        eventPublisher = createEventPublisherWithMockedClient(true);
+        Map<UUID, Map<String, Object>> payloads = new LinkedHashMap<>();
+        for (int i = 0; i < 25; i++) {
+            payloads.put(UUID.randomUUID(), Map.of("newStatus", "TODO"));
+        }
+        when(eventBridgeClient.putEvents(any(PutEventsRequest.class)))
+                .thenReturn(PutEventsResponse.builder().failedEntryCount(0).build());
+        when(eventLogWriter.submit(any(EventLog.class))).thenReturn(true);
+
+        // When
+        eventPublisher.publishEvents(tenantId, "task.status.changed", "task", payloads);
+
+        // Then
+        verify(eventBridgeClient, times(3)).putEvents(putEventsRequestCaptor.capture());
+        assertThat(putEventsRequestCaptor.getAllValues())
+                .extracting(request -> request.entries().size())
+                .containsExactly(10, 10, 5);
+        verify(eventLogWriter, times(25)).submit(eventLogCaptor.capture());
+        assertThat(eventLogCaptor.getAllValues())
+                .allMatch(log -> log.getStatus() == EventLog.ExecutionStatus.NO_RULES_MATCHED);
+        verifyNoInteractions(eventLogRepository, automationDispatcher);
+    }
+
+    @Test
+    @DisplayName("Should log every event of a batch as failed when EventBridge rejects entries")
+    void publishEvents_EventBridgeFails_LogsAllFailed() {
+        // Given
+        eventPublisher = createEventPublisherWithMockedClient(true);
+        Map<UUID, Map<String, Object>> payloads = new LinkedHashMap<>();
+        payloads.put(UUID.randomUUID(), Map.of("newStatus", "TODO"));
+        payloads.put(UUID.randomUUID(), Map.of("newStatus", "TODO"));
+        PutEventsResponse response = PutEventsResponse.builder()
+                .failedEntryCount(1)
+                .entries(PutEventsResultEntry.builder().eventId("event-1").build(),
+                        PutEventsResultEntry.builder().errorMessage("EventBridge internal error").build())
+                .build();
+        when(eventBridgeClient.putEvents(any(PutEventsRequest.class))).thenReturn(response);
+        when(eventLogWriter.submit(any(EventLog.class))).thenReturn(true);
+
+        // When
+        eventPublisher.publishEvents(tenantId, "task.status.changed", "task", payloads);
+
+        // Then
+        verify(eventLogWriter, times(2)).submit(eventLogCaptor.capture());
+        assertThat(eventLogCaptor.getAllValues()).allSatisfy(log -> {
+            assertThat(log.getStatus()).isEqualTo(EventLog.ExecutionStatus.FAILED);
+            assertThat(log.getErrorMessage()).contains("1 of 2", "EventBridge internal error");
+        });
+    }
+
     // ==================== Helper Methods ====================
 
     /**
@@ -592,6 +800,11 @@ class EventPublisherTest {
         // Create EventPublisher using reflection to inject mocked client
         EventPublisher publisher = new EventPublisher(
                 eventLogRepository,
+                eventLogWriter,
+                changeFeedHub,
+                automationDispatcher,
+                eventMetrics,
+                transactionManager,
                 false, // Disable to prevent real client creation
                 "test-bus",
                 "us-east-1"
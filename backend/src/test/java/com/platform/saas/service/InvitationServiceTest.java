@@ -1,5 +1,7 @@
 package com.platform.saas.service;
 
+import com.platform.saas.cache.CacheInvalidationBus;
+import com.platform.saas.cache.CacheRegion;
 import com.platform.saas.dto.InviteUserRequest;
 import com.platform.saas.dto.InviteUserResponse;
 import com.platform.saas.exception.TenantNotFoundException;
@@ -51,6 +53,9 @@ class InvitationServiceTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
     @InjectMocks
     private InvitationService invitationService;
 
@@ -429,6 +434,7 @@ class InvitationServiceTest {
         verify(userRepository).existsById(userId);
         verify(userTenantRepository).findByUserIdAndTenantId(userId, tenantId);
         verify(userTenantRepository).delete(userTenant);
+        verify(cacheInvalidationBus).publish(CacheRegion.MEMBERSHIP, tenantId, userId);
     }
 
     @Test
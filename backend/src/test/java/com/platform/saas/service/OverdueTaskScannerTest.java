@@ -0,0 +1,152 @@
+package com.platform.saas.service;
+
+import com.platform.saas.sharding.ShardRoutingDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OverdueTaskScanner.
+ * Tests claiming unannounced overdue tasks, per-tenant event batches and publishing after the claim.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OverdueTaskScanner Tests")
+class OverdueTaskScannerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource;
+
+    private OverdueTaskScanner scanner(int batchSize) {
+        return new OverdueTaskScanner(jdbcTemplate, eventPublisher, transactionManager, shardRoutingDataSource,
+                true, batchSize);
+    }
+
+    private OverdueTaskScanner.OverdueTask overdueTask(UUID tenantId, LocalDate dueDate) {
+        return new OverdueTaskScanner.OverdueTask(UUID.randomUUID(), tenantId, UUID.randomUUID(), "Task",
+                "IN_PROGRESS", "HIGH", dueDate, LocalDate.now());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void claimReturns(List first, List... more) {
+        when(jdbcTemplate.query(contains("FOR UPDATE SKIP LOCKED"), any(RowMapper.class), any()))
+                .thenReturn(first, more);
+    }
+
+    // ========== Scan Tests ==========
+
+    @Test
+    @DisplayName("Should mark claimed tasks announced and publish one batch per tenant")
+    void scan_Overdue_MarksAndPublishesPerTenant() {
+        // Given
+        UUID tenantA = UUID.randomUUID();
+        UUID tenantB = UUID.randomUUID();
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        OverdueTaskScanner.OverdueTask first = overdueTask(tenantA, yesterday);
+        OverdueTaskScanner.OverdueTask second = overdueTask(tenantB, yesterday);
+        OverdueTaskScanner.OverdueTask third = overdueTask(tenantA, yesterday.minusDays(30));
+        claimReturns(List.of(first, second, third));
+
+        // When
+        int announced = scanner(500).scan();
+
+        // Then
+        assertThat(announced).isEqualTo(3);
+        verify(jdbcTemplate).batchUpdate(contains("SET overdue_notified_on"),
+                argThat((List<Object[]> rows) -> rows.size() == 3 && rows.get(2)[1].equals(third.id())));
+        verify(eventPublisher).publishEvents(eq(tenantA), eq("task.overdue"), eq("task"),
+                argThat((Map<UUID, Map<String, Object>> payloads) ->
+                        payloads.keySet().equals(Set.of(first.id(), third.id()))
+                                && payloads.get(first.id()).get("dueDate").equals(yesterday.toString())
+                                && payloads.get(first.id()).get("detectedOn").equals(first.detectedOn().toString())));
+        verify(eventPublisher).publishEvents(eq(tenantB), eq("task.overdue"), eq("task"),
+                argThat((Map<UUID, Map<String, Object>> payloads) -> payloads.keySet().equals(Set.of(second.id()))));
+    }
+
+    @Test
+    @DisplayName("Should publish after the claiming transaction has committed")
+    void scan_Overdue_PublishesAfterCommit() {
+        // Given
+        UUID tenantId = UUID.randomUUID();
+        claimReturns(List.of(overdueTask(tenantId, LocalDate.now().minusDays(1))));
+
+        // When
+        scanner(500).scan();
+
+        // Then
+        InOrder inOrder = inOrder(transactionManager, eventPublisher);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(eventPublisher).publishEvents(eq(tenantId), eq("task.overdue"), eq("task"), anyMap());
+    }
+
+    @Test
+    @DisplayName("Should continue with the next batch while batches are full")
+    void scan_FullBatch_ClaimsNextBatch() {
+        // Given
+        UUID tenantId = UUID.randomUUID();
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        claimReturns(
+                List.of(overdueTask(tenantId, yesterday), overdueTask(tenantId, yesterday)),
+                List.of(overdueTask(tenantId, yesterday)));
+
+        // When
+        int announced = scanner(2).scan();
+
+        // Then
+        assertThat(announced).isEqualTo(3);
+        verify(eventPublisher, times(2)).publishEvents(eq(tenantId), eq("task.overdue"), eq("task"), anyMap());
+        verify(jdbcTemplate, times(2)).batchUpdate(contains("SET overdue_notified_on"), anyList());
+    }
+
+    @Test
+    @DisplayName("Should neither mark nor publish when nothing is pending")
+    void scan_NothingPending_NoEvents() {
+        // Given
+        claimReturns(List.of());
+
+        // When
+        int announced = scanner(500).scan();
+
+        // Then
+        assertThat(announced).isZero();
+        verifyNoInteractions(eventPublisher);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when disabled")
+    void scan_Disabled_NoQueries() {
+        // When
+        int announced = new OverdueTaskScanner(jdbcTemplate, eventPublisher, transactionManager,
+                shardRoutingDataSource, false, 500).scan();
+
+        // Then
+        assertThat(announced).isZero();
+        verifyNoInteractions(jdbcTemplate, eventPublisher, transactionManager);
+    }
+}
@@ -0,0 +1,127 @@
+package com.platform.saas.service;
+
+import com.platform.saas.cache.CacheRegion;
+import com.platform.saas.cache.TenantIdSet;
+import com.platform.saas.cache.TenantScopedCache;
+import com.platform.saas.dto.ProjectSchedule;
+import com.platform.saas.repository.ProjectRepository;
+import com.platform.saas.repository.TaskDependencyRepository;
+import com.platform.saas.repository.TaskRepository;
+import com.platform.saas.security.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ProjectScheduleService.
+ * Tests project validation and caching of the analysis.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectScheduleService Tests")
+class ProjectScheduleServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Spy
+    private TenantIdSet projectIds = new TenantIdSet("project-ids", CacheRegion.PROJECT_ID, 100, 100);
+
+    @Spy
+    private TenantScopedCache<UUID, ProjectSchedule> projectScheduleCache =
+            new TenantScopedCache<>("project-schedules", CacheRegion.PROJECT, UUID::fromString, 10, 10, Duration.ofMinutes(10));
+
+    @InjectMocks
+    private ProjectScheduleService projectScheduleService;
+
+    private MockedStatic<TenantContext> mockedTenantContext;
+
+    private UUID testTenantId;
+    private UUID testProjectId;
+
+    @BeforeEach
+    void setUp() {
+        testTenantId = UUID.randomUUID();
+        testProjectId = UUID.randomUUID();
+
+        mockedTenantContext = mockStatic(TenantContext.class);
+        mockedTenantContext.when(TenantContext::getTenantId).thenReturn(testTenantId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mockedTenantContext.close();
+    }
+
+    @Test
+    @DisplayName("Should compute once and serve the cached analysis until invalidated")
+    void getSchedule_RepeatedCalls_ComputedOnceUntilInvalidated() {
+        // Given
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId)).thenReturn(true);
+        when(taskRepository.findScheduleRows(testTenantId, testProjectId)).thenReturn(List.of());
+        when(taskDependencyRepository.findByProject(testTenantId, testProjectId)).thenReturn(List.of());
+
+        // When
+        ProjectSchedule first = projectScheduleService.getSchedule(testProjectId);
+        ProjectSchedule second = projectScheduleService.getSchedule(testProjectId);
+        projectScheduleCache.invalidate(CacheRegion.PROJECT, testTenantId, testProjectId.toString());
+        projectScheduleService.getSchedule(testProjectId);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getAsOf()).isEqualTo(LocalDate.now());
+        verify(taskRepository, times(2)).findScheduleRows(testTenantId, testProjectId);
+    }
+
+    @Test
+    @DisplayName("Should recompute an analysis made for an earlier day")
+    void getSchedule_CachedYesterday_Recomputed() {
+        // Given
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId)).thenReturn(true);
+        when(taskRepository.findScheduleRows(testTenantId, testProjectId)).thenReturn(List.of());
+        when(taskDependencyRepository.findByProject(testTenantId, testProjectId)).thenReturn(List.of());
+        projectScheduleCache.get(testTenantId, testProjectId,
+                () -> Optional.of(ProjectSchedule.builder().asOf(LocalDate.now().minusDays(1)).build()));
+
+        // When
+        ProjectSchedule schedule = projectScheduleService.getSchedule(testProjectId);
+
+        // Then - the fresh analysis replaced the stale one in place
+        assertThat(schedule.getAsOf()).isEqualTo(LocalDate.now());
+        assertThat(projectScheduleCache.getIfPresent(testTenantId, testProjectId)).containsSame(schedule);
+    }
+
+    @Test
+    @DisplayName("Should throw exception for a project of another tenant")
+    void getSchedule_UnknownProject_ThrowsException() {
+        // Given
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> projectScheduleService.getSchedule(testProjectId))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Project not found");
+        verifyNoInteractions(taskRepository);
+    }
+}
@@ -1,12 +1,13 @@
 package com.platform.saas.service;
 
+import com.platform.saas.cache.CacheRegion;
+import com.platform.saas.cache.TenantScopedCache;
 import com.platform.saas.exception.QuotaExceededException;
 import com.platform.saas.exception.TenantNotFoundException;
 import com.platform.saas.model.Priority;
 import com.platform.saas.model.Project;
 import com.platform.saas.model.ProjectStatus;
-import com.platform.saas.model.SubscriptionTier;
-import com.platform.saas.model.Tenant;
+import com.platform.saas.observability.QuotaMetrics;
 import com.platform.saas.repository.ProjectRepository;
 import com.platform.saas.repository.TenantRepository;
 import com.platform.saas.security.TenantContext;
@@ -18,8 +19,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -46,6 +49,16 @@ class ProjectServiceTest {
     @Mock
     private EventPublisher eventPublisher;
 
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
+    @Mock
+    private QuotaMetrics quotaMetrics;
+
+    @Spy
+    private TenantScopedCache<UUID, Project> projectCache =
+            new TenantScopedCache<>("projects", CacheRegion.PROJECT, UUID::fromString, 100, 100, Duration.ofMinutes(10));
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -54,7 +67,6 @@ class ProjectServiceTest {
     private UUID testTenantId;
     private UUID testProjectId;
     private UUID testOwnerId;
-    private Tenant testTenant;
     private Project testProject;
 
     @BeforeEach
@@ -63,14 +75,6 @@ class ProjectServiceTest {
         testProjectId = UUID.randomUUID();
         testOwnerId = UUID.randomUUID();
 
-        // Setup test tenant with FREE tier
-        testTenant = new Tenant();
-        testTenant.setId(testTenantId);
-        testTenant.setName("Test Company");
-        testTenant.setSubdomain("test-company");
-        testTenant.setSubscriptionTier(SubscriptionTier.FREE);
-        testTenant.setQuotaLimit(50);
-
         // Setup test project
         testProject = new Project();
         testProject.setId(testProjectId);
@@ -99,8 +103,7 @@ class ProjectServiceTest {
     @DisplayName("Should create project successfully within quota")
     void createProject_WithinQuota_Success() {
         // Given
-        when(tenantRepository.findById(testTenantId)).thenReturn(Optional.of(testTenant));
-        when(projectRepository.countByTenantId(testTenantId)).thenReturn(10L);
+        when(tenantRepository.lockQuotaUsage(testTenantId)).thenReturn(Optional.of(quotaUsage(50, 10L, 0L)));
         when(projectRepository.save(any(Project.class))).thenReturn(testProject);
 
         // When
@@ -111,8 +114,8 @@ class ProjectServiceTest {
         assertThat(result.getTenantId()).isEqualTo(testTenantId);
         assertThat(result.getName()).isEqualTo("Test Project");
 
-        verify(tenantRepository).findById(testTenantId);
-        verify(projectRepository).countByTenantId(testTenantId);
+        verify(tenantRepository).lockQuotaUsage(testTenantId);
+        verify(projectRepository, never()).countByTenantId(any());
         verify(projectRepository).save(testProject);
         verify(eventPublisher).publishEvent(
                 eq(testTenantId),
@@ -127,8 +130,7 @@ class ProjectServiceTest {
     @DisplayName("Should throw exception when quota exceeded")
     void createProject_QuotaExceeded_ThrowsException() {
         // Given
-        when(tenantRepository.findById(testTenantId)).thenReturn(Optional.of(testTenant));
-        when(projectRepository.countByTenantId(testTenantId)).thenReturn(50L);
+        when(tenantRepository.lockQuotaUsage(testTenantId)).thenReturn(Optional.of(quotaUsage(50, 50L, 0L)));
 
         // When & Then
         assertThatThrownBy(() -> projectService.createProject(testProject))
@@ -143,17 +145,10 @@ class ProjectServiceTest {
     @DisplayName("Should throw exception when quota at limit")
     void createProject_QuotaAtLimit_ThrowsException() {
         // Given
-        when(tenantRepository.findById(testTenantId)).thenReturn(Optional.of(testTenant));
-        when(projectRepository.countByTenantId(testTenantId)).thenReturn(49L);
-
-        // When & Then - At limit (49) should allow creation since check is >=
-        // Actually, let me recheck the logic: currentCount >= quotaLimit
-        // If limit is 50 and current is 49, that's < 50, so it should be OK
-        // If limit is 50 and current is 50, that's >= 50, so it should throw
-
-        // Let me correct this - at exactly 50 should throw
-        when(projectRepository.countByTenantId(testTenantId)).thenReturn(50L);
+        // At exactly the limit (50 of 50) creation must be rejected, since the check is >=
+        when(tenantRepository.lockQuotaUsage(testTenantId)).thenReturn(Optional.of(quotaUsage(50, 50L, 0L)));
 
+        // When & Then
         assertThatThrownBy(() -> projectService.createProject(testProject))
                 .isInstanceOf(QuotaExceededException.class);
 
@@ -164,10 +159,7 @@ class ProjectServiceTest {
     @DisplayName("Should allow unlimited projects for ENTERPRISE tier")
     void createProject_EnterpriseTier_NoLimit() {
         // Given
-        testTenant.setSubscriptionTier(SubscriptionTier.ENTERPRISE);
-        testTenant.setQuotaLimit(null);
-
-        when(tenantRepository.findById(testTenantId)).thenReturn(Optional.of(testTenant));
+        when(tenantRepository.lockQuotaUsage(testTenantId)).thenReturn(Optional.of(quotaUsage(null, 0L, 0L)));
         when(projectRepository.save(any(Project.class))).thenReturn(testProject);
 
         // When
@@ -197,7 +189,7 @@ class ProjectServiceTest {
     @DisplayName("Should throw exception when tenant not found")
     void createProject_TenantNotFound_ThrowsException() {
         // Given
-        when(tenantRepository.findById(testTenantId)).thenReturn(Optional.empty());
+        when(tenantRepository.lockQuotaUsage(testTenantId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> projectService.createProject(testProject))
@@ -485,6 +477,7 @@ class ProjectServiceTest {
 
         // Then
         verify(projectRepository).delete(testProject);
+        verify(resourceVersionService).removeProject(testTenantId, testProjectId);
         verify(eventPublisher).publishEvent(
                 eq(testTenantId),
                 eq("project.deleted"),
@@ -539,4 +532,23 @@ class ProjectServiceTest {
         assertThat(count).isEqualTo(8L);
         verify(projectRepository).countActiveProjects(testTenantId);
     }
+
+    private static TenantRepository.QuotaUsage quotaUsage(Integer quotaLimit, long projectCount, long taskCount) {
+        return new TenantRepository.QuotaUsage() {
+            @Override
+            public Integer getQuotaLimit() {
+                return quotaLimit;
+            }
+
+            @Override
+            public long getProjectCount() {
+                return projectCount;
+            }
+
+            @Override
+            public long getTaskCount() {
+                return taskCount;
+            }
+        };
+    }
 }
@@ -0,0 +1,269 @@
+package com.platform.saas.service;
+
+import com.platform.saas.cache.CacheInvalidationBus;
+import com.platform.saas.cache.CacheRegion;
+import com.platform.saas.cache.TenantIdSet;
+import com.platform.saas.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ResourceVersionService.
+ * Tests ETag stability, invalidation on writes and project ownership checks.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResourceVersionService Tests")
+class ResourceVersionServiceTest {
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private ResourceVersionService resourceVersionService;
+
+    private UUID tenantId;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        when(cacheInvalidationBus.isEnabled()).thenReturn(true);
+        resourceVersionService = newService(100, 100);
+        tenantId = UUID.randomUUID();
+        projectId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should return stable quoted ETags when nothing changed")
+    void getETag_NoWrites_Stable() {
+        ownsProject(projectId);
+        String first = resourceVersionService.getTenantETag(tenantId);
+
+        assertThat(first).startsWith("\"").endsWith("\"");
+        assertThat(resourceVersionService.getTenantETag(tenantId)).isEqualTo(first);
+        assertThat(resourceVersionService.getProjectETag(tenantId, projectId))
+                .isEqualTo(resourceVersionService.getProjectETag(tenantId, projectId));
+    }
+
+    @Test
+    @DisplayName("Should publish bumps through the invalidation bus")
+    void bumpProject_PublishesInvalidation() {
+        resourceVersionService.bumpProject(tenantId, projectId);
+
+        verify(cacheInvalidationBus).publish(CacheRegion.PROJECT, tenantId, projectId);
+    }
+
+    @Test
+    @DisplayName("Should publish a version bump and an ID removal when a project is deleted")
+    void removeProject_PublishesBumpAndRemoval() {
+        resourceVersionService.removeProject(tenantId, projectId);
+
+        verify(cacheInvalidationBus).publish(CacheRegion.PROJECT, tenantId, projectId);
+        verify(cacheInvalidationBus).publish(CacheRegion.PROJECT_ID, tenantId, projectId);
+    }
+
+    @Test
+    @DisplayName("Should change tenant and project ETags on project invalidation")
+    void invalidate_Project_ChangesETags() {
+        // Given
+        UUID otherProjectId = UUID.randomUUID();
+        ownsProject(projectId);
+        ownsProject(otherProjectId);
+        String tenantETag = resourceVersionService.getTenantETag(tenantId);
+        String projectETag = resourceVersionService.getProjectETag(tenantId, projectId);
+        String otherProjectETag = resourceVersionService.getProjectETag(tenantId, otherProjectId);
+
+        // When
+        resourceVersionService.invalidate(CacheRegion.PROJECT, tenantId, projectId.toString());
+
+        // Then
+        assertThat(resourceVersionService.getTenantETag(tenantId)).isNotEqualTo(tenantETag);
+        assertThat(resourceVersionService.getProjectETag(tenantId, projectId)).isNotEqualTo(projectETag);
+        assertThat(resourceVersionService.getProjectETag(tenantId, otherProjectId)).isEqualTo(otherProjectETag);
+    }
+
+    @Test
+    @DisplayName("Should not change other tenants' ETags")
+    void invalidate_OtherTenant_Unchanged() {
+        // Given
+        UUID otherTenantId = UUID.randomUUID();
+        String otherTenantETag = resourceVersionService.getTenantETag(otherTenantId);
+
+        // When
+        resourceVersionService.invalidate(CacheRegion.PROJECT, tenantId, projectId.toString());
+
+        // Then
+        assertThat(resourceVersionService.getTenantETag(otherTenantId)).isEqualTo(otherTenantETag);
+    }
+
+    @Test
+    @DisplayName("Should ignore unrelated cache regions")
+    void invalidate_OtherRegion_Ignored() {
+        String tenantETag = resourceVersionService.getTenantETag(tenantId);
+
+        resourceVersionService.invalidate(CacheRegion.AUTOMATION_RULE, tenantId, UUID.randomUUID().toString());
+
+        assertThat(resourceVersionService.getTenantETag(tenantId)).isEqualTo(tenantETag);
+    }
+
+    @Test
+    @DisplayName("Should reissue every ETag on full flush")
+    void invalidateAll_ChangesAllETags() {
+        ownsProject(projectId);
+        String tenantETag = resourceVersionService.getTenantETag(tenantId);
+        String projectETag = resourceVersionService.getProjectETag(tenantId, projectId);
+
+        resourceVersionService.invalidateAll();
+
+        assertThat(resourceVersionService.getTenantETag(tenantId)).isNotEqualTo(tenantETag);
+        assertThat(resourceVersionService.getProjectETag(tenantId, projectId)).isNotEqualTo(projectETag);
+    }
+
+    @Test
+    @DisplayName("Should reissue project ETags of the tenant only on a tenant-wide change")
+    void invalidate_TenantWide_ChangesOnlyTenantProjectETags() {
+        // Given - both tenants use the same project counters so far
+        UUID otherTenantId = UUID.randomUUID();
+        UUID otherProjectId = UUID.randomUUID();
+        ownsProject(projectId);
+        when(projectRepository.existsByIdAndTenantId(otherProjectId, otherTenantId)).thenReturn(true);
+        resourceVersionService.invalidate(CacheRegion.PROJECT, tenantId, projectId.toString());
+        String projectETag = resourceVersionService.getProjectETag(tenantId, projectId);
+        String otherProjectETag = resourceVersionService.getProjectETag(otherTenantId, otherProjectId);
+
+        // When
+        resourceVersionService.invalidate(CacheRegion.PROJECT, tenantId, null);
+
+        // Then
+        assertThat(resourceVersionService.getProjectETag(tenantId, projectId)).isNotEqualTo(projectETag);
+        assertThat(resourceVersionService.getProjectETag(otherTenantId, otherProjectId)).isEqualTo(otherProjectETag);
+    }
+
+    @Test
+    @DisplayName("Should not issue a project ETag for another tenant's or a missing project")
+    void getProjectETag_NotTenantsProject_Throws() {
+        // Given
+        when(projectRepository.existsByIdAndTenantId(projectId, tenantId)).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> resourceVersionService.getProjectETag(tenantId, projectId))
+                .hasMessageContaining("Project not found");
+    }
+
+    @Test
+    @DisplayName("Should not issue ETags without a tenant")
+    void getETag_NoTenant_Throws() {
+        assertThatThrownBy(() -> resourceVersionService.getTenantETag(null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> resourceVersionService.getProjectETag(null, projectId))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    @DisplayName("Should not issue ETags while the invalidation bus is disabled")
+    void getETag_BusDisabled_ReturnsNull() {
+        // Given
+        when(cacheInvalidationBus.isEnabled()).thenReturn(false);
+        ResourceVersionService disabled = newService(100, 100);
+
+        // When / Then
+        assertThat(disabled.getTenantETag(tenantId)).isNull();
+        assertThat(disabled.getProjectETag(tenantId, projectId)).isNull();
+        verifyNoInteractions(projectRepository);
+    }
+
+    // ========== Bounds ==========
+
+    @Test
+    @DisplayName("Should drop the least recently used tenant and reissue its ETags")
+    void getTenantETag_TooManyTenants_EvictsLeastRecentlyUsed() {
+        // Given
+        resourceVersionService = newService(2, 100);
+        UUID secondTenantId = UUID.randomUUID();
+        String tenantETag = resourceVersionService.getTenantETag(tenantId);
+        String secondTenantETag = resourceVersionService.getTenantETag(secondTenantId);
+        resourceVersionService.getTenantETag(secondTenantId);
+
+        // When - a third tenant evicts the first one
+        resourceVersionService.getTenantETag(UUID.randomUUID());
+
+        // Then
+        assertThat(resourceVersionService.getTenantETag(secondTenantId)).isEqualTo(secondTenantETag);
+        assertThat(resourceVersionService.getTenantETag(tenantId)).isNotEqualTo(tenantETag);
+    }
+
+    @Test
+    @DisplayName("Should never repeat an ETag after dropping a tenant's counters")
+    void invalidate_TenantDropped_DoesNotRepeatETags() {
+        // Given - the tenant's version moves from 0 to 1
+        String initial = resourceVersionService.getTenantETag(tenantId);
+        resourceVersionService.invalidate(CacheRegion.PROJECT, tenantId, projectId.toString());
+        String bumped = resourceVersionService.getTenantETag(tenantId);
+
+        // When - the counters are dropped and the version starts over
+        resourceVersionService.invalidate(CacheRegion.PROJECT, tenantId, null);
+        String reissued = resourceVersionService.getTenantETag(tenantId);
+
+        // Then
+        assertThat(reissued).isNotIn(initial, bumped);
+    }
+
+    @Test
+    @DisplayName("Should reissue the tenant's project ETags when it has too many project counters")
+    void invalidate_TooManyProjects_ReissuesTenantETags() {
+        // Given
+        resourceVersionService = newService(100, 2);
+        ownsProject(projectId);
+        resourceVersionService.getProjectETag(tenantId, projectId);
+        resourceVersionService.invalidate(CacheRegion.PROJECT, tenantId, projectId.toString());
+        resourceVersionService.invalidate(CacheRegion.PROJECT, tenantId, UUID.randomUUID().toString());
+        String projectETag = resourceVersionService.getProjectETag(tenantId, projectId);
+
+        // When - a third project counter exceeds the limit
+        resourceVersionService.invalidate(CacheRegion.PROJECT, tenantId, UUID.randomUUID().toString());
+
+        // Then
+        assertThat(resourceVersionService.getProjectETag(tenantId, projectId)).isNotEqualTo(projectETag);
+    }
+
+    @Test
+    @DisplayName("Should drop the counter of a deleted project")
+    void invalidate_ProjectIdRemoved_DropsCounter() {
+        // Given - room for a single project counter, taken by a project that is then deleted
+        resourceVersionService = newService(100, 1);
+        ownsProject(projectId);
+        resourceVersionService.getProjectETag(tenantId, projectId);
+        UUID deletedProjectId = UUID.randomUUID();
+        resourceVersionService.invalidate(CacheRegion.PROJECT, tenantId, deletedProjectId.toString());
+        resourceVersionService.invalidate(CacheRegion.PROJECT_ID, tenantId, deletedProjectId.toString());
+        String projectETag = resourceVersionService.getProjectETag(tenantId, projectId);
+
+        // When - the freed slot takes another project
+        resourceVersionService.invalidate(CacheRegion.PROJECT, tenantId, UUID.randomUUID().toString());
+
+        // Then - the tenant's counters were kept
+        assertThat(resourceVersionService.getProjectETag(tenantId, projectId)).isEqualTo(projectETag);
+    }
+
+    // ========== Helpers ==========
+
+    private ResourceVersionService newService(int maxTenants, int projectsPerTenant) {
+        return new ResourceVersionService(cacheInvalidationBus, projectRepository,
+                new TenantIdSet("project-ids", CacheRegion.PROJECT_ID, 100, 100), maxTenants, projectsPerTenant);
+    }
+
+    private void ownsProject(UUID id) {
+        when(projectRepository.existsByIdAndTenantId(id, tenantId)).thenReturn(true);
+    }
+}
@@ -0,0 +1,159 @@
+package com.platform.saas.service;
+
+import com.platform.saas.security.TenantContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RuleExecutionCounter.
+ * Tests in-memory accumulation, batched flushing and recovery from failed flushes.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RuleExecutionCounter Tests")
+class RuleExecutionCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private RuleExecutionCounter counter;
+    private UUID tenantId;
+    private UUID ruleId;
+
+    @BeforeEach
+    void setUp() {
+        counter = new RuleExecutionCounter(jdbcTemplate);
+        tenantId = UUID.randomUUID();
+        ruleId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should accumulate concurrent executions without losing updates")
+    void recordExecution_Concurrent_CountsAll() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        counter.recordExecution(tenantId, ruleId);
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(counter.getPendingCount(ruleId)).isEqualTo(8000L);
+        assertThat(counter.getPendingLastExecutedAt(ruleId)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should return pending counts only for the requested tenant")
+    void getPendingCountsForTenant_FiltersByTenant() {
+        UUID otherRule = UUID.randomUUID();
+        counter.recordExecution(tenantId, ruleId);
+        counter.recordExecution(UUID.randomUUID(), otherRule);
+
+        assertThat(counter.getPendingCountsForTenant(tenantId)).containsOnlyKeys(ruleId);
+    }
+
+    @Test
+    @DisplayName("Should flush all rules in a single batched UPDATE")
+    void flush_MultipleRules_SingleStatement() {
+        // Given
+        UUID otherRule = UUID.randomUUID();
+        counter.recordExecution(tenantId, ruleId);
+        counter.recordExecution(tenantId, ruleId);
+        counter.recordExecution(tenantId, otherRule);
+
+        // When
+        int updated = counter.flush();
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(1)).update(sql.capture(), args.capture());
+        assertThat(updated).isEqualTo(2);
+        assertThat(sql.getValue()).startsWith("UPDATE automation_rules").contains("FROM (VALUES");
+        assertThat(args.getValue()).hasSize(6).contains(2L, 1L);
+        assertThat(counter.getPendingCount(ruleId)).isZero();
+        assertThat(counter.getPendingLastExecutedAt(ruleId)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should flush each tenant's rules with that tenant in context")
+    void flush_TwoTenants_OneStatementPerTenantInContext() {
+        // Given
+        UUID otherTenant = UUID.randomUUID();
+        counter.recordExecution(tenantId, ruleId);
+        counter.recordExecution(otherTenant, UUID.randomUUID());
+        List<UUID> contexts = new ArrayList<>();
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            contexts.add(TenantContext.getTenantId());
+            return 1;
+        });
+
+        // When
+        int updated = counter.flush();
+
+        // Then
+        assertThat(updated).isEqualTo(2);
+        assertThat(contexts).containsExactlyInAnyOrder(tenantId, otherTenant);
+        assertThat(TenantContext.isSet()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not issue an UPDATE when nothing is pending")
+    void flush_NothingPending_NoStatement() {
+        assertThat(counter.flush()).isZero();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should restore deltas when the flush fails")
+    void flush_Failure_RestoresPendingCounts() {
+        // Given
+        counter.recordExecution(tenantId, ruleId);
+        counter.recordExecution(tenantId, ruleId);
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"));
+
+        // When
+        int updated = counter.flush();
+
+        // Then
+        assertThat(updated).isZero();
+        assertThat(counter.getPendingCount(ruleId)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should discard pending executions of removed rules")
+    void remove_DiscardsPending() {
+        counter.recordExecution(tenantId, ruleId);
+
+        counter.remove(ruleId);
+
+        assertThat(counter.getPendingCount(ruleId)).isZero();
+        assertThat(counter.flush()).isZero();
+    }
+}
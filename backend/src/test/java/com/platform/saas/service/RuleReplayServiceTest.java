@@ -0,0 +1,215 @@
+package com.platform.saas.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.saas.automation.ConditionCompiler;
+import com.platform.saas.dto.RuleReplayRequest;
+import com.platform.saas.dto.RuleReplayResult;
+import com.platform.saas.model.AutomationRule;
+import com.platform.saas.repository.AutomationRuleRepository;
+import com.platform.saas.security.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RuleReplayService.
+ * Streams rows from a mocked JDBC cursor and verifies counting, sampling and truncation.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("RuleReplayService Tests")
+class RuleReplayServiceTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private AutomationRuleRepository automationRuleRepository;
+
+    private MockedStatic<TenantContext> tenantContextMock;
+    private final List<String[]> rows = new ArrayList<>();
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tenantId = UUID.randomUUID();
+        tenantContextMock = mockStatic(TenantContext.class);
+        tenantContextMock.when(TenantContext::getTenantId).thenReturn(tenantId);
+
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenAnswer(invocation -> cursor.incrementAndGet() < rows.size());
+        when(resultSet.getObject("id", UUID.class)).thenAnswer(invocation -> UUID.randomUUID());
+        when(resultSet.getObject("resource_id", UUID.class)).thenAnswer(invocation -> UUID.randomUUID());
+        when(resultSet.getString("event_type")).thenAnswer(invocation -> rows.get(cursor.get())[0]);
+        when(resultSet.getString("payload")).thenAnswer(invocation -> rows.get(cursor.get())[1]);
+        when(resultSet.getString("resource_type")).thenReturn("task");
+        when(resultSet.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tenantContextMock.close();
+    }
+
+    @Test
+    @DisplayName("Should count matches across all streamed events and cap samples")
+    void replay_CountsMatchesAndSamples() {
+        // Given
+        for (int i = 0; i < 2500; i++) {
+            addRow(i % 5 == 0 ? "DONE" : "TODO");
+        }
+        RuleReplayService service = createService(10_000L);
+
+        // When
+        RuleReplayResult result = service.replay(request(statusEquals("DONE"), 3));
+
+        // Then
+        assertThat(result.getScannedEvents()).isEqualTo(2500);
+        assertThat(result.getMatchedEvents()).isEqualTo(500);
+        assertThat(result.getFailedEvents()).isZero();
+        assertThat(result.isTruncated()).isFalse();
+        assertThat(result.getSampleMatches()).hasSize(3)
+                .allSatisfy(sample -> assertThat(sample.getPayload()).containsEntry("status", "DONE"));
+    }
+
+    @Test
+    @DisplayName("Should count unreadable payloads as failed events")
+    void replay_MalformedPayload_CountedAsFailed() {
+        addRow("DONE");
+        rows.add(new String[]{"task.status.changed", "{not json"});
+        RuleReplayService service = createService(10_000L);
+
+        RuleReplayResult result = service.replay(request(statusEquals("DONE"), 5));
+
+        assertThat(result.getMatchedEvents()).isEqualTo(1);
+        assertThat(result.getFailedEvents()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stop at the event limit and flag the result as truncated")
+    void replay_OverLimit_Truncated() {
+        for (int i = 0; i < 10; i++) {
+            addRow("DONE");
+        }
+        RuleReplayService service = createService(4L);
+
+        RuleReplayResult result = service.replay(request(statusEquals("DONE"), 5));
+
+        assertThat(result.getScannedEvents()).isEqualTo(4);
+        assertThat(result.getMatchedEvents()).isEqualTo(4);
+        assertThat(result.isTruncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should use the referenced rule's event type and conditions")
+    void replay_WithRuleId_UsesRuleDefinition() throws Exception {
+        // Given
+        AutomationRule rule = new AutomationRule();
+        rule.setId(UUID.randomUUID());
+        rule.setTenantId(tenantId);
+        rule.setEventType("task.status.changed");
+        rule.setConditions(statusEquals("DONE"));
+        when(automationRuleRepository.findByIdAndTenantId(rule.getId(), tenantId)).thenReturn(Optional.of(rule));
+        addRow("DONE");
+        addRow("TODO");
+
+        RuleReplayRequest request = request(null, 5);
+        request.setRuleId(rule.getId());
+
+        // When
+        RuleReplayResult result = createService(10_000L).replay(request);
+
+        // Then
+        assertThat(result.getMatchedEvents()).isEqualTo(1);
+        verify(connection).prepareStatement(contains("AND event_type = ?"));
+        verify(statement).setString(4, "task.status.changed");
+    }
+
+    @Test
+    @DisplayName("Should not replay rules of another tenant")
+    void replay_RuleOfOtherTenant_Throws() {
+        AutomationRule rule = new AutomationRule();
+        rule.setId(UUID.randomUUID());
+        rule.setTenantId(UUID.randomUUID());
+        when(automationRuleRepository.findByIdAndTenantId(rule.getId(), tenantId)).thenReturn(Optional.empty());
+
+        RuleReplayRequest request = request(null, 5);
+        request.setRuleId(rule.getId());
+
+        assertThatThrownBy(() -> createService(10_000L).replay(request))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Automation rule not found");
+    }
+
+    @Test
+    @DisplayName("Should reject an empty date range")
+    void replay_InvalidRange_Throws() {
+        RuleReplayRequest request = request(statusEquals("DONE"), 5);
+        request.setEndDate(request.getStartDate());
+
+        assertThatThrownBy(() -> createService(10_000L).replay(request))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ========== Helpers ==========
+
+    private RuleReplayService createService(long maxEvents) {
+        return new RuleReplayService(dataSource, new ObjectMapper(), new ConditionCompiler(),
+                automationRuleRepository, 4, 500, 100, maxEvents);
+    }
+
+    private void addRow(String status) {
+        rows.add(new String[]{"task.status.changed", "{\"status\":\"" + status + "\"}"});
+    }
+
+    private Map<String, Object> statusEquals(String status) {
+        return Map.of("field", "status", "operator", "equals", "value", status);
+    }
+
+    private RuleReplayRequest request(Map<String, Object> conditions, int sampleSize) {
+        return RuleReplayRequest.builder()
+                .conditions(conditions)
+                .startDate(LocalDateTime.now().minusDays(30))
+                .endDate(LocalDateTime.now())
+                .sampleSize(sampleSize)
+                .build();
+    }
+}
@@ -0,0 +1,211 @@
+package com.platform.saas.service;
+
+import com.platform.saas.dto.ProjectSchedule;
+import com.platform.saas.model.TaskDependency;
+import com.platform.saas.model.TaskStatus;
+import com.platform.saas.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for ScheduleAnalyzer.
+ * Tests topological order, date passes, critical path, blocked propagation and cycles.
+ */
+@DisplayName("ScheduleAnalyzer Tests")
+class ScheduleAnalyzerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+
+    private UUID projectId;
+    private List<TaskRepository.ScheduleRow> tasks;
+    private List<TaskDependency> dependencies;
+
+    @BeforeEach
+    void setUp() {
+        projectId = UUID.randomUUID();
+        tasks = new ArrayList<>();
+        dependencies = new ArrayList<>();
+    }
+
+    private UUID task(TaskStatus status, LocalDate dueDate) {
+        UUID id = UUID.randomUUID();
+        tasks.add(new TaskRepository.ScheduleRow() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public TaskStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDate getDueDate() {
+                return dueDate;
+            }
+        });
+        return id;
+    }
+
+    private void depends(UUID blocked, UUID blocking) {
+        dependencies.add(new TaskDependency(blocking, blocked));
+    }
+
+    private Map<UUID, ProjectSchedule.TaskSchedule> byTask(ProjectSchedule schedule) {
+        return schedule.getTasks().stream()
+                .collect(Collectors.toMap(ProjectSchedule.TaskSchedule::getTaskId, Function.identity()));
+    }
+
+    // ========== Order and Dates ==========
+
+    @Test
+    @DisplayName("Should order every task after its blockers")
+    void analyze_Chain_TopologicalOrder() {
+        // Given
+        UUID c = task(TaskStatus.TODO, null);
+        UUID b = task(TaskStatus.TODO, null);
+        UUID a = task(TaskStatus.TODO, null);
+        depends(c, b);
+        depends(b, a);
+
+        // When
+        ProjectSchedule schedule = ScheduleAnalyzer.analyze(projectId, tasks, dependencies, TODAY);
+
+        // Then
+        assertThat(schedule.getTopologicalOrder()).containsExactly(a, b, c);
+        assertThat(schedule.getDependencyCount()).isEqualTo(2);
+        assertThat(schedule.getCyclicTasks()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should push dates along dependencies and follow the driving chain as critical path")
+    void analyze_DueDates_EarliestLatestAndCriticalPath() {
+        // Given
+        UUID a = task(TaskStatus.TODO, TODAY.plusDays(4));
+        UUID b = task(TaskStatus.IN_PROGRESS, TODAY.plusDays(2));
+        UUID c = task(TaskStatus.TODO, null);
+        UUID independent = task(TaskStatus.TODO, TODAY.plusDays(5));
+        UUID done = task(TaskStatus.COMPLETED, TODAY.plusDays(30));
+        depends(b, a);
+        depends(c, b);
+        depends(a, done);
+
+        // When
+        ProjectSchedule schedule = ScheduleAnalyzer.analyze(projectId, tasks, dependencies, TODAY);
+        Map<UUID, ProjectSchedule.TaskSchedule> byTask = byTask(schedule);
+
+        // Then
+        assertThat(byTask.get(a).getEarliestStart()).isEqualTo(TODAY);
+        assertThat(byTask.get(a).getEarliestFinish()).isEqualTo(TODAY.plusDays(4));
+        assertThat(byTask.get(b).getEarliestStart()).isEqualTo(TODAY.plusDays(5));
+        assertThat(byTask.get(b).getEarliestFinish()).isEqualTo(TODAY.plusDays(5));
+        assertThat(byTask.get(c).getEarliestFinish()).isEqualTo(TODAY.plusDays(6));
+        assertThat(schedule.getProjectedFinish()).isEqualTo(TODAY.plusDays(6));
+
+        // b is due before a can be done: both run three days late
+        assertThat(byTask.get(b).getLatestFinish()).isEqualTo(TODAY.plusDays(2));
+        assertThat(byTask.get(b).getSlackDays()).isEqualTo(-3);
+        assertThat(byTask.get(a).getLatestFinish()).isEqualTo(TODAY.plusDays(1));
+        assertThat(byTask.get(independent).getSlackDays()).isZero();
+
+        assertThat(schedule.getCriticalPath()).containsExactly(a, b, c);
+        assertThat(byTask.get(c).isCritical()).isTrue();
+        assertThat(byTask.get(independent).isCritical()).isFalse();
+        assertThat(byTask).doesNotContainKey(done);
+    }
+
+    // ========== Blocked Propagation ==========
+
+    @Test
+    @DisplayName("Should collect open tasks downstream of BLOCKED tasks")
+    void analyze_BlockedTask_TransitiveDependents() {
+        // Given
+        UUID blocked = task(TaskStatus.BLOCKED, null);
+        UUID next = task(TaskStatus.TODO, null);
+        UUID afterNext = task(TaskStatus.TODO, null);
+        UUID finished = task(TaskStatus.COMPLETED, null);
+        UUID unrelated = task(TaskStatus.TODO, null);
+        depends(next, blocked);
+        depends(afterNext, next);
+        depends(finished, next);
+
+        // When
+        ProjectSchedule schedule = ScheduleAnalyzer.analyze(projectId, tasks, dependencies, TODAY);
+
+        // Then
+        assertThat(schedule.getTransitivelyBlocked()).containsExactlyInAnyOrder(next, afterNext);
+        assertThat(schedule.getTransitivelyBlocked()).doesNotContain(blocked, finished, unrelated);
+    }
+
+    // ========== Cycles and Foreign Dependencies ==========
+
+    @Test
+    @DisplayName("Should leave tasks on or behind a cycle out of the schedule")
+    void analyze_Cycle_ReportedAndSkipped() {
+        // Given
+        UUID p = task(TaskStatus.TODO, null);
+        UUID q = task(TaskStatus.TODO, null);
+        UUID behind = task(TaskStatus.TODO, null);
+        UUID free = task(TaskStatus.TODO, null);
+        depends(q, p);
+        depends(p, q);
+        depends(behind, q);
+
+        // When
+        ProjectSchedule schedule = ScheduleAnalyzer.analyze(projectId, tasks, dependencies, TODAY);
+
+        // Then
+        assertThat(schedule.getCyclicTasks()).containsExactlyInAnyOrder(p, q, behind);
+        assertThat(schedule.getTopologicalOrder()).containsExactly(free);
+        assertThat(schedule.getTasks()).extracting(ProjectSchedule.TaskSchedule::getTaskId).containsExactly(free);
+    }
+
+    @Test
+    @DisplayName("Should not let tasks on a cycle constrain the latest finish of their blockers")
+    void analyze_BlockerOfCycle_LatestFinishFromOwnDueDate() {
+        // Given - root blocks a cycle
+        UUID root = task(TaskStatus.TODO, TODAY.plusDays(5));
+        UUID p = task(TaskStatus.TODO, null);
+        UUID q = task(TaskStatus.TODO, null);
+        depends(p, root);
+        depends(q, p);
+        depends(p, q);
+
+        // When
+        ProjectSchedule schedule = ScheduleAnalyzer.analyze(projectId, tasks, dependencies, TODAY);
+
+        // Then
+        assertThat(schedule.getCyclicTasks()).containsExactlyInAnyOrder(p, q);
+        ProjectSchedule.TaskSchedule rootSchedule = byTask(schedule).get(root);
+        assertThat(rootSchedule.getLatestFinish()).isEqualTo(TODAY.plusDays(5));
+        assertThat(rootSchedule.getSlackDays()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should ignore dependencies on tasks outside the project")
+    void analyze_ForeignDependency_Ignored() {
+        // Given
+        UUID a = task(TaskStatus.TODO, null);
+        depends(a, UUID.randomUUID());
+
+        // When
+        ProjectSchedule schedule = ScheduleAnalyzer.analyze(projectId, tasks, dependencies, TODAY);
+
+        // Then
+        assertThat(schedule.getDependencyCount()).isZero();
+        assertThat(schedule.getTopologicalOrder()).containsExactly(a);
+        assertThat(schedule.getCriticalPath()).containsExactly(a);
+    }
+}
@@ -0,0 +1,257 @@
+package com.platform.saas.service;
+
+import com.platform.saas.dto.TaskPage;
+import com.platform.saas.model.Task;
+import com.platform.saas.model.TaskAssignee;
+import com.platform.saas.model.TaskAssigneeId;
+import com.platform.saas.model.TaskStatus;
+import com.platform.saas.repository.TaskAssigneeRepository;
+import com.platform.saas.repository.TaskRepository;
+import com.platform.saas.repository.UserTenantRepository;
+import com.platform.saas.security.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TaskAssigneeService.
+ * Tests bulk assignment validation, events, keyset paging and batch loading of assignees.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskAssigneeService Tests")
+class TaskAssigneeServiceTest {
+
+    @Mock
+    private TaskAssigneeRepository taskAssigneeRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private UserTenantRepository userTenantRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
+    @InjectMocks
+    private TaskAssigneeService taskAssigneeService;
+
+    private MockedStatic<TenantContext> mockedTenantContext;
+
+    private UUID testTenantId;
+    private UUID testProjectId;
+    private UUID testUserId;
+
+    @BeforeEach
+    void setUp() {
+        testTenantId = UUID.randomUUID();
+        testProjectId = UUID.randomUUID();
+        testUserId = UUID.randomUUID();
+
+        mockedTenantContext = mockStatic(TenantContext.class);
+        mockedTenantContext.when(TenantContext::getTenantId).thenReturn(testTenantId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mockedTenantContext.close();
+    }
+
+    private Task task(TaskStatus status) {
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTenantId(testTenantId);
+        task.setProjectId(testProjectId);
+        task.setName("Task");
+        task.setStatus(status);
+        return task;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void returnFromStatement(List<TaskAssigneeId> rows) {
+        when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenReturn(rows);
+    }
+
+    // ========== Assignment Tests ==========
+
+    @Test
+    @DisplayName("Should assign in one statement and publish one event per changed task")
+    void assignUsers_NewPairs_OneStatementAndBatchedEvents() {
+        // Given
+        Task first = task(TaskStatus.TODO);
+        Task second = task(TaskStatus.IN_PROGRESS);
+        when(taskRepository.findByTenantIdAndIdIn(eq(testTenantId), anyCollection())).thenReturn(List.of(first, second));
+        when(userTenantRepository.findMemberUserIds(eq(testTenantId), anyCollection())).thenReturn(List.of(testUserId));
+        returnFromStatement(List.of(new TaskAssigneeId(first.getId(), testUserId)));
+
+        // When
+        List<TaskAssigneeId> assigned = taskAssigneeService.assignUsers(
+                List.of(first.getId(), second.getId()), List.of(testUserId));
+
+        // Then
+        assertThat(assigned).containsExactly(new TaskAssigneeId(first.getId(), testUserId));
+        verify(jdbcTemplate, times(1)).query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class));
+        verify(resourceVersionService, times(1)).bumpProject(testTenantId, testProjectId);
+        verify(eventPublisher).publishEvents(eq(testTenantId), eq("task.assigned"), eq("task"),
+                argThat((Map<UUID, Map<String, Object>> payloads) -> payloads.keySet().equals(Set.of(first.getId()))));
+    }
+
+    @Test
+    @DisplayName("Should reject users outside the tenant before writing")
+    void assignUsers_NonMember_ThrowsException() {
+        // Given
+        Task first = task(TaskStatus.TODO);
+        when(taskRepository.findByTenantIdAndIdIn(eq(testTenantId), anyCollection())).thenReturn(List.of(first));
+        when(userTenantRepository.findMemberUserIds(eq(testTenantId), anyCollection())).thenReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> taskAssigneeService.assignUsers(List.of(first.getId()), List.of(testUserId)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not a member");
+        verifyNoInteractions(jdbcTemplate, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when a task is not in the tenant")
+    void assignUsers_UnknownTask_ThrowsException() {
+        // Given
+        UUID unknown = UUID.randomUUID();
+        when(taskRepository.findByTenantIdAndIdIn(eq(testTenantId), anyCollection())).thenReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> taskAssigneeService.assignUsers(List.of(unknown), List.of(testUserId)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Task not found: " + unknown);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should reject bulk requests above the size limit")
+    void assignUsers_TooManyTasks_ThrowsException() {
+        // Given
+        List<UUID> taskIds = IntStream.range(0, TaskAssigneeService.MAX_BULK_TASKS + 1)
+                .mapToObj(i -> UUID.randomUUID())
+                .toList();
+
+        // When & Then
+        assertThatThrownBy(() -> taskAssigneeService.assignUsers(taskIds, List.of(testUserId)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(taskRepository, jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when removing an assignee that is not assigned")
+    void unassignUser_NotAssigned_ThrowsException() {
+        // Given
+        Task first = task(TaskStatus.TODO);
+        when(taskRepository.findByTenantIdAndIdIn(eq(testTenantId), anyCollection())).thenReturn(List.of(first));
+        returnFromStatement(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> taskAssigneeService.unassignUser(first.getId(), testUserId))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Task assignee not found");
+        verifyNoInteractions(resourceVersionService);
+    }
+
+    // ========== My Tasks Tests ==========
+
+    @Test
+    @DisplayName("Should return a page with a cursor when more tasks follow")
+    void getAssignedTasks_MoreThanLimit_ReturnsCursor() {
+        // Given
+        List<Task> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rows.add(task(TaskStatus.TODO));
+        }
+        when(taskAssigneeRepository.findAssignedTasks(eq(testUserId), eq(testTenantId),
+                eq(List.of("TODO", "IN_PROGRESS", "BLOCKED")), eq(""), eq(new UUID(0L, 0L)), eq(3)))
+                .thenReturn(rows);
+
+        // When
+        TaskPage page = taskAssigneeService.getAssignedTasks(testUserId, null, null, 2);
+
+        // Then
+        assertThat(page.getTasks()).containsExactly(rows.get(0), rows.get(1));
+        assertThat(page.getNextCursor())
+                .isEqualTo(TaskAssigneeService.encodeCursor(TaskStatus.TODO, rows.get(1).getId()));
+    }
+
+    @Test
+    @DisplayName("Should continue after the cursor position and end without a cursor")
+    void getAssignedTasks_WithCursor_ContinuesAfterPosition() {
+        // Given
+        UUID lastId = UUID.randomUUID();
+        String cursor = TaskAssigneeService.encodeCursor(TaskStatus.IN_PROGRESS, lastId);
+        Task next = task(TaskStatus.IN_PROGRESS);
+        when(taskAssigneeRepository.findAssignedTasks(testUserId, testTenantId, List.of("IN_PROGRESS"),
+                "IN_PROGRESS", lastId, 51)).thenReturn(List.of(next));
+
+        // When
+        TaskPage page = taskAssigneeService.getAssignedTasks(testUserId, TaskStatus.IN_PROGRESS, cursor, 50);
+
+        // Then
+        assertThat(page.getTasks()).containsExactly(next);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void getAssignedTasks_InvalidCursor_ThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> taskAssigneeService.getAssignedTasks(testUserId, null, "not-a-cursor", 50))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+        verifyNoInteractions(taskAssigneeRepository);
+    }
+
+    // ========== Batch Loading Tests ==========
+
+    @Test
+    @DisplayName("Should load assignees of a task list in one query")
+    void attachAssignees_TaskList_OneQuery() {
+        // Given
+        Task assigned = task(TaskStatus.TODO);
+        Task unassigned = task(TaskStatus.TODO);
+        UUID otherUserId = UUID.randomUUID();
+        TaskAssignee first = new TaskAssignee(assigned.getId(), testUserId);
+        TaskAssignee second = new TaskAssignee(assigned.getId(), otherUserId);
+        when(taskAssigneeRepository.findByTenantIdAndTaskIdIn(testTenantId, List.of(assigned.getId(), unassigned.getId())))
+                .thenReturn(List.of(first, second));
+
+        // When
+        taskAssigneeService.attachAssignees(List.of(assigned, unassigned));
+
+        // Then
+        assertThat(assigned.getAssigneeIds()).containsExactly(testUserId, otherUserId);
+        assertThat(unassigned.getAssigneeIds()).isEmpty();
+        verify(taskAssigneeRepository, times(1)).findByTenantIdAndTaskIdIn(any(), anyCollection());
+    }
+}
@@ -1,9 +1,15 @@
 package com.platform.saas.service;
 
+import com.platform.saas.cache.CacheRegion;
+import com.platform.saas.cache.TenantIdSet;
+import com.platform.saas.dto.BoardMoveRequest;
+import com.platform.saas.dto.ProjectBoard;
 import com.platform.saas.exception.QuotaExceededException;
 import com.platform.saas.exception.TenantNotFoundException;
 import com.platform.saas.model.*;
+import com.platform.saas.observability.QuotaMetrics;
 import com.platform.saas.repository.ProjectRepository;
+import com.platform.saas.repository.TaskDependencyRepository;
 import com.platform.saas.repository.TaskRepository;
 import com.platform.saas.repository.TenantRepository;
 import com.platform.saas.security.TenantContext;
@@ -12,9 +18,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
@@ -37,6 +45,9 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+
     @Mock
     private ProjectRepository projectRepository;
 
@@ -46,6 +57,21 @@ class TaskServiceTest {
     @Mock
     private EventPublisher eventPublisher;
 
+    @Mock
+    private ResourceVersionService resourceVersionService;
+
+    @Mock
+    private QuotaMetrics quotaMetrics;
+
+    @Mock
+    private DependencyUnblocker dependencyUnblocker;
+
+    @Mock
+    private TaskAssigneeService taskAssigneeService;
+
+    @Spy
+    private TenantIdSet projectIds = new TenantIdSet("project-ids", CacheRegion.PROJECT_ID, 100, 100);
+
     @InjectMocks
     private TaskService taskService;
 
@@ -54,8 +80,6 @@ class TaskServiceTest {
     private UUID testTenantId;
     private UUID testProjectId;
     private UUID testTaskId;
-    private Tenant testTenant;
-    private Project testProject;
     private Task testTask;
 
     @BeforeEach
@@ -64,20 +88,6 @@ class TaskServiceTest {
         testProjectId = UUID.randomUUID();
         testTaskId = UUID.randomUUID();
 
-        // Setup test tenant with FREE tier
-        testTenant = new Tenant();
-        testTenant.setId(testTenantId);
-        testTenant.setName("Test Company");
-        testTenant.setSubdomain("test-company");
-        testTenant.setSubscriptionTier(SubscriptionTier.FREE);
-        testTenant.setQuotaLimit(50);
-
-        // Setup test project
-        testProject = new Project();
-        testProject.setId(testProjectId);
-        testProject.setTenantId(testTenantId);
-        testProject.setName("Test Project");
-
         // Setup test task
         testTask = new Task();
         testTask.setId(testTaskId);
@@ -106,11 +116,9 @@ class TaskServiceTest {
     @DisplayName("Should create task successfully within quota")
     void createTask_WithinQuota_Success() {
         // Given
-        when(projectRepository.findByIdAndTenantId(testProjectId, testTenantId))
-                .thenReturn(Optional.of(testProject));
-        when(tenantRepository.findById(testTenantId)).thenReturn(Optional.of(testTenant));
-        when(projectRepository.countByTenantId(testTenantId)).thenReturn(5L);
-        when(taskRepository.countByTenantId(testTenantId)).thenReturn(10L);
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId))
+                .thenReturn(true);
+        when(tenantRepository.lockQuotaUsage(testTenantId)).thenReturn(Optional.of(quotaUsage(50, 5L, 10L)));
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // When
@@ -121,8 +129,8 @@ class TaskServiceTest {
         assertThat(result.getTenantId()).isEqualTo(testTenantId);
         assertThat(result.getName()).isEqualTo("Test Task");
 
-        verify(projectRepository).findByIdAndTenantId(testProjectId, testTenantId);
-        verify(tenantRepository).findById(testTenantId);
+        verify(projectRepository).existsByIdAndTenantId(testProjectId, testTenantId);
+        verify(tenantRepository).lockQuotaUsage(testTenantId);
         verify(taskRepository).save(testTask);
         verify(eventPublisher).publishEvent(
                 eq(testTenantId),
@@ -137,11 +145,9 @@ class TaskServiceTest {
     @DisplayName("Should throw exception when quota exceeded")
     void createTask_QuotaExceeded_ThrowsException() {
         // Given
-        when(projectRepository.findByIdAndTenantId(testProjectId, testTenantId))
-                .thenReturn(Optional.of(testProject));
-        when(tenantRepository.findById(testTenantId)).thenReturn(Optional.of(testTenant));
-        when(projectRepository.countByTenantId(testTenantId)).thenReturn(30L);
-        when(taskRepository.countByTenantId(testTenantId)).thenReturn(20L);
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId))
+                .thenReturn(true);
+        when(tenantRepository.lockQuotaUsage(testTenantId)).thenReturn(Optional.of(quotaUsage(50, 30L, 20L)));
 
         // When & Then
         assertThatThrownBy(() -> taskService.createTask(testTask))
@@ -156,12 +162,9 @@ class TaskServiceTest {
     @DisplayName("Should allow unlimited tasks for ENTERPRISE tier")
     void createTask_EnterpriseTier_NoLimit() {
         // Given
-        testTenant.setSubscriptionTier(SubscriptionTier.ENTERPRISE);
-        testTenant.setQuotaLimit(null);
-
-        when(projectRepository.findByIdAndTenantId(testProjectId, testTenantId))
-                .thenReturn(Optional.of(testProject));
-        when(tenantRepository.findById(testTenantId)).thenReturn(Optional.of(testTenant));
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId))
+                .thenReturn(true);
+        when(tenantRepository.lockQuotaUsage(testTenantId)).thenReturn(Optional.of(quotaUsage(null, 0L, 0L)));
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // When
@@ -192,8 +195,8 @@ class TaskServiceTest {
     @DisplayName("Should throw exception when project not found")
     void createTask_ProjectNotFound_ThrowsException() {
         // Given
-        when(projectRepository.findByIdAndTenantId(testProjectId, testTenantId))
-                .thenReturn(Optional.empty());
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId))
+                .thenReturn(false);
 
         // When & Then
         assertThatThrownBy(() -> taskService.createTask(testTask))
@@ -207,9 +210,9 @@ class TaskServiceTest {
     @DisplayName("Should throw exception when tenant not found")
     void createTask_TenantNotFound_ThrowsException() {
         // Given
-        when(projectRepository.findByIdAndTenantId(testProjectId, testTenantId))
-                .thenReturn(Optional.of(testProject));
-        when(tenantRepository.findById(testTenantId)).thenReturn(Optional.empty());
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId))
+                .thenReturn(true);
+        when(tenantRepository.lockQuotaUsage(testTenantId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> taskService.createTask(testTask))
@@ -270,6 +273,7 @@ class TaskServiceTest {
         assertThat(result).hasSize(2);
         assertThat(result).extracting(Task::getName)
                 .containsExactly("Test Task", "Task 2");
+        verify(taskAssigneeService).attachAssignees(tasks);
     }
 
     // ========== Get Tasks by Project Tests ==========
@@ -278,8 +282,8 @@ class TaskServiceTest {
     @DisplayName("Should get tasks by project")
     void getTasksByProject_ValidProject_Success() {
         // Given
-        when(projectRepository.findByIdAndTenantId(testProjectId, testTenantId))
-                .thenReturn(Optional.of(testProject));
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId))
+                .thenReturn(true);
         when(taskRepository.findByTenantIdAndProjectId(testTenantId, testProjectId))
                 .thenReturn(List.of(testTask));
 
@@ -295,8 +299,8 @@ class TaskServiceTest {
     @DisplayName("Should throw exception when getting tasks for invalid project")
     void getTasksByProject_InvalidProject_ThrowsException() {
         // Given
-        when(projectRepository.findByIdAndTenantId(testProjectId, testTenantId))
-                .thenReturn(Optional.empty());
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId))
+                .thenReturn(false);
 
         // When & Then
         assertThatThrownBy(() -> taskService.getTasksByProject(testProjectId))
@@ -304,6 +308,43 @@ class TaskServiceTest {
                 .hasMessageContaining("Project not found");
     }
 
+    @Test
+    @DisplayName("Should check project existence once and then use the project ID set")
+    void getTasksByProject_RepeatedCalls_ChecksExistenceOnce() {
+        // Given
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId))
+                .thenReturn(true);
+        when(taskRepository.findByTenantIdAndProjectId(testTenantId, testProjectId))
+                .thenReturn(List.of(testTask));
+
+        // When
+        taskService.getTasksByProject(testProjectId);
+        taskService.getTasksByProject(testProjectId);
+
+        // Then
+        verify(projectRepository, times(1)).existsByIdAndTenantId(testProjectId, testTenantId);
+        verify(projectRepository, never()).findByIdAndTenantId(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should check project existence again after the project was deleted")
+    void getTasksByProject_ProjectDeleted_ChecksAgain() {
+        // Given
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId))
+                .thenReturn(true, false);
+        when(taskRepository.findByTenantIdAndProjectId(testTenantId, testProjectId))
+                .thenReturn(List.of(testTask));
+        taskService.getTasksByProject(testProjectId);
+
+        // When
+        projectIds.invalidate(CacheRegion.PROJECT_ID, testTenantId, testProjectId.toString());
+
+        // Then
+        assertThatThrownBy(() -> taskService.getTasksByProject(testProjectId))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Project not found");
+    }
+
     // ========== Get Tasks by Status Tests ==========
 
     @Test
@@ -327,8 +368,8 @@ class TaskServiceTest {
     @DisplayName("Should get tasks by project and status")
     void getTasksByProjectAndStatus_Success() {
         // Given
-        when(projectRepository.findByIdAndTenantId(testProjectId, testTenantId))
-                .thenReturn(Optional.of(testProject));
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId))
+                .thenReturn(true);
         when(taskRepository.findByTenantIdAndProjectIdAndStatus(
                 testTenantId, testProjectId, TaskStatus.TODO))
                 .thenReturn(List.of(testTask));
@@ -384,8 +425,8 @@ class TaskServiceTest {
     @DisplayName("Should get overdue tasks for project")
     void getOverdueTasksForProject_Success() {
         // Given
-        when(projectRepository.findByIdAndTenantId(testProjectId, testTenantId))
-                .thenReturn(Optional.of(testProject));
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId))
+                .thenReturn(true);
 
         Task overdueTask = new Task();
         overdueTask.setId(UUID.randomUUID());
@@ -425,6 +466,7 @@ class TaskServiceTest {
         // Then
         assertThat(result).isNotNull();
         verify(taskRepository).save(any(Task.class));
+        verify(taskAssigneeService).attachAssignees(List.of(testTask));
         verify(eventPublisher).publishEvent(
                 eq(testTenantId),
                 eq("task.updated"),
@@ -466,6 +508,42 @@ class TaskServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("Should unblock dependents when a task is completed")
+    void updateTask_Completed_UnblocksDependents() {
+        // Given
+        when(taskRepository.findByIdAndTenantId(testTaskId, testTenantId))
+                .thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        Task updates = new Task();
+        updates.setStatus(TaskStatus.COMPLETED);
+
+        // When
+        taskService.updateTask(testTaskId, updates);
+
+        // Then
+        verify(dependencyUnblocker).unblockDependents(testTask);
+    }
+
+    @Test
+    @DisplayName("Should not look at dependents for other status changes")
+    void updateTask_InProgress_NoUnblocking() {
+        // Given
+        when(taskRepository.findByIdAndTenantId(testTaskId, testTenantId))
+                .thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+        Task updates = new Task();
+        updates.setStatus(TaskStatus.IN_PROGRESS);
+
+        // When
+        taskService.updateTask(testTaskId, updates);
+
+        // Then
+        verifyNoInteractions(dependencyUnblocker);
+    }
+
     @Test
     @DisplayName("Should not publish event when no changes")
     void updateTask_NoChanges_NoEvent() {
@@ -549,6 +627,7 @@ class TaskServiceTest {
 
         // Then
         verify(taskRepository).delete(testTask);
+        verify(resourceVersionService).bumpProject(testTenantId, testTask.getProjectId());
         verify(eventPublisher).publishEvent(
                 eq(testTenantId),
                 eq("task.deleted"),
@@ -594,8 +673,8 @@ class TaskServiceTest {
     @DisplayName("Should count tasks by project correctly")
     void countTasksByProject_Success() {
         // Given
-        when(projectRepository.findByIdAndTenantId(testProjectId, testTenantId))
-                .thenReturn(Optional.of(testProject));
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId))
+                .thenReturn(true);
         when(taskRepository.countByTenantIdAndProjectId(testTenantId, testProjectId))
                 .thenReturn(12L);
 
@@ -613,8 +692,8 @@ class TaskServiceTest {
     @DisplayName("Should calculate average progress correctly")
     void calculateAverageProgress_Success() {
         // Given
-        when(projectRepository.findByIdAndTenantId(testProjectId, testTenantId))
-                .thenReturn(Optional.of(testProject));
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId))
+                .thenReturn(true);
         when(taskRepository.calculateAverageProgress(testTenantId, testProjectId))
                 .thenReturn(65.5);
 
@@ -630,8 +709,8 @@ class TaskServiceTest {
     @DisplayName("Should return 0.0 when average progress is null")
     void calculateAverageProgress_NullResult_ReturnsZero() {
         // Given
-        when(projectRepository.findByIdAndTenantId(testProjectId, testTenantId))
-                .thenReturn(Optional.of(testProject));
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId))
+                .thenReturn(true);
         when(taskRepository.calculateAverageProgress(testTenantId, testProjectId))
                 .thenReturn(null);
 
@@ -642,6 +721,155 @@ class TaskServiceTest {
         assertThat(avgProgress).isEqualTo(0.0);
     }
 
+    // ========== Board Tests ==========
+
+    @Test
+    @DisplayName("Should place a new task at the bottom of its board column")
+    void createTask_RankedAfterLastInColumn() {
+        // Given
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId)).thenReturn(true);
+        when(tenantRepository.lockQuotaUsage(testTenantId)).thenReturn(Optional.of(quotaUsage(null, 0L, 0L)));
+        when(taskRepository.findLastBoardRank(testTenantId, testProjectId, TaskStatus.TODO)).thenReturn("a4");
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Task result = taskService.createTask(testTask);
+
+        // Then
+        assertThat(result.getBoardRank()).isEqualTo("a5");
+    }
+
+    @Test
+    @DisplayName("Should group board rows into one column per status and flag overflowing columns")
+    void getProjectBoard_GroupsColumns() {
+        // Given
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId)).thenReturn(true);
+        Task secondTodo = boardTask(TaskStatus.TODO, "a1");
+        Task completed = boardTask(TaskStatus.COMPLETED, "a0");
+        when(taskRepository.findBoardColumns(testTenantId, testProjectId, 2))
+                .thenReturn(List.of(testTask, secondTodo, completed));
+
+        // When
+        ProjectBoard board = taskService.getProjectBoard(testProjectId, 1);
+
+        // Then
+        assertThat(board.getLimit()).isEqualTo(1);
+        assertThat(board.getColumns()).extracting(ProjectBoard.Column::getStatus)
+                .containsExactly(TaskStatus.values());
+        ProjectBoard.Column todo = board.getColumns().get(0);
+        assertThat(todo.getTasks()).containsExactly(testTask);
+        assertThat(todo.isHasMore()).isTrue();
+        assertThat(board.getColumns().get(1).getTasks()).isEmpty();
+        ProjectBoard.Column done = board.getColumns().get(3);
+        assertThat(done.getTasks()).containsExactly(completed);
+        assertThat(done.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should cap the per-column limit")
+    void getProjectBoard_LargeLimit_Capped() {
+        // Given
+        when(projectRepository.existsByIdAndTenantId(testProjectId, testTenantId)).thenReturn(true);
+        when(taskRepository.findBoardColumns(any(), any(), anyInt())).thenReturn(List.of());
+
+        // When
+        ProjectBoard board = taskService.getProjectBoard(testProjectId, 10_000);
+
+        // Then
+        assertThat(board.getLimit()).isEqualTo(TaskService.MAX_BOARD_COLUMN_SIZE);
+        verify(taskRepository).findBoardColumns(testTenantId, testProjectId, TaskService.MAX_BOARD_COLUMN_SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("Should rank a moved task between its neighbours without touching them")
+    void moveTask_BetweenNeighbours_RankedBetween() {
+        // Given
+        Task above = boardTask(TaskStatus.TODO, "a1");
+        Task below = boardTask(TaskStatus.TODO, "a3");
+        testTask.setBoardRank("a7");
+        when(taskRepository.findByIdAndTenantId(testTaskId, testTenantId)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findByIdAndTenantId(above.getId(), testTenantId)).thenReturn(Optional.of(above));
+        when(taskRepository.findByIdAndTenantId(below.getId(), testTenantId)).thenReturn(Optional.of(below));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Task result = taskService.moveTask(testTaskId, BoardMoveRequest.builder()
+                .afterTaskId(above.getId()).beforeTaskId(below.getId()).build());
+
+        // Then
+        assertThat(result.getBoardRank()).isEqualTo("a2");
+        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskAssigneeService).attachAssignees(List.of(testTask));
+        verify(eventPublisher).publishEvent(eq(testTenantId), eq("task.updated"), eq(testTaskId), eq("task"), anyMap());
+        verify(eventPublisher, never()).publishEvent(any(), eq("task.status.changed"), any(), any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("Should move a task to the bottom of another column and publish the status change")
+    void moveTask_OtherColumn_AppendedAndStatusChanged() {
+        // Given
+        when(taskRepository.findByIdAndTenantId(testTaskId, testTenantId)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findLastBoardRank(testTenantId, testProjectId, TaskStatus.IN_PROGRESS)).thenReturn("az");
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Task result = taskService.moveTask(testTaskId, BoardMoveRequest.builder()
+                .status(TaskStatus.IN_PROGRESS).build());
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(result.getBoardRank()).isEqualTo("b00");
+        InOrder inOrder = inOrder(taskRepository);
+        inOrder.verify(taskRepository).lockBoardColumn(testProjectId, "IN_PROGRESS");
+        inOrder.verify(taskRepository).findLastBoardRank(testTenantId, testProjectId, TaskStatus.IN_PROGRESS);
+        verify(resourceVersionService).bumpProject(testTenantId, testProjectId);
+        verify(eventPublisher).publishEvent(eq(testTenantId), eq("task.status.changed"), eq(testTaskId), eq("task"), anyMap());
+    }
+
+    @Test
+    @DisplayName("Should give tied neighbours distinct ranks before ranking the moved task between them")
+    void moveTask_TiedNeighbours_SpreadsRanks() {
+        // Given - three tasks got the same rank before rank assignment was serialized
+        Task above = boardTask(TaskStatus.TODO, "a3");
+        Task below = boardTask(TaskStatus.TODO, "a3");
+        Task last = boardTask(TaskStatus.TODO, "a3");
+        testTask.setBoardRank("a7");
+        when(taskRepository.findByIdAndTenantId(testTaskId, testTenantId)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findByIdAndTenantId(above.getId(), testTenantId)).thenReturn(Optional.of(above));
+        when(taskRepository.findByIdAndTenantId(below.getId(), testTenantId)).thenReturn(Optional.of(below));
+        when(taskRepository.findByTenantIdAndProjectIdAndStatusAndBoardRankOrderByCreatedAtAscIdAsc(
+                testTenantId, testProjectId, TaskStatus.TODO, "a3")).thenReturn(List.of(above, below, last));
+        when(taskRepository.findNextBoardRank(testTenantId, testProjectId, TaskStatus.TODO, "a3")).thenReturn("a5");
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Task result = taskService.moveTask(testTaskId, BoardMoveRequest.builder()
+                .afterTaskId(above.getId()).beforeTaskId(below.getId()).build());
+
+        // Then - board order of the tied tasks is kept, below the next rank
+        assertThat(above.getBoardRank()).isEqualTo("a3");
+        assertThat(below.getBoardRank()).isEqualTo("a4");
+        assertThat(last.getBoardRank()).isEqualTo("a4V");
+        assertThat(result.getBoardRank()).isEqualTo("a3V");
+        verify(taskRepository).saveAll(List.of(above, below, last));
+    }
+
+    @Test
+    @DisplayName("Should reject a neighbour from another column")
+    void moveTask_NeighbourInOtherColumn_ThrowsException() {
+        // Given
+        Task other = boardTask(TaskStatus.BLOCKED, "a1");
+        when(taskRepository.findByIdAndTenantId(testTaskId, testTenantId)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findByIdAndTenantId(other.getId(), testTenantId)).thenReturn(Optional.of(other));
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.moveTask(testTaskId, BoardMoveRequest.builder()
+                .afterTaskId(other.getId()).build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not in the target column");
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
     // ========== Validate Dependency Tests ==========
 
     @Test
@@ -667,4 +895,107 @@ class TaskServiceTest {
         assertThatCode(() -> taskService.validateDependency(task1, task2))
                 .doesNotThrowAnyException();
     }
+
+    @Test
+    @DisplayName("Should reject a dependency that closes a cycle")
+    void validateDependency_Cycle_ThrowsException() {
+        // Given
+        UUID blocking = UUID.randomUUID();
+        UUID blocked = UUID.randomUUID();
+        when(taskDependencyRepository.isReachable(blocked, blocking)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.validateDependency(blocking, blocked))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Circular dependency");
+    }
+
+    // ========== Dependency Management Tests ==========
+
+    @Test
+    @DisplayName("Should add dependency, bump the project and publish event")
+    void addDependency_SameProject_Success() {
+        // Given
+        Task blocking = boardTask(TaskStatus.TODO, "a1");
+        when(taskRepository.findByIdAndTenantId(testTaskId, testTenantId)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findByIdAndTenantId(blocking.getId(), testTenantId)).thenReturn(Optional.of(blocking));
+        when(taskDependencyRepository.findById(new TaskDependencyId(blocking.getId(), testTaskId)))
+                .thenReturn(Optional.empty());
+        when(taskDependencyRepository.save(any(TaskDependency.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TaskDependency result = taskService.addDependency(testTaskId, blocking.getId());
+
+        // Then
+        assertThat(result.getBlockingTaskId()).isEqualTo(blocking.getId());
+        assertThat(result.getBlockedTaskId()).isEqualTo(testTaskId);
+        InOrder inOrder = inOrder(taskDependencyRepository);
+        inOrder.verify(taskDependencyRepository).lockProjectDependencies(testProjectId);
+        inOrder.verify(taskDependencyRepository).isReachable(testTaskId, blocking.getId());
+        inOrder.verify(taskDependencyRepository).save(any(TaskDependency.class));
+        verify(resourceVersionService).bumpProject(testTenantId, testProjectId);
+        verify(eventPublisher).publishEvent(eq(testTenantId), eq("task.dependency.added"), eq(testTaskId), eq("task"), anyMap());
+    }
+
+    @Test
+    @DisplayName("Should reject dependency across projects")
+    void addDependency_OtherProject_ThrowsException() {
+        // Given
+        Task other = boardTask(TaskStatus.TODO, "a1");
+        other.setProjectId(UUID.randomUUID());
+        when(taskRepository.findByIdAndTenantId(testTaskId, testTenantId)).thenReturn(Optional.of(testTask));
+        when(taskRepository.findByIdAndTenantId(other.getId(), testTenantId)).thenReturn(Optional.of(other));
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.addDependency(testTaskId, other.getId()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("one project");
+        verify(taskDependencyRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when removing a missing dependency")
+    void removeDependency_NotFound_ThrowsException() {
+        // Given
+        UUID blockingId = UUID.randomUUID();
+        when(taskRepository.findByIdAndTenantId(testTaskId, testTenantId)).thenReturn(Optional.of(testTask));
+        when(taskDependencyRepository.existsById(new TaskDependencyId(blockingId, testTaskId))).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.removeDependency(testTaskId, blockingId))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Task dependency not found");
+        verify(taskDependencyRepository, never()).deleteById(any());
+        verify(resourceVersionService, never()).bumpProject(any(), any());
+    }
+
+    private Task boardTask(TaskStatus status, String boardRank) {
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTenantId(testTenantId);
+        task.setProjectId(testProjectId);
+        task.setName("Board Task");
+        task.setStatus(status);
+        task.setBoardRank(boardRank);
+        return task;
+    }
+
+    private static TenantRepository.QuotaUsage quotaUsage(Integer quotaLimit, long projectCount, long taskCount) {
+        return new TenantRepository.QuotaUsage() {
+            @Override
+            public Integer getQuotaLimit() {
+                return quotaLimit;
+            }
+
+            @Override
+            public long getProjectCount() {
+                return projectCount;
+            }
+
+            @Override
+            public long getTaskCount() {
+                return taskCount;
+            }
+        };
+    }
 }
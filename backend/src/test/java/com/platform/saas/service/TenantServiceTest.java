@@ -1,5 +1,7 @@
 package com.platform.saas.service;
 
+import com.platform.saas.cache.CacheInvalidationBus;
+import com.platform.saas.cache.CacheRegion;
 import com.platform.saas.dto.TenantRegistrationRequest;
 import com.platform.saas.dto.TenantResponse;
 import com.platform.saas.exception.InvalidSubdomainException;
@@ -50,6 +52,9 @@ class TenantServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
     @InjectMocks
     private TenantService tenantService;
 
@@ -118,6 +123,7 @@ class TenantServiceTest {
         verify(tenantRepository).save(any(Tenant.class));
         verify(userService).findOrCreateUserByEmail("owner@test.com", "Test Owner");
         verify(userService).addUserToTenant(testUserId, testTenantId, UserRole.ADMINISTRATOR, null);
+        verify(cacheInvalidationBus).publishTenant(CacheRegion.TENANT, testTenantId);
     }
 
     @Test
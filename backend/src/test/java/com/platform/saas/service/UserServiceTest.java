@@ -1,5 +1,7 @@
 package com.platform.saas.service;
 
+import com.platform.saas.cache.CacheInvalidationBus;
+import com.platform.saas.cache.CacheRegion;
 import com.platform.saas.exception.TenantNotFoundException;
 import com.platform.saas.exception.UserNotFoundException;
 import com.platform.saas.model.Tenant;
@@ -46,6 +48,9 @@ class UserServiceTest {
     @Mock
     private UserTenantRepository userTenantRepository;
 
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
     @InjectMocks
     private UserService userService;
 
@@ -358,6 +363,7 @@ class UserServiceTest {
         verify(tenantRepository).findById(tenantId);
         verify(userTenantRepository).existsByUserIdAndTenantId(userId, tenantId);
         verify(userTenantRepository).save(any(UserTenant.class));
+        verify(cacheInvalidationBus).publish(CacheRegion.MEMBERSHIP, tenantId, userId);
     }
 
     @Test
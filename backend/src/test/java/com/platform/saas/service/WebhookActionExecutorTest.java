@@ -0,0 +1,234 @@
+package com.platform.saas.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.saas.model.AutomationRule;
+import com.platform.saas.model.EventLog;
+import com.platform.saas.repository.EventLogRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WebhookActionExecutor against a local HTTP stub.
+ * Tests delivery, retries, non-retryable failures, per-host limits, the circuit breaker and event
+ * log recording.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookActionExecutor Tests")
+class WebhookActionExecutorTest {
+
+    @Mock
+    private EventLogRepository eventLogRepository;
+
+    @Mock
+    private EventLogWriter eventLogWriter;
+
+    private HttpServer server;
+    private WebhookActionExecutor executor;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Integer> scriptedStatuses = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<String> receivedBodies = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/hook", this::handle);
+        server.start();
+
+        // 3 attempts, 1-10ms backoff, circuit opens after 3 consecutive failures; the test server is on loopback
+        executor = new WebhookActionExecutor(eventLogRepository, eventLogWriter, new ObjectMapper(),
+                1_000L, 2_000L, 4, 5_000L, 3, 1L, 10L, 3, 60_000L, 100, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should deliver the event and record a successful event log")
+    void execute_Success_RecordsResult() throws Exception {
+        // Given
+        scriptedStatuses.add(200);
+        AutomationRule rule = rule(url("/hook"));
+        UUID taskId = UUID.randomUUID();
+
+        // When
+        EventLog result = executor.execute(rule, taskId, "task", Map.of("status", "DONE"))
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(EventLog.ExecutionStatus.SUCCESS);
+        assertThat(result.getActionType()).isEqualTo("call_webhook");
+        assertThat(result.getAutomationRuleId()).isEqualTo(rule.getId());
+        assertThat(result.getActionResult()).containsEntry("statusCode", 200).containsEntry("attempts", 1);
+        assertThat(result.getExecutionDurationMs()).isNotNull();
+        assertThat(receivedBodies.peek()).contains(taskId.toString()).contains("\"status\":\"DONE\"");
+        verify(eventLogRepository).save(result);
+    }
+
+    @Test
+    @DisplayName("Should retry server errors and succeed on a later attempt")
+    void execute_ServerErrorThenSuccess_Retries() throws Exception {
+        scriptedStatuses.add(503);
+        scriptedStatuses.add(200);
+
+        EventLog result = executor.execute(rule(url("/hook")), null, "task", Map.of())
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getStatus()).isEqualTo(EventLog.ExecutionStatus.SUCCESS);
+        assertThat(result.getActionResult()).containsEntry("attempts", 2);
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not retry client errors")
+    void execute_ClientError_NoRetry() throws Exception {
+        scriptedStatuses.add(400);
+
+        EventLog result = executor.execute(rule(url("/hook")), null, "task", Map.of())
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getStatus()).isEqualTo(EventLog.ExecutionStatus.FAILED);
+        assertThat(result.getErrorMessage()).contains("400");
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should deliver a burst beyond the per-host limit without failing attempts")
+    void execute_BurstBeyondHostLimit_AllDelivered() throws Exception {
+        // Given - 4 permits per host, 3 attempts each
+        List<CompletableFuture<EventLog>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            results.add(executor.execute(rule(url("/hook")), null, "task", Map.of()));
+        }
+
+        // Then - calls beyond the limit waited for a permit instead of using up attempts
+        for (CompletableFuture<EventLog> result : results) {
+            EventLog eventLog = result.get(10, TimeUnit.SECONDS);
+            assertThat(eventLog.getStatus()).isEqualTo(EventLog.ExecutionStatus.SUCCESS);
+            assertThat(eventLog.getActionResult()).containsEntry("attempts", 1);
+        }
+        assertThat(requests.get()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should open the circuit after repeated failures and stop calling the host")
+    void execute_RepeatedFailures_OpensCircuit() throws Exception {
+        // Given - every request fails, exhausting 3 attempts
+        for (int i = 0; i < 10; i++) {
+            scriptedStatuses.add(500);
+        }
+
+        // When
+        EventLog first = executor.execute(rule(url("/hook")), null, "task", Map.of()).get(5, TimeUnit.SECONDS);
+        EventLog second = executor.execute(rule(url("/hook")), null, "task", Map.of()).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(EventLog.ExecutionStatus.FAILED);
+        assertThat(second.getStatus()).isEqualTo(EventLog.ExecutionStatus.FAILED);
+        assertThat(second.getActionResult()).containsEntry("circuitOpen", true);
+        assertThat(requests.get()).isEqualTo(3);
+        assertThat(executor.getCircuitState("http://127.0.0.1:" + server.getAddress().getPort()))
+                .isEqualTo(WebhookCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Should fail without network calls for an invalid URL")
+    void execute_InvalidUrl_RecordsFailure() throws Exception {
+        EventLog result = executor.execute(rule("ftp://example.com/hook"), null, "task", Map.of())
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getStatus()).isEqualTo(EventLog.ExecutionStatus.FAILED);
+        assertThat(result.getErrorMessage()).contains("http(s)");
+        assertThat(requests.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should refuse hosts on loopback or metadata addresses without network calls")
+    void execute_PrivateAddress_Refused() throws Exception {
+        // Given
+        WebhookActionExecutor guarded = new WebhookActionExecutor(eventLogRepository, eventLogWriter,
+                new ObjectMapper(), 1_000L, 2_000L, 4, 5_000L, 3, 1L, 10L, 3, 60_000L, 100, false);
+
+        try {
+            // When
+            EventLog loopback = guarded.execute(rule(url("/hook")), null, "task", Map.of())
+                    .get(5, TimeUnit.SECONDS);
+            EventLog metadata = guarded.execute(rule("http://169.254.169.254/latest/meta-data/"), null, "task", Map.of())
+                    .get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(loopback.getStatus()).isEqualTo(EventLog.ExecutionStatus.FAILED);
+            assertThat(loopback.getErrorMessage()).contains("non-public address");
+            assertThat(loopback.getActionResult()).containsEntry("attempts", 1);
+            assertThat(metadata.getErrorMessage()).contains("169.254.169.254");
+            assertThat(requests.get()).isZero();
+        } finally {
+            guarded.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should hand the event log to the async writer when it accepts it")
+    void execute_AsyncWriterAccepts_DoesNotSaveDirectly() throws Exception {
+        scriptedStatuses.add(200);
+        when(eventLogWriter.submit(any(EventLog.class))).thenReturn(true);
+
+        executor.execute(rule(url("/hook")), null, "task", Map.of()).get(5, TimeUnit.SECONDS);
+
+        verify(eventLogRepository, never()).save(any());
+    }
+
+    // ========== Helpers ==========
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        Integer status = scriptedStatuses.poll();
+        byte[] body = "{\"ok\":true}".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status != null ? status : 200, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private AutomationRule rule(String url) {
+        AutomationRule rule = new AutomationRule();
+        rule.setId(UUID.randomUUID());
+        rule.setTenantId(UUID.randomUUID());
+        rule.setName("Notify");
+        rule.setEventType("task.status.changed");
+        rule.setActionType("call_webhook");
+        rule.setActionConfig(Map.of("url", url, "method", "POST"));
+        return rule;
+    }
+}
@@ -0,0 +1,79 @@
+package com.platform.saas.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for WebhookAddressPolicy.
+ * Tests which resolved addresses webhooks may reach and re-resolution on every check.
+ */
+@DisplayName("WebhookAddressPolicy Tests")
+class WebhookAddressPolicyTest {
+
+    // ========== Address Classification Tests ==========
+
+    @Test
+    @DisplayName("Should block loopback, private, link-local, metadata and reserved addresses")
+    void isBlocked_NonPublic_True() throws Exception {
+        for (String address : List.of(
+                "127.0.0.1", "0.0.0.0", "10.1.2.3", "172.16.0.1", "192.168.1.1", "169.254.169.254",
+                "100.100.100.200", "224.0.0.1", "255.255.255.255",
+                "::1", "::", "fe80::1", "fd00:ec2::254", "::ffff:127.0.0.1", "64:ff9b::a9fe:a9fe")) {
+            assertThat(WebhookAddressPolicy.isBlocked(InetAddress.getByName(address))).as(address).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should allow public addresses")
+    void isBlocked_Public_False() throws Exception {
+        for (String address : List.of("93.184.216.34", "8.8.8.8", "172.32.0.1", "2606:4700:4700::1111")) {
+            assertThat(WebhookAddressPolicy.isBlocked(InetAddress.getByName(address))).as(address).isFalse();
+        }
+    }
+
+    // ========== Check Tests ==========
+
+    @Test
+    @DisplayName("Should reject a host if any of its addresses is not public")
+    void check_AnyPrivateAddress_Throws() {
+        WebhookAddressPolicy policy = new WebhookAddressPolicy(false, host -> new InetAddress[]{
+                InetAddress.getByName("93.184.216.34"), InetAddress.getByName("10.0.0.5")});
+
+        assertThatThrownBy(() -> policy.check("hooks.example.com"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("10.0.0.5");
+    }
+
+    @Test
+    @DisplayName("Should resolve again on every check so a rebound host is caught")
+    void check_HostRebound_Throws() throws Exception {
+        // Given
+        AtomicReference<String> answer = new AtomicReference<>("93.184.216.34");
+        WebhookAddressPolicy policy = new WebhookAddressPolicy(false,
+                host -> new InetAddress[]{InetAddress.getByName(answer.get())});
+        policy.check("hooks.example.com");
+
+        // When
+        answer.set("169.254.169.254");
+
+        // Then
+        assertThatThrownBy(() -> policy.check("hooks.example.com")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should skip resolution when private addresses are allowed")
+    void check_PrivateAllowed_NoResolution() {
+        WebhookAddressPolicy policy = new WebhookAddressPolicy(true, host -> {
+            throw new UnknownHostException(host);
+        });
+
+        assertThatCode(() -> policy.check("localhost")).doesNotThrowAnyException();
+    }
+}
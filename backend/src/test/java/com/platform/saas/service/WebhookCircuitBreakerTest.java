@@ -0,0 +1,162 @@
+package com.platform.saas.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for WebhookCircuitBreaker.
+ * Tests opening after consecutive failures, the half-open trial, per-host isolation and the
+ * eviction of idle circuits.
+ */
+@DisplayName("WebhookCircuitBreaker Tests")
+class WebhookCircuitBreakerTest {
+
+    private static final String HOST = "https://hooks.example.com:443";
+
+    private MutableClock clock;
+    private WebhookCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        breaker = new WebhookCircuitBreaker(3, 1_000L, clock);
+    }
+
+    @Test
+    @DisplayName("Should open after consecutive failures and reject calls")
+    void consecutiveFailures_OpenCircuit() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(breaker.tryAcquire(HOST)).isTrue();
+            breaker.recordFailure(HOST);
+        }
+
+        assertThat(breaker.getState(HOST)).isEqualTo(WebhookCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(HOST)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reset the failure count on success")
+    void success_ResetsFailures() {
+        breaker.recordFailure(HOST);
+        breaker.recordFailure(HOST);
+        breaker.recordSuccess(HOST);
+        breaker.recordFailure(HOST);
+
+        assertThat(breaker.getState(HOST)).isEqualTo(WebhookCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should admit a single trial call after the open period")
+    void openPeriodElapsed_AdmitsSingleTrial() {
+        openCircuit();
+        clock.advance(1_000L);
+
+        assertThat(breaker.tryAcquire(HOST)).isTrue();
+        assertThat(breaker.tryAcquire(HOST)).isFalse();
+
+        breaker.recordSuccess(HOST);
+        assertThat(breaker.getState(HOST)).isEqualTo(WebhookCircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire(HOST)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should re-open when the trial call fails")
+    void failedTrial_ReopensCircuit() {
+        openCircuit();
+        clock.advance(1_000L);
+
+        assertThat(breaker.tryAcquire(HOST)).isTrue();
+        breaker.recordFailure(HOST);
+
+        assertThat(breaker.getState(HOST)).isEqualTo(WebhookCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire(HOST)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep circuits of other hosts closed")
+    void otherHost_Unaffected() {
+        openCircuit();
+
+        assertThat(breaker.tryAcquire("https://other.example.com:443")).isTrue();
+    }
+
+    // ========== Eviction ==========
+
+    @Test
+    @DisplayName("Should drop circuits of hosts not called for two open periods")
+    void idleHost_CircuitDropped() {
+        // Given
+        openCircuit();
+        breaker.tryAcquire("https://other.example.com:443");
+        clock.advance(2_000L);
+
+        // When - the next call sweeps idle circuits
+        breaker.tryAcquire("https://third.example.com:443");
+
+        // Then - only the host just called is tracked; the idle one starts closed again
+        assertThat(breaker.hostCount()).isEqualTo(1);
+        assertThat(breaker.getState(HOST)).isEqualTo(WebhookCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should keep the circuit of a host with a trial call in flight")
+    void trialInFlight_CircuitKept() {
+        // Given
+        openCircuit();
+        clock.advance(1_000L);
+        assertThat(breaker.tryAcquire(HOST)).isTrue();
+        clock.advance(2_000L);
+
+        // When
+        breaker.tryAcquire("https://other.example.com:443");
+
+        // Then
+        assertThat(breaker.getState(HOST)).isEqualTo(WebhookCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire(HOST)).isFalse();
+    }
+
+    // ========== Helpers ==========
+
+    private void openCircuit() {
+        for (int i = 0; i < 3; i++) {
+            breaker.recordFailure(HOST);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private long millis = 1_000_000L;
+
+        void advance(long deltaMs) {
+            millis += deltaMs;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.platform.saas.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for WebhookHostPermits.
+ * Tests the per-host limit, FIFO hand-over of released permits, waiting timeouts and forgetting
+ * idle hosts.
+ */
+@DisplayName("WebhookHostPermits Tests")
+class WebhookHostPermitsTest {
+
+    private static final String HOST = "https://hooks.example.com:443";
+
+    private WebhookHostPermits permits;
+
+    @BeforeEach
+    void setUp() {
+        permits = new WebhookHostPermits(2, 5_000L);
+    }
+
+    @Test
+    @DisplayName("Should grant permits up to the limit and queue further callers")
+    void acquire_BeyondLimit_Waits() {
+        assertThat(permits.acquire(HOST)).isDone();
+        assertThat(permits.acquire(HOST)).isDone();
+
+        assertThat(permits.acquire(HOST)).isNotDone();
+    }
+
+    @Test
+    @DisplayName("Should hand released permits to waiting callers in arrival order")
+    void release_HandsOverInOrder() {
+        // Given
+        permits.acquire(HOST);
+        permits.acquire(HOST);
+        CompletableFuture<Void> first = permits.acquire(HOST);
+        CompletableFuture<Void> second = permits.acquire(HOST);
+
+        // When
+        permits.release(HOST);
+
+        // Then
+        assertThat(first).isCompleted();
+        assertThat(second).isNotDone();
+
+        permits.release(HOST);
+        assertThat(second).isCompleted();
+    }
+
+    @Test
+    @DisplayName("Should keep limits of other hosts separate")
+    void acquire_OtherHost_Unaffected() {
+        permits.acquire(HOST);
+        permits.acquire(HOST);
+
+        assertThat(permits.acquire("https://other.example.com:443")).isCompleted();
+    }
+
+    @Test
+    @DisplayName("Should fail callers that waited too long and pass the permit on")
+    void acquire_WaitTimesOut_FailsAndSkipsWaiter() {
+        // Given
+        WebhookHostPermits shortWait = new WebhookHostPermits(1, 50L);
+        shortWait.acquire(HOST);
+        CompletableFuture<Void> timedOut = shortWait.acquire(HOST);
+
+        // When
+        assertThatThrownBy(() -> timedOut.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        shortWait.release(HOST);
+
+        // Then - the permit went back to the host, which is no longer tracked
+        assertThat(shortWait.hostCount()).isZero();
+        assertThat(shortWait.acquire(HOST)).isCompleted();
+    }
+
+    @Test
+    @DisplayName("Should forget a host once no call is running or waiting")
+    void release_LastPermit_ForgetsHost() {
+        permits.acquire(HOST);
+        permits.acquire("https://other.example.com:443");
+
+        permits.release(HOST);
+
+        assertThat(permits.hostCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,122 @@
+package com.platform.saas.sharding;
+
+import com.platform.saas.cache.CacheRegion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ShardDirectory.
+ * Tests default placement, caching and eviction of tenant assignments.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ShardDirectory Tests")
+class ShardDirectoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ShardDirectory shardDirectory;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        shardDirectory = new ShardDirectory(jdbcTemplate, "shard-0", 60_000);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenDirectoryRows(List<ShardAssignment> rows) {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(tenantId))).thenReturn((List) rows);
+    }
+
+    // ========== Lookup Tests ==========
+
+    @Test
+    @DisplayName("Should place tenants without an entry on the default shard")
+    void lookup_NoEntry_ReturnsDefaultShard() {
+        // Given
+        givenDirectoryRows(List.of());
+
+        // When
+        ShardAssignment assignment = shardDirectory.lookup(tenantId);
+
+        // Then
+        assertThat(assignment).isEqualTo(new ShardAssignment("shard-0", ShardState.ACTIVE));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache")
+    void lookup_Repeated_QueriesOnce() {
+        // Given
+        givenDirectoryRows(List.of(new ShardAssignment("shard-1", ShardState.ACTIVE)));
+
+        // When
+        shardDirectory.lookup(tenantId);
+        ShardAssignment assignment = shardDirectory.lookup(tenantId);
+
+        // Then
+        assertThat(assignment.shardId()).isEqualTo("shard-1");
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), eq(tenantId));
+    }
+
+    // ========== Invalidation Tests ==========
+
+    @Test
+    @DisplayName("Should re-read an assignment after a TENANT_SHARD invalidation")
+    void invalidate_TenantShardRegion_EvictsTenant() {
+        // Given
+        givenDirectoryRows(List.of(new ShardAssignment("shard-1", ShardState.ACTIVE)));
+        shardDirectory.lookup(tenantId);
+
+        // When
+        shardDirectory.invalidate(CacheRegion.TENANT_SHARD, tenantId, null);
+        shardDirectory.lookup(tenantId);
+
+        // Then
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class), eq(tenantId));
+    }
+
+    @Test
+    @DisplayName("Should ignore invalidations of other regions")
+    void invalidate_OtherRegion_KeepsEntry() {
+        // Given
+        givenDirectoryRows(List.of(new ShardAssignment("shard-1", ShardState.ACTIVE)));
+        shardDirectory.lookup(tenantId);
+
+        // When
+        shardDirectory.invalidate(CacheRegion.PROJECT, tenantId, null);
+        shardDirectory.lookup(tenantId);
+
+        // Then
+        verify(jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), eq(tenantId));
+    }
+
+    @Test
+    @DisplayName("Should upsert the directory row and evict the cached assignment")
+    void assign_EvictsCachedAssignment() {
+        // Given
+        givenDirectoryRows(List.of());
+        shardDirectory.lookup(tenantId);
+
+        // When
+        shardDirectory.assign(tenantId, "shard-1", ShardState.MOVING);
+        shardDirectory.lookup(tenantId);
+
+        // Then
+        verify(jdbcTemplate).update(contains("ON CONFLICT (tenant_id)"), eq(tenantId), eq("shard-1"), eq("MOVING"));
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class), eq(tenantId));
+    }
+}
@@ -0,0 +1,180 @@
+package com.platform.saas.sharding;
+
+import com.platform.saas.exception.TenantMovingException;
+import com.platform.saas.security.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ShardRoutingDataSource.
+ * Tests routing by tenant context, the default shard and waiting on locked tenants.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ShardRoutingDataSource Tests")
+class ShardRoutingDataSourceTest {
+
+    @Mock
+    private ShardDirectory shardDirectory;
+
+    @Mock
+    private DataSource shard0;
+
+    @Mock
+    private DataSource shard1;
+
+    @Mock
+    private Connection shard0Connection;
+
+    @Mock
+    private Connection shard1Connection;
+
+    private MockedStatic<TenantContext> mockedTenantContext;
+    private ShardRoutingDataSource routingDataSource;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        when(shardDirectory.getDefaultShard()).thenReturn("shard-0");
+        routingDataSource = new ShardRoutingDataSource(shardDirectory, Map.of("shard-0", shard0, "shard-1", shard1), 200);
+        mockedTenantContext = mockStatic(TenantContext.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mockedTenantContext.close();
+    }
+
+    // ========== Routing Tests ==========
+
+    @Test
+    @DisplayName("Should use the default shard without tenant context")
+    void getConnection_NoTenant_UsesDefaultShard() throws Exception {
+        // Given
+        mockedTenantContext.when(TenantContext::getTenantId).thenReturn(null);
+        when(shard0.getConnection()).thenReturn(shard0Connection);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(shard0Connection);
+        verify(shardDirectory, never()).lookup(any());
+    }
+
+    @Test
+    @DisplayName("Should route to the tenant's shard")
+    void getConnection_TenantOnShard_RoutesToShard() throws Exception {
+        // Given
+        mockedTenantContext.when(TenantContext::getTenantId).thenReturn(tenantId);
+        when(shardDirectory.lookup(tenantId)).thenReturn(new ShardAssignment("shard-1", ShardState.ACTIVE));
+        when(shard1.getConnection()).thenReturn(shard1Connection);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(shard1Connection);
+    }
+
+    @Test
+    @DisplayName("Should keep serving a moving tenant from its current shard")
+    void getConnection_TenantMoving_UsesCurrentShard() throws Exception {
+        // Given
+        mockedTenantContext.when(TenantContext::getTenantId).thenReturn(tenantId);
+        when(shardDirectory.lookup(tenantId)).thenReturn(new ShardAssignment("shard-0", ShardState.MOVING));
+        when(shard0.getConnection()).thenReturn(shard0Connection);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(shard0Connection);
+        verify(shardDirectory, never()).reload(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a shard that is not configured")
+    void getConnection_UnknownShard_ThrowsException() {
+        // Given
+        mockedTenantContext.when(TenantContext::getTenantId).thenReturn(tenantId);
+        when(shardDirectory.lookup(tenantId)).thenReturn(new ShardAssignment("shard-9", ShardState.ACTIVE));
+
+        // When & Then
+        assertThatThrownBy(() -> routingDataSource.getConnection())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("shard-9");
+    }
+
+    // ========== Locked Tenant Tests ==========
+
+    @Test
+    @DisplayName("Should wait for a locked tenant and follow it to the new shard")
+    void resolveShard_TenantLocked_WaitsForMove() {
+        // Given
+        when(shardDirectory.lookup(tenantId)).thenReturn(new ShardAssignment("shard-0", ShardState.LOCKED));
+        when(shardDirectory.reload(tenantId))
+                .thenReturn(new ShardAssignment("shard-0", ShardState.LOCKED))
+                .thenReturn(new ShardAssignment("shard-1", ShardState.ACTIVE));
+
+        // When
+        String shard = routingDataSource.resolveShard(tenantId);
+
+        // Then
+        assertThat(shard).isEqualTo("shard-1");
+        verify(shardDirectory, times(2)).reload(tenantId);
+    }
+
+    @Test
+    @DisplayName("Should give up when a tenant stays locked")
+    void resolveShard_TenantStaysLocked_ThrowsException() {
+        // Given
+        ShardAssignment locked = new ShardAssignment("shard-0", ShardState.LOCKED);
+        when(shardDirectory.lookup(tenantId)).thenReturn(locked);
+        when(shardDirectory.reload(tenantId)).thenReturn(locked);
+
+        // When & Then
+        assertThatThrownBy(() -> routingDataSource.resolveShard(tenantId))
+                .isInstanceOf(TenantMovingException.class)
+                .hasMessageContaining(tenantId.toString());
+    }
+
+    // ========== Shard Lookup Tests ==========
+
+    @Test
+    @DisplayName("Should return a shard's pool by ID")
+    void getShard_KnownShard_ReturnsPool() {
+        assertThat(routingDataSource.getShard("shard-1")).isSameAs(shard1);
+        assertThat(routingDataSource.getShardIds()).containsExactlyInAnyOrder("shard-0", "shard-1");
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown shard ID")
+    void getShard_UnknownShard_ThrowsException() {
+        assertThatThrownBy(() -> routingDataSource.getShard("shard-9"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("shard-9");
+    }
+
+    @Test
+    @DisplayName("Should require the default shard to be configured")
+    void constructor_DefaultShardMissing_ThrowsException() {
+        assertThatThrownBy(() -> new ShardRoutingDataSource(shardDirectory, Map.of("shard-1", shard1), 200))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("shard-0");
+    }
+}
@@ -0,0 +1,254 @@
+package com.platform.saas.sharding;
+
+import com.platform.saas.cache.CacheInvalidationBus;
+import com.platform.saas.cache.CacheRegion;
+import com.platform.saas.dto.TenantMoveResult;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Integration tests for TenantMoveService against two PostgreSQL databases acting as shards.
+ * Tests the full and incremental copy, removal of rows deleted during the move, reverting the
+ * directory when a move fails and guarding the tenant's active shard from purges.
+ *
+ * Skipped without Docker. The schema is created from the Flyway scripts, applied in version order.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TenantMoveService Integration Tests")
+class TenantMoveServiceIntegrationTest {
+
+    private static final String SOURCE_SHARD = "shard-0";
+    private static final String TARGET_SHARD = "shard-1";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static DataSource shard0;
+    private static DataSource shard1;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private ShardDirectory shardDirectory;
+    private TenantMoveService tenantMoveService;
+    private JdbcTemplate source;
+    private JdbcTemplate target;
+
+    private UUID tenantId;
+    private UUID taskId;
+    private UUID otherTaskId;
+    private String subdomain;
+
+    @BeforeAll
+    static void createShards() throws IOException {
+        shard0 = dataSource(POSTGRES.getDatabaseName());
+        new JdbcTemplate(shard0).execute("CREATE DATABASE shard_1");
+        shard1 = dataSource("shard_1");
+        migrate(shard0);
+        migrate(shard1);
+    }
+
+    @BeforeEach
+    void setUp() {
+        source = new JdbcTemplate(shard0);
+        target = new JdbcTemplate(shard1);
+        shardDirectory = new ShardDirectory(source, SOURCE_SHARD, 30_000L);
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(shardDirectory,
+                Map.of(SOURCE_SHARD, shard0, TARGET_SHARD, shard1), 200L);
+
+        // One full pass, no overlap window, short cutover relying on the bus
+        when(cacheInvalidationBus.isEnabled()).thenReturn(true);
+        tenantMoveService = new TenantMoveService(routingDataSource, shardDirectory, cacheInvalidationBus,
+                2, 5, 100L, 0L, 10L, 1_000L);
+
+        seedTenant();
+    }
+
+    // ========== Move Tests ==========
+
+    @Test
+    @DisplayName("Should copy the tenant and point the directory at the target")
+    void move_CopiesTenantAndSwitchesDirectory() {
+        // When
+        TenantMoveResult result = tenantMoveService.move(tenantId, TARGET_SHARD);
+
+        // Then
+        assertThat(shardDirectory.reload(tenantId)).isEqualTo(new ShardAssignment(TARGET_SHARD, ShardState.ACTIVE));
+        assertThat(countOf(target, "tasks")).isEqualTo(2);
+        assertThat(countOf(target, "projects")).isEqualTo(1);
+        assertThat(countOf(target, "task_dependencies")).isEqualTo(1);
+        assertThat(countOf(target, "task_assignees")).isEqualTo(1);
+        assertThat(countOf(target, "user_tenants")).isEqualTo(1);
+        assertThat(result.getCopyPasses()).isEqualTo(1);
+        assertThat(result.getRowsDeleted()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should copy changes made before the cutover incrementally and remove deleted rows")
+    void move_ChangesWhileLocked_CopiedIncrementallyAndDeleted() {
+        // Given - a transaction that began before the lock renames, adds and deletes tasks
+        UUID addedTaskId = UUID.randomUUID();
+        doAnswer(invocation -> {
+            if (shardDirectory.reload(tenantId).state() == ShardState.LOCKED) {
+                source.update("UPDATE tasks SET name = 'Renamed', updated_at = LOCALTIMESTAMP WHERE id = ?", taskId);
+                insertTask(addedTaskId);
+                source.update("DELETE FROM tasks WHERE id = ?", otherTaskId);
+            }
+            return null;
+        }).when(cacheInvalidationBus).publishTenant(CacheRegion.TENANT_SHARD, tenantId);
+
+        // When
+        TenantMoveResult result = tenantMoveService.move(tenantId, TARGET_SHARD);
+
+        // Then - the final pass only copied the two changed tasks
+        assertThat(result.getRowsCopied()).containsEntry("tasks", 4L);
+        assertThat(target.queryForObject("SELECT name FROM tasks WHERE id = ?", String.class, taskId))
+                .isEqualTo("Renamed");
+        assertThat(target.queryForList("SELECT id FROM tasks WHERE tenant_id = ?", UUID.class, tenantId))
+                .containsExactlyInAnyOrder(taskId, addedTaskId);
+        assertThat(result.getRowsDeleted())
+                .containsEntry("tasks", 1L)
+                .containsEntry("task_dependencies", 1L)
+                .containsEntry("task_assignees", 1L);
+        assertThat(countOf(target, "task_dependencies")).isZero();
+        assertThat(countOf(target, "task_assignees")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the tenant on the source when the copy fails and allow a retry")
+    void move_CopyFails_RevertsDirectory() {
+        // Given - another tenant on the target already uses the subdomain
+        UUID conflictingTenantId = UUID.randomUUID();
+        target.update("INSERT INTO tenants (id, subdomain, name) VALUES (?, ?, 'Conflict')", conflictingTenantId, subdomain);
+
+        // When / Then
+        assertThatThrownBy(() -> tenantMoveService.move(tenantId, TARGET_SHARD))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(shardDirectory.reload(tenantId)).isEqualTo(new ShardAssignment(SOURCE_SHARD, ShardState.ACTIVE));
+
+        // Then - copies are idempotent, so the move succeeds once the conflict is gone
+        target.update("DELETE FROM tenants WHERE id = ?", conflictingTenantId);
+        tenantMoveService.move(tenantId, TARGET_SHARD);
+        assertThat(shardDirectory.reload(tenantId).shardId()).isEqualTo(TARGET_SHARD);
+        assertThat(countOf(target, "tasks")).isEqualTo(2);
+    }
+
+    // ========== purgeSource Tests ==========
+
+    @Test
+    @DisplayName("Should refuse to purge the shard the tenant lives on")
+    void purgeSource_ActiveShard_Refused() {
+        assertThatThrownBy(() -> tenantMoveService.purgeSource(tenantId, SOURCE_SHARD))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("still uses shard");
+        assertThat(countOf(source, "tasks")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should purge the old copy after a move but keep users and the owned tenants row")
+    void purgeSource_AfterMove_DeletesTenantRows() {
+        // Given
+        tenantMoveService.move(tenantId, TARGET_SHARD);
+
+        // When
+        Map<String, Long> deleted = tenantMoveService.purgeSource(tenantId, SOURCE_SHARD);
+
+        // Then
+        assertThat(deleted).containsEntry("tasks", 2L).containsEntry("projects", 1L).doesNotContainKey("users");
+        assertThat(countOf(source, "tasks")).isZero();
+        assertThat(source.queryForObject("SELECT count(*) FROM tenants WHERE id = ?", Long.class, tenantId)).isEqualTo(1L);
+        assertThat(countOf(target, "tasks")).isEqualTo(2);
+        assertThatThrownBy(() -> tenantMoveService.purgeSource(tenantId, TARGET_SHARD))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ========== Helpers ==========
+
+    /**
+     * A tenant on the source with a user, a project and two tasks, the first blocking the second,
+     * which is assigned to the user.
+     */
+    private void seedTenant() {
+        tenantId = UUID.randomUUID();
+        subdomain = "move-" + tenantId.toString().substring(0, 8);
+        UUID userId = UUID.randomUUID();
+        taskId = UUID.randomUUID();
+        otherTaskId = UUID.randomUUID();
+
+        source.update("INSERT INTO tenants (id, subdomain, name) VALUES (?, ?, 'Moving tenant')", tenantId, subdomain);
+        source.update("INSERT INTO users (id, cognito_user_id, email) VALUES (?, ?, ?)",
+                userId, userId.toString(), "user-" + userId + "@example.com");
+        source.update("INSERT INTO user_tenants (user_id, tenant_id, role) VALUES (?, ?, 'ADMINISTRATOR')", userId, tenantId);
+        source.update("INSERT INTO projects (id, tenant_id, name, owner_id) VALUES (?, ?, 'Project', ?)",
+                projectId(), tenantId, userId);
+        insertTask(taskId);
+        insertTask(otherTaskId);
+        source.update("INSERT INTO task_dependencies (blocking_task_id, blocked_task_id, tenant_id) VALUES (?, ?, ?)",
+                taskId, otherTaskId, tenantId);
+        source.update("INSERT INTO task_assignees (task_id, user_id, tenant_id, task_status) VALUES (?, ?, ?, 'TODO')",
+                otherTaskId, userId, tenantId);
+    }
+
+    private void insertTask(UUID id) {
+        source.update("INSERT INTO tasks (id, tenant_id, project_id, name) VALUES (?, ?, ?, 'Task')",
+                id, tenantId, projectId());
+    }
+
+    /**
+     * The tenant's project, derived from the tenant so both shards agree on it.
+     */
+    private UUID projectId() {
+        return new UUID(tenantId.getMostSignificantBits(), ~tenantId.getLeastSignificantBits());
+    }
+
+    private long countOf(JdbcTemplate jdbcTemplate, String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM " + table + " WHERE tenant_id = ?",
+                Long.class, tenantId);
+        return count != null ? count : 0L;
+    }
+
+    private static DataSource dataSource(String database) {
+        String url = "jdbc:postgresql://" + POSTGRES.getHost() + ":"
+                + POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/" + database;
+        return new DriverManagerDataSource(url, POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+
+    private static void migrate(DataSource dataSource) throws IOException {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Resource[] scripts = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*__*.sql");
+        Arrays.sort(scripts, Comparator.comparingInt(TenantMoveServiceIntegrationTest::version));
+        for (Resource script : scripts) {
+            jdbcTemplate.execute(script.getContentAsString(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static int version(Resource script) {
+        String name = script.getFilename();
+        return Integer.parseInt(name.substring(1, name.indexOf("__")));
+    }
+}
@@ -0,0 +1,89 @@
+package com.platform.saas.sharding;
+
+import com.platform.saas.sharding.TenantMoveService.TableSpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for TenantMoveService.
+ * Tests the generated upsert statements and the tenant filter arguments of the copied tables.
+ */
+@DisplayName("TenantMoveService Tests")
+class TenantMoveServiceTest {
+
+    // ========== upsertSql Tests ==========
+
+    @Test
+    @DisplayName("Should update only changed rows on primary key conflicts")
+    void upsertSql_NonKeyColumns_UpdatesDistinctRows() {
+        String sql = TenantMoveService.upsertSql("projects", List.of("id", "name", "status"), List.of("id"));
+
+        assertThat(sql).isEqualTo("INSERT INTO projects (id, name, status) VALUES (?, ?, ?)"
+                + " ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, status = EXCLUDED.status"
+                + " WHERE (projects.name, projects.status) IS DISTINCT FROM (EXCLUDED.name, EXCLUDED.status)");
+    }
+
+    @Test
+    @DisplayName("Should use a composite primary key as conflict target")
+    void upsertSql_CompositeKey_ConflictsOnAllKeyColumns() {
+        String sql = TenantMoveService.upsertSql("user_tenants",
+                List.of("user_id", "tenant_id", "role"), List.of("user_id", "tenant_id"));
+
+        assertThat(sql).isEqualTo("INSERT INTO user_tenants (user_id, tenant_id, role) VALUES (?, ?, ?)"
+                + " ON CONFLICT (user_id, tenant_id) DO UPDATE SET role = EXCLUDED.role"
+                + " WHERE (user_tenants.role) IS DISTINCT FROM (EXCLUDED.role)");
+    }
+
+    @Test
+    @DisplayName("Should skip existing rows when every column is part of the key")
+    void upsertSql_KeyColumnsOnly_DoNothing() {
+        String sql = TenantMoveService.upsertSql("task_dependencies",
+                List.of("blocking_task_id", "blocked_task_id"), List.of("blocking_task_id", "blocked_task_id"));
+
+        assertThat(sql).isEqualTo("INSERT INTO task_dependencies (blocking_task_id, blocked_task_id) VALUES (?, ?)"
+                + " ON CONFLICT (blocking_task_id, blocked_task_id) DO NOTHING");
+    }
+
+    // ========== TableSpec Tests ==========
+
+    @Test
+    @DisplayName("Should bind the tenant to every placeholder of a filter")
+    void filterArgs_SeveralPlaceholders_AllTenant() {
+        UUID tenantId = UUID.randomUUID();
+        TableSpec users = TenantMoveService.TABLES.stream()
+                .filter(spec -> spec.table().equals("users"))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(users.filterArgs(tenantId)).containsExactly(tenantId, tenantId, tenantId);
+    }
+
+    @Test
+    @DisplayName("Should bind one argument per placeholder for every copied table")
+    void filterArgs_EveryTable_MatchesPlaceholders() {
+        UUID tenantId = UUID.randomUUID();
+
+        for (TableSpec spec : TenantMoveService.TABLES) {
+            long placeholders = spec.filter().chars().filter(c -> c == '?').count();
+            assertThat(spec.filterArgs(tenantId))
+                    .as(spec.table())
+                    .hasSize((int) placeholders)
+                    .containsOnly(tenantId);
+        }
+    }
+
+    @Test
+    @DisplayName("Should copy parent tables before the tables referencing them")
+    void tables_ForeignKeyOrder() {
+        List<String> tables = TenantMoveService.TABLES.stream().map(TableSpec::table).toList();
+
+        assertThat(tables).startsWith("tenants", "users", "user_tenants", "projects", "tasks");
+        assertThat(tables.indexOf("task_assignees")).isGreaterThan(tables.indexOf("tasks"));
+        assertThat(tables.indexOf("task_dependencies")).isGreaterThan(tables.indexOf("tasks"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.platform.saas.sharding;
+
+import com.platform.saas.model.Task;
+import com.platform.saas.model.Tenant;
+import com.platform.saas.model.User;
+import com.platform.saas.security.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for TenantWriteGuard.
+ * Tests that tenant-owned writes need their tenant in context and tenants rows need none.
+ */
+@DisplayName("TenantWriteGuard Tests")
+class TenantWriteGuardTest {
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    private Task task(UUID tenantId) {
+        Task task = new Task();
+        task.setTenantId(tenantId);
+        return task;
+    }
+
+    // ========== Check Tests ==========
+
+    @Test
+    @DisplayName("Should allow a tenant-owned write in its tenant's context")
+    void check_MatchingTenant_Passes() {
+        // Given
+        UUID tenantId = UUID.randomUUID();
+        TenantContext.setTenantId(tenantId);
+
+        // When / Then
+        assertThatCode(() -> TenantWriteGuard.check(task(tenantId))).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should reject a tenant-owned write without a tenant in context")
+    void check_NoTenant_Throws() {
+        // When / Then
+        assertThatThrownBy(() -> TenantWriteGuard.check(task(UUID.randomUUID())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("default shard");
+    }
+
+    @Test
+    @DisplayName("Should reject a tenant-owned write in another tenant's context")
+    void check_OtherTenant_Throws() {
+        // Given
+        TenantContext.setTenantId(UUID.randomUUID());
+
+        // When / Then
+        assertThatThrownBy(() -> TenantWriteGuard.check(task(UUID.randomUUID())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should only allow tenants rows to be written without a tenant in context")
+    void check_Tenant_OnlyWithoutContext() {
+        // Given
+        Tenant tenant = new Tenant();
+        tenant.setId(UUID.randomUUID());
+
+        // When / Then
+        assertThatCode(() -> TenantWriteGuard.check(tenant)).doesNotThrowAnyException();
+        TenantContext.setTenantId(tenant.getId());
+        assertThatThrownBy(() -> TenantWriteGuard.check(tenant)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should allow global rows in any context")
+    void check_User_Passes() {
+        assertThatCode(() -> TenantWriteGuard.check(new User())).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,247 @@
+package com.platform.saas.web;
+
+import com.platform.saas.security.TenantContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for IdempotencyKeyFilter.
+ * Tests replay, single-flight of concurrent duplicates, and payload mismatch handling.
+ */
+@DisplayName("IdempotencyKeyFilter Tests")
+class IdempotencyKeyFilterTest {
+
+    private static final String BODY = "{\"name\":\"Task 1\"}";
+
+    private IdempotencyKeyFilter filter;
+    private AtomicInteger executions;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyKeyFilter(List.of("/api/tasks", "/api/projects"), 60_000L, 100, 5_000L, 65_536);
+        executions = new AtomicInteger();
+        tenantId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should replay the original response without re-executing")
+    void retry_SameKey_ReplaysResponse() throws Exception {
+        // Given
+        FilterChain chain = creatingChain(null);
+
+        // When
+        MockHttpServletResponse first = perform("key-1", BODY, chain);
+        MockHttpServletResponse second = perform("key-1", BODY, chain);
+
+        // Then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(second.getStatus()).isEqualTo(201);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(second.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should execute requests with different keys independently")
+    void differentKeys_BothExecute() throws Exception {
+        FilterChain chain = creatingChain(null);
+
+        perform("key-1", BODY, chain);
+        perform("key-2", BODY, chain);
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject key reuse with a different body")
+    void retry_DifferentBody_Returns422() throws Exception {
+        FilterChain chain = creatingChain(null);
+
+        perform("key-1", BODY, chain);
+        MockHttpServletResponse response = perform("key-1", "{\"name\":\"Other\"}", chain);
+
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject key reuse on another path")
+    void retry_OtherPath_Returns422() throws Exception {
+        FilterChain chain = creatingChain(null);
+        perform("key-1", BODY, chain);
+
+        MockHttpServletRequest request = request("key-1", BODY);
+        request.setRequestURI("/api/projects");
+        MockHttpServletResponse response = perform(tenantId, request, chain);
+
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the same key of different tenants apart")
+    void sameKey_OtherTenant_BothExecute() throws Exception {
+        FilterChain chain = creatingChain(null);
+
+        perform("key-1", BODY, chain);
+        MockHttpServletResponse other = perform(UUID.randomUUID(), request("key-1", BODY), chain);
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(other.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not deduplicate requests without a tenant")
+    void noTenant_PassesThrough() throws Exception {
+        FilterChain chain = creatingChain(null);
+
+        perform(null, request("key-1", BODY), chain);
+        perform(null, request("key-1", BODY), chain);
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not store failed responses so the retry executes")
+    void failedRequest_NotStored() throws Exception {
+        // Given
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).sendError(403, "Quota exceeded");
+        };
+
+        // When
+        perform("key-1", BODY, failing);
+        MockHttpServletResponse retry = perform("key-1", BODY, creatingChain(null));
+
+        // Then
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(retry.getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    @DisplayName("Should pass through requests without an Idempotency-Key")
+    void noKey_PassesThrough() throws Exception {
+        FilterChain chain = creatingChain(null);
+
+        perform(null, BODY, chain);
+        perform(null, BODY, chain);
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should ignore endpoints that are not configured")
+    void otherPath_NotFiltered() throws Exception {
+        MockHttpServletRequest request = request("key-1", BODY);
+        request.setRequestURI("/api/automation");
+
+        assertThat(filter.shouldNotFilter(request)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject overlong keys")
+    void overlongKey_Returns400() throws Exception {
+        MockHttpServletResponse response = perform("k".repeat(256), BODY, creatingChain(null));
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(executions.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should single-flight concurrent duplicates")
+    void concurrentDuplicates_ExecuteOnce() throws Exception {
+        // Given - first execution blocks until released
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain chain = creatingChain(release);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // When
+            List<Future<MockHttpServletResponse>> futures = java.util.stream.IntStream.range(0, 8)
+                    .mapToObj(i -> executor.submit(() -> perform("key-1", BODY, chain)))
+                    .toList();
+            Thread.sleep(200);
+            release.countDown();
+
+            // Then
+            for (Future<MockHttpServletResponse> future : futures) {
+                MockHttpServletResponse response = future.get(5, TimeUnit.SECONDS);
+                assertThat(response.getStatus()).isEqualTo(201);
+                assertThat(response.getContentAsString()).contains("task-1");
+            }
+            assertThat(executions.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ========== Helpers ==========
+
+    private FilterChain creatingChain(CountDownLatch release) {
+        return (request, response) -> {
+            int n = executions.incrementAndGet();
+            String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(body).startsWith("{");
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(201);
+            http.setContentType("application/json");
+            http.getWriter().write("{\"id\":\"task-" + n + "\"}");
+        };
+    }
+
+    private MockHttpServletResponse perform(String key, String body, FilterChain chain) throws Exception {
+        return perform(tenantId, request(key, body), chain);
+    }
+
+    private MockHttpServletResponse perform(UUID tenant, MockHttpServletRequest request, FilterChain chain)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        if (tenant != null) {
+            TenantContext.setTenantId(tenant);
+        }
+        try {
+            filter.doFilter(request, response, chain);
+        } finally {
+            TenantContext.clear();
+        }
+        return response;
+    }
+
+    private MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/tasks");
+        request.addHeader("X-Tenant-Subdomain", "acme");
+        if (key != null) {
+            request.addHeader(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
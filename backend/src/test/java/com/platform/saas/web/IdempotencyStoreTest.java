@@ -0,0 +1,139 @@
+package com.platform.saas.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for IdempotencyStore.
+ * Tests key scoping, expiry and eviction of completed entries.
+ */
+@DisplayName("IdempotencyStore Tests")
+class IdempotencyStoreTest {
+
+    private static final IdempotencyStore.StoredResponse RESPONSE =
+            new IdempotencyStore.StoredResponse(201, "application/json", null, new byte[0]);
+
+    private MutableClock clock;
+    private IdempotencyStore store;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        store = new IdempotencyStore(1_000L, 2, clock);
+        tenantId = UUID.randomUUID();
+    }
+
+    private IdempotencyStore.Key key(String idempotencyKey) {
+        return new IdempotencyStore.Key(tenantId, "alice", idempotencyKey);
+    }
+
+    private IdempotencyStore.Entry completed(String idempotencyKey) {
+        IdempotencyStore.Claim claim = store.claim(key(idempotencyKey), "fp");
+        store.complete(claim.entry(), RESPONSE);
+        return claim.entry();
+    }
+
+    @Test
+    @DisplayName("Should hand the live entry to later claims of the same key")
+    void claim_SameKey_NotOwner() {
+        IdempotencyStore.Claim first = store.claim(key("k1"), "fp");
+        IdempotencyStore.Claim second = store.claim(key("k1"), "fp");
+
+        assertThat(first.owner()).isTrue();
+        assertThat(second.owner()).isFalse();
+        assertThat(second.entry()).isSameAs(first.entry());
+    }
+
+    @Test
+    @DisplayName("Should scope keys by tenant and principal")
+    void claim_OtherScope_Owner() {
+        store.claim(key("k1"), "fp");
+
+        assertThat(store.claim(new IdempotencyStore.Key(UUID.randomUUID(), "alice", "k1"), "fp").owner()).isTrue();
+        assertThat(store.claim(new IdempotencyStore.Key(tenantId, "bob", "k1"), "fp").owner()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should claim a completed key again once it expired")
+    void claim_Expired_Owner() {
+        completed("k1");
+        clock.advance(1_000L);
+
+        assertThat(store.claim(key("k1"), "fp").owner()).isTrue();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict the oldest completed entries when full")
+    void claim_Full_EvictsOldestCompleted() {
+        // Given
+        completed("k1");
+        clock.advance(10L);
+        completed("k2");
+
+        // When
+        clock.advance(10L);
+        completed("k3");
+
+        // Then
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.claim(key("k1"), "fp").owner()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should never evict in-flight entries")
+    void claim_Full_KeepsInFlight() {
+        // Given - the oldest entry is still running
+        IdempotencyStore.Entry inFlight = store.claim(key("k1"), "fp").entry();
+        completed("k2");
+
+        // When
+        completed("k3");
+
+        // Then
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.claim(key("k1"), "fp").entry()).isSameAs(inFlight);
+        assertThat(store.claim(key("k2"), "fp").owner()).isTrue();
+    }
+
+    // ========== Helpers ==========
+
+    private static final class MutableClock extends Clock {
+
+        private long millis = 1_000_000L;
+
+        void advance(long deltaMs) {
+            millis += deltaMs;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
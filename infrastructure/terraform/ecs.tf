@@ -235,6 +235,11 @@ resource "aws_ecs_task_definition" "backend" {
         {
           name  = "COGNITO_CLIENT_ID"
           value = aws_cognito_user_pool_client.web.id
+        },
+        {
+          # Several tasks share the database: caches and ETags need cross-node invalidation
+          name  = "CACHE_INVALIDATION_ENABLED"
+          value = "true"
         }
       ]
 
@@ -336,6 +341,11 @@ locals {
     {
       name  = "COGNITO_CLIENT_ID"
       value = aws_cognito_user_pool_client.web.id
+    },
+    {
+      # Several tasks share the database: caches and ETags need cross-node invalidation
+      name  = "CACHE_INVALIDATION_ENABLED"
+      value = "true"
     }
   ]
 }